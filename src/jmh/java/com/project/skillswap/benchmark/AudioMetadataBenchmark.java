@@ -0,0 +1,104 @@
+package com.project.skillswap.benchmark;
+
+import com.project.skillswap.logic.entity.Audio.AudioMetadata;
+import com.project.skillswap.logic.entity.Audio.AudioMetadataReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import ws.schild.jave.MultimediaObject;
+import ws.schild.jave.info.MultimediaInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara leer duración y pista de audio con AudioMetadataReader contra lo que se usaba antes:
+ * - ffprobe como proceso externo (TranscriptionService.estimateAudioDuration) sobre el MP3.
+ * - MultimediaObject.getInfo() de JAVE, que lanza su ffmpeg nativo (RecordingService.verifyAudioContent),
+ *   sobre el WebM que sube el navegador.
+ * Los archivos se generan en un directorio temporal con AudioSamples.
+ *
+ * Las variantes ffprobe y jave necesitan ffprobe en el PATH y el binario nativo de JAVE para el
+ * sistema operativo: ./gradlew jmh -PjmhIncludes=AudioMetadata
+ * El resultado se reporta en milisegundos por archivo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AudioMetadataBenchmark {
+
+    @Param({"60", "1800"})
+    public int seconds;
+
+    private Path directory;
+    private Path mp3;
+    private Path webm;
+    private AudioMetadataReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audio-bench");
+        mp3 = directory.resolve("session.mp3");
+        webm = directory.resolve("session.webm");
+        AudioSamples.writeMp3(mp3, seconds);
+        AudioSamples.writeWebm(webm, seconds);
+        reader = new AudioMetadataReader();
+
+        // La lectura propia debe dar la duración generada antes de medir
+        AudioMetadata parsed = reader.read(mp3);
+        if (parsed.durationSeconds() != seconds || reader.read(webm).durationSeconds() != seconds) {
+            throw new IllegalStateException("Duración leída distinta de la generada: " + parsed);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(mp3);
+        Files.deleteIfExists(webm);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public AudioMetadata readerMp3() throws IOException {
+        return reader.read(mp3);
+    }
+
+    @Benchmark
+    public AudioMetadata readerWebm() throws IOException {
+        return reader.read(webm);
+    }
+
+    @Benchmark
+    public double ffprobeMp3() throws Exception {
+        Process process = new ProcessBuilder(
+                "ffprobe",
+                "-v", "error",
+                "-show_entries", "format=duration",
+                "-of", "default=noprint_wrappers=1:nokey=1",
+                mp3.toAbsolutePath().toString())
+                .redirectErrorStream(true)
+                .start();
+        String output;
+        try (InputStream in = process.getInputStream()) {
+            output = new String(in.readAllBytes()).trim();
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("ffprobe terminó con error: " + output);
+        }
+        return Double.parseDouble(output);
+    }
+
+    @Benchmark
+    public MultimediaInfo javeWebm() throws Exception {
+        return new MultimediaObject(webm.toFile()).getInfo();
+    }
+}
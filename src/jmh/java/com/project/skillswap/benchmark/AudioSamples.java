@@ -0,0 +1,199 @@
+package com.project.skillswap.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Genera grabaciones sintéticas con la misma estructura que producen la aplicación y el navegador,
+ * sin depender de ffmpeg ni de archivos en el repositorio:
+ * - MP3: tag ID3v2, frame Xing "Info" con tag LAME (como libmp3lame) y frames MPEG-1 Layer III a
+ *   128 kbps / 44.1 kHz estéreo. La duración exacta es la pedida.
+ * - WebM: como MediaRecorder de Chrome, Segment y Clusters de tamaño desconocido, sin Duration,
+ *   una pista Opus mono a 48 kHz con paquetes de 20 ms.
+ * Uno de cada SILENT_EVERY segundos es silencio. El contenido de audio es ruido con semilla fija.
+ */
+public final class AudioSamples {
+
+    public static final int SILENT_EVERY = 4;
+
+    private static final int MP3_SAMPLE_RATE = 44100;
+    private static final int MP3_SAMPLES_PER_FRAME = 1152;
+    private static final int MP3_ENCODER_DELAY = 576;
+    private static final int MP3_FRAME_LENGTH = 144 * 128_000 / MP3_SAMPLE_RATE;
+    private static final byte[] MP3_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, (byte) 0x44};
+    private static final int MP3_SIDE_INFO = 32;
+
+    private static final int OPUS_FRAME_MS = 20;
+    private static final int BLOCKS_PER_CLUSTER = 250;
+
+    private AudioSamples() {
+    }
+
+    //#region MP3
+    public static void writeMp3(Path path, int seconds) throws IOException {
+        long samples = (long) seconds * MP3_SAMPLE_RATE;
+        int frames = (int) ((samples + MP3_ENCODER_DELAY + MP3_SAMPLES_PER_FRAME - 1) / MP3_SAMPLES_PER_FRAME);
+        int padding = (int) (frames * (long) MP3_SAMPLES_PER_FRAME - MP3_ENCODER_DELAY - samples);
+        Random random = new Random(BenchmarkData.SEED);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024)) {
+            // ID3v2.4 con 1 KB de relleno; tamaño syncsafe
+            out.write(new byte[]{'I', 'D', '3', 4, 0, 0, 0, 0, 8, 0});
+            out.write(new byte[1024]);
+
+            byte[] frame = new byte[MP3_FRAME_LENGTH];
+            System.arraycopy(MP3_HEADER, 0, frame, 0, 4);
+            int xing = 4 + MP3_SIDE_INFO;
+            ascii(frame, xing, "Info");
+            int32(frame, xing + 4, 0x03);
+            int32(frame, xing + 8, frames);
+            int32(frame, xing + 12, (frames + 1) * MP3_FRAME_LENGTH);
+            int lame = xing + 16;
+            ascii(frame, lame, "LAME3.100");
+            frame[lame + 21] = (byte) (MP3_ENCODER_DELAY >>> 4);
+            frame[lame + 22] = (byte) ((MP3_ENCODER_DELAY & 0x0F) << 4 | padding >>> 8);
+            frame[lame + 23] = (byte) padding;
+            out.write(frame);
+
+            int framesPerSecond = MP3_SAMPLE_RATE / MP3_SAMPLES_PER_FRAME;
+            for (int i = 0; i < frames; i++) {
+                boolean silent = (i / framesPerSecond) % SILENT_EVERY == SILENT_EVERY - 1;
+                if (silent) {
+                    Arrays.fill(frame, 4, frame.length, (byte) 0);
+                } else {
+                    random.nextBytes(frame);
+                    // big_values (bits 32-40 de la side info) distinto de cero en el primer gránulo
+                    frame[8] = (byte) 0xFF;
+                }
+                System.arraycopy(MP3_HEADER, 0, frame, 0, 4);
+                out.write(frame);
+            }
+            out.write(new byte[]{'T', 'A', 'G'});
+            out.write(new byte[125]);
+        }
+    }
+    //#endregion
+
+    //#region WebM
+    public static void writeWebm(Path path, int seconds) throws IOException {
+        Random random = new Random(BenchmarkData.SEED);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024)) {
+            out.write(element(0x1A45DFA3L, concat(
+                    element(0x4286L, uint(1)),
+                    element(0x42F7L, uint(1)),
+                    element(0x4282L, "webm".getBytes(StandardCharsets.US_ASCII)),
+                    element(0x4287L, uint(4)),
+                    element(0x4285L, uint(2)))));
+
+            writeId(out, 0x18538067L);
+            writeUnknownSize(out);
+            out.write(element(0x1549A966L, concat(
+                    element(0x2AD7B1L, uint(1_000_000)),
+                    element(0x4D80L, "Chrome".getBytes(StandardCharsets.US_ASCII)))));
+            out.write(element(0x1654AE6BL, element(0xAEL, concat(
+                    element(0xD7L, uint(1)),
+                    element(0x73C5L, uint(42)),
+                    element(0x83L, uint(2)),
+                    element(0x86L, "A_OPUS".getBytes(StandardCharsets.US_ASCII)),
+                    element(0xE1L, concat(
+                            element(0xB5L, float64(48000.0)),
+                            element(0x9FL, uint(1))))))));
+
+            int blocks = seconds * 1000 / OPUS_FRAME_MS;
+            int blocksPerSecond = 1000 / OPUS_FRAME_MS;
+            byte[] voice = new byte[80];
+            for (int i = 0; i < blocks; i++) {
+                if (i % BLOCKS_PER_CLUSTER == 0) {
+                    writeId(out, 0x1F43B675L);
+                    writeUnknownSize(out);
+                    out.write(element(0xE7L, uint((long) i * OPUS_FRAME_MS)));
+                }
+                boolean silent = (i / blocksPerSecond) % SILENT_EVERY == SILENT_EVERY - 1;
+                byte[] payload;
+                if (silent) {
+                    payload = new byte[3];
+                } else {
+                    random.nextBytes(voice);
+                    payload = voice;
+                }
+                // TOC: CELT fullband 20 ms, un frame
+                payload[0] = (byte) 0xF8;
+                int relative = (i % BLOCKS_PER_CLUSTER) * OPUS_FRAME_MS;
+                byte[] block = new byte[4 + payload.length];
+                block[0] = (byte) 0x81;
+                block[1] = (byte) (relative >>> 8);
+                block[2] = (byte) relative;
+                block[3] = (byte) 0x80;
+                System.arraycopy(payload, 0, block, 4, payload.length);
+                out.write(element(0xA3L, block));
+            }
+        }
+    }
+
+    private static byte[] element(long id, byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 12);
+        writeId(out, id);
+        // Tamaño en 8 bytes, como lo escriben varios muxers
+        out.write(0x01);
+        for (int shift = 48; shift >= 0; shift -= 8) {
+            out.write((int) ((long) body.length >>> shift) & 0xFF);
+        }
+        out.write(body);
+        return out.toByteArray();
+    }
+
+    private static void writeId(OutputStream out, long id) throws IOException {
+        int length = id > 0xFFFFFF ? 4 : id > 0xFFFF ? 3 : id > 0xFF ? 2 : 1;
+        for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (id >>> shift) & 0xFF);
+        }
+    }
+
+    private static void writeUnknownSize(OutputStream out) throws IOException {
+        out.write(0x01);
+        for (int i = 0; i < 7; i++) {
+            out.write(0xFF);
+        }
+    }
+
+    private static byte[] uint(long value) {
+        byte[] bytes = new byte[8];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (value >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    private static byte[] float64(double value) {
+        return uint(Double.doubleToLongBits(value));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+    //#endregion
+
+    private static void ascii(byte[] target, int offset, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, target, offset, bytes.length);
+    }
+
+    private static void int32(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
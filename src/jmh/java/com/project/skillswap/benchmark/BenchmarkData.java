@@ -0,0 +1,206 @@
+package com.project.skillswap.benchmark;
+
+import com.project.skillswap.logic.entity.Certification.Certification;
+import com.project.skillswap.logic.entity.Instructor.Instructor;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
+import com.project.skillswap.logic.entity.Learner.Learner;
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
+import com.project.skillswap.logic.entity.LearningSession.SessionType;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.Skill.Skill;
+import com.project.skillswap.logic.entity.Transaction.PaymentMethod;
+import com.project.skillswap.logic.entity.Transaction.Transaction;
+import com.project.skillswap.logic.entity.Transaction.TransactionStatus;
+import com.project.skillswap.logic.entity.Transaction.TransactionType;
+import com.project.skillswap.logic.entity.UserSkill.UserSkill;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generadores de datos sintéticos para los benchmarks.
+ * Usan una semilla fija y una fecha base constante para que cada corrida
+ * produzca exactamente los mismos objetos y los resultados sean comparables.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 42L;
+    public static final Date BASE_DATE = new Date(1_767_225_600_000L); // 2026-01-01T00:00:00Z
+
+    private static final String[] LANGUAGES = {"es", "en", "pt", "fr"};
+    private static final String[] WORDS = {
+            "sesión", "aprendizaje", "ejemplo", "práctica", "concepto", "función", "variable",
+            "estructura", "datos", "algoritmo", "proyecto", "equipo", "resultado", "pregunta",
+            "respuesta", "clase", "instructor", "habilidad", "conocimiento", "ejercicio"
+    };
+
+    private BenchmarkData() {
+    }
+
+    //#region Catalog
+    public static List<KnowledgeArea> knowledgeAreas(int count) {
+        List<KnowledgeArea> areas = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            KnowledgeArea area = new KnowledgeArea();
+            area.setId((long) i + 1);
+            area.setName("Área " + (i + 1));
+            area.setDescription("Área de conocimiento sintética " + (i + 1));
+            area.setActive(true);
+            areas.add(area);
+        }
+        return areas;
+    }
+
+    public static List<Skill> skills(List<KnowledgeArea> areas, int count) {
+        List<Skill> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Skill skill = new Skill();
+            skill.setId((long) i + 1);
+            skill.setName("Habilidad " + (i + 1));
+            skill.setDescription("Habilidad sintética " + (i + 1));
+            skill.setKnowledgeArea(areas.get(i % areas.size()));
+            skill.setActive(true);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    public static List<LearningSession> sessions(List<Skill> skills, int count) {
+        Random random = new Random(SEED);
+        List<Instructor> instructors = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, count / 20); i++) {
+            instructors.add(instructor((long) i + 1, person((long) 10_000 + i)));
+        }
+
+        List<LearningSession> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LearningSession session = new LearningSession();
+            session.setId((long) i + 1);
+            session.setTitle("Sesión sintética " + (i + 1));
+            session.setDescription(text(random, 40));
+            session.setSkill(skills.get(random.nextInt(skills.size())));
+            session.setInstructor(instructors.get(random.nextInt(instructors.size())));
+            session.setLanguage(LANGUAGES[random.nextInt(LANGUAGES.length)]);
+            session.setStatus(random.nextBoolean() ? SessionStatus.SCHEDULED : SessionStatus.ACTIVE);
+            session.setType(SessionType.values()[random.nextInt(SessionType.values().length)]);
+            session.setScheduledDatetime(new Date(BASE_DATE.getTime() + (long) i * 3_600_000L));
+            session.setDurationMinutes(60);
+            session.setMaxCapacity(20);
+            session.setVideoCallLink("https://meet.ffmuc.net/skillswap-" + (i + 1));
+            session.setBookings(new ArrayList<>());
+            sessions.add(session);
+        }
+        return sessions;
+    }
+    //#endregion
+
+    //#region People
+    public static Person person(long id) {
+        Person person = new Person();
+        person.setId(id);
+        person.setEmail("user" + id + "@skillswap.com");
+        person.setFullName("Usuario Sintético " + id);
+        person.setPreferredLanguage("es");
+        person.setEmailVerified(true);
+        person.setActive(true);
+        person.setRegistrationDate(BASE_DATE);
+        return person;
+    }
+
+    public static Instructor instructor(long id, Person person) {
+        Instructor instructor = new Instructor();
+        instructor.setId(id);
+        instructor.setPerson(person);
+        instructor.setSkillcoinsBalance(BigDecimal.ZERO);
+        person.setInstructor(instructor);
+        return instructor;
+    }
+
+    public static Learner learner(long id, Person person) {
+        Learner learner = new Learner();
+        learner.setId(id);
+        learner.setPerson(person);
+        learner.setSkillcoinsBalance(new BigDecimal("100"));
+        learner.setBookings(new ArrayList<>());
+        person.setLearner(learner);
+        return learner;
+    }
+
+    /**
+     * Crea un learner con perfil completo e intereses en las primeras {@code interests} habilidades.
+     */
+    public static Person learnerWithInterests(List<Skill> skills, int interests) {
+        Person person = person(1L);
+        learner(1L, person);
+
+        List<UserSkill> userSkills = new ArrayList<>(interests);
+        for (int i = 0; i < Math.min(interests, skills.size()); i++) {
+            UserSkill userSkill = new UserSkill();
+            userSkill.setId((long) i + 1);
+            userSkill.setPerson(person);
+            userSkill.setSkill(skills.get(i));
+            userSkill.setActive(true);
+            userSkill.setSelectedDate(LocalDateTime.of(2026, 1, 1, 0, 0));
+            userSkills.add(userSkill);
+        }
+        person.setUserSkills(userSkills);
+        return person;
+    }
+    //#endregion
+
+    //#region Documents
+    public static Transaction purchaseTransaction(Person person) {
+        Transaction transaction = new Transaction();
+        transaction.setId(1001L);
+        transaction.setPerson(person);
+        transaction.setType(TransactionType.PURCHASE);
+        transaction.setSkillcoinsAmount(new BigDecimal("30"));
+        transaction.setUsdAmount(new BigDecimal("27.99"));
+        transaction.setPaymentMethod(PaymentMethod.PAYPAL);
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        transaction.setPaypalReference("PAYPAL-BENCH-0001");
+        transaction.setTransactionDate(BASE_DATE);
+        return transaction;
+    }
+
+    public static Certification certification(Learner learner, Skill skill) {
+        Certification certification = new Certification();
+        certification.setId(1L);
+        certification.setLearner(learner);
+        certification.setSkill(skill);
+        certification.setName("Certificado de " + skill.getName());
+        certification.setAccumulatedCredentials(10);
+        certification.setVerificationCode("SS-BENCH001");
+        certification.setIssueDate(BASE_DATE);
+        return certification;
+    }
+
+    /**
+     * Texto pseudoaleatorio determinista con la cantidad de palabras indicada.
+     */
+    public static String text(Random random, int words) {
+        StringBuilder builder = new StringBuilder(words * 10);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(i % 15 == 0 ? ". " : " ");
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.append('.').toString();
+    }
+
+    /**
+     * Resumen con el formato que produce el LLM (encabezados **...** y viñetas).
+     */
+    public static String summary(Random random) {
+        return "**Temas principales**\n" +
+                "- " + text(random, 12) + "\n" +
+                "- " + text(random, 12) + "\n\n" +
+                "**Conclusiones**\n" +
+                text(random, 80) + "\n";
+    }
+    //#endregion
+}
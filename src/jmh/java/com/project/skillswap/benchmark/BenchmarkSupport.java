@@ -0,0 +1,107 @@
+package com.project.skillswap.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Utilidades para armar servicios fuera del contexto de Spring dentro de los benchmarks.
+ * Permite inyectar campos privados (@Autowired / @Value) y crear repositorios falsos
+ * que responden con datos sintéticos sin tocar la base de datos.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Asigna un campo privado buscando en la jerarquía de clases.
+     *
+     * @param target objeto destino
+     * @param fieldName nombre del campo
+     * @param value valor a asignar
+     */
+    public static void setField(Object target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("No se pudo asignar " + fieldName, e);
+            }
+        }
+        throw new IllegalArgumentException("Campo no encontrado: " + fieldName);
+    }
+
+    /**
+     * Obtiene un método privado listo para invocarse.
+     *
+     * @param type clase que declara el método
+     * @param name nombre del método
+     * @param parameterTypes tipos de parámetros
+     * @return método accesible
+     */
+    public static Method privateMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = type.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return method;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Método no encontrado: " + name, e);
+        }
+    }
+
+    /**
+     * Crea una implementación falsa de un repositorio.
+     * Los métodos presentes en {@code answers} devuelven el resultado de la función;
+     * el resto devuelve un valor vacío según su tipo de retorno.
+     *
+     * @param repositoryType interfaz del repositorio
+     * @param answers respuestas por nombre de método
+     * @return proxy que implementa la interfaz
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stubRepository(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> repositoryType.getSimpleName() + "Stub";
+                };
+            }
+            return emptyValue(method.getReturnType());
+        };
+
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                handler
+        );
+    }
+
+    private static Object emptyValue(Class<?> returnType) {
+        if (returnType == Optional.class) return Optional.empty();
+        if (List.class.isAssignableFrom(returnType)) return Collections.emptyList();
+        if (returnType == boolean.class || returnType == Boolean.class) return false;
+        if (returnType == long.class || returnType == Long.class) return 0L;
+        if (returnType == int.class || returnType == Integer.class) return 0;
+        if (returnType == double.class || returnType == Double.class) return 0.0;
+        return null;
+    }
+}
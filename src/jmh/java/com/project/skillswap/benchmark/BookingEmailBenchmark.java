@@ -0,0 +1,105 @@
+package com.project.skillswap.benchmark;
+
+import com.project.skillswap.logic.entity.Booking.BookingEmailService;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la construcción de los correos HTML de reservas (plantilla + MimeMessage).
+ * El envío SMTP se reemplaza por un sender que descarta el mensaje.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BookingEmailBenchmark {
+
+    private BookingEmailService emailService;
+    private String description;
+    private Map<String, Object> groupData;
+
+    @Setup
+    public void setUp() {
+        emailService = new BookingEmailService(new DiscardingMailSender());
+        BenchmarkSupport.setField(emailService, "frontendUrl", "http://localhost:4200");
+        BenchmarkSupport.setField(emailService, "fromEmail", "noreply@skillswap.com");
+
+        description = BenchmarkData.text(new Random(BenchmarkData.SEED), 60);
+
+        groupData = new HashMap<>();
+        groupData.put("personEmail", "member@skillswap.com");
+        groupData.put("personFullName", "Miembro Sintético");
+        groupData.put("sessionTitle", "Sesión sintética");
+        groupData.put("sessionDescription", description);
+        groupData.put("instructorName", "Instructor Sintético");
+        groupData.put("skillName", "Habilidad 1");
+        groupData.put("categoryName", "Área 1");
+        groupData.put("communityName", "Comunidad Sintética");
+        groupData.put("sessionDate", BenchmarkData.BASE_DATE);
+        groupData.put("sessionDuration", 60);
+        groupData.put("accessLink", "https://meet.ffmuc.net/skillswap-1");
+        groupData.put("videoCallLink", "https://meet.ffmuc.net/skillswap-1");
+    }
+
+    @Benchmark
+    public void bookingConfirmation() throws Exception {
+        emailService.sendBookingConfirmationEmail(
+                1L,
+                "Usuario Sintético",
+                "user@skillswap.com",
+                "Sesión sintética",
+                description,
+                "Instructor Sintético",
+                "Habilidad 1",
+                "Área 1",
+                BenchmarkData.BASE_DATE,
+                60,
+                "https://meet.ffmuc.net/skillswap-1",
+                "http://localhost:4200/app/my-sessions"
+        );
+    }
+
+    @Benchmark
+    public void bookingCancellation() throws Exception {
+        emailService.sendBookingCancellationEmail(
+                "Usuario Sintético",
+                "user@skillswap.com",
+                "Sesión sintética",
+                new Date(BenchmarkData.BASE_DATE.getTime())
+        );
+    }
+
+    @Benchmark
+    public void groupBookingConfirmation() throws Exception {
+        emailService.sendGroupBookingConfirmationEmailFromData(groupData);
+    }
+
+    /**
+     * Sender que construye el MimeMessage pero nunca abre conexión SMTP.
+     */
+    static final class DiscardingMailSender extends JavaMailSenderImpl {
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            for (MimeMessage message : mimeMessages) {
+                try {
+                    message.saveChanges();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.skillswap.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara insertar una reserva grupal de ROWS filas una por una contra un INSERT en lote
+ * (el mismo patrón que genera Hibernate con hibernate.jdbc.batch_size y useBulkStmts).
+ *
+ * A diferencia del resto de benchmarks, este necesita una MariaDB local:
+ * -Dbench.jdbc.url (por defecto la base de desarrollo), -Dbench.jdbc.user, -Dbench.jdbc.password.
+ * Trabaja sobre una tabla temporal propia, así que no toca los datos de la aplicación.
+ * El resultado se reporta en filas insertadas por segundo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GroupBookingInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final String TABLE = "bench_group_booking";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE
+            + " (id, learner_id, learning_session_id, status, type, booking_date) VALUES (?, ?, ?, ?, ?, NOW())";
+
+    private Connection rowByRowConnection;
+    private Connection batchedConnection;
+    private long nextId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:mariadb://localhost:3306/SkillswapDB");
+        String user = System.getProperty("bench.jdbc.user", "SkillSwapAdmin");
+        String password = System.getProperty("bench.jdbc.password", "Skillswap1234");
+
+        rowByRowConnection = DriverManager.getConnection(url + separator(url) + "useBulkStmts=false", user, password);
+        batchedConnection = DriverManager.getConnection(url + separator(url) + "useBulkStmts=true", user, password);
+
+        try (Statement statement = rowByRowConnection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id BIGINT PRIMARY KEY, learner_id BIGINT NOT NULL, learning_session_id BIGINT NOT NULL, "
+                    + "status VARCHAR(20) NOT NULL, type VARCHAR(20) NOT NULL, booking_date DATETIME NOT NULL)");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = rowByRowConnection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        rowByRowConnection.close();
+        batchedConnection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowByRow() throws SQLException {
+        rowByRowConnection.setAutoCommit(false);
+        try (PreparedStatement insert = rowByRowConnection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, i);
+                insert.executeUpdate();
+            }
+        }
+        rowByRowConnection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batched() throws SQLException {
+        batchedConnection.setAutoCommit(false);
+        try (PreparedStatement insert = batchedConnection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        batchedConnection.commit();
+    }
+
+    private void bind(PreparedStatement insert, int i) throws SQLException {
+        insert.setLong(1, ++nextId);
+        insert.setLong(2, i + 1L);
+        insert.setLong(3, 1L);
+        insert.setString(4, "CONFIRMED");
+        insert.setString(5, "GROUP");
+    }
+
+    private static String separator(String url) {
+        return url.contains("?") ? "&" : "?";
+    }
+}
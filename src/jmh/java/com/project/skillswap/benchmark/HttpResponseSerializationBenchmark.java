@@ -0,0 +1,69 @@
+package com.project.skillswap.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.skillswap.logic.entity.http.HttpResponse;
+import com.project.skillswap.logic.entity.http.Meta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la serialización Jackson del sobre HttpResponse/Meta que usan los controladores paginados.
+ * El contenido son mapas planos equivalentes a una página de sesiones del catálogo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HttpResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private HttpResponse<List<Map<String, Object>>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        Random random = new Random(BenchmarkData.SEED);
+
+        List<Map<String, Object>> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", (long) i + 1);
+            item.put("title", "Sesión sintética " + (i + 1));
+            item.put("description", BenchmarkData.text(random, 30));
+            item.put("instructorName", "Instructor " + (i % 7));
+            item.put("skillName", "Habilidad " + (i % 13));
+            item.put("scheduledDatetime", BenchmarkData.BASE_DATE.getTime() + i * 3_600_000L);
+            item.put("durationMinutes", 60);
+            item.put("availableSpots", random.nextInt(20));
+            items.add(item);
+        }
+
+        Meta meta = new Meta("GET", "/learning-sessions");
+        meta.setPageNumber(1);
+        meta.setPageSize(pageSize);
+        meta.setTotalElements(5_000);
+        meta.setTotalPages(5_000 / pageSize);
+
+        response = new HttpResponse<>("Sesiones obtenidas exitosamente", items, meta);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
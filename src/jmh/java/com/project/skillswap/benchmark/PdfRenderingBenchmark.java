@@ -0,0 +1,134 @@
+package com.project.skillswap.benchmark;
+
+import com.project.skillswap.logic.entity.Certification.Certification;
+import com.project.skillswap.logic.entity.Certification.CertificationService;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
+import com.project.skillswap.logic.entity.Learner.Learner;
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.Pdf.PdfTemplateCache;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.Skill.Skill;
+import com.project.skillswap.logic.entity.Transaction.CoinPackageType;
+import com.project.skillswap.logic.entity.Transaction.PurchaseReceiptPdfService;
+import com.project.skillswap.logic.entity.Transaction.Transaction;
+import com.project.skillswap.logic.entity.videocall.SessionSummaryPdfService;
+import com.project.skillswap.logic.entity.videocall.TranscriptionPdfService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la generación de cada tipo de PDF en documentos por segundo.
+ * Los documentos se escriben en un flujo que solo cuenta bytes, así que no hay I/O.
+ * Con el profiler "gc" (activo en build.gradle) el reporte incluye
+ * gc.alloc.rate.norm, es decir, los bytes asignados por documento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PdfRenderingBenchmark {
+
+    private PurchaseReceiptPdfService receiptService;
+    private SessionSummaryPdfService summaryService;
+    private TranscriptionPdfService transcriptionService;
+    private CertificationService certificationService;
+    private Method writeCertificate;
+
+    private Transaction transaction;
+    private Person buyer;
+    private Certification certification;
+    private LearningSession session;
+    private String summary;
+
+    @Setup
+    public void setUp() {
+        PdfTemplateCache templates = new PdfTemplateCache();
+
+        receiptService = new PurchaseReceiptPdfService();
+        BenchmarkSupport.setField(receiptService, "pdfTemplates", templates);
+
+        summaryService = new SessionSummaryPdfService();
+        BenchmarkSupport.setField(summaryService, "pdfTemplates", templates);
+
+        transcriptionService = new TranscriptionPdfService();
+        BenchmarkSupport.setField(transcriptionService, "pdfTemplates", templates);
+
+        certificationService = new CertificationService(null, null, null, templates, null);
+        writeCertificate = BenchmarkSupport.privateMethod(
+                CertificationService.class, "writeCertificatePDF", Certification.class, OutputStream.class);
+
+        List<KnowledgeArea> areas = BenchmarkData.knowledgeAreas(1);
+        List<Skill> skills = BenchmarkData.skills(areas, 1);
+        Random random = new Random(BenchmarkData.SEED);
+
+        buyer = BenchmarkData.person(1L);
+        transaction = BenchmarkData.purchaseTransaction(buyer);
+
+        Learner learner = BenchmarkData.learner(1L, BenchmarkData.person(2L));
+        certification = BenchmarkData.certification(learner, skills.get(0));
+
+        session = BenchmarkData.sessions(skills, 1).get(0);
+        session.setDurationSeconds(3_600);
+        session.setFullText(BenchmarkData.text(random, 8_000));
+        summary = BenchmarkData.summary(random);
+    }
+
+    @Benchmark
+    public void purchaseReceipt(PdfBytes bytes) {
+        receiptService.writePurchaseReceipt(transaction, buyer, CoinPackageType.MEDIUM, new BigDecimal("130"), bytes.stream);
+    }
+
+    @Benchmark
+    public void certificate(PdfBytes bytes) throws Exception {
+        writeCertificate.invoke(certificationService, certification, bytes.stream);
+    }
+
+    @Benchmark
+    public void sessionSummary(PdfBytes bytes) {
+        summaryService.writeSummaryPdf(session, summary, bytes.stream);
+    }
+
+    @Benchmark
+    public void transcription(PdfBytes bytes) {
+        transcriptionService.writeTranscriptionPdf(session, bytes.stream);
+    }
+
+    /**
+     * Flujo de salida que descarta el contenido y reporta los bytes escritos por iteración.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PdfBytes {
+        public long bytesWritten;
+
+        final OutputStream stream = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytesWritten++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytesWritten += len;
+            }
+        };
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesWritten = 0;
+        }
+    }
+}
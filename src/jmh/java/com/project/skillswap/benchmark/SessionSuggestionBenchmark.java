@@ -0,0 +1,74 @@
+package com.project.skillswap.benchmark;
+
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.SessionSuggestion.SessionSuggestionRepository;
+import com.project.skillswap.logic.entity.SessionSuggestion.SessionSuggestionResponse;
+import com.project.skillswap.logic.entity.SessionSuggestion.SessionSuggestionService;
+import com.project.skillswap.logic.entity.Skill.Skill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el puntaje de sugerencias sobre catálogos sintéticos de distintos tamaños.
+ * Los repositorios se reemplazan por stubs en memoria, así que solo se mide
+ * el filtrado, el cálculo de puntajes y el ordenamiento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionSuggestionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int catalogSize;
+
+    private SessionSuggestionService service;
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        List<KnowledgeArea> areas = BenchmarkData.knowledgeAreas(12);
+        List<Skill> skills = BenchmarkData.skills(areas, 120);
+        List<LearningSession> catalog = BenchmarkData.sessions(skills, catalogSize);
+        person = BenchmarkData.learnerWithInterests(skills, 8);
+
+        LearningSessionRepository sessionRepository = BenchmarkSupport.stubRepository(
+                LearningSessionRepository.class,
+                Map.of(
+                        "findByStatusIn", args -> catalog,
+                        "findByInstructorId", args -> Collections.emptyList()
+                )
+        );
+
+        SessionSuggestionRepository suggestionRepository = BenchmarkSupport.stubRepository(
+                SessionSuggestionRepository.class,
+                Map.of(
+                        "findByPersonIdAndLearningSessionId", args -> Optional.empty(),
+                        "save", args -> args[0]
+                )
+        );
+
+        service = new SessionSuggestionService();
+        BenchmarkSupport.setField(service, "learningSessionRepository", sessionRepository);
+        BenchmarkSupport.setField(service, "sessionSuggestionRepository", suggestionRepository);
+    }
+
+    @Benchmark
+    public SessionSuggestionResponse generateSuggestions() {
+        return service.generateSuggestions(person);
+    }
+}
@@ -0,0 +1,352 @@
+package com.project.skillswap.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Perfil de carga guionizado contra una instancia de la API poblada con {@link SyntheticDataGenerator}.
+ *
+ * Cada hilo simula un usuario autenticado que elige un escenario según su peso:
+ * catálogo, dashboard, chat de comunidad y reservas. Las latencias se registran por
+ * endpoint y al final se reportan p50/p90/p99, máximo, throughput y errores,
+ * en consola y en JSON (loadtest.report).
+ *
+ * Las reservas envían correo de confirmación: la instancia bajo prueba debe apuntar
+ * a un SMTP de pruebas (por ejemplo MailHog) y no al real.
+ */
+public class LoadProfileRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** Pesos relativos de cada escenario dentro de la mezcla. */
+    private static final int CATALOG_WEIGHT = 40;
+    private static final int DASHBOARD_WEIGHT = 25;
+    private static final int CHAT_WEIGHT = 25;
+    private static final int BOOKING_WEIGHT = 10;
+
+    private final LoadTestConfig config;
+    private final Properties manifest;
+    private final HttpClient client;
+
+    public LoadProfileRunner(LoadTestConfig config, Properties manifest) {
+        this.config = config;
+        this.manifest = manifest;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        Properties manifest = new Properties();
+        try (InputStream in = new FileInputStream(config.manifestPath())) {
+            manifest.load(in);
+        }
+
+        new LoadProfileRunner(config, manifest).run();
+    }
+
+    public void run() throws Exception {
+        List<VirtualUser> users = login();
+        if (users.isEmpty()) {
+            throw new IllegalStateException("Ningún usuario pudo autenticarse contra " + config.baseUrl());
+        }
+
+        log(String.format("Ejecutando perfil: %d hilos, %d s de calentamiento, %d s de medición",
+                config.concurrency(), config.warmupSeconds(), config.durationSeconds()));
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long deadline = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int t = 0; t < config.concurrency(); t++) {
+            Random random = new Random(LoadTestConfig.SEED + t);
+            futures.add(workers.submit(() -> runWorker(users, random, warmupEnd, deadline)));
+        }
+
+        Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+        for (Future<Map<String, LatencyRecorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) ->
+                    merged.computeIfAbsent(endpoint, k -> new LatencyRecorder()).merge(recorder));
+        }
+        workers.shutdown();
+
+        report(merged);
+    }
+
+    //#region Scenarios
+    private Map<String, LatencyRecorder> runWorker(List<VirtualUser> users, Random random, long warmupEnd, long deadline) {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+        while (System.nanoTime() < deadline) {
+            VirtualUser user = users.get(random.nextInt(users.size()));
+            int roll = random.nextInt(CATALOG_WEIGHT + DASHBOARD_WEIGHT + CHAT_WEIGHT + BOOKING_WEIGHT);
+
+            String endpoint;
+            HttpRequest request;
+            if (roll < CATALOG_WEIGHT) {
+                endpoint = "GET /learning-sessions/available";
+                request = get(user, "/learning-sessions/available");
+            } else if (roll < CATALOG_WEIGHT + DASHBOARD_WEIGHT) {
+                if (random.nextBoolean()) {
+                    endpoint = "GET /dashboard/upcoming-sessions";
+                    request = get(user, "/dashboard/upcoming-sessions");
+                } else {
+                    endpoint = "GET /dashboard/learning-hours";
+                    request = get(user, "/dashboard/learning-hours");
+                }
+            } else if (roll < CATALOG_WEIGHT + DASHBOARD_WEIGHT + CHAT_WEIGHT) {
+                endpoint = "GET /communities/{id}/messages/recent";
+                request = get(user, "/communities/" + user.communityId() + "/messages/recent?limit=50");
+            } else if (random.nextBoolean()) {
+                endpoint = "POST /api/bookings";
+                request = post(user, "/api/bookings", "{\"learningSessionId\":" + randomUpcomingSession(random) + "}");
+            } else {
+                endpoint = "GET /api/bookings/my-bookings";
+                request = get(user, "/api/bookings/my-bookings");
+            }
+
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long end = System.nanoTime();
+
+            if (start >= warmupEnd) {
+                recorders.computeIfAbsent(endpoint, k -> new LatencyRecorder()).record(end - start, status);
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * El generador alterna sesiones pasadas (índice par) y futuras (índice impar).
+     */
+    private long randomUpcomingSession(Random random) {
+        long sessionStart = Long.parseLong(manifest.getProperty("sessionStart"));
+        int sessions = Integer.parseInt(manifest.getProperty("sessions"));
+        int upcoming = Math.max(1, sessions / 2);
+        return sessionStart + 2L * random.nextInt(upcoming) + 1;
+    }
+    //#endregion
+
+    //#region Login
+    private List<VirtualUser> login() throws Exception {
+        int persons = Integer.parseInt(manifest.getProperty("persons"));
+        int communities = Integer.parseInt(manifest.getProperty("communities"));
+        long communityStart = Long.parseLong(manifest.getProperty("communityStart"));
+        String password = manifest.getProperty("password");
+        int userCount = Math.min(config.users(), persons);
+
+        log("Autenticando " + userCount + " usuarios...");
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(userCount, config.concurrency()));
+        List<Future<VirtualUser>> futures = new ArrayList<>(userCount);
+
+        for (int i = 0; i < userCount; i++) {
+            final int index = i;
+            futures.add(pool.submit(() -> {
+                String body = MAPPER.writeValueAsString(Map.of(
+                        "email", LoadTestConfig.email(index),
+                        "password", password));
+                HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl() + "/auth/login"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    log("Login fallido para " + LoadTestConfig.email(index) + ": HTTP " + response.statusCode());
+                    return null;
+                }
+                JsonNode json = MAPPER.readTree(response.body());
+                return new VirtualUser(json.path("token").asText(), communityStart + (index % communities));
+            }));
+        }
+
+        List<VirtualUser> users = new ArrayList<>(userCount);
+        for (Future<VirtualUser> future : futures) {
+            VirtualUser user = future.get();
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        pool.shutdown();
+
+        log(users.size() + " usuarios autenticados");
+        return users;
+    }
+    //#endregion
+
+    //#region HTTP Helpers
+    private HttpRequest get(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + user.token())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(VirtualUser user, String path, String json) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + user.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+    //#endregion
+
+    //#region Report
+    private void report(Map<String, LatencyRecorder> results) throws Exception {
+        double seconds = config.durationSeconds();
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("label", config.label());
+        json.put("baseUrl", config.baseUrl());
+        json.put("concurrency", config.concurrency());
+        json.put("durationSeconds", config.durationSeconds());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+
+        System.out.println();
+        System.out.println("========================================");
+        System.out.println("RESULTADOS DEL PERFIL DE CARGA (" + config.label() + ")");
+        System.out.println("========================================");
+        System.out.printf("%-40s %9s %9s %9s %9s %9s %9s %7s %7s%n",
+                "Endpoint", "Requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "4xx", "err");
+
+        for (Map.Entry<String, LatencyRecorder> entry : results.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            recorder.sort();
+            totalRequests += recorder.count();
+
+            System.out.printf("%-40s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7d %7d%n",
+                    entry.getKey(), recorder.count(), recorder.count() / seconds,
+                    recorder.percentileMillis(50), recorder.percentileMillis(90),
+                    recorder.percentileMillis(99), recorder.percentileMillis(100),
+                    recorder.clientErrors(), recorder.errors());
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", recorder.count());
+            stats.put("throughputPerSecond", recorder.count() / seconds);
+            stats.put("p50Ms", recorder.percentileMillis(50));
+            stats.put("p90Ms", recorder.percentileMillis(90));
+            stats.put("p99Ms", recorder.percentileMillis(99));
+            stats.put("maxMs", recorder.percentileMillis(100));
+            stats.put("clientErrors", recorder.clientErrors());
+            stats.put("errors", recorder.errors());
+            endpoints.put(entry.getKey(), stats);
+        }
+
+        System.out.println("----------------------------------------");
+        System.out.printf("Total: %d requests, %.1f req/s%n", totalRequests, totalRequests / seconds);
+        System.out.println("========================================");
+
+        json.put("totalRequests", totalRequests);
+        json.put("throughputPerSecond", totalRequests / seconds);
+        json.put("endpoints", endpoints);
+
+        File file = new File(config.reportPath());
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        MAPPER.writeValue(file, json);
+        log("Reporte JSON escrito en " + file.getPath());
+    }
+    //#endregion
+
+    private static void log(String message) {
+        System.out.println("[LOADTEST] " + message);
+    }
+
+    private record VirtualUser(String token, long communityId) {
+    }
+
+    /**
+     * Registro de latencias de un endpoint. Cada hilo usa el suyo y se combinan al final,
+     * así la medición no introduce contención entre hilos.
+     * Los 4xx (por ejemplo, reservar dos veces la misma sesión) se cuentan aparte
+     * de los errores de servidor o de red.
+     */
+    private static final class LatencyRecorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long clientErrors;
+        private long errors;
+
+        void record(long nanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+
+            if (status >= 400 && status < 500) {
+                clientErrors++;
+            } else if (status < 200 || status >= 500) {
+                errors++;
+            }
+        }
+
+        void merge(LatencyRecorder other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, size + other.size);
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            clientErrors += other.clientErrors;
+            errors += other.errors;
+        }
+
+        void sort() {
+            Arrays.sort(latencies, 0, size);
+        }
+
+        int count() {
+            return size;
+        }
+
+        long clientErrors() {
+            return clientErrors;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return latencies[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.skillswap.loadtest;
+
+/**
+ * Parámetros compartidos por el generador de datos y el perfil de carga.
+ * Todos se leen de propiedades de sistema con prefijo "loadtest." y tienen
+ * valores por defecto pensados para una MariaDB local dedicada a pruebas.
+ *
+ * Ejemplo:
+ * ./gradlew seedLoadTestData -Dloadtest.persons=10000 -Dloadtest.messages=500000
+ */
+public record LoadTestConfig(
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        int persons,
+        int sessions,
+        int bookings,
+        int communities,
+        int messages,
+        int batchSize,
+        String password,
+        String manifestPath,
+        String baseUrl,
+        int users,
+        int concurrency,
+        int durationSeconds,
+        int warmupSeconds,
+        String label,
+        String reportPath
+) {
+
+    public static final long SEED = 42L;
+    public static final String EMAIL_PATTERN = "loadtest-%d@skillswap.test";
+
+    public static LoadTestConfig fromSystemProperties() {
+        String label = property("label", "default");
+        return new LoadTestConfig(
+                property("jdbc.url", "jdbc:mariadb://localhost:3306/SkillswapLoadTest?rewriteBatchedStatements=true"),
+                property("jdbc.user", "root"),
+                property("jdbc.password", ""),
+                intProperty("persons", 100_000),
+                intProperty("sessions", 50_000),
+                intProperty("bookings", 1_000_000),
+                intProperty("communities", 2_000),
+                intProperty("messages", 10_000_000),
+                intProperty("batchSize", 1_000),
+                property("password", "LoadTest123!"),
+                property("manifest", "build/loadtest/manifest.properties"),
+                property("baseUrl", "http://localhost:8080"),
+                intProperty("users", 200),
+                intProperty("concurrency", 50),
+                intProperty("duration", 60),
+                intProperty("warmup", 10),
+                label,
+                property("report", "build/reports/loadtest/results-" + label + ".json")
+        );
+    }
+
+    /**
+     * Reservas por sesión necesarias para repartir el total de reservas entre las sesiones.
+     */
+    public int bookingsPerSession() {
+        return Math.max(1, (bookings + sessions - 1) / sessions);
+    }
+
+    public static String email(long index) {
+        return String.format(EMAIL_PATTERN, index);
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,217 @@
+package com.project.skillswap.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compara el arranque en frío del jar ejecutable contra la imagen AOT + CDS (tarea cdsArchive).
+ *
+ * Cada variante se arranca loadtest.startup.runs veces. En cada corrida se mide el tiempo de pared
+ * hasta el log "Started SkillSwapApp", el tiempo que reporta Spring Boot y la memoria residente
+ * (VmRSS de /proc, solo Linux) en ese momento; luego se detiene el proceso.
+ * Los resultados se muestran en consola y en JSON (loadtest.startup.report).
+ *
+ * Las dos variantes deben apuntar a la misma base: los argumentos extra de la JVM
+ * se pasan con loadtest.startup.appArgs, por ejemplo
+ * -Dloadtest.startup.appArgs="-Dspring.datasource.url=jdbc:mariadb://localhost:3306/SkillswapDB"
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Pattern STARTED = Pattern.compile(
+            "Started SkillSwapApp in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+
+    private final int runs;
+    private final long timeoutSeconds;
+    private final boolean aot;
+    private final List<String> appArgs;
+    private final String reportPath;
+
+    public StartupBenchmark() {
+        this.runs = Integer.parseInt(property("runs", "5"));
+        this.timeoutSeconds = Long.parseLong(property("timeout", "180"));
+        this.aot = Boolean.parseBoolean(property("aot", "false"));
+        String args = property("appArgs", "").trim();
+        this.appArgs = args.isEmpty() ? List.of() : Arrays.asList(args.split("\\s+"));
+        this.reportPath = property("report", "build/reports/startup/results.json");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark().run();
+    }
+
+    public void run() throws Exception {
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        variants.put("jar", new Variant(new File("build/libs"),
+                List.of("-jar", "demo-java-spring-api-1.0.0.jar")));
+
+        List<String> cds = new ArrayList<>(List.of("-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=off"));
+        if (aot) {
+            cds.add("-Dspring.aot.enabled=true");
+        }
+        cds.addAll(List.of("-jar", "application.jar"));
+        variants.put(aot ? "aot-cds" : "cds", new Variant(new File("build/cds"), cds));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("runs", runs);
+        Map<String, Object> results = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Variant> entry : variants.entrySet()) {
+            List<Sample> samples = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                Sample sample = measure(entry.getValue());
+                log(String.format("%s #%d: %.0f ms, RSS %d MB", entry.getKey(), run, sample.wallMillis(), sample.rssKb() / 1024));
+                samples.add(sample);
+            }
+            results.put(entry.getKey(), summary(samples));
+        }
+        json.put("variants", results);
+
+        report(results);
+
+        File file = new File(reportPath);
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        MAPPER.writeValue(file, json);
+        log("Reporte JSON escrito en " + file.getPath());
+    }
+
+    //#region Measurement
+    private Sample measure(Variant variant) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dserver.port=0");
+        command.addAll(appArgs);
+        command.addAll(variant.args());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.workingDir())
+                .redirectErrorStream(true)
+                .start();
+
+        CompletableFuture<Matcher> started = CompletableFuture.supplyAsync(() -> awaitStarted(process));
+        try {
+            Matcher matcher = started.get(timeoutSeconds, TimeUnit.SECONDS);
+            if (matcher == null) {
+                throw new IllegalStateException("La aplicación terminó sin arrancar (código " + process.waitFor() + ")");
+            }
+            double wallMillis = (System.nanoTime() - start) / 1_000_000.0;
+            return new Sample(wallMillis,
+                    Double.parseDouble(matcher.group(1)) * 1000,
+                    Double.parseDouble(matcher.group(2)) * 1000,
+                    rssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static Matcher awaitStarted(Process process) {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    // Se sigue leyendo en segundo plano para que el proceso no se bloquee al escribir
+                    Thread drain = new Thread(() -> reader.lines().forEach(ignored -> { }), "startup-drain");
+                    drain.setDaemon(true);
+                    drain.start();
+                    return matcher;
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Memoria residente del proceso en KB; -1 si /proc no está disponible
+     */
+    private static long rssKb(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (Exception ignored) {
+            // El proceso terminó entre la lectura y el arranque
+        }
+        return -1;
+    }
+    //#endregion
+
+    //#region Report
+    private static Map<String, Object> summary(List<Sample> samples) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("wallMs", median(samples.stream().mapToDouble(Sample::wallMillis).toArray()));
+        stats.put("startedMs", median(samples.stream().mapToDouble(Sample::startedMillis).toArray()));
+        stats.put("processMs", median(samples.stream().mapToDouble(Sample::processMillis).toArray()));
+        stats.put("rssMb", median(samples.stream().mapToDouble(sample -> sample.rssKb() / 1024.0).toArray()));
+        return stats;
+    }
+
+    private static void report(Map<String, Object> results) {
+        System.out.println();
+        System.out.println("========================================");
+        System.out.println("ARRANQUE EN FRÍO (medianas)");
+        System.out.println("========================================");
+        System.out.printf("%-12s %12s %12s %12s %10s%n", "Variante", "pared ms", "contexto ms", "proceso ms", "RSS MB");
+        for (Map.Entry<String, Object> entry : results.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> stats = (Map<String, Object>) entry.getValue();
+            System.out.printf("%-12s %12.0f %12.0f %12.0f %10.0f%n", entry.getKey(),
+                    stats.get("wallMs"), stats.get("startedMs"), stats.get("processMs"), stats.get("rssMb"));
+        }
+        System.out.println("========================================");
+    }
+
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+    //#endregion
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest.startup." + name, defaultValue);
+    }
+
+    private static void log(String message) {
+        System.out.println("[STARTUP] " + message);
+    }
+
+    private record Variant(File workingDir, List<String> args) {
+    }
+
+    private record Sample(double wallMillis, double startedMillis, double processMillis, long rssKb) {
+    }
+}
@@ -0,0 +1,358 @@
+package com.project.skillswap.loadtest;
+
+import com.project.skillswap.config.IdSequenceInitializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Generador de datos sintéticos a escala para pruebas de carga.
+ * Inserta personas, learners, instructores, sesiones, reservas, comunidades y mensajes
+ * de chat con JDBC por lotes, usando IDs explícitos a partir del máximo existente
+ * para poder calcular las llaves foráneas sin leer IDs generados.
+ *
+ * El esquema debe existir previamente: se crea arrancando la aplicación una vez contra
+ * la base destino (ddl-auto=update), que además ejecuta los seeders de áreas y habilidades.
+ *
+ * Configuración por propiedades de sistema (-Dloadtest.*), ver {@link LoadTestConfig}.
+ * Al terminar alinea las secuencias de ID con {@link IdSequenceInitializer} y escribe un
+ * manifiesto con los rangos de IDs que usa {@link LoadProfileRunner}.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] LANGUAGES = {"es", "en", "pt"};
+    private static final String[] WORDS = {
+            "hola", "alguien", "tiene", "el", "enlace", "de", "la", "sesión", "mañana", "gracias",
+            "revisé", "ejercicio", "pregunta", "sobre", "tema", "clase", "nos", "vemos", "práctica", "listo"
+    };
+
+    private final LoadTestConfig config;
+    private final Random random = new Random(LoadTestConfig.SEED);
+
+    public SyntheticDataGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        new SyntheticDataGenerator(config).run();
+    }
+
+    /**
+     * Ejecuta todas las fases de generación en orden de dependencias.
+     */
+    public void run() throws Exception {
+        log("Conectando a " + config.jdbcUrl());
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.jdbcUser(), config.jdbcPassword())) {
+            connection.setAutoCommit(false);
+
+            List<Long> skillIds = loadSkillIds(connection);
+            if (skillIds.isEmpty()) {
+                throw new IllegalStateException("No hay habilidades en la base. Arranca la aplicación una vez para ejecutar los seeders.");
+            }
+
+            Properties manifest = new Properties();
+            long start = System.nanoTime();
+
+            long personStart = nextId(connection, "person");
+            long learnerStart = nextId(connection, "learner");
+            long instructorStart = nextId(connection, "instructor");
+            long sessionStart = nextId(connection, "learning_session");
+            long bookingStart = nextId(connection, "booking");
+            long communityStart = nextId(connection, "learning_community");
+            long memberStart = nextId(connection, "community_member");
+            long messageStart = nextId(connection, "community_message");
+
+            int instructorCount = Math.max(1, config.persons() / 20);
+
+            insertPersons(connection, personStart);
+            insertLearners(connection, learnerStart, personStart);
+            insertInstructors(connection, instructorStart, personStart, instructorCount);
+            insertSessions(connection, sessionStart, instructorStart, instructorCount, skillIds);
+            insertBookings(connection, bookingStart, sessionStart, learnerStart);
+            insertCommunities(connection, communityStart, learnerStart);
+            insertMembers(connection, memberStart, communityStart, learnerStart);
+            insertMessages(connection, messageStart, communityStart, personStart);
+            alignIdSequences(connection);
+
+            manifest.setProperty("password", config.password());
+            manifest.setProperty("emailPattern", LoadTestConfig.EMAIL_PATTERN);
+            manifest.setProperty("personStart", String.valueOf(personStart));
+            manifest.setProperty("persons", String.valueOf(config.persons()));
+            manifest.setProperty("instructors", String.valueOf(instructorCount));
+            manifest.setProperty("sessionStart", String.valueOf(sessionStart));
+            manifest.setProperty("sessions", String.valueOf(config.sessions()));
+            manifest.setProperty("communityStart", String.valueOf(communityStart));
+            manifest.setProperty("communities", String.valueOf(config.communities()));
+            writeManifest(manifest);
+
+            log(String.format("Generación completa en %.1f s", (System.nanoTime() - start) / 1e9));
+        }
+    }
+
+    //#region Phases
+    private void insertPersons(Connection connection, long personStart) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(config.password());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        String sql = "INSERT INTO person (id, email, password_hash, full_name, preferred_language, " +
+                "email_verified, active, registration_date, last_connection) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "person", sql, config.persons(), (ps, i) -> {
+            long id = personStart + i;
+            ps.setLong(1, id);
+            ps.setString(2, LoadTestConfig.email(i));
+            ps.setString(3, passwordHash);
+            ps.setString(4, "Usuario Carga " + i);
+            ps.setString(5, LANGUAGES[(int) (i % LANGUAGES.length)]);
+            ps.setBoolean(6, true);
+            ps.setBoolean(7, true);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private void insertLearners(Connection connection, long learnerStart, long personStart) throws SQLException {
+        String sql = "INSERT INTO learner (id, person_id, skillcoins_balance, completed_sessions, credentials_obtained) " +
+                "VALUES (?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "learner", sql, config.persons(), (ps, i) -> {
+            ps.setLong(1, learnerStart + i);
+            ps.setLong(2, personStart + i);
+            ps.setBigDecimal(3, new BigDecimal("1000.00"));
+            ps.setInt(4, 0);
+            ps.setInt(5, 0);
+        });
+    }
+
+    private void insertInstructors(Connection connection, long instructorStart, long personStart, int instructorCount) throws SQLException {
+        String sql = "INSERT INTO instructor (id, person_id, skillcoins_balance, verified_account, average_rating, " +
+                "sessions_taught, total_earnings) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "instructor", sql, instructorCount, (ps, i) -> {
+            ps.setLong(1, instructorStart + i);
+            ps.setLong(2, personStart + i);
+            ps.setBigDecimal(3, BigDecimal.ZERO);
+            ps.setBoolean(4, true);
+            ps.setBigDecimal(5, BigDecimal.ZERO);
+            ps.setInt(6, 0);
+            ps.setBigDecimal(7, BigDecimal.ZERO);
+        });
+    }
+
+    private void insertSessions(Connection connection, long sessionStart, long instructorStart,
+                                int instructorCount, List<Long> skillIds) throws SQLException {
+        long now = System.currentTimeMillis();
+        String sql = "INSERT INTO learning_session (id, instructor_id, skill_id, title, description, scheduled_datetime, " +
+                "duration_minutes, type, max_capacity, is_premium, skillcoins_cost, language, status, video_call_link, creation_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "learning_session", sql, config.sessions(), (ps, i) -> {
+            long id = sessionStart + i;
+            // Mitad en el pasado (historial) y mitad en los próximos 60 días (catálogo)
+            long offsetHours = (i % 2 == 0) ? -(random.nextInt(24 * 180) + 1) : random.nextInt(24 * 60) + 1;
+            boolean past = offsetHours < 0;
+
+            ps.setLong(1, id);
+            ps.setLong(2, instructorStart + random.nextInt(instructorCount));
+            ps.setLong(3, skillIds.get(random.nextInt(skillIds.size())));
+            ps.setString(4, "Sesión de carga " + i);
+            ps.setString(5, sentence(25));
+            ps.setTimestamp(6, new Timestamp(now + offsetHours * 3_600_000L));
+            ps.setInt(7, 60);
+            ps.setString(8, "SCHEDULED");
+            ps.setInt(9, config.bookingsPerSession() + 10);
+            ps.setBoolean(10, false);
+            ps.setBigDecimal(11, BigDecimal.ZERO);
+            ps.setString(12, LANGUAGES[random.nextInt(LANGUAGES.length)]);
+            ps.setString(13, past ? "FINISHED" : "SCHEDULED");
+            ps.setString(14, "https://meet.ffmuc.net/loadtest-" + id);
+            ps.setTimestamp(15, new Timestamp(now));
+        });
+    }
+
+    private void insertBookings(Connection connection, long bookingStart, long sessionStart, long learnerStart) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String sql = "INSERT INTO booking (id, learning_session_id, learner_id, type, status, access_link, attended, booking_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "booking", sql, config.bookings(), (ps, i) -> {
+            // Cada reserva i pertenece a la sesión i / bookingsPerSession; los learners rotan sin repetirse por sesión
+            long sessionIndex = (i / config.bookingsPerSession()) % config.sessions();
+            long learnerIndex = (i * 7919L) % config.persons();
+
+            ps.setLong(1, bookingStart + i);
+            ps.setLong(2, sessionStart + sessionIndex);
+            ps.setLong(3, learnerStart + learnerIndex);
+            ps.setString(4, "INDIVIDUAL");
+            ps.setString(5, random.nextInt(10) == 0 ? "CANCELLED" : "CONFIRMED");
+            ps.setString(6, "https://meet.ffmuc.net/loadtest-" + (sessionStart + sessionIndex));
+            ps.setBoolean(7, random.nextBoolean());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private void insertCommunities(Connection connection, long communityStart, long learnerStart) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String sql = "INSERT INTO learning_community (id, creator_id, name, description, max_members, invitation_code, active, creation_date) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "learning_community", sql, config.communities(), (ps, i) -> {
+            ps.setLong(1, communityStart + i);
+            ps.setLong(2, learnerStart + i);
+            ps.setString(3, "Comunidad de carga " + i);
+            ps.setString(4, sentence(12));
+            ps.setInt(5, config.persons());
+            ps.setString(6, "LOAD-" + (communityStart + i));
+            ps.setBoolean(7, true);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private void insertMembers(Connection connection, long memberStart, long communityStart, long learnerStart) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String sql = "INSERT INTO community_member (id, learning_community_id, learner_id, role, join_date, active) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+
+        // Cada learner i pertenece a la comunidad i % communities; el learner i < communities es su creador
+        batchInsert(connection, "community_member", sql, config.persons(), (ps, i) -> {
+            ps.setLong(1, memberStart + i);
+            ps.setLong(2, communityStart + (i % config.communities()));
+            ps.setLong(3, learnerStart + i);
+            ps.setString(4, i < config.communities() ? "CREATOR" : "MEMBER");
+            ps.setTimestamp(5, now);
+            ps.setBoolean(6, true);
+        });
+    }
+
+    private void insertMessages(Connection connection, long messageStart, long communityStart, long personStart) throws SQLException {
+        long base = System.currentTimeMillis() - config.messages() * 1_000L;
+        int membersPerCommunity = Math.max(1, config.persons() / config.communities());
+        String sql = "INSERT INTO community_message (id, learning_community_id, sender_id, content, sent_date, edited) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+
+        batchInsert(connection, "community_message", sql, config.messages(), (ps, i) -> {
+            int community = random.nextInt(config.communities());
+            long senderIndex = community + (long) random.nextInt(membersPerCommunity) * config.communities();
+            if (senderIndex >= config.persons()) {
+                senderIndex = community;
+            }
+
+            ps.setLong(1, messageStart + i);
+            ps.setLong(2, communityStart + community);
+            ps.setLong(3, personStart + senderIndex);
+            ps.setString(4, sentence(4 + random.nextInt(20)));
+            ps.setTimestamp(5, new Timestamp(base + i * 1_000L));
+            ps.setBoolean(6, false);
+        });
+    }
+    //#endregion
+
+    //#region JDBC Helpers
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, long index) throws SQLException;
+    }
+
+    /**
+     * Inserta {@code rows} filas en lotes de {@code batchSize}, confirmando cada lote.
+     */
+    private void batchInsert(Connection connection, String table, String sql, long rows, RowBinder binder) throws SQLException {
+        long start = System.nanoTime();
+        long reportEvery = Math.max(config.batchSize(), rows / 10);
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long i = 0; i < rows; i++) {
+                binder.bind(ps, i);
+                ps.addBatch();
+
+                if ((i + 1) % config.batchSize() == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1) % reportEvery == 0) {
+                    log(String.format("  %s: %,d / %,d", table, i + 1, rows));
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log(String.format("%s: %,d filas en %.1f s (%,.0f filas/s)", table, rows, seconds, rows / Math.max(seconds, 0.001)));
+    }
+
+    /**
+     * Los IDs explícitos no avanzan las secuencias pooled (booking_seq y demás), y la aplicación ya
+     * registró IdSequenceInitializer al arrancar: sin realinearlas, el siguiente arranque
+     * repartiría IDs ya usados. Se ejecuta la misma alineación (SETVAL y AUTO_INCREMENT).
+     */
+    private void alignIdSequences(Connection connection) throws SQLException {
+        new IdSequenceInitializer(new JdbcTemplate(new SingleConnectionDataSource(connection, true))).run();
+        connection.commit();
+        log("Secuencias de ID alineadas con los datos insertados");
+    }
+
+    private long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private List<Long> loadSkillIds(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM skill WHERE active = true")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+    //#endregion
+
+    //#region Misc
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private void writeManifest(Properties manifest) throws Exception {
+        File file = new File(config.manifestPath());
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            manifest.store(out, "Manifiesto de datos sintéticos para pruebas de carga");
+        }
+        log("Manifiesto escrito en " + file.getPath());
+    }
+
+    private static void log(String message) {
+        System.out.println("[LOADTEST] " + message);
+    }
+    //#endregion
+}
@@ -1,29 +1,79 @@
 package com.project.skillswap.config;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  *  Configuración para procesamiento asíncrono
  * Permite que las transcripciones se procesen en segundo plano
+ *
+ * Actuator publica automáticamente las métricas executor.* (cola, activos, completados)
+ * de cada ThreadPoolTaskExecutor; aquí se añade el contador de rechazos y la propagación del traceId.
+ *
+ * Con spring.threads.virtual.enabled=true (Tomcat, scheduler y @Async pasan a hilos virtuales)
+ * los executors de E/S (transcripción y correo) también usan hilos virtuales, con la misma
+ * concurrencia, el mismo largo de cola y la misma política de rechazo que el pool de plataforma.
+ * El de PDFs se mantiene en hilos de plataforma porque es CPU intensivo.
+ *
+ * Auditoría de pinning (JDK 21 fija el carrier al bloquear dentro de synchronized):
+ * - El código de la aplicación no hace E/S dentro de synchronized: MediaServer, CatalogCache y
+ *   NotificationPushChannel usan ReentrantLock donde esperan al disco o a la base.
+ * - Jakarta Mail: SMTPTransport.sendMessage es synchronized, así que cada envío SMTP fija un carrier.
+ *   Por eso el executor de correo conserva el límite de 4 envíos concurrentes.
+ * - MariaDB Connector/J 3.x, HikariCP y Apache HttpClient (Cloudinary) usan ReentrantLock: sin pinning.
+ * - OkHttp (Groq) y el SDK de PayPal (HttpURLConnection) solo sincronizan secciones cortas sin E/S.
+ * Para verificarlo en ejecución: -Djdk.tracePinnedThreads=short (ver bootRun -PvirtualThreads).
  */
 @Configuration
 @EnableAsync
-public class AsyncConfiguration {
+public class AsyncConfiguration implements AsyncConfigurer {
     private static final Logger logger = LoggerFactory.getLogger(AsyncConfiguration.class);
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Executor usado por los @Async sin nombre de executor.
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        return executor;
+    }
+
     @Bean(name = "transcriptionExecutor")
     public Executor transcriptionExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("transcriptionExecutor", "transcription-", 4, 10, false);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(4);
         executor.setQueueCapacity(10);
         executor.setThreadNamePrefix("transcription-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("transcriptionExecutor", new ThreadPoolExecutor.AbortPolicy()));
         executor.initialize();
 
         logger.info("️ Executor de transcripción configurado");
@@ -33,4 +83,224 @@ public class AsyncConfiguration {
 
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Executor dedicado para la generación de PDFs.
+     * Acotado al número de núcleos para que el renderizado (CPU intensivo)
+     * no compita sin límite con los hilos de Tomcat.
+     */
+    @Bean(name = "pdfRenderingExecutor")
+    public Executor pdfRenderingExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(cores * 8);
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("pdfRenderingExecutor", new ThreadPoolExecutor.AbortPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de PDFs configurado");
+        logger.info("   Pool size: " + cores);
+        logger.info("   Queue capacity: " + (cores * 8));
+
+        return executor;
+    }
+
+    /**
+     * Executor para el envío de correos de reservas (lo usa BookingService).
+     * Si la cola se llena, el correo se envía en el hilo que lo solicitó en lugar de perderse.
+     */
+    @Bean(name = "emailExecutor")
+    public Executor emailExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("emailExecutor", "email-", 4, 500, true);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("email-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("emailExecutor", new ThreadPoolExecutor.CallerRunsPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de correos configurado");
+        logger.info("   Core pool size: 2");
+        logger.info("   Max pool size: 4");
+        logger.info("   Queue capacity: 500");
+
+        return executor;
+    }
+
+    /**
+     * Executor de la promoción de listas de espera (SeatsReleasedEvent).
+     * Las promociones de una misma sesión se serializan en WaitlistEngine, así que
+     * dos hilos bastan; si la cola se llena se promueve en el hilo que canceló.
+     */
+    @Bean(name = "waitlistExecutor")
+    public Executor waitlistExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("waitlist-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("waitlistExecutor", new ThreadPoolExecutor.CallerRunsPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de lista de espera configurado");
+        logger.info("   Pool size: 2");
+        logger.info("   Queue capacity: 200");
+
+        return executor;
+    }
+
+    /**
+     * Executor de la verificación de contraseñas del login (PasswordHashingStage).
+     * BCrypt es CPU intensivo: el pool se limita a auth.login.hash-threads (por defecto la mitad de
+     * los núcleos) y la cola es corta para rechazar rápido en lugar de acumular logins que expirarían.
+     * Siempre en hilos de plataforma, por la misma razón que el de PDFs.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public Executor passwordHashExecutor(@Value("${auth.login.hash-threads:0}") int hashThreads,
+                                         @Value("${auth.login.hash-queue:64}") int hashQueue) {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashQueue);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("passwordHashExecutor", new ThreadPoolExecutor.AbortPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de hash de contraseñas configurado");
+        logger.info("   Pool size: " + threads);
+        logger.info("   Queue capacity: " + hashQueue);
+
+        return executor;
+    }
+
+    /**
+     * Executor de los correos de invitación a comunidades (lo usa InvitationDispatcher).
+     * Se mantiene en hilos de plataforma aun con hilos virtuales: cada envío SMTP fija el carrier
+     * de todos modos (ver la auditoría de pinning). Si la cola se llena la invitación queda
+     * pendiente y se reintenta después, en lugar de enviarse en el hilo HTTP.
+     */
+    @Bean(name = "invitationExecutor")
+    public Executor invitationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(2000);
+        executor.setThreadNamePrefix("invitation-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("invitationExecutor", new ThreadPoolExecutor.AbortPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de invitaciones configurado");
+        logger.info("   Pool size: 4");
+        logger.info("   Queue capacity: 2000");
+
+        return executor;
+    }
+
+    /**
+     * Executor de las alertas diarias de credenciales (CredentialAlertService).
+     * El job envía un lote, espera los resultados y pasa al siguiente, así que la cola nunca pasa
+     * del tamaño del lote; si aun así se llena, la alerta se envía en el hilo del job.
+     */
+    @Bean(name = "alertExecutor")
+    public Executor alertExecutor(@Value("${alerts.credential.senders:4}") int senders,
+                                  @Value("${alerts.credential.batch-size:200}") int batchSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senders);
+        executor.setMaxPoolSize(senders);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("alert-");
+        executor.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+        executor.setRejectedExecutionHandler(countingRejections("alertExecutor", new ThreadPoolExecutor.CallerRunsPolicy()));
+        executor.initialize();
+
+        logger.info("️ Executor de alertas configurado");
+        logger.info("   Pool size: " + senders);
+        logger.info("   Queue capacity: " + batchSize);
+
+        return executor;
+    }
+
+    /**
+     * Executor de hilos virtuales con concurrencia limitada y cola acotada.
+     * Cada tarea toma sin esperar uno de los concurrencyLimit + queueCapacity lugares; si no hay,
+     * se rechaza con TaskRejectedException o, con callerRuns, se ejecuta en el hilo que la envió,
+     * igual que AbortPolicy y CallerRunsPolicy en los pools de plataforma. Las tareas admitidas
+     * esperan su turno en su propio hilo virtual, así que quien envía nunca queda bloqueado
+     * (setConcurrencyLimit de SimpleAsyncTaskExecutor sí lo bloquea).
+     */
+    private Executor virtualThreadExecutor(String name, String threadNamePrefix, int concurrencyLimit,
+                                           int queueCapacity, boolean callerRuns) {
+        SimpleAsyncTaskExecutor threads = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        threads.setVirtualThreads(true);
+        threads.setTaskDecorator(TraceIdFilter.mdcPropagatingDecorator());
+
+        Semaphore admitted = new Semaphore(concurrencyLimit + queueCapacity);
+        Semaphore running = new Semaphore(concurrencyLimit, true);
+        Counter rejected = rejectionCounter(name);
+
+        logger.info("️ Executor " + threadNamePrefix + " en hilos virtuales (límite: " + concurrencyLimit
+                + ", cola: " + queueCapacity + ")");
+
+        return task -> {
+            if (!admitted.tryAcquire()) {
+                rejected.increment();
+                logger.warn("Tarea rechazada por " + name + " (cola llena: " + queueCapacity + ")");
+                if (callerRuns) {
+                    task.run();
+                    return;
+                }
+                throw new TaskRejectedException("Executor " + name + " saturado");
+            }
+            try {
+                threads.execute(() -> {
+                    try {
+                        running.acquireUninterruptibly();
+                        try {
+                            task.run();
+                        } finally {
+                            running.release();
+                        }
+                    } finally {
+                        admitted.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                admitted.release();
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Cuenta los rechazos en skillswap.executor.rejected (tag name) antes de aplicar la política indicada.
+     */
+    private RejectedExecutionHandler countingRejections(String name, RejectedExecutionHandler delegate) {
+        Counter rejected = rejectionCounter(name);
+
+        return (task, pool) -> {
+            rejected.increment();
+            logger.warn("Tarea rechazada por " + name + " (cola llena: " + pool.getQueue().size() + ")");
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+
+    private Counter rejectionCounter(String name) {
+        return Counter.builder("skillswap.executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+}
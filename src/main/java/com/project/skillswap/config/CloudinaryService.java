@@ -1,8 +1,10 @@
 package com.project.skillswap.config;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.project.skillswap.logic.entity.Storage.StagedUpload;
+import com.project.skillswap.logic.entity.Storage.StorageBackend;
+import com.project.skillswap.logic.entity.Storage.StoredObject;
+import com.project.skillswap.logic.entity.Storage.UploadStagingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +24,10 @@ public class CloudinaryService {
     private static final Logger logger = LoggerFactory.getLogger(CloudinaryService.class);
 
     @Autowired
-    private Cloudinary cloudinary;
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private UploadStagingService uploadStagingService;
 
     /**
      * Sube una imagen a Cloudinary
@@ -34,17 +39,18 @@ public class CloudinaryService {
     public String uploadImage(MultipartFile file) throws IOException {
         logger.info(" [CloudinaryService] Uploading image: " + file.getOriginalFilename());
 
-        Map uploadResult = cloudinary.uploader().upload(file.getBytes(),
-                ObjectUtils.asMap(
-                        "folder", "skillswap/profile_photos",
-                        "resource_type", "image",
-                        "transformation", "c_fill,g_face,h_500,w_500"
-                ));
+        try (StagedUpload upload = uploadStagingService.stage(file)) {
+            StoredObject stored = storageBackend.store(upload, Map.<String, Object>of(
+                    "folder", "skillswap/profile_photos",
+                    "resource_type", "image",
+                    "transformation", "c_fill,g_face,h_500,w_500"
+            ));
 
-        String imageUrl = uploadResult.get("secure_url").toString();
-        logger.info(" [CloudinaryService] Image uploaded successfully: " + imageUrl);
+            String imageUrl = stored.url();
+            logger.info(" [CloudinaryService] Image uploaded successfully: " + imageUrl);
 
-        return imageUrl;
+            return imageUrl;
+        }
     }
 
     /**
@@ -55,8 +61,8 @@ public class CloudinaryService {
      */
     public void deleteImage(String publicId) throws IOException {
         logger.info(" [CloudinaryService] Deleting image with public_id: " + publicId);
-        Map result = cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
-        logger.info(" [CloudinaryService] Image deleted successfully: " + result);
+        storageBackend.delete(publicId, "image");
+        logger.info(" [CloudinaryService] Image deleted successfully: " + publicId);
     }
 
     /**
@@ -0,0 +1,81 @@
+package com.project.skillswap.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Pools de conexión del primario y de la réplica de lectura.
+ *
+ * - primaryDataSource: spring.datasource.* y spring.datasource.hikari.*
+ * - replicaDataSource: datasource.replica.url (usuario y clave del primario si no se indican) y
+ *   datasource.replica.hikari.*; solo existe con datasource.replica.enabled=true.
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy sobre {@link ReadWriteRoutingDataSource};
+ *   es el que usan JPA y JdbcTemplate.
+ *
+ * Actuator publica hikaricp.connections.* de cada pool con el tag pool=primary|replica.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username.isBlank() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isBlank() ? properties.determinePassword() : password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                        @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                                        MeterRegistry meterRegistry,
+                                                        @Value("${datasource.replica.sticky-seconds:10}") long stickySeconds) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replica, meterRegistry, stickySeconds);
+
+        logger.info("========================================");
+        logger.info(" RUTEO DE DATASOURCE CONFIGURADO");
+        logger.info("   Réplica de lectura: " + (replica != null ? "habilitada" : "deshabilitada"));
+        logger.info("   Lectura en primario tras escribir: " + stickySeconds + " s");
+        logger.info("========================================");
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.skillswap.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Alinea las secuencias de ID con los datos existentes.
+ *
+ * Booking, CommunityInvitationToken y UserSkill usan secuencias con optimizador pooled
+ * (allocationSize 50) para que Hibernate pueda agrupar los INSERT en lotes JDBC; con IDENTITY
+ * cada INSERT se ejecuta solo. ddl-auto crea las secuencias empezando en 1, así que antes de los
+ * seeders se mueven por encima del MAX(id) de cada tabla. SETVAL de MariaDB nunca retrocede una
+ * secuencia, así que es seguro aunque otra instancia ya esté asignando IDs.
+ *
+ * La columna id conserva AUTO_INCREMENT, que es lo que usa una instancia con la versión anterior.
+ * Después de SETVAL se sube el AUTO_INCREMENT de la tabla por encima del último valor que la
+ * secuencia puede haber repartido (next_not_cached_value más un bloque), así los INSERT por
+ * IDENTITY no caen en un bloque ya asignado. Una vez que las instancias viejas toman IDs desde
+ * ese punto, cada bloque nuevo de la secuencia puede volver a cruzarse con ellos: el cambio a
+ * secuencias se despliega deteniendo todas las instancias viejas antes de arrancar las nuevas.
+ *
+ * Migración versionada: al pasar otra entidad a secuencia, agregarla a SEQUENCES y subir la versión.
+ * Quien inserte IDs explícitos después de que la tarea quedó registrada (SyntheticDataGenerator de
+ * las pruebas de carga) debe volver a ejecutar run(): el próximo arranque no lo hace.
+ */
+@Order(0)
+@Component
+public class IdSequenceInitializer implements StartupTask {
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    /** Secuencia -> tabla */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "booking_seq", "booking",
+            "community_invitation_token_seq", "community_invitation_token",
+            "user_skill_seq", "user_skill"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String checksum() {
+        return "2";
+    }
+
+    @Override
+    public void run() {
+        int failures = 0;
+        for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + entry.getValue(), Long.class);
+                if (maxId != null && maxId > 0) {
+                    jdbcTemplate.queryForObject("SELECT SETVAL(" + entry.getKey() + ", " + maxId + ")", Object.class);
+                }
+                long autoIncrement = alignAutoIncrement(entry.getKey(), entry.getValue());
+                logger.info("[MIGRATION] Secuencia " + entry.getKey() + " alineada con " + entry.getValue()
+                        + " (MAX id: " + maxId + ", AUTO_INCREMENT: " + autoIncrement + ")");
+            } catch (Exception e) {
+                failures++;
+                logger.error("[MIGRATION] Error alineando la secuencia " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " secuencias sin alinear");
+        }
+    }
+
+    /**
+     * AUTO_INCREMENT = siguiente valor fuera de la caché de la secuencia + un incremento.
+     * InnoDB ignora un valor menor que MAX(id) + 1, así que nunca retrocede.
+     */
+    private long alignAutoIncrement(String sequence, String table) {
+        Map<String, Object> state = jdbcTemplate.queryForMap(
+                "SELECT next_not_cached_value, increment FROM " + sequence);
+        long next = ((Number) state.get("next_not_cached_value")).longValue();
+        long increment = ((Number) state.get("increment")).longValue();
+        long autoIncrement = next + increment;
+        jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + autoIncrement);
+        return autoIncrement;
+    }
+}
@@ -0,0 +1,185 @@
+package com.project.skillswap.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Envía las transacciones @Transactional(readOnly = true) a la réplica y todo lo demás al primario.
+ *
+ * Se usa detrás de un LazyConnectionDataSourceProxy: la conexión real se pide con la primera
+ * sentencia, cuando el flag readOnly de la transacción ya está registrado.
+ * El ruteo se decide una vez por conexión. Con open-in-view la sesión de Hibernate vive toda la
+ * petición y, con el modo por defecto, conserva la primera conexión: una escritura después de una
+ * lectura readOnly iría a la réplica. Por eso hibernate.connection.handling_mode es
+ * DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION (application.properties); no hay que quitarlo
+ * mientras open-in-view siga activo.
+ * Una lectura vuelve al primario si:
+ * - la réplica está atrasada más de datasource.replica.max-lag-seconds o no responde
+ *   (lo decide {@link ReplicaLagMonitor});
+ * - el usuario autenticado confirmó una transacción de escritura hace menos de
+ *   datasource.replica.sticky-seconds (lee lo que acaba de escribir);
+ * - la réplica falla al entregar la conexión.
+ *
+ * skillswap.datasource.route (tags target, reason) cuenta las conexiones de cada destino.
+ */
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final String STICKY_SYNC_KEY = ReadWriteRoutingDataSource.class.getName() + ".sticky";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean replicaConfigured;
+    private final long stickyMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private volatile boolean replicaHealthy;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry, long stickySeconds) {
+        this.meterRegistry = meterRegistry;
+        this.replicaConfigured = replica != null;
+        this.replicaHealthy = replicaConfigured;
+        this.stickyMillis = stickySeconds * 1000;
+        setTargetDataSources(replicaConfigured
+                ? Map.of(PRIMARY, primary, REPLICA, replica)
+                : Map.of(PRIMARY, primary));
+        setDefaultTargetDataSource(primary);
+    }
+
+    //#region Ruteo
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (!inTransaction || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (inTransaction) {
+                markStickyAfterCommit();
+            }
+            return route(PRIMARY, "write");
+        }
+        if (!replicaConfigured) {
+            return route(PRIMARY, "no-replica");
+        }
+        if (!replicaHealthy) {
+            return route(PRIMARY, "lag");
+        }
+        if (isSticky(currentUser())) {
+            return route(PRIMARY, "sticky");
+        }
+        return route(REPLICA, "read");
+    }
+
+    /**
+     * Si la réplica no entrega la conexión, la lectura se atiende en el primario
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (!replicaConfigured || target != getResolvedDataSources().get(REPLICA)) {
+                throw e;
+            }
+            logger.warn("[DATASOURCE] Réplica no disponible, se usa el primario: " + e.getMessage());
+            replicaHealthy = false;
+            route(PRIMARY, "error");
+            return getResolvedDataSources().get(PRIMARY).getConnection();
+        }
+    }
+
+    //#endregion
+
+    //#region Estado
+
+    /**
+     * Lo actualiza {@link ReplicaLagMonitor} en cada revisión
+     */
+    public void setReplicaHealthy(boolean replicaHealthy) {
+        if (this.replicaHealthy != replicaHealthy) {
+            logger.info("[DATASOURCE] Lecturas en réplica " + (replicaHealthy ? "habilitadas" : "suspendidas"));
+        }
+        this.replicaHealthy = replicaHealthy && replicaConfigured;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    public boolean isReplicaConfigured() {
+        return replicaConfigured;
+    }
+
+    /**
+     * Olvida las ventanas de lectura-en-primario ya vencidas
+     */
+    public void purgeExpiredStickiness() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    private String route(String target, String reason) {
+        meterRegistry.counter("skillswap.datasource.route", "target", target, "reason", reason).increment();
+        return target;
+    }
+
+    /**
+     * Al confirmar una transacción de escritura, las lecturas del mismo usuario van al primario
+     * durante la ventana configurada. Se registra una sola vez por transacción.
+     */
+    private void markStickyAfterCommit() {
+        if (!replicaConfigured || stickyMillis <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(STICKY_SYNC_KEY)) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(STICKY_SYNC_KEY, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(user, System.currentTimeMillis() + stickyMillis);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(STICKY_SYNC_KEY);
+            }
+        });
+    }
+
+    private boolean isSticky(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    //#endregion
+}
@@ -0,0 +1,72 @@
+package com.project.skillswap.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revisa el atraso de la réplica con SHOW SLAVE STATUS y suspende las lecturas en ella
+ * mientras supere datasource.replica.max-lag-seconds o la replicación esté detenida.
+ * Si el servidor no es réplica (por ejemplo, en desarrollo apuntando al mismo servidor) el atraso es 0.
+ *
+ * Es local a cada nodo: cada réplica de la aplicación decide con su propia medición.
+ * skillswap.datasource.replica.lag publica el último atraso medido (-1 si no se pudo medir).
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replicaDataSource;
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final long maxLagSeconds;
+    private final AtomicLong lastLagSeconds = new AtomicLong(-1);
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                             ReadWriteRoutingDataSource routingDataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        this.replicaDataSource = replicaDataSource;
+        this.routingDataSource = routingDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("skillswap.datasource.replica.lag", lastLagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:5000}")
+    public void checkLag() {
+        long lag = measureLag();
+        lastLagSeconds.set(lag);
+        routingDataSource.setReplicaHealthy(lag >= 0 && lag <= maxLagSeconds);
+        routingDataSource.purgeExpiredStickiness();
+    }
+
+    private long measureLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!rs.next()) {
+                return 0;
+            }
+            long lag = rs.getLong("Seconds_Behind_Master");
+            // NULL: la replicación está detenida
+            return rs.wasNull() ? -1 : lag;
+        } catch (Exception e) {
+            logger.warn("[DATASOURCE] No se pudo medir el atraso de la réplica: " + e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.skillswap.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instrumenta todos los repositorios de Spring Data.
+ * Por cada método registra:
+ * - skillswap.repository.query: duración de la consulta (tags repository, method, outcome)
+ * - skillswap.repository.rows: filas devueltas (listas, páginas, Optional o entidad)
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MethodKey, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(
+                new MethodKey(joinPoint.getThis().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod()),
+                this::registerMeters);
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            methodMeters.rows.record(countRows(result));
+            success = true;
+            return result;
+        } finally {
+            (success ? methodMeters.success : methodMeters.error).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Los medidores se registran una sola vez por repositorio y método; cada llamada reutiliza los handles
+     */
+    private MethodMeters registerMeters(MethodKey key) {
+        String repository = resolveRepositoryName(key.proxyClass());
+        String method = key.method().getName();
+        return new MethodMeters(
+                queryTimer(repository, method, "success"),
+                queryTimer(repository, method, "error"),
+                DistributionSummary.builder("skillswap.repository.rows")
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry));
+    }
+
+    private Timer queryTimer(String repository, String method, String outcome) {
+        return Timer.builder("skillswap.repository.query")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * El proxy implementa la interfaz del proyecto (por ejemplo BookingRepository)
+     * además de las de Spring; se usa la primera que extiende Repository.
+     */
+    private static String resolveRepositoryName(Class<?> proxyClass) {
+        for (Class<?> candidate : proxyClass.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith("com.project.skillswap")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+
+    private static long countRows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            // count/exists/update devuelven escalares, no filas
+            return 0;
+        }
+        return 1;
+    }
+
+    /**
+     * Los métodos heredados (findById, save...) son el mismo Method en todos los repositorios,
+     * por eso la clave incluye la clase del proxy
+     */
+    private record MethodKey(Class<?> proxyClass, Method method) {
+    }
+
+    private record MethodMeters(Timer success, Timer error, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.skillswap.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Instrumenta los métodos @Scheduled:
+ * - skillswap.scheduled.duration: duración de cada ejecución (tags job, outcome)
+ * - skillswap.scheduled.last.success: epoch en segundos de la última ejecución exitosa (tag job)
+ *
+ * Cada ejecución recibe su propio traceId para poder seguirla en los logs.
+ */
+@Aspect
+@Component
+public class ScheduledJobMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, JobMeters> meters = new ConcurrentHashMap<>();
+
+    public ScheduledJobMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object timeScheduledJob(ProceedingJoinPoint joinPoint) throws Throwable {
+        JobMeters jobMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), this::registerMeters);
+
+        MDC.put(TraceIdFilter.MDC_KEY, UUID.randomUUID().toString().replace("-", "").substring(0, 16));
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            jobMeters.lastSuccess.set(System.currentTimeMillis() / 1000);
+            success = true;
+            return result;
+        } finally {
+            (success ? jobMeters.success : jobMeters.error).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            MDC.remove(TraceIdFilter.MDC_KEY);
+        }
+    }
+
+    /**
+     * Los medidores de cada job se registran en su primera ejecución y se reutilizan
+     */
+    private JobMeters registerMeters(Method method) {
+        String job = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        AtomicLong lastSuccess = new AtomicLong(0);
+        Gauge.builder("skillswap.scheduled.last.success", lastSuccess, AtomicLong::get)
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return new JobMeters(durationTimer(job, "success"), durationTimer(job, "error"), lastSuccess);
+    }
+
+    private Timer durationTimer(String job, String outcome) {
+        return Timer.builder("skillswap.scheduled.duration")
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record JobMeters(Timer success, Timer error, AtomicLong lastSuccess) {
+    }
+}
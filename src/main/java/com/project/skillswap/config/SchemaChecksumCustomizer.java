@@ -0,0 +1,89 @@
+package com.project.skillswap.config;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Omite la comparación completa del esquema (ddl-auto=update) cuando el modelo no cambió.
+ *
+ * El checksum del modelo es el hash del bytecode de las entidades, embeddables, superclases
+ * mapeadas y enums de la aplicación (los enums definen columnas ENUM). Si coincide con el que
+ * registró el último arranque que actualizó el esquema, Hibernate arranca con hbm2ddl.auto=none;
+ * si no, se actualiza con hbm2ddl.halt_on_error=true y {@link StartupTaskRunner} registra el checksum
+ * nuevo. Sin halt_on_error Hibernate solo registra en el log la DDL que falla y el arranque seguiría,
+ * así que se guardaría el checksum de un esquema a medio actualizar y no se volvería a intentar.
+ *
+ * startup.schema.mode=always desactiva la comparación (por ejemplo, si se tocó el esquema a mano).
+ */
+@Component
+public class SchemaChecksumCustomizer implements HibernatePropertiesCustomizer {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaChecksumCustomizer.class);
+
+    private static final String HBM2DDL_AUTO = "hibernate.hbm2ddl.auto";
+    private static final String HBM2DDL_HALT_ON_ERROR = "hibernate.hbm2ddl.halt_on_error";
+
+    private final DataSource dataSource;
+    private final String mode;
+
+    private String modelChecksum;
+    private boolean updateSkipped;
+
+    public SchemaChecksumCustomizer(DataSource dataSource,
+                                    @Value("${startup.schema.mode:auto}") String mode) {
+        this.dataSource = dataSource;
+        this.mode = mode;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (!"update".equals(hibernateProperties.get(HBM2DDL_AUTO)) || !"auto".equalsIgnoreCase(mode)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            modelChecksum = StartupChecksums.ofPackage("com.project.skillswap", reader ->
+                    reader.getAnnotationMetadata().hasAnnotation(Entity.class.getName())
+                            || reader.getAnnotationMetadata().hasAnnotation(Embeddable.class.getName())
+                            || reader.getAnnotationMetadata().hasAnnotation(MappedSuperclass.class.getName())
+                            || Enum.class.getName().equals(reader.getClassMetadata().getSuperClassName()));
+
+            String stored = new StartupTaskLedger(new JdbcTemplate(dataSource)).checksums()
+                    .get(StartupTaskLedger.SCHEMA_TASK);
+            if (modelChecksum.equals(stored)) {
+                hibernateProperties.put(HBM2DDL_AUTO, "none");
+                updateSkipped = true;
+            } else {
+                // El checksum se registra solo si toda la DDL se aplicó
+                hibernateProperties.put(HBM2DDL_HALT_ON_ERROR, "true");
+            }
+            logger.info("[STARTUP] Modelo " + (updateSkipped ? "sin cambios, se omite la actualización del esquema"
+                    : "modificado, se actualiza el esquema") + " (" + (System.currentTimeMillis() - start) + " ms)");
+        } catch (Exception e) {
+            // Ante cualquier duda se actualiza el esquema como siempre
+            modelChecksum = null;
+            logger.warn("[STARTUP] No se pudo calcular el checksum del modelo: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checksum que se debe registrar después de una actualización exitosa, o null si no hay nada que registrar
+     */
+    String pendingChecksum() {
+        return updateSkipped ? null : modelChecksum;
+    }
+
+    boolean isUpdateSkipped() {
+        return updateSkipped;
+    }
+}
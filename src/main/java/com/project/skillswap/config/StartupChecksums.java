@@ -0,0 +1,81 @@
+package com.project.skillswap.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Checksums SHA-256 del bytecode de clases, usados por el arranque rápido para saber
+ * si una tarea o el modelo de entidades cambiaron desde el último arranque.
+ */
+final class StartupChecksums {
+
+    private StartupChecksums() {
+    }
+
+    /**
+     * Checksum de un conjunto de clases (independiente del orden)
+     */
+    static String ofClasses(Collection<Class<?>> classes) {
+        Map<String, Resource> resources = new TreeMap<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (Class<?> type : classes) {
+            resources.put(type.getName(), resolver.getResource(
+                    "classpath:" + type.getName().replace('.', '/') + ".class"));
+        }
+        return digest(resources);
+    }
+
+    /**
+     * Checksum de las clases de un paquete (y subpaquetes) que cumplen el filtro
+     * @param basePackage Paquete base, por ejemplo com.project.skillswap
+     * @param filter Filtro sobre los metadatos de cada clase, sin cargarla
+     */
+    static String ofPackage(String basePackage, Predicate<MetadataReader> filter) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        CachingMetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(resolver);
+        Map<String, Resource> resources = new TreeMap<>();
+        try {
+            for (Resource resource : resolver.getResources(
+                    "classpath*:" + basePackage.replace('.', '/') + "/**/*.class")) {
+                MetadataReader reader = readerFactory.getMetadataReader(resource);
+                if (filter.test(reader)) {
+                    resources.put(reader.getClassMetadata().getClassName(), resource);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digest(resources);
+    }
+
+    private static String digest(Map<String, Resource> resourcesByName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Resource> entry : resourcesByName.entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = entry.getValue().getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.skillswap.config;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.Set;
+
+/**
+ * Tarea de arranque (migración de datos, seeder, instalación de procedimientos).
+ *
+ * {@link StartupTaskRunner} ejecuta cada tarea cuando su checksum no coincide con el registrado
+ * en startup_task_ledger, así que una tarea ya aplicada no vuelve a consultar la base al reiniciar.
+ * Las tareas sin dependencias entre sí se ejecutan en paralelo.
+ */
+public interface StartupTask {
+
+    /**
+     * Nombre con el que se registra en startup_task_ledger
+     */
+    default String taskName() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+
+    /**
+     * Versión de la tarea. Por defecto es el hash del bytecode de la clase: cualquier cambio en el
+     * seeder lo vuelve a ejecutar. Las migraciones versionadas devuelven un número fijo para
+     * aplicarse una sola vez.
+     */
+    default String checksum() {
+        return StartupChecksums.ofClasses(Set.<Class<?>>of(ClassUtils.getUserClass(this)));
+    }
+
+    /**
+     * Tareas que deben terminar antes que esta
+     */
+    default Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of();
+    }
+
+    /**
+     * Ejecuta la tarea. Si lanza una excepción no se registra y se reintenta en el próximo arranque.
+     */
+    void run() throws Exception;
+}
@@ -0,0 +1,56 @@
+package com.project.skillswap.config;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registro de tareas de arranque aplicadas (tabla startup_task_ledger).
+ *
+ * Se maneja con JDBC y no como entidad porque {@link SchemaChecksumCustomizer} lo lee antes de
+ * que Hibernate exista, para decidir si hace falta actualizar el esquema.
+ */
+class StartupTaskLedger {
+
+    static final String SCHEMA_TASK = "hibernate-schema";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    StartupTaskLedger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void ensureTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS startup_task_ledger (" +
+                "task_name VARCHAR(150) NOT NULL PRIMARY KEY, " +
+                "checksum VARCHAR(64) NOT NULL, " +
+                "applied_at DATETIME(3) NOT NULL, " +
+                "duration_ms BIGINT NOT NULL)");
+    }
+
+    /**
+     * Checksums registrados por tarea; vacío si la tabla aún no existe
+     */
+    Map<String, String> checksums() {
+        Map<String, String> checksums = new HashMap<>();
+        try {
+            jdbcTemplate.query("SELECT task_name, checksum FROM startup_task_ledger",
+                    rs -> {
+                        checksums.put(rs.getString(1), rs.getString(2));
+                    });
+        } catch (DataAccessException e) {
+            // Primer arranque contra esta base: la tabla se crea con ensureTable
+        }
+        return checksums;
+    }
+
+    void record(String taskName, String checksum, long durationMillis) {
+        jdbcTemplate.update("INSERT INTO startup_task_ledger (task_name, checksum, applied_at, duration_ms) " +
+                        "VALUES (?, ?, NOW(3), ?) " +
+                        "ON DUPLICATE KEY UPDATE checksum = VALUES(checksum), applied_at = VALUES(applied_at), " +
+                        "duration_ms = VALUES(duration_ms)",
+                taskName, checksum, durationMillis);
+    }
+}
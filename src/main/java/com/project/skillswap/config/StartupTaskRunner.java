@@ -0,0 +1,234 @@
+package com.project.skillswap.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta las {@link StartupTask} al arrancar.
+ *
+ * - Una tarea cuyo checksum coincide con el de startup_task_ledger se omite sin tocar la base.
+ * - Las tareas sin dependencias pendientes corren en paralelo (startup.tasks.parallelism hilos);
+ *   cada una empieza cuando terminan las que declara en dependsOn.
+ * - Con varias réplicas arrancando a la vez, un GET_LOCK de MariaDB deja que solo una aplique
+ *   las tareas; las demás esperan y releen el registro.
+ * - Al quedar lista la aplicación se imprime el tiempo de cada fase y el tiempo total hasta ready.
+ *
+ * startup.tasks.force=true vuelve a ejecutar todas las tareas (útil después de vaciar tablas a mano).
+ */
+@Order(0)
+@Component
+public class StartupTaskRunner implements ApplicationListener<ContextRefreshedEvent> {
+    private static final Logger logger = LoggerFactory.getLogger(StartupTaskRunner.class);
+
+    private static final String LOCK_NAME = "skillswap_startup_tasks";
+
+    private final List<StartupTask> tasks;
+    private final JdbcTemplate jdbcTemplate;
+    private final StartupTaskLedger ledger;
+    private final SchemaChecksumCustomizer schemaChecksumCustomizer;
+
+    @Value("${startup.tasks.parallelism:4}")
+    private int parallelism;
+
+    @Value("${startup.tasks.force:false}")
+    private boolean force;
+
+    @Value("${startup.tasks.lock-timeout-seconds:120}")
+    private int lockTimeoutSeconds;
+
+    private final ConcurrentLinkedQueue<String> timings = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger executed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private long refreshedAtUptime;
+    private long tasksMillis;
+    private boolean alreadySetup = false;
+
+    public StartupTaskRunner(List<StartupTask> tasks, JdbcTemplate jdbcTemplate,
+                             SchemaChecksumCustomizer schemaChecksumCustomizer) {
+        this.tasks = tasks;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ledger = new StartupTaskLedger(jdbcTemplate);
+        this.schemaChecksumCustomizer = schemaChecksumCustomizer;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (alreadySetup) {
+            return;
+        }
+        alreadySetup = true;
+        refreshedAtUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        long start = System.currentTimeMillis();
+        ledger.ensureTable();
+
+        String schemaChecksum = schemaChecksumCustomizer.pendingChecksum();
+        if (schemaChecksum != null) {
+            ledger.record(StartupTaskLedger.SCHEMA_TASK, schemaChecksum, 0);
+        }
+
+        Map<String, String> applied = ledger.checksums();
+        if (!force && tasks.stream().allMatch(task -> task.checksum().equals(applied.get(task.taskName())))) {
+            skipped.addAndGet(tasks.size());
+        } else {
+            runUnderLock();
+        }
+        tasksMillis = System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Reporte de tiempos de arranque
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        long readyAtUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        logger.info("========================================");
+        logger.info(" ARRANQUE COMPLETADO");
+        logger.info("   Contexto (incluye esquema): " + refreshedAtUptime + " ms");
+        logger.info("   Esquema: " + (schemaChecksumCustomizer.isUpdateSkipped() ? "sin cambios (omitido)" : "actualizado"));
+        logger.info("   Tareas de arranque: " + tasksMillis + " ms (ejecutadas: " + executed.get()
+                + ", omitidas: " + skipped.get() + ", fallidas: " + failed.get() + ")");
+        for (String timing : timings) {
+            logger.info("     " + timing);
+        }
+        logger.info("   Tiempo hasta ready: " + readyAtUptime + " ms");
+        logger.info("========================================");
+    }
+
+    //#region Privados
+
+    private void runUnderLock() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean locked = false;
+            try (PreparedStatement lock = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                lock.setString(1, LOCK_NAME);
+                lock.setInt(2, lockTimeoutSeconds);
+                try (ResultSet rs = lock.executeQuery()) {
+                    locked = rs.next() && rs.getInt(1) == 1;
+                }
+            }
+            if (!locked) {
+                logger.warn("[STARTUP] No se obtuvo el lock de arranque en " + lockTimeoutSeconds
+                        + " s; las tareas se ejecutan igual (son idempotentes)");
+            }
+
+            try {
+                // Otra réplica pudo aplicar las tareas mientras se esperaba el lock
+                runPending(ledger.checksums());
+            } finally {
+                if (locked) {
+                    try (PreparedStatement release = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                        release.setString(1, LOCK_NAME);
+                        release.execute();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void runPending(Map<String, String> applied) {
+        Map<Class<?>, StartupTask> byType = new HashMap<>();
+        for (StartupTask task : tasks) {
+            byType.put(ClassUtils.getUserClass(task), task);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "startup-task");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<StartupTask, CompletableFuture<Void>> futures = new HashMap<>();
+            for (StartupTask task : tasks) {
+                schedule(task, byType, applied, futures, new HashSet<>(), pool);
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Crea (una vez) el future de la tarea encadenado a los de sus dependencias.
+     * Si una dependencia falla, la tarea se ejecuta igual, como antes con los listeners.
+     */
+    private CompletableFuture<Void> schedule(StartupTask task, Map<Class<?>, StartupTask> byType,
+                                             Map<String, String> applied,
+                                             Map<StartupTask, CompletableFuture<Void>> futures,
+                                             Set<StartupTask> visiting, ExecutorService pool) {
+        CompletableFuture<Void> existing = futures.get(task);
+        if (existing != null) {
+            return existing;
+        }
+        if (!visiting.add(task)) {
+            throw new IllegalStateException("Dependencia circular entre tareas de arranque: " + task.taskName());
+        }
+
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (Class<? extends StartupTask> dependencyType : task.dependsOn()) {
+            StartupTask dependency = byType.get(dependencyType);
+            if (dependency != null) {
+                dependencies.add(schedule(dependency, byType, applied, futures, visiting, pool));
+            }
+        }
+        visiting.remove(task);
+
+        CompletableFuture<Void> future = CompletableFuture
+                .allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, error) -> null)
+                .thenRunAsync(() -> runTask(task, applied), pool);
+        futures.put(task, future);
+        return future;
+    }
+
+    private void runTask(StartupTask task, Map<String, String> applied) {
+        String checksum = task.checksum();
+        if (!force && checksum.equals(applied.get(task.taskName()))) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            task.run();
+            long elapsed = System.currentTimeMillis() - start;
+            ledger.record(task.taskName(), checksum, elapsed);
+            executed.incrementAndGet();
+            timings.add(task.taskName() + ": " + elapsed + " ms");
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            timings.add(task.taskName() + ": falló tras " + (System.currentTimeMillis() - start) + " ms");
+            logger.error("[STARTUP] Error en la tarea " + task.taskName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    //#endregion
+}
@@ -1,7 +1,10 @@
 package com.project.skillswap.config;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.auth.StompAuthenticationInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -16,18 +19,26 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
 
+    @Autowired
+    private WebSocketMetrics webSocketMetrics;
+
+    @Autowired
+    private StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
     //#region Message Broker Configuration
 
     /**
      * Configura el message broker interno y los prefijos utilizados
      * por los clientes para enviar y recibir mensajes.
+     * /queue y /user son para mensajes a una persona (por ejemplo /user/queue/notifications).
      *
      * @param registry Registro del broker
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");      // Prefijo de mensajes emitidos
+        registry.enableSimpleBroker("/topic", "/queue");      // Prefijo de mensajes emitidos
         registry.setApplicationDestinationPrefixes("/app"); // Prefijo de mensajes entrantes
+        registry.setUserDestinationPrefix("/user");         // Prefijo de mensajes por persona
     }
 
     //#endregion
@@ -55,4 +66,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     }
 
     //#endregion
+
+
+    //#region Channel Interceptors
+
+    /**
+     * Autentica el CONNECT con el JWT y cuenta los mensajes que llegan de los clientes.
+     *
+     * @param registration Registro del canal de entrada
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor, webSocketMetrics.inbound());
+    }
+
+    /**
+     * Cuenta los mensajes que el broker envía a los clientes.
+     *
+     * @param registration Registro del canal de salida
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.outbound());
+    }
+
+    //#endregion
 }
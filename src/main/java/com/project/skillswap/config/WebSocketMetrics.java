@@ -0,0 +1,91 @@
+package com.project.skillswap.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Métricas de los endpoints STOMP (/ws-chat y /ws-documents):
+ * - skillswap.websocket.sessions: sesiones conectadas
+ * - skillswap.websocket.messages: mensajes por dirección y comando STOMP (la tasa se obtiene con rate())
+ *
+ * Se registra como interceptor de los canales inbound y outbound en {@link WebSocketConfig}.
+ */
+@Component
+public class WebSocketMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final ChannelInterceptor inbound;
+    private final ChannelInterceptor outbound;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.inbound = directional("inbound");
+        this.outbound = directional("outbound");
+        Gauge.builder("skillswap.websocket.sessions", sessions, Set::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            sessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public ChannelInterceptor inbound() {
+        return inbound;
+    }
+
+    public ChannelInterceptor outbound() {
+        return outbound;
+    }
+
+    /**
+     * Un contador por comando STOMP, registrado al construir; preSend solo incrementa
+     */
+    private ChannelInterceptor directional(String direction) {
+        Map<StompCommand, Counter> byCommand = new EnumMap<>(StompCommand.class);
+        for (StompCommand command : StompCommand.values()) {
+            byCommand.put(command, messageCounter(direction, command.name()));
+        }
+        Counter withoutCommand = messageCounter(direction, "MESSAGE");
+
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompCommand command = StompHeaderAccessor.wrap(message).getCommand();
+                (command != null ? byCommand.get(command) : withoutCommand).increment();
+                return message;
+            }
+        };
+    }
+
+    private Counter messageCounter(String direction, String command) {
+        return Counter.builder("skillswap.websocket.messages")
+                .tag("direction", direction)
+                .tag("command", command)
+                .register(meterRegistry);
+    }
+}
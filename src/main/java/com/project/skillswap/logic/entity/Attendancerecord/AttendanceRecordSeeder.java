@@ -7,16 +7,17 @@ import com.project.skillswap.logic.entity.LearningSession.LearningSessionReposit
 import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
 import com.project.skillswap.logic.entity.Booking.Booking;
 import com.project.skillswap.logic.entity.Booking.BookingRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Booking.BookingSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.Set;
 
 @Order(7)
 @Component
-public class AttendanceRecordSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class AttendanceRecordSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(AttendanceRecordSeeder.class);
 
     private final AttendanceRecordRepository attendanceRecordRepository;
@@ -33,7 +34,12 @@ public class AttendanceRecordSeeder implements ApplicationListener<ContextRefres
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(BookingSeeder.class);
+    }
+
+    @Override
+    public void run() {
         if (attendanceRecordRepository.count() > 0) {
             logger.info("AttendanceRecordSeeder: Ya existen registros, omitiendo seed");
             return;
@@ -0,0 +1,111 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Lectura secuencial con un búfer propio que permite mirar hacia adelante (el encabezado del
+ * siguiente frame MP3, los primeros bytes de un bloque WebM) y saltar el resto sin copiarlo.
+ * No es thread-safe: cada lectura usa su propia instancia.
+ */
+final class AudioInput {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long consumed;
+    private boolean eof;
+
+    AudioInput(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Offset absoluto del próximo byte
+     */
+    long position() {
+        return consumed + pos;
+    }
+
+    /**
+     * Garantiza n bytes disponibles para peek()
+     * @return false si el archivo termina antes
+     */
+    boolean ensure(int n) throws IOException {
+        if (limit - pos >= n) {
+            return true;
+        }
+        if (n > buffer.length) {
+            throw new IllegalArgumentException("Lectura anticipada mayor que el búfer: " + n);
+        }
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            consumed += pos;
+            limit -= pos;
+            pos = 0;
+        }
+        while (limit < n && !eof) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return limit - pos >= n;
+    }
+
+    int peek(int offset) {
+        return buffer[pos + offset] & 0xFF;
+    }
+
+    /**
+     * Entero big-endian de n bytes (n <= 8) que empieza en offset, sin consumirlo
+     */
+    long peekLong(int offset, int n) {
+        long value = 0;
+        for (int i = 0; i < n; i++) {
+            value = (value << 8) | peek(offset + i);
+        }
+        return value;
+    }
+
+    int read() throws IOException {
+        if (!ensure(1)) {
+            return -1;
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    long readLong(int n) throws IOException {
+        if (!ensure(n)) {
+            throw new EOFException();
+        }
+        long value = peekLong(0, n);
+        pos += n;
+        return value;
+    }
+
+    void skip(long n) throws IOException {
+        long inBuffer = Math.min(n, limit - pos);
+        pos += (int) inBuffer;
+        long remaining = n - inBuffer;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                // skip() puede devolver 0 sin llegar al final; se confirma leyendo
+                if (in.read() < 0) {
+                    eof = true;
+                    throw new EOFException();
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+        consumed += n - inBuffer;
+    }
+}
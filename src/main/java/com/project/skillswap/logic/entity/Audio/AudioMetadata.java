@@ -0,0 +1,45 @@
+package com.project.skillswap.logic.entity.Audio;
+
+/**
+ * Metadatos de un archivo de audio obtenidos recorriendo el contenedor, sin decodificar
+ *
+ * @param format contenedor: MP3 o WEBM (también Matroska)
+ * @param codec por ejemplo "MPEG-1 Layer III" o "A_OPUS"
+ * @param durationMillis duración según el encabezado Xing/VBRI, la Info del segmento o los frames recorridos
+ * @param bitrate promedio en bps (bytes de audio / duración)
+ * @param frames frames de audio recorridos (en WebM, bloques de la pista de audio)
+ * @param silentFrames frames sin datos codificados; ver {@link #silent()}
+ */
+public record AudioMetadata(String format,
+                            String codec,
+                            long durationMillis,
+                            int bitrate,
+                            int sampleRate,
+                            int channels,
+                            long frames,
+                            long silentFrames) {
+
+    /**
+     * Proporción de frames silenciosos a partir de la cual se considera que no se capturó audio
+     */
+    public static final double SILENT_RATIO = 0.98;
+
+    public boolean hasAudio() {
+        return frames > 0 && sampleRate > 0;
+    }
+
+    /**
+     * Casi todos los frames son silencio digital (micrófono apagado o pista muda)
+     */
+    public boolean silent() {
+        return frames > 0 && silentFrames >= frames * SILENT_RATIO;
+    }
+
+    public double silenceRatio() {
+        return frames > 0 ? (double) silentFrames / frames : 0;
+    }
+
+    public int durationSeconds() {
+        return (int) Math.ceil(durationMillis / 1000.0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Duración, bitrate y silencio de las grabaciones leyendo el contenedor dentro del proceso.
+ *
+ * Reemplaza a ffprobe y a MultimediaObject de JAVE para validar y medir: no lanza procesos ni
+ * depende del binario nativo del sistema operativo. Lee el archivo una sola vez, de principio a
+ * fin, saltando los datos de audio; no decodifica. Soporta MP3 (el formato que guarda
+ * RecordingService) y WebM/Matroska (lo que sube el navegador con MediaRecorder).
+ * La conversión a MP3 sigue en JAVE.
+ */
+@Component
+public class AudioMetadataReader {
+    private static final Logger logger = LoggerFactory.getLogger(AudioMetadataReader.class);
+
+    /**
+     * @throws IOException si no se puede leer o no es MP3 ni WebM/Matroska
+     */
+    public AudioMetadata read(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Lee el flujo hasta el final; no lo cierra
+     */
+    public AudioMetadata read(InputStream stream) throws IOException {
+        long start = System.nanoTime();
+        AudioInput in = new AudioInput(stream);
+        if (!in.ensure(4)) {
+            throw new IOException("Archivo de audio vacío o incompleto");
+        }
+
+        AudioMetadata metadata;
+        if (in.peekLong(0, 4) == MatroskaMetadataParser.EBML_MAGIC) {
+            metadata = MatroskaMetadataParser.parse(in);
+        } else if (looksLikeMp3(in)) {
+            metadata = Mp3MetadataParser.parse(in);
+        } else {
+            throw new IOException("Formato de audio no reconocido");
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("[AUDIO] " + metadata.format() + " " + metadata.codec() + ": " + metadata.durationMillis() + " ms, "
+                    + metadata.frames() + " frames en " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+        return metadata;
+    }
+
+    private static boolean looksLikeMp3(AudioInput in) {
+        boolean id3 = in.peek(0) == 'I' && in.peek(1) == 'D' && in.peek(2) == '3';
+        boolean sync = in.peek(0) == 0xFF && (in.peek(1) & 0xE0) == 0xE0;
+        return id3 || sync;
+    }
+}
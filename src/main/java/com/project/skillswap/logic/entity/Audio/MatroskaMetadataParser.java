@@ -0,0 +1,310 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recorre un WebM/Matroska elemento por elemento: entra en los contenedores que interesan
+ * (Segment, Info, Tracks, Cluster, BlockGroup) y salta el resto sin leerlo.
+ *
+ * - La duración sale de Segment/Info/Duration cuando existe. MediaRecorder no la escribe (y las
+ *   cabeceras de sus clusters tienen tamaño desconocido), así que si falta se usa el fin del último
+ *   bloque de audio: timecode del cluster + timecode del bloque + duración del frame.
+ * - La duración de cada frame sale de BlockDuration, DefaultDuration o el byte TOC de Opus.
+ * - Un paquete Opus de hasta SILENT_OPUS_BYTES bytes es silencio: el encoder codifica el silencio
+ *   digital en 1-3 bytes, mientras que la voz a 20 ms ocupa decenas de bytes.
+ * - Un archivo cortado (grabación interrumpida) se lee hasta donde llega.
+ */
+final class MatroskaMetadataParser {
+
+    static final long EBML_MAGIC = 0x1A45DFA3L;
+
+    private static final long SEGMENT = 0x18538067L;
+    private static final long INFO = 0x1549A966L;
+    private static final long TIMECODE_SCALE = 0x2AD7B1L;
+    private static final long DURATION = 0x4489L;
+    private static final long DOC_TYPE = 0x4282L;
+    private static final long TRACKS = 0x1654AE6BL;
+    private static final long TRACK_ENTRY = 0xAEL;
+    private static final long TRACK_NUMBER = 0xD7L;
+    private static final long TRACK_TYPE = 0x83L;
+    private static final long CODEC_ID = 0x86L;
+    private static final long DEFAULT_DURATION = 0x23E383L;
+    private static final long AUDIO = 0xE1L;
+    private static final long SAMPLING_FREQUENCY = 0xB5L;
+    private static final long CHANNELS = 0x9FL;
+    private static final long CLUSTER = 0x1F43B675L;
+    private static final long CLUSTER_TIMECODE = 0xE7L;
+    private static final long SIMPLE_BLOCK = 0xA3L;
+    private static final long BLOCK_GROUP = 0xA0L;
+    private static final long BLOCK = 0xA1L;
+    private static final long BLOCK_DURATION = 0x9BL;
+
+    private static final int TRACK_TYPE_AUDIO = 2;
+    private static final int SILENT_OPUS_BYTES = 3;
+    private static final int MAX_STRING_BYTES = 256;
+
+    private MatroskaMetadataParser() {
+    }
+
+    static AudioMetadata parse(AudioInput in) throws IOException {
+        State state = new State();
+        try {
+            while (in.ensure(1)) {
+                long id = readId(in);
+                long size = readSize(in);
+                if (id == EBML_MAGIC || id == SEGMENT || id == INFO || id == TRACKS || id == AUDIO
+                        || id == CLUSTER || id == BLOCK_GROUP) {
+                    continue;
+                }
+                if (id == TRACK_ENTRY) {
+                    state.tracks.add(new Track());
+                    continue;
+                }
+                if (size < 0) {
+                    // Tamaño desconocido en un elemento que no se recorre: no hay forma de saltarlo
+                    break;
+                }
+                element(in, state, id, size);
+            }
+        } catch (EOFException e) {
+            // Archivo truncado: vale lo leído hasta aquí
+        }
+        return state.toMetadata();
+    }
+
+    //#region Private Methods
+    private static void element(AudioInput in, State state, long id, long size) throws IOException {
+        Track track = state.tracks.isEmpty() ? null : state.tracks.get(state.tracks.size() - 1);
+
+        if (id == DOC_TYPE) {
+            state.docType = readString(in, size);
+        } else if (id == TIMECODE_SCALE) {
+            state.timecodeScale = readUnsigned(in, size);
+        } else if (id == DURATION) {
+            state.duration = readFloat(in, size);
+        } else if (id == CLUSTER_TIMECODE) {
+            state.clusterTimecode = readUnsigned(in, size);
+        } else if (id == SIMPLE_BLOCK || id == BLOCK) {
+            block(in, state, size);
+        } else if (id == BLOCK_DURATION) {
+            long duration = readUnsigned(in, size);
+            if (state.lastBlockStart >= 0) {
+                state.end = Math.max(state.end, state.lastBlockStart + duration * state.timecodeScale);
+            }
+        } else if (track != null && id == TRACK_NUMBER) {
+            track.number = readUnsigned(in, size);
+        } else if (track != null && id == TRACK_TYPE) {
+            track.type = (int) readUnsigned(in, size);
+        } else if (track != null && id == CODEC_ID) {
+            track.codecId = readString(in, size);
+        } else if (track != null && id == DEFAULT_DURATION) {
+            track.defaultDuration = readUnsigned(in, size);
+        } else if (track != null && id == SAMPLING_FREQUENCY) {
+            track.sampleRate = readFloat(in, size);
+        } else if (track != null && id == CHANNELS) {
+            track.channels = (int) readUnsigned(in, size);
+        } else {
+            in.skip(size);
+        }
+    }
+
+    /**
+     * Encabezado del bloque: número de pista (vint), timecode relativo (int16) y flags
+     */
+    private static void block(AudioInput in, State state, long size) throws IOException {
+        Track audio = state.audioTrack();
+        int header = (int) Math.min(size, 16);
+        if (audio == null || !in.ensure(header) || header < 4) {
+            in.skip(size);
+            return;
+        }
+
+        int trackLength = vintLength(in.peek(0));
+        if (trackLength > 8 || trackLength + 3 > header) {
+            in.skip(size);
+            return;
+        }
+        long trackNumber = in.peekLong(0, trackLength) & ((1L << (7 * trackLength)) - 1);
+        if (trackNumber != audio.number) {
+            state.lastBlockStart = -1;
+            in.skip(size);
+            return;
+        }
+
+        short relative = (short) in.peekLong(trackLength, 2);
+        int flags = in.peek(trackLength + 2);
+        int offset = trackLength + 3;
+        int laced = 1;
+        if ((flags & 0x06) != 0 && offset < header) {
+            laced = in.peek(offset) + 1;
+            offset++;
+        }
+        long payload = size - offset;
+
+        long start = (state.clusterTimecode + relative) * state.timecodeScale;
+        long frameDuration = audio.defaultDuration;
+        boolean opus = "A_OPUS".equals(audio.codecId);
+        if (frameDuration == 0 && opus && laced == 1 && offset < header) {
+            frameDuration = opusPacketDuration(in, offset, header);
+        }
+        state.lastBlockStart = start;
+        state.end = Math.max(state.end, start + frameDuration * laced);
+        state.frames++;
+        state.audioBytes += payload;
+        if (opus && payload / laced <= SILENT_OPUS_BYTES) {
+            state.silentFrames++;
+        }
+        in.skip(size);
+    }
+
+    /**
+     * Duración en ns según el byte TOC (RFC 6716, sección 3.1)
+     */
+    private static long opusPacketDuration(AudioInput in, int offset, int available) {
+        int toc = in.peek(offset);
+        int config = toc >>> 3;
+        long frameNanos;
+        if (config < 12) {
+            frameNanos = new long[]{10_000_000, 20_000_000, 40_000_000, 60_000_000}[config & 3];
+        } else if (config < 16) {
+            frameNanos = (config & 1) == 0 ? 10_000_000 : 20_000_000;
+        } else {
+            frameNanos = new long[]{2_500_000, 5_000_000, 10_000_000, 20_000_000}[config & 3];
+        }
+        int frames = switch (toc & 3) {
+            case 0 -> 1;
+            case 1, 2 -> 2;
+            default -> offset + 1 < available ? in.peek(offset + 1) & 0x3F : 1;
+        };
+        return frameNanos * frames;
+    }
+
+    private static int vintLength(int first) {
+        return Integer.numberOfLeadingZeros(first) - 23;
+    }
+
+    /**
+     * Los IDs conservan el bit marcador, como en la especificación
+     */
+    private static long readId(AudioInput in) throws IOException {
+        if (!in.ensure(1)) {
+            throw new EOFException();
+        }
+        int length = vintLength(in.peek(0));
+        if (length > 4) {
+            throw new IOException("ID EBML inválido en el byte " + in.position());
+        }
+        return in.readLong(length);
+    }
+
+    /**
+     * @return -1 si el tamaño es desconocido (todos los bits de valor en 1)
+     */
+    private static long readSize(AudioInput in) throws IOException {
+        if (!in.ensure(1)) {
+            throw new EOFException();
+        }
+        int length = vintLength(in.peek(0));
+        if (length > 8) {
+            throw new IOException("Tamaño EBML inválido en el byte " + in.position());
+        }
+        long mask = (1L << (7 * length)) - 1;
+        long value = in.readLong(length) & mask;
+        return value == mask ? -1 : value;
+    }
+
+    private static long readUnsigned(AudioInput in, long size) throws IOException {
+        if (size > 8) {
+            in.skip(size);
+            return 0;
+        }
+        return size == 0 ? 0 : in.readLong((int) size);
+    }
+
+    private static double readFloat(AudioInput in, long size) throws IOException {
+        if (size == 4) {
+            return Float.intBitsToFloat((int) in.readLong(4));
+        }
+        if (size == 8) {
+            return Double.longBitsToDouble(in.readLong(8));
+        }
+        in.skip(size);
+        return 0;
+    }
+
+    private static String readString(AudioInput in, long size) throws IOException {
+        if (size > MAX_STRING_BYTES || !in.ensure((int) size)) {
+            in.skip(size);
+            return null;
+        }
+        byte[] bytes = new byte[(int) size];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) in.read();
+        }
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] == 0) {
+            end--;
+        }
+        return new String(bytes, 0, end, StandardCharsets.US_ASCII);
+    }
+
+    private static final class Track {
+        private long number;
+        private int type;
+        private String codecId;
+        private long defaultDuration;
+        private double sampleRate;
+        private int channels = 1;
+
+        boolean isAudio() {
+            return type == TRACK_TYPE_AUDIO || (type == 0 && codecId != null && codecId.startsWith("A_"));
+        }
+    }
+
+    private static final class State {
+        private final List<Track> tracks = new ArrayList<>(2);
+        private Track audio;
+        private String docType;
+        private long timecodeScale = 1_000_000;
+        private double duration;
+        private long clusterTimecode;
+        private long lastBlockStart = -1;
+        private long end;
+        private long frames;
+        private long silentFrames;
+        private long audioBytes;
+
+        /**
+         * Las pistas van antes que los clusters; se resuelve con el primer bloque
+         */
+        Track audioTrack() {
+            if (audio == null) {
+                for (Track track : tracks) {
+                    if (track.isAudio()) {
+                        audio = track;
+                        break;
+                    }
+                }
+            }
+            return audio;
+        }
+
+        AudioMetadata toMetadata() {
+            Track track = audioTrack();
+            String format = "webm".equals(docType) ? "WEBM" : "MATROSKA";
+            if (track == null) {
+                return new AudioMetadata(format, null, 0, 0, 0, 0, 0, 0);
+            }
+            long durationNanos = duration > 0 ? Math.round(duration * timecodeScale) : end;
+            long durationMillis = durationNanos / 1_000_000;
+            int bitrate = durationMillis > 0 ? (int) (audioBytes * 8 * 1000 / durationMillis) : 0;
+            return new AudioMetadata(format, track.codecId, durationMillis, bitrate,
+                    (int) Math.round(track.sampleRate), track.channels, frames, silentFrames);
+        }
+    }
+    //#endregion
+}
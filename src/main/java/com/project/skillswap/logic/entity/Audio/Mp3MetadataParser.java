@@ -0,0 +1,255 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import java.io.IOException;
+
+/**
+ * Recorre un MP3 frame por frame leyendo solo los encabezados (4 bytes) y la side info de Layer III.
+ *
+ * - Se salta el tag ID3v2 inicial; ID3v1, APE y basura entre frames se saltan byte a byte hasta
+ *   el siguiente encabezado compatible con el primero (misma versión, capa y frecuencia).
+ * - El primer frame se confirma con el encabezado del siguiente para no sincronizar sobre datos.
+ * - Si el primer frame es un encabezado Xing/Info o VBRI no se cuenta como audio. Cuando el conteo
+ *   del Xing coincide con los frames recorridos (archivo completo), se descuentan el retardo y el
+ *   relleno del encoder que anota el tag LAME, igual que ffprobe.
+ * - Un frame de Layer III es silencioso si ningún gránulo tiene big_values: no hay coeficientes
+ *   con magnitud mayor que 1, que es lo que produce el encoder con silencio digital.
+ */
+final class Mp3MetadataParser {
+
+    private static final int[][] BITRATES_KBPS = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448}, // MPEG-1 Layer I
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},    // MPEG-1 Layer II
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},     // MPEG-1 Layer III
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},    // MPEG-2/2.5 Layer I
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}          // MPEG-2/2.5 Layer II y III
+    };
+    private static final int[][] SAMPLE_RATES = {
+            {44100, 48000, 32000}, // MPEG-1
+            {22050, 24000, 16000}, // MPEG-2
+            {11025, 12000, 8000}   // MPEG-2.5
+    };
+    private static final String[] VERSION_NAMES = {"MPEG-1", "MPEG-2", "MPEG-2.5"};
+    private static final String[] LAYER_NAMES = {"", "Layer I", "Layer II", "Layer III"};
+
+    // Sync, versión, capa y frecuencia: deben coincidir en todos los frames del archivo
+    private static final int STREAM_MASK = 0xFFFE0C00;
+
+    private Mp3MetadataParser() {
+    }
+
+    static AudioMetadata parse(AudioInput in) throws IOException {
+        skipId3v2(in);
+
+        int reference = 0;
+        Frame first = null;
+        long frames = 0;
+        long silentFrames = 0;
+        long audioBytes = 0;
+        VbrHeader vbr = null;
+
+        while (in.ensure(4)) {
+            int header = (int) in.peekLong(0, 4);
+            Frame frame = Frame.decode(header);
+            if (frame == null || (reference != 0 && (header & STREAM_MASK) != (reference & STREAM_MASK))) {
+                in.skip(1);
+                continue;
+            }
+
+            if (reference == 0) {
+                if (!confirmedByNext(in, header, frame)) {
+                    in.skip(1);
+                    continue;
+                }
+                reference = header;
+                first = frame;
+                if (in.ensure(frame.length)) {
+                    vbr = VbrHeader.read(in, frame);
+                    if (vbr != null) {
+                        in.skip(frame.length);
+                        continue;
+                    }
+                }
+            }
+
+            if (!in.ensure(frame.length)) {
+                // Último frame truncado: no se cuenta
+                break;
+            }
+            if (frame.layer == 3 && isSilent(in, frame)) {
+                silentFrames++;
+            }
+            frames++;
+            audioBytes += frame.length;
+            in.skip(frame.length);
+        }
+
+        if (first == null) {
+            return new AudioMetadata("MP3", null, 0, 0, 0, 0, 0, 0);
+        }
+
+        long samples = frames * first.samples;
+        if (vbr != null && vbr.frames == frames) {
+            samples = Math.max(0, samples - vbr.encoderDelay - vbr.encoderPadding);
+        }
+        long durationMillis = Math.round(samples * 1000.0 / first.sampleRate);
+        int bitrate = samples > 0 ? (int) Math.round(audioBytes * 8.0 * first.sampleRate / samples) : 0;
+
+        return new AudioMetadata("MP3", VERSION_NAMES[first.version] + " " + LAYER_NAMES[first.layer],
+                durationMillis, bitrate, first.sampleRate, first.channels, frames, silentFrames);
+    }
+
+    //#region Private Methods
+    private static void skipId3v2(AudioInput in) throws IOException {
+        while (in.ensure(10) && in.peek(0) == 'I' && in.peek(1) == 'D' && in.peek(2) == '3') {
+            // Tamaño "syncsafe": 7 bits útiles por byte
+            long size = (in.peek(6) & 0x7F) << 21 | (in.peek(7) & 0x7F) << 14 | (in.peek(8) & 0x7F) << 7 | (in.peek(9) & 0x7F);
+            boolean footer = (in.peek(5) & 0x10) != 0;
+            in.skip(10 + size + (footer ? 10 : 0));
+        }
+    }
+
+    private static boolean confirmedByNext(AudioInput in, int header, Frame frame) throws IOException {
+        if (!in.ensure(frame.length + 4)) {
+            // Archivo de un solo frame (o el resto truncado): se acepta
+            return true;
+        }
+        int next = (int) in.peekLong(frame.length, 4);
+        return Frame.decode(next) != null && (next & STREAM_MASK) == (header & STREAM_MASK);
+    }
+
+    /**
+     * Lee big_values de cada gránulo y canal de la side info (después de part2_3_length)
+     */
+    private static boolean isSilent(AudioInput in, Frame frame) {
+        boolean mpeg1 = frame.version == 0;
+        boolean mono = frame.channels == 1;
+        int bit = (4 + (frame.crc ? 2 : 0)) * 8;
+        int granules;
+        int granuleBits;
+        if (mpeg1) {
+            bit += 9 + (mono ? 5 : 3) + (mono ? 4 : 8);
+            granules = 2;
+            granuleBits = 59;
+        } else {
+            bit += 8 + (mono ? 1 : 2);
+            granules = 1;
+            granuleBits = 63;
+        }
+        for (int gr = 0; gr < granules; gr++) {
+            for (int ch = 0; ch < frame.channels; ch++) {
+                int bigValues = bits(in, bit + 12, 9);
+                if (bigValues > 0) {
+                    return false;
+                }
+                bit += granuleBits;
+            }
+        }
+        return true;
+    }
+
+    private static int bits(AudioInput in, int bitOffset, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int position = bitOffset + i;
+            int b = in.peek(position >>> 3);
+            value = (value << 1) | ((b >>> (7 - (position & 7))) & 1);
+        }
+        return value;
+    }
+
+    private static final class Frame {
+        private int version;
+        private int layer;
+        private boolean crc;
+        private int sampleRate;
+        private int channels;
+        private int samples;
+        private int length;
+
+        /**
+         * @return null si no es un encabezado válido (incluye free format, que no se soporta)
+         */
+        static Frame decode(int header) {
+            if ((header >>> 21) != 0x7FF) {
+                return null;
+            }
+            int versionBits = (header >>> 19) & 3;
+            int layerBits = (header >>> 17) & 3;
+            int bitrateIndex = (header >>> 12) & 0xF;
+            int sampleRateIndex = (header >>> 10) & 3;
+            if (versionBits == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+                return null;
+            }
+
+            Frame frame = new Frame();
+            frame.version = versionBits == 3 ? 0 : versionBits == 2 ? 1 : 2;
+            frame.layer = 4 - layerBits;
+            frame.crc = ((header >>> 16) & 1) == 0;
+            frame.sampleRate = SAMPLE_RATES[frame.version][sampleRateIndex];
+            frame.channels = ((header >>> 6) & 3) == 3 ? 1 : 2;
+
+            int table = frame.version == 0 ? frame.layer - 1 : frame.layer == 1 ? 3 : 4;
+            int bitrate = BITRATES_KBPS[table][bitrateIndex] * 1000;
+            int padding = (header >>> 9) & 1;
+            if (frame.layer == 1) {
+                frame.samples = 384;
+                frame.length = (12 * bitrate / frame.sampleRate + padding) * 4;
+            } else {
+                frame.samples = frame.layer == 3 && frame.version != 0 ? 576 : 1152;
+                frame.length = frame.samples / 8 * bitrate / frame.sampleRate + padding;
+            }
+            return frame;
+        }
+    }
+
+    private static final class VbrHeader {
+        private long frames = -1;
+        private int encoderDelay;
+        private int encoderPadding;
+
+        /**
+         * Xing/Info va después de la side info; VBRI siempre 32 bytes después del encabezado
+         */
+        static VbrHeader read(AudioInput in, Frame frame) {
+            if (frame.layer != 3) {
+                return null;
+            }
+            int sideInfo = frame.version == 0 ? (frame.channels == 1 ? 17 : 32) : (frame.channels == 1 ? 9 : 17);
+            int xing = 4 + (frame.crc ? 2 : 0) + sideInfo;
+            if (xing + 8 <= frame.length && (tagAt(in, xing, "Xing") || tagAt(in, xing, "Info"))) {
+                VbrHeader vbr = new VbrHeader();
+                long flags = in.peekLong(xing + 4, 4);
+                int offset = xing + 8;
+                if ((flags & 1) != 0 && offset + 4 <= frame.length) {
+                    vbr.frames = in.peekLong(offset, 4);
+                    offset += 4;
+                }
+                offset += ((flags & 2) != 0 ? 4 : 0) + ((flags & 4) != 0 ? 100 : 0) + ((flags & 8) != 0 ? 4 : 0);
+                // Tag LAME (también lo escribe libavcodec): retardo y relleno en 12 + 12 bits
+                if (offset + 24 <= frame.length
+                        && (tagAt(in, offset, "LAME") || tagAt(in, offset, "Lavc") || tagAt(in, offset, "Lavf"))) {
+                    vbr.encoderDelay = in.peek(offset + 21) << 4 | in.peek(offset + 22) >>> 4;
+                    vbr.encoderPadding = (in.peek(offset + 22) & 0x0F) << 8 | in.peek(offset + 23);
+                }
+                return vbr;
+            }
+            int vbri = 4 + 32;
+            if (vbri + 18 <= frame.length && tagAt(in, vbri, "VBRI")) {
+                VbrHeader vbr = new VbrHeader();
+                vbr.frames = in.peekLong(vbri + 14, 4);
+                return vbr;
+            }
+            return null;
+        }
+
+        private static boolean tagAt(AudioInput in, int offset, String tag) {
+            for (int i = 0; i < tag.length(); i++) {
+                if (in.peek(offset + i) != tag.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    //#endregion
+}
@@ -12,7 +12,8 @@ import java.util.Date;
 @Table(name = "booking", indexes = {
         @Index(name = "idx_booking_session", columnList = "learning_session_id"),
         @Index(name = "idx_booking_community", columnList = "community_id"),
-        @Index(name = "idx_booking_learner", columnList = "learner_id")
+        @Index(name = "idx_booking_learner", columnList = "learner_id"),
+        @Index(name = "idx_booking_waitlist", columnList = "learning_session_id, status, waitlist_position")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "idx_booking_session_learner", columnNames = {"learning_session_id", "learner_id"})
 })
@@ -22,7 +23,8 @@ public class Booking {
 
     //<editor-fold desc="Fields">
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,6 +61,13 @@ public class Booking {
     @Column(updatable = false, name = "booking_date")
     private Date bookingDate;
 
+    /**
+     * Orden de llegada a la lista de espera (solo para bookings WAITING).
+     * Respalda la cola en memoria de WaitlistEngine para reconstruirla al reiniciar.
+     */
+    @Column(name = "waitlist_position")
+    private Long waitlistPosition;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "community_id", referencedColumnName = "id")
     @JsonIgnoreProperties({"bookings", "members", "documents", "creator"})
@@ -149,6 +158,14 @@ public class Booking {
         this.bookingDate = bookingDate;
     }
 
+    public Long getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setWaitlistPosition(Long waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+
     public LearningCommunity getCommunity() {
         return community;
     }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,15 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "AND (b.status = 'CONFIRMED' OR b.status = 'WAITING')")
     boolean existsActiveBookingBySessionAndLearner(@Param("sessionId") Long sessionId, @Param("learnerId") Long learnerId);
 
+    /**
+     * De una lista de learners, los que ya tienen booking activo (CONFIRMED o WAITING) en la sesión
+     */
+    @Query("SELECT b.learner.id FROM Booking b " +
+            "WHERE b.learningSession.id = :sessionId " +
+            "AND b.learner.id IN :learnerIds " +
+            "AND (b.status = 'CONFIRMED' OR b.status = 'WAITING')")
+    List<Long> findLearnerIdsWithActiveBooking(@Param("sessionId") Long sessionId, @Param("learnerIds") Collection<Long> learnerIds);
+
     /**
      * Cuenta bookings por sesión y estado
      */
@@ -43,6 +53,22 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("status") BookingStatus status
     );
 
+    /**
+     * IDs y posiciones de la lista de espera de una sesión, en orden de llegada.
+     * Los bookings anteriores a la columna waitlist_position (null) van primero, por fecha.
+     * Cada fila es [id, waitlistPosition].
+     */
+    @Query("SELECT b.id, b.waitlistPosition FROM Booking b " +
+            "WHERE b.learningSession.id = :sessionId AND b.status = 'WAITING' " +
+            "ORDER BY COALESCE(b.waitlistPosition, 0) ASC, b.bookingDate ASC, b.id ASC")
+    List<Object[]> findWaitlistEntries(@Param("sessionId") Long sessionId);
+
+    /**
+     * Bookings con learner y persona cargados, para promover un lote de la lista de espera
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.learner l JOIN FETCH l.person WHERE b.id IN :ids")
+    List<Booking> findAllWithLearnerByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Encuentra un booking activo (CONFIRMED o WAITING) por sesión y learner
      */
@@ -83,6 +109,12 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      */
     boolean existsByLearningSessionIdAndLearnerId(Long sessionId, Long learnerId);
 
+    /**
+     * Indica si la sesión ya tiene bookings marcados como asistidos
+     * (es decir, si SessionCompletionService ya la procesó)
+     */
+    boolean existsByLearningSessionIdAndAttendedTrue(Long sessionId);
+
 
     /**
      * Encuentra bookings activos en un rango de fechas
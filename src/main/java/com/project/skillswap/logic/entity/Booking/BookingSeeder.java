@@ -7,8 +7,9 @@ import com.project.skillswap.logic.entity.LearningSession.LearningSessionReposit
 import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionSeeder;
+import com.project.skillswap.config.IdSequenceInitializer;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +17,7 @@ import java.util.*;
 
 @Order(6)
 @Component
-public class BookingSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class BookingSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(BookingSeeder.class);
 
     private final BookingRepository bookingRepository;
@@ -33,7 +34,12 @@ public class BookingSeeder implements ApplicationListener<ContextRefreshedEvent>
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(LearningSessionSeeder.class, IdSequenceInitializer.class);
+    }
+
+    @Override
+    public void run() {
         if (bookingRepository.count() > 0) {
             logger.info("BookingSeeder: Ya existen bookings, omitiendo seed");
             return;
@@ -14,6 +14,7 @@ import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -52,6 +53,15 @@ public class BookingService {
     @Value("${app.frontend.url:http://localhost:4200}")
     private String frontendUrl;
 
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Autowired
+    private WaitlistPromotionService waitlistPromotionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired(required = false)
     @Qualifier("emailExecutor")
     private Executor emailExecutor;
@@ -74,7 +84,8 @@ public class BookingService {
 
         logger.info("[BOOKING] Learner encontrado con ID: " + learner.getId());
 
-        LearningSession session = learningSessionRepository.findById(sessionId)
+        // Bloquea la fila de la sesión hasta el commit: el conteo de cupos no puede quedar viejo
+        LearningSession session = learningSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new RuntimeException("Sesión no encontrada con ID: " + sessionId));
 
         logger.info("[BOOKING] Sesión encontrada: " + session.getTitle());
@@ -210,7 +221,7 @@ public class BookingService {
             throw new RuntimeException("La comunidad no está activa");
         }
 
-        List<CommunityMember> allMembers = communityMemberRepository.findActiveMembersByCommunityId(communityId);
+        List<CommunityMember> allMembers = communityMemberRepository.findActiveMembersWithLearnerByCommunityId(communityId);
 
         if (allMembers.isEmpty()) {
             throw new RuntimeException("La comunidad no tiene miembros activos");
@@ -225,7 +236,8 @@ public class BookingService {
 
         logger.info("[BOOKING] Registrando " + allMembers.size() + " miembros de la comunidad");
 
-        LearningSession session = learningSessionRepository.findById(sessionId)
+        // Bloquea la fila de la sesión hasta el commit: el conteo de cupos no puede quedar viejo
+        LearningSession session = learningSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new RuntimeException("Sesión no encontrada con ID: " + sessionId));
 
         logger.info("[BOOKING] Sesión encontrada: " + session.getTitle());
@@ -238,10 +250,9 @@ public class BookingService {
             throw new RuntimeException("La sesión no tiene un enlace de videollamada configurado");
         }
 
-        for (CommunityMember member : allMembers) {
-            if (bookingRepository.existsActiveBookingBySessionAndLearner(sessionId, member.getLearner().getId())) {
-                throw new RuntimeException("Uno o más miembros ya están registrados en esta sesión");
-            }
+        List<Long> memberLearnerIds = allMembers.stream().map(cm -> cm.getLearner().getId()).toList();
+        if (!bookingRepository.findLearnerIdsWithActiveBooking(sessionId, memberLearnerIds).isEmpty()) {
+            throw new RuntimeException("Uno o más miembros ya están registrados en esta sesión");
         }
 
         long confirmedBookings = bookingRepository.countConfirmedBookingsBySessionId(sessionId);
@@ -280,8 +291,7 @@ public class BookingService {
             }
         }
 
-        List<Booking> createdBookings = new ArrayList<>();
-
+        List<Booking> newBookings = new ArrayList<>(allMembers.size());
         for (CommunityMember member : allMembers) {
             Booking booking = new Booking();
             booking.setLearningSession(session);
@@ -291,13 +301,12 @@ public class BookingService {
             booking.setAttended(false);
             booking.setCommunity(community);
             booking.setAccessLink(session.getVideoCallLink());
-
-            Booking savedBooking = bookingRepository.save(booking);
-            createdBookings.add(savedBooking);
-
-            logger.info("[BOOKING] Booking creado para learner ID: " + member.getLearner().getId());
+            newBookings.add(booking);
         }
 
+        // Los IDs salen de booking_seq en bloques, así que los INSERT se envían en lotes JDBC
+        List<Booking> createdBookings = bookingRepository.saveAll(newBookings);
+
         logger.info("[BOOKING] " + createdBookings.size() + " bookings grupales creados exitosamente");
 
         List<Map<String, Object>> emailData = new ArrayList<>();
@@ -385,7 +394,8 @@ public class BookingService {
             throw new RuntimeException("El usuario no tiene un perfil de estudiante");
         }
 
-        LearningSession session = learningSessionRepository.findById(sessionId)
+        // Bloquea la fila de la sesión hasta el commit: el conteo de cupos no puede quedar viejo
+        LearningSession session = learningSessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new RuntimeException("Sesión no encontrada con ID: " + sessionId));
 
         logger.info("[WAITLIST] Sesión encontrada: " + session.getTitle());
@@ -415,7 +425,7 @@ public class BookingService {
             throw new RuntimeException("Aún hay cupos disponibles. Por favor, regístrate normalmente.");
         }
 
-        long waitlistCount = bookingRepository.countByLearningSessionIdAndStatus(sessionId, BookingStatus.WAITING);
+        long waitlistCount = waitlistEngine.size(sessionId);
 
         logger.info("[WAITLIST] Usuarios en lista de espera: " + waitlistCount);
 
@@ -446,7 +456,11 @@ public class BookingService {
             logger.info("[WAITLIST] Creando nuevo booking");
         }
 
+        long position = waitlistEngine.nextPosition(sessionId);
+        waitlistBooking.setWaitlistPosition(position);
+
         Booking savedBooking = bookingRepository.save(waitlistBooking);
+        waitlistEngine.enqueueAfterCommit(sessionId, savedBooking.getId(), position);
 
         logger.info("[WAITLIST] Usuario agregado a lista de espera - Posición: " + (waitlistCount + 1));
 
@@ -492,80 +506,14 @@ public class BookingService {
     }
 
     /**
-     * Procesa la lista de espera y convierte el primer booking WAITING a CONFIRMED
-     * si hay cupos disponibles
+     * Procesa la lista de espera y promueve a CONFIRMED tantos bookings WAITING
+     * como cupos disponibles haya, en orden de llegada
      */
-    @Transactional
     public void processWaitlist(Long sessionId) {
 
         logger.info("[WAITLIST] Procesando lista de espera para sesión: " + sessionId);
 
-        LearningSession session = learningSessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
-
-        long confirmedBookings = bookingRepository.countConfirmedBookingsBySessionId(sessionId);
-        int availableSpots = session.getMaxCapacity() - (int) confirmedBookings;
-
-        logger.info("[WAITLIST] Cupos disponibles: " + availableSpots);
-
-        if (availableSpots <= 0) {
-            logger.info("[WAITLIST] No hay cupos disponibles");
-            return;
-        }
-
-        List<Booking> waitlist = bookingRepository
-                .findByLearningSessionIdAndStatusOrderByBookingDateAsc(
-                        sessionId,
-                        BookingStatus.WAITING
-                );
-
-        if (waitlist.isEmpty()) {
-            logger.info("[WAITLIST] No hay usuarios en lista de espera");
-            return;
-        }
-
-        int spotsToFill = Math.min(availableSpots, waitlist.size());
-
-        for (int i = 0; i < spotsToFill; i++) {
-            Booking waitlistBooking = waitlist.get(i);
-
-            waitlistBooking.setStatus(BookingStatus.CONFIRMED);
-            waitlistBooking.setAccessLink(session.getVideoCallLink());
-            bookingRepository.save(waitlistBooking);
-
-            logger.info("[WAITLIST] Usuario promovido de lista de espera a confirmado: " +
-                    waitlistBooking.getLearner().getPerson().getEmail());
-
-            final String learnerFullName = waitlistBooking.getLearner().getPerson().getFullName();
-            final String learnerEmail = waitlistBooking.getLearner().getPerson().getEmail();
-            final String sessionTitle = session.getTitle();
-            final Date scheduledDatetime = session.getScheduledDatetime();
-            final Long sessionIdFinal = session.getId();
-
-            Runnable emailTask = () -> {
-                try {
-                    bookingEmailService.sendSpotAvailableEmail(
-                            learnerFullName,
-                            learnerEmail,
-                            sessionTitle,
-                            scheduledDatetime,
-                            sessionIdFinal
-                    );
-                    logger.info("[WAITLIST] Email de cupo disponible enviado a: " + learnerEmail);
-                } catch (Exception e) {
-                    logger.error("[WAITLIST] Error al enviar email: " + e.getMessage());
-                    e.printStackTrace();
-                }
-            };
-
-            if (emailExecutor != null) {
-                CompletableFuture.runAsync(emailTask, emailExecutor);
-            } else {
-                CompletableFuture.runAsync(emailTask);
-            }
-        }
-
-        logger.info("[WAITLIST] Procesamiento completado. " + spotsToFill + " usuarios promovidos.");
+        waitlistPromotionService.promote(sessionId);
     }
 
     /**
@@ -591,7 +539,9 @@ public class BookingService {
         }
 
         booking.setStatus(BookingStatus.CANCELLED);
+        booking.setWaitlistPosition(null);
         bookingRepository.save(booking);
+        waitlistEngine.removeAfterCommit(booking.getLearningSession().getId(), booking.getId());
 
         logger.info("[WAITLIST] Usuario removido de lista de espera exitosamente");
 
@@ -676,7 +626,9 @@ public class BookingService {
 
         logger.info("[BOOKING_CANCEL] Cancelando booking individual: " + booking.getId());
 
+        boolean wasConfirmed = BookingStatus.CONFIRMED.equals(booking.getStatus());
         booking.setStatus(BookingStatus.CANCELLED);
+        booking.setWaitlistPosition(null);
         Booking cancelledBooking = bookingRepository.save(booking);
 
         logger.info("[SUCCESS] Booking individual cancelado. Cupo liberado: 1");
@@ -690,12 +642,7 @@ public class BookingService {
 
         sendCancellationNotifications(cancelledBooking, person, session, false, 1);
 
-        logger.info("[WAITLIST] Procesando lista de espera después de cancelación...");
-        try {
-            processWaitlist(session.getId());
-        } catch (Exception e) {
-            logger.error("[WAITLIST] Error al procesar lista de espera: " + e.getMessage());
-        }
+        releaseSeats(session, cancelledBooking, wasConfirmed ? 1 : 0);
 
         return cancelledBooking;
     }
@@ -740,16 +687,25 @@ public class BookingService {
 
         sendCancellationNotifications(booking, person, session, true, cancelledCount);
 
-        logger.info("[WAITLIST] Procesando lista de espera después de cancelación grupal...");
-        try {
-            processWaitlist(session.getId());
-        } catch (Exception e) {
-            logger.error("[WAITLIST] Error al procesar lista de espera: " + e.getMessage());
-        }
+        releaseSeats(session, booking, cancelledCount);
 
         return booking;
     }
 
+    /**
+     * Publica los cupos liberados; la lista de espera se promueve en segundo plano
+     * cuando la cancelación confirma (ver WaitlistPromotionService)
+     */
+    private void releaseSeats(LearningSession session, Booking cancelledBooking, int seats) {
+        // Un booking en espera que se cancela no libera cupo, solo sale de la cola
+        waitlistEngine.removeAfterCommit(session.getId(), cancelledBooking.getId());
+
+        if (seats > 0) {
+            eventPublisher.publishEvent(new SeatsReleasedEvent(session.getId(), seats));
+            logger.info("[WAITLIST] Promoción de lista de espera programada (" + seats + " cupos)");
+        }
+    }
+
     /**
      * Envía notificaciones de cancelación
      */
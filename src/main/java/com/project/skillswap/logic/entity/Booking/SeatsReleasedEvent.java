@@ -0,0 +1,11 @@
+package com.project.skillswap.logic.entity.Booking;
+
+/**
+ * Evento publicado cuando una cancelación libera cupos en una sesión.
+ * Lo consume {@link WaitlistPromotionService} después de que la cancelación confirma.
+ *
+ * @param sessionId ID de la sesión
+ * @param seats Cupos liberados
+ */
+public record SeatsReleasedEvent(Long sessionId, int seats) {
+}
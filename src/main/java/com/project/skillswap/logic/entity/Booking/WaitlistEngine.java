@@ -0,0 +1,194 @@
+package com.project.skillswap.logic.entity.Booking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Colas de espera por sesión en memoria, respaldadas por booking.waitlist_position.
+ *
+ * Cada sesión tiene un mapa ordenado posición -> booking (FIFO por orden de llegada) y el índice
+ * inverso booking -> posición, así que unirse, salir y consultar el primero son O(log n).
+ * La cola se carga desde la base la primera vez que se usa la sesión y solo se modifica cuando
+ * la transacción que cambió el booking confirma.
+ * La cola es una optimización para no consultar la lista de espera en cada promoción: el cupo
+ * se toma bajo el SELECT ... FOR UPDATE de la sesión y cada candidato se vuelve a validar contra
+ * la base. {@link #lockFor(Long)} solo evita que dos promociones de la misma réplica compitan
+ * por esa fila.
+ */
+@Component
+public class WaitlistEngine {
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistEngine.class);
+
+    private final BookingRepository bookingRepository;
+    private final Map<Long, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public WaitlistEngine(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    //#region Consulta
+
+    /**
+     * Cantidad de usuarios en espera de la sesión
+     */
+    public int size(Long sessionId) {
+        return queue(sessionId).byPosition.size();
+    }
+
+    /**
+     * Primeros bookings de la cola, sin quitarlos
+     * @param sessionId ID de la sesión
+     * @param limit Cantidad máxima
+     * @return IDs de booking en orden de llegada
+     */
+    public List<Long> peek(Long sessionId, int limit) {
+        List<Long> first = new ArrayList<>(Math.min(limit, 32));
+        for (Long bookingId : queue(sessionId).byPosition.values()) {
+            if (first.size() >= limit) {
+                break;
+            }
+            first.add(bookingId);
+        }
+        return first;
+    }
+
+    /**
+     * Lock de la sesión; quien promueve lo toma antes de abrir la transacción y lo suelta con
+     * {@link #unlock(Long, ReentrantLock)}
+     */
+    public ReentrantLock lockFor(Long sessionId) {
+        return locks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+    }
+
+    /**
+     * Suelta el lock y lo descarta si la cola de la sesión quedó vacía y nadie más lo espera,
+     * así el mapa no crece con cada sesión que alguna vez tuvo lista de espera.
+     * Si otro promotor ya había obtenido ese lock, el FOR UPDATE de la sesión lo sigue serializando.
+     */
+    public void unlock(Long sessionId, ReentrantLock lock) {
+        lock.unlock();
+        SessionQueue queue = queues.get(sessionId);
+        if ((queue == null || queue.byPosition.isEmpty()) && !lock.isLocked() && !lock.hasQueuedThreads()) {
+            locks.remove(sessionId, lock);
+        }
+    }
+
+    //#endregion
+
+    //#region Modificación
+
+    /**
+     * Reserva la siguiente posición de la sesión para guardarla en el booking.
+     * Si la transacción se revierte queda un hueco, que no afecta el orden.
+     */
+    public long nextPosition(Long sessionId) {
+        return queue(sessionId).nextPosition.getAndIncrement();
+    }
+
+    /**
+     * Agrega el booking a la cola cuando la transacción actual confirma
+     */
+    public void enqueueAfterCommit(Long sessionId, Long bookingId, long position) {
+        afterCommit(() -> {
+            SessionQueue queue = queue(sessionId);
+            // Si la cola se acaba de cargar desde la base, el booking ya viene incluido
+            if (queue.positionByBooking.putIfAbsent(bookingId, position) == null) {
+                queue.byPosition.put(position, bookingId);
+            }
+        });
+    }
+
+    /**
+     * Quita el booking de la cola cuando la transacción actual confirma
+     */
+    public void removeAfterCommit(Long sessionId, Long bookingId) {
+        afterCommit(() -> remove(sessionId, bookingId));
+    }
+
+    /**
+     * Quita el booking de la cola inmediatamente (por ejemplo, si ya no está WAITING en la base)
+     */
+    public void remove(Long sessionId, Long bookingId) {
+        SessionQueue queue = queues.get(sessionId);
+        if (queue == null) {
+            return;
+        }
+        Long position = queue.positionByBooking.remove(bookingId);
+        if (position != null) {
+            queue.byPosition.remove(position, bookingId);
+        }
+    }
+
+    /**
+     * Libera la cola de una sesión que ya no admite lista de espera.
+     * El lock se descarta al soltarlo en {@link #unlock(Long, ReentrantLock)}.
+     */
+    public void evict(Long sessionId) {
+        queues.remove(sessionId);
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    private SessionQueue queue(Long sessionId) {
+        return queues.computeIfAbsent(sessionId, this::load);
+    }
+
+    /**
+     * Reconstruye la cola desde la base. Se renumera en orden de llegada y las posiciones
+     * nuevas continúan después de la mayor guardada, así que el orden relativo se conserva.
+     */
+    private SessionQueue load(Long sessionId) {
+        SessionQueue queue = new SessionQueue();
+        long position = 0;
+        long maxStored = 0;
+        for (Object[] row : bookingRepository.findWaitlistEntries(sessionId)) {
+            Long bookingId = (Long) row[0];
+            Long stored = (Long) row[1];
+            if (stored != null) {
+                maxStored = Math.max(maxStored, stored);
+            }
+            position++;
+            queue.byPosition.put(position, bookingId);
+            queue.positionByBooking.put(bookingId, position);
+        }
+        queue.nextPosition.set(Math.max(position, maxStored) + 1);
+
+        logger.info("[WAITLIST] Cola de la sesión " + sessionId + " cargada: " + position + " en espera");
+        return queue;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class SessionQueue {
+        private final ConcurrentSkipListMap<Long, Long> byPosition = new ConcurrentSkipListMap<>();
+        private final Map<Long, Long> positionByBooking = new ConcurrentHashMap<>();
+        private final AtomicLong nextPosition = new AtomicLong(1);
+    }
+
+    //#endregion
+}
@@ -0,0 +1,189 @@
+package com.project.skillswap.logic.entity.Booking;
+
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Promoción de la lista de espera.
+ *
+ * Las cancelaciones publican {@link SeatsReleasedEvent}; este servicio lo procesa en el
+ * waitlistExecutor después del commit, así que cancelBooking responde sin esperar la promoción.
+ * Todos los cupos libres se llenan en un solo lote (una transacción) y los correos del lote
+ * se encolan juntos en el emailExecutor.
+ * Los cupos se cuentan con la fila de la sesión bloqueada; la cola en memoria solo propone candidatos.
+ */
+@Service
+public class WaitlistPromotionService {
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistPromotionService.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private LearningSessionRepository learningSessionRepository;
+
+    @Autowired
+    private BookingEmailService bookingEmailService;
+
+    @Autowired
+    private WaitlistEngine waitlistEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    @Qualifier("emailExecutor")
+    private Executor emailExecutor;
+
+    /**
+     * Promueve la lista de espera cuando la cancelación que liberó cupos confirma
+     */
+    @Async("waitlistExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        logger.info("[WAITLIST] Cupos liberados en sesión " + event.sessionId() + ": " + event.seats());
+        try {
+            promote(event.sessionId());
+        } catch (Exception e) {
+            logger.error("[WAITLIST] Error al procesar lista de espera: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Llena los cupos disponibles de la sesión con los primeros de la lista de espera
+     * @param sessionId ID de la sesión
+     * @return Cantidad de usuarios promovidos
+     */
+    public int promote(Long sessionId) {
+        ReentrantLock lock = waitlistEngine.lockFor(sessionId);
+        lock.lock();
+        try {
+            List<Booking> promoted = new ArrayList<>();
+            LearningSession session;
+            try {
+                session = new TransactionTemplate(transactionManager)
+                        .execute(status -> promoteInTransaction(sessionId, promoted));
+            } catch (RuntimeException e) {
+                // La cola en memoria ya se modificó; se recarga desde la base en el próximo uso
+                waitlistEngine.evict(sessionId);
+                throw e;
+            }
+
+            if (!promoted.isEmpty()) {
+                notifyPromoted(session, promoted);
+            }
+
+            logger.info("[WAITLIST] Procesamiento completado. " + promoted.size() + " usuarios promovidos.");
+            return promoted.size();
+        } finally {
+            waitlistEngine.unlock(sessionId, lock);
+        }
+    }
+
+    //#region Privados
+
+    private LearningSession promoteInTransaction(Long sessionId, List<Booking> promoted) {
+        // El FOR UPDATE serializa la promoción con las reservas directas y con otras réplicas
+        LearningSession session = learningSessionRepository.findByIdForUpdate(sessionId)
+                .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
+
+        if (!SessionStatus.SCHEDULED.equals(session.getStatus())) {
+            logger.info("[WAITLIST] La sesión ya no está programada, se libera su cola");
+            waitlistEngine.evict(sessionId);
+            return session;
+        }
+
+        long confirmedBookings = bookingRepository.countConfirmedBookingsBySessionId(sessionId);
+        int availableSpots = session.getMaxCapacity() - (int) confirmedBookings;
+
+        logger.info("[WAITLIST] Cupos disponibles: " + availableSpots);
+
+        // Los que ya no están WAITING en la base (cambiados por otra vía) se descartan y se toma el siguiente
+        boolean reloaded = false;
+        while (availableSpots > promoted.size()) {
+            List<Long> candidates = waitlistEngine.peek(sessionId, availableSpots - promoted.size());
+            if (candidates.isEmpty()) {
+                if (reloaded) {
+                    break;
+                }
+                // La cola local puede no tener a quienes se unieron en otra réplica: se recarga una vez
+                waitlistEngine.evict(sessionId);
+                reloaded = true;
+                continue;
+            }
+            for (Booking booking : bookingRepository.findAllWithLearnerByIdIn(candidates)) {
+                if (BookingStatus.WAITING.equals(booking.getStatus())) {
+                    booking.setStatus(BookingStatus.CONFIRMED);
+                    booking.setAccessLink(session.getVideoCallLink());
+                    booking.setWaitlistPosition(null);
+                    promoted.add(booking);
+                }
+            }
+            for (Long candidate : candidates) {
+                waitlistEngine.remove(sessionId, candidate);
+            }
+        }
+
+        if (!promoted.isEmpty()) {
+            bookingRepository.saveAll(promoted);
+        }
+        return session;
+    }
+
+    /**
+     * Encola en una sola tarea los correos de "cupo disponible" del lote
+     */
+    private void notifyPromoted(LearningSession session, List<Booking> promoted) {
+        final String sessionTitle = session.getTitle();
+        final Date scheduledDatetime = session.getScheduledDatetime();
+        final Long sessionId = session.getId();
+        final List<String[]> recipients = new ArrayList<>(promoted.size());
+        for (Booking booking : promoted) {
+            recipients.add(new String[]{
+                    booking.getLearner().getPerson().getFullName(),
+                    booking.getLearner().getPerson().getEmail()
+            });
+        }
+
+        Runnable emailTask = () -> {
+            for (String[] recipient : recipients) {
+                try {
+                    bookingEmailService.sendSpotAvailableEmail(
+                            recipient[0],
+                            recipient[1],
+                            sessionTitle,
+                            scheduledDatetime,
+                            sessionId
+                    );
+                    logger.info("[WAITLIST] Email de cupo disponible enviado a: " + recipient[1]);
+                } catch (Exception e) {
+                    logger.error("[WAITLIST] Error al enviar email a " + recipient[1] + ": " + e.getMessage());
+                }
+            }
+        };
+
+        if (emailExecutor != null) {
+            emailExecutor.execute(emailTask);
+        } else {
+            emailTask.run();
+        }
+    }
+
+    //#endregion
+}
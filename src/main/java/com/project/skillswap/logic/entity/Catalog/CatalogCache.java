@@ -0,0 +1,292 @@
+package com.project.skillswap.logic.entity.Catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeAreaRepository;
+import com.project.skillswap.logic.entity.Skill.Skill;
+import com.project.skillswap.logic.entity.Skill.SkillRepository;
+import com.project.skillswap.logic.entity.http.HttpResponse;
+import com.project.skillswap.logic.entity.http.Meta;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Catálogo público de áreas de conocimiento y skills servido desde memoria.
+ *
+ * El catálogo es un {@link CatalogSnapshot} inmutable con el JSON ya serializado; cada respuesta
+ * se codifica una sola vez por URL (también en gzip) y lleva un ETag fuerte derivado del contenido,
+ * así que una petición repetida con If-None-Match responde 304 sin tocar la base ni Jackson.
+ *
+ * El snapshot se reconstruye cuando confirma un cambio de skills (SkillService) y cada
+ * catalog.cache.refresh-ms para recoger cambios de seeders u otras réplicas. Si el contenido
+ * no cambió se conservan las entradas anteriores con sus cuerpos ya codificados.
+ */
+@Component
+public class CatalogCache {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    private static final String KNOWLEDGE_AREAS_MESSAGE = "Knowledge areas retrieved successfully";
+    private static final String ALL_SKILLS_MESSAGE = "All skills retrieved successfully";
+    private static final String AREA_SKILLS_MESSAGE = "Skills retrieved successfully";
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final int MAX_BODIES_PER_ENTRY = 32;
+
+    private final KnowledgeAreaRepository knowledgeAreaRepository;
+    private final SkillRepository skillRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile CatalogSnapshot snapshot;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public CatalogCache(KnowledgeAreaRepository knowledgeAreaRepository,
+                        SkillRepository skillRepository,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.knowledgeAreaRepository = knowledgeAreaRepository;
+        this.skillRepository = skillRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    //#region Public Methods
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : rebuild();
+    }
+
+    /**
+     * Reconstruye el catálogo cuando confirma la transacción actual (o de inmediato si no hay)
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshQuietly();
+                }
+            });
+        } else {
+            refreshQuietly();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.cache.refresh-ms:60000}")
+    public void refreshQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.warn("[CATALOG] No se pudo reconstruir el catálogo; se mantiene la versión anterior: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Responde con el cuerpo ya codificado, o 304 si el cliente tiene la misma versión
+     */
+    public ResponseEntity<byte[]> respond(CatalogEntry entry, HttpServletRequest request) {
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? gzipEtag(entry) : entry.getEtag();
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        CatalogEntry.EncodedBody body = encode(entry, request);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? body.gzip() : body.identity());
+    }
+    //#endregion
+
+    //#region Private Methods
+    /**
+     * Con ReentrantLock y no synchronized: la reconstrucción espera a la base y no debe fijar el
+     * carrier de un hilo virtual
+     */
+    private CatalogSnapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            CatalogSnapshot previous = snapshot;
+            CatalogSnapshot rebuilt = readOnlyTransaction.execute(tx -> build(previous));
+            if (previous != null && sameContent(previous, rebuilt)) {
+                return previous;
+            }
+            snapshot = rebuilt;
+            logger.info("[CATALOG] Catálogo v" + rebuilt.version() + ": "
+                    + rebuilt.skillsByArea().size() + " áreas con skills, ETag " + rebuilt.allSkills().getEtag());
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Se ejecuta dentro de una transacción de lectura: las áreas serializan su colección de skills
+     */
+    private CatalogSnapshot build(CatalogSnapshot previous) {
+        List<KnowledgeArea> areas = knowledgeAreaRepository.findAllActiveOrderByName();
+        List<Skill> skills = skillRepository.findAllActiveSkills();
+
+        Map<Long, List<Skill>> skillsByArea = new LinkedHashMap<>();
+        for (Skill skill : skills) {
+            skillsByArea.computeIfAbsent(skill.getKnowledgeArea().getId(), id -> new ArrayList<>()).add(skill);
+        }
+
+        Map<Long, CatalogEntry> areaEntries = new HashMap<>();
+        for (Map.Entry<Long, List<Skill>> area : skillsByArea.entrySet()) {
+            CatalogEntry old = previous != null ? previous.skillsByArea().get(area.getKey()) : null;
+            areaEntries.put(area.getKey(), entry(old, AREA_SKILLS_MESSAGE, area.getValue()));
+        }
+
+        return new CatalogSnapshot(
+                previous != null ? previous.version() + 1 : 1,
+                System.currentTimeMillis(),
+                entry(previous != null ? previous.knowledgeAreas() : null, KNOWLEDGE_AREAS_MESSAGE, areas),
+                entry(previous != null ? previous.allSkills() : null, ALL_SKILLS_MESSAGE, skills),
+                Map.copyOf(areaEntries),
+                entry(previous != null ? previous.emptySkills() : null, AREA_SKILLS_MESSAGE, List.of()));
+    }
+
+    /**
+     * Serializa el valor; si coincide con la entrada anterior, la reutiliza
+     */
+    private CatalogEntry entry(CatalogEntry previous, String message, Object value) {
+        try {
+            String data = objectMapper.writeValueAsString(value);
+            String etag = "\"" + sha256(message + "\n" + data) + "\"";
+            if (previous != null && previous.getEtag().equals(etag)) {
+                return previous;
+            }
+            return new CatalogEntry(message, data, etag);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * El sobre incluye meta.url, así que cada URL tiene su cuerpo; se guardan hasta
+     * MAX_BODIES_PER_ENTRY por entrada (el Host lo controla el cliente)
+     */
+    private CatalogEntry.EncodedBody encode(CatalogEntry entry, HttpServletRequest request) {
+        String key = request.getMethod() + " " + request.getRequestURL();
+        CatalogEntry.EncodedBody body = entry.getBodies().get(key);
+        if (body != null) {
+            return body;
+        }
+
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(new HttpResponse<>(
+                    entry.getMessage(),
+                    new RawValue(entry.getData()),
+                    new Meta(request.getMethod(), request.getRequestURL().toString())));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(identity);
+            }
+            body = new CatalogEntry.EncodedBody(identity, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (entry.getBodies().size() < MAX_BODIES_PER_ENTRY) {
+            entry.getBodies().putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * entry() reutiliza las entradas sin cambios, así que basta comparar referencias
+     */
+    private static boolean sameContent(CatalogSnapshot previous, CatalogSnapshot rebuilt) {
+        if (previous.knowledgeAreas() != rebuilt.knowledgeAreas() || previous.allSkills() != rebuilt.allSkills()
+                || previous.skillsByArea().size() != rebuilt.skillsByArea().size()) {
+            return false;
+        }
+        for (Map.Entry<Long, CatalogEntry> area : rebuilt.skillsByArea().entrySet()) {
+            if (previous.skillsByArea().get(area.getKey()) != area.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static String gzipEtag(CatalogEntry entry) {
+        String etag = entry.getEtag();
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX + "\"";
+    }
+
+    /**
+     * If-None-Match usa comparación débil: se ignora el prefijo W/ y vale cualquiera de las dos
+     * codificaciones, porque el contenido es el mismo
+     */
+    private static boolean matchesAny(String header, CatalogEntry entry) {
+        if (header == null) {
+            return false;
+        }
+        String gzipEtag = gzipEtag(entry);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(entry.getEtag()) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+    //#endregion
+}
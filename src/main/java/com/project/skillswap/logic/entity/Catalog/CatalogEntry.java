@@ -0,0 +1,50 @@
+package com.project.skillswap.logic.entity.Catalog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Un recurso del catálogo (lista de skills o de áreas) ya serializado.
+ *
+ * data es el JSON del campo data de HttpResponse; el sobre completo depende de la URL (meta.url),
+ * así que se codifica una vez por URL y se guarda junto con su versión gzip en bodies.
+ * Las instancias no cambian: una reconstrucción del catálogo crea entradas nuevas.
+ */
+public final class CatalogEntry {
+
+    private final String message;
+    private final String data;
+    private final String etag;
+    private final Map<String, EncodedBody> bodies = new ConcurrentHashMap<>();
+
+    CatalogEntry(String message, String data, String etag) {
+        this.message = message;
+        this.data = data;
+        this.etag = etag;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    String getData() {
+        return data;
+    }
+
+    /**
+     * ETag fuerte de la representación sin comprimir (SHA-256 del mensaje y los datos)
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    Map<String, EncodedBody> getBodies() {
+        return bodies;
+    }
+
+    /**
+     * Sobre JSON completo para una URL, sin comprimir y en gzip
+     */
+    record EncodedBody(byte[] identity, byte[] gzip) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.skillswap.logic.entity.Catalog;
+
+import java.util.Map;
+
+/**
+ * Catálogo público (áreas de conocimiento y skills activas) en un instante dado.
+ *
+ * @param version número local de reconstrucción; los ETag dependen solo del contenido, así que
+ *                coinciden entre réplicas
+ * @param skillsByArea skills activas por id de área; un área sin skills usa emptySkills
+ */
+public record CatalogSnapshot(long version,
+                              long builtAt,
+                              CatalogEntry knowledgeAreas,
+                              CatalogEntry allSkills,
+                              Map<Long, CatalogEntry> skillsByArea,
+                              CatalogEntry emptySkills) {
+
+    public CatalogEntry skillsOfArea(Long knowledgeAreaId) {
+        return skillsByArea.getOrDefault(knowledgeAreaId, emptySkills);
+    }
+}
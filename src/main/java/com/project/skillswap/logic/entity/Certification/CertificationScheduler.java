@@ -3,19 +3,27 @@ package com.project.skillswap.logic.entity.Certification;
 import com.project.skillswap.logic.entity.Credential.CredentialRepository;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
+import com.project.skillswap.logic.entity.ScheduledJob.JobShard;
 import com.project.skillswap.logic.entity.Skill.Skill;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * Scheduler que revisa cada minuto si hay learners que han alcanzado 10 credenciales
- * y genera automáticamente sus certificados
+ * y genera automáticamente sus certificados.
+ *
+ * Los learners se reparten por rango de ID en jobs.certification.shards shards; cada shard
+ * tiene su propio lease, así que con varias réplicas cada una procesa una parte.
  */
 @Component
 public class CertificationScheduler {
@@ -32,20 +40,43 @@ public class CertificationScheduler {
     @Autowired
     private CertificationService certificationService;
 
+    @Autowired
+    private JobCoordinator jobCoordinator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${jobs.certification.shards:4}")
+    private int shardCount;
+
     /**
      * Se ejecuta cada 1 minuto para verificar certificaciones pendientes
      * Cron: 0 * * * * * = cada minuto en el segundo 0
      */
-    @Transactional
     @Scheduled(cron = "0 * * * * *")
     public void checkPendingCertifications() {
+        jobCoordinator.runSharded("certification-check", shardCount, Duration.ofMinutes(2), Duration.ofSeconds(30),
+                shard -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> checkShard(shard)));
+    }
+
+    /**
+     * Verifica los learners cuyo ID cae en el rango del shard
+     */
+    private void checkShard(JobShard shard) {
         logger.info("╔════════════════════════════════════════════════════════════╗");
         logger.info("║   VERIFICACIÓN DE CERTIFICACIONES PROGRAMADA            ║");
         logger.info("╚════════════════════════════════════════════════════════════╝");
 
         try {
-            List<Learner> allLearners = learnerRepository.findAll();
-            logger.info("→ Total de learners en el sistema: {}", allLearners.size());
+            Long minId = learnerRepository.findMinId();
+            Long maxId = learnerRepository.findMaxId();
+            if (minId == null || maxId == null || shard.firstId(minId, maxId) > shard.lastId(minId, maxId)) {
+                logger.info("→ Shard {} sin learners", shard);
+                return;
+            }
+            List<Learner> allLearners = learnerRepository.findByIdBetweenOrderByIdAsc(
+                    shard.firstId(minId, maxId), shard.lastId(minId, maxId));
+            logger.info("→ Learners en el shard {}: {}", shard, allLearners.size());
 
             int certificatesGenerated = 0;
             int learnersProcessed = 0;
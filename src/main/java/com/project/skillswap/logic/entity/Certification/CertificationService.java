@@ -4,6 +4,8 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.Credential.CredentialRepository;
 import com.project.skillswap.logic.entity.Learner.Learner;
+import com.project.skillswap.logic.entity.Pdf.PdfRenderingService;
+import com.project.skillswap.logic.entity.Pdf.PdfTemplateCache;
 import com.project.skillswap.logic.entity.Skill.Skill;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
@@ -11,15 +13,15 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.context.annotation.Lazy;
 
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.*;
 
 import jakarta.mail.internet.MimeMessage;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.UUID;
@@ -42,6 +44,8 @@ public class CertificationService {
     private final CertificationRepository certificationRepository;
     private final CredentialRepository credentialRepository;
     private final JavaMailSender mailSender;
+    private final PdfTemplateCache pdfTemplates;
+    private final PdfRenderingService pdfRenderingService;
     //#endregion
 
     //#region Constructor
@@ -49,11 +53,15 @@ public class CertificationService {
     public CertificationService(
             CertificationRepository certificationRepository,
             CredentialRepository credentialRepository,
-            JavaMailSender mailSender
+            JavaMailSender mailSender,
+            @Lazy PdfTemplateCache pdfTemplates,
+            @Lazy PdfRenderingService pdfRenderingService
     ) {
         this.certificationRepository = certificationRepository;
         this.credentialRepository = credentialRepository;
         this.mailSender = mailSender;
+        this.pdfTemplates = pdfTemplates;
+        this.pdfRenderingService = pdfRenderingService;
     }
     //#endregion
 
@@ -110,30 +118,28 @@ public class CertificationService {
     }
 
     /**
-     * Genera el PDF del certificado
+     * Genera el PDF del certificado escribiéndolo directamente en disco
      */
     private String generateCertificatePDF(Certification certification) throws Exception {
-        Document document = new Document(PageSize.A4.rotate());
         String fileName = "certificate_" + certification.getVerificationCode() + ".pdf";
         String filePath = CERTIFICATES_PATH + fileName;
 
-        File directory = new File(CERTIFICATES_PATH);
-        if (!directory.exists()) {
-            directory.mkdirs();
-        }
+        pdfRenderingService.renderToFile(new File(filePath), out -> writeCertificatePDF(certification, out));
+
+        return filePath;
+    }
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter.getInstance(document, baos);
+    /**
+     * Escribe el certificado en el flujo indicado sin cerrarlo
+     */
+    private void writeCertificatePDF(Certification certification, OutputStream out) throws Exception {
+        Document document = new Document(PageSize.A4.rotate());
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        writer.setCloseStream(false);
 
         document.open();
         addCertificateContent(document, certification);
         document.close();
-
-        try (FileOutputStream fos = new FileOutputStream(filePath)) {
-            fos.write(baos.toByteArray());
-        }
-
-        return filePath;
     }
 
     /**
@@ -152,14 +158,12 @@ public class CertificationService {
      * Añade el título del certificado
      */
     private void addTitle(Document document) throws DocumentException {
-        Font titleFont = new Font(Font.HELVETICA, 36, Font.BOLD, new java.awt.Color(170, 225, 107));
-        Paragraph title = new Paragraph("CERTIFICADO DE EXCELENCIA", titleFont);
+        Paragraph title = new Paragraph("CERTIFICADO DE EXCELENCIA", pdfTemplates.getCertificateTitleFont());
         title.setAlignment(Element.ALIGN_CENTER);
         title.setSpacingBefore(80);
         document.add(title);
 
-        Font subtitleFont = new Font(Font.HELVETICA, 14, Font.NORMAL, new java.awt.Color(100, 100, 100));
-        Paragraph subtitle = new Paragraph("SkillSwap certifica que", subtitleFont);
+        Paragraph subtitle = new Paragraph("SkillSwap certifica que", pdfTemplates.getCertificateSubtitleFont());
         subtitle.setAlignment(Element.ALIGN_CENTER);
         subtitle.setSpacingBefore(30);
         document.add(subtitle);
@@ -169,8 +173,7 @@ public class CertificationService {
      * Añade el nombre del recipiente
      */
     private void addRecipientName(Document document, Certification certification) throws DocumentException {
-        Font nameFont = new Font(Font.HELVETICA, 28, Font.BOLD, new java.awt.Color(50, 50, 50));
-        Paragraph name = new Paragraph(certification.getLearner().getPerson().getFullName(), nameFont);
+        Paragraph name = new Paragraph(certification.getLearner().getPerson().getFullName(), pdfTemplates.getCertificateNameFont());
         name.setAlignment(Element.ALIGN_CENTER);
         name.setSpacingBefore(20);
         document.add(name);
@@ -180,20 +183,17 @@ public class CertificationService {
      * Añade el nombre de la habilidad
      */
     private void addSkillName(Document document, Certification certification) throws DocumentException {
-        Font textFont = new Font(Font.HELVETICA, 14, Font.NORMAL, new java.awt.Color(100, 100, 100));
-        Paragraph text1 = new Paragraph("ha completado exitosamente el programa de certificación en", textFont);
+        Paragraph text1 = new Paragraph("ha completado exitosamente el programa de certificación en", pdfTemplates.getCertificateSubtitleFont());
         text1.setAlignment(Element.ALIGN_CENTER);
         text1.setSpacingBefore(15);
         document.add(text1);
 
-        Font skillFont = new Font(Font.HELVETICA, 22, Font.BOLD, new java.awt.Color(123, 199, 77));
-        Paragraph skillName = new Paragraph(certification.getSkill().getName(), skillFont);
+        Paragraph skillName = new Paragraph(certification.getSkill().getName(), pdfTemplates.getCertificateSkillFont());
         skillName.setAlignment(Element.ALIGN_CENTER);
         skillName.setSpacingBefore(10);
         document.add(skillName);
 
-        Font credentialsFont = new Font(Font.HELVETICA, 12, Font.NORMAL, new java.awt.Color(100, 100, 100));
-        Paragraph credentials = new Paragraph("Acumulando " + CREDENTIALS_REQUIRED + " credenciales verificadas", credentialsFont);
+        Paragraph credentials = new Paragraph("Acumulando " + CREDENTIALS_REQUIRED + " credenciales verificadas", pdfTemplates.getCertificateSmallFont());
         credentials.setAlignment(Element.ALIGN_CENTER);
         credentials.setSpacingBefore(10);
         document.add(credentials);
@@ -206,8 +206,7 @@ public class CertificationService {
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd 'de' MMMM 'de' yyyy");
         String formattedDate = dateFormat.format(certification.getIssueDate() != null ? certification.getIssueDate() : new Date());
 
-        Font dateFont = new Font(Font.HELVETICA, 12, Font.NORMAL, new java.awt.Color(100, 100, 100));
-        Paragraph date = new Paragraph("Emitido el " + formattedDate, dateFont);
+        Paragraph date = new Paragraph("Emitido el " + formattedDate, pdfTemplates.getCertificateSmallFont());
         date.setAlignment(Element.ALIGN_CENTER);
         date.setSpacingBefore(30);
         document.add(date);
@@ -217,8 +216,7 @@ public class CertificationService {
      * Añade el código de verificación
      */
     private void addVerificationCode(Document document, Certification certification) throws DocumentException {
-        Font codeFont = new Font(Font.HELVETICA, 10, Font.ITALIC, new java.awt.Color(150, 150, 150));
-        Paragraph code = new Paragraph("Código de verificación: " + certification.getVerificationCode(), codeFont);
+        Paragraph code = new Paragraph("Código de verificación: " + certification.getVerificationCode(), pdfTemplates.getCertificateCodeFont());
         code.setAlignment(Element.ALIGN_CENTER);
         code.setSpacingBefore(40);
         document.add(code);
@@ -236,19 +234,17 @@ public class CertificationService {
         PdfPCell lineCell = new PdfPCell();
         lineCell.setBorder(Rectangle.TOP);
         lineCell.setBorderWidthTop(1);
-        lineCell.setBorderColorTop(new java.awt.Color(100, 100, 100));
+        lineCell.setBorderColorTop(pdfTemplates.getCertificateLineColor());
         lineCell.setFixedHeight(1);
         table.addCell(lineCell);
 
-        Font signatureFont = new Font(Font.HELVETICA, 11, Font.NORMAL, new java.awt.Color(100, 100, 100));
-        PdfPCell textCell = new PdfPCell(new Phrase("SkillSwap", signatureFont));
+        PdfPCell textCell = new PdfPCell(new Phrase("SkillSwap", pdfTemplates.getCertificateSignatureFont()));
         textCell.setBorder(Rectangle.NO_BORDER);
         textCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         textCell.setPaddingTop(5);
         table.addCell(textCell);
 
-        Font roleFont = new Font(Font.HELVETICA, 9, Font.ITALIC, new java.awt.Color(150, 150, 150));
-        PdfPCell roleCell = new PdfPCell(new Phrase("Plataforma de Intercambio de Habilidades", roleFont));
+        PdfPCell roleCell = new PdfPCell(new Phrase("Plataforma de Intercambio de Habilidades", pdfTemplates.getCertificateRoleFont()));
         roleCell.setBorder(Rectangle.NO_BORDER);
         roleCell.setHorizontalAlignment(Element.ALIGN_CENTER);
         table.addCell(roleCell);
@@ -4,11 +4,13 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +26,9 @@ public class CollaborativeDocumentService {
     @Autowired
     private LearningSessionRepository sessionRepository;
 
+    @Autowired
+    private JobCoordinator jobCoordinator;
+
     private static final long MAX_DOCUMENT_SIZE = 10 * 1024 * 1024; // 10MB
     //#endregion
 
@@ -157,9 +162,12 @@ public class CollaborativeDocumentService {
     @Scheduled(fixedRate = 3600000)
     @Transactional
     public void cleanupExpiredDocuments() {
-        logger.info("Cleaning up expired documents...");
-        int deleted = documentRepository.deleteExpiredDocuments(LocalDateTime.now());
-        logger.info("Documents deleted: " + deleted);
+        // Only one replica deletes per hour
+        jobCoordinator.runExclusive("collaborative-documents-cleanup", Duration.ofMinutes(5), Duration.ofMinutes(50), () -> {
+            logger.info("Cleaning up expired documents...");
+            int deleted = documentRepository.deleteExpiredDocuments(LocalDateTime.now());
+            logger.info("Documents deleted: " + deleted);
+        });
     }
 
     //#endregion
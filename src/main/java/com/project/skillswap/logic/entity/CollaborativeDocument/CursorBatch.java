@@ -0,0 +1,17 @@
+package com.project.skillswap.logic.entity.CollaborativeDocument;
+
+import java.util.List;
+
+/**
+ * Frame publicado en /topic/document/{documentId} con la última posición de cursor de cada
+ * participante que se movió dentro de la ventana de agrupación.
+ *
+ * @param action siempre "CURSOR_BATCH"
+ * @param cursors un mensaje CURSOR_MOVE por participante (el más reciente)
+ */
+public record CursorBatch(String documentId, String action, List<DocumentMessage> cursors, long timestamp) {
+
+    public static CursorBatch of(String documentId, List<DocumentMessage> cursors) {
+        return new CursorBatch(documentId, "CURSOR_BATCH", cursors, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.skillswap.logic.entity.CollaborativeDocument;
+
+/**
+ * Participante presente en un documento colaborativo.
+ *
+ * @param userId identificador enviado por el cliente (o el id de la sesión STOMP si no lo envía)
+ * @param userName nombre visible
+ * @param joinedAt momento en que entró al documento (epoch ms)
+ */
+public record DocumentParticipant(String userId, String userName, long joinedAt) {
+}
@@ -0,0 +1,251 @@
+package com.project.skillswap.logic.entity.CollaborativeDocument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Presencia y cursores de los documentos colaborativos.
+ *
+ * Cada documento tiene su tabla de participantes (clave: userId, o el id de la sesión STOMP si el
+ * cliente no lo envía). Los participantes se mantienen vivos con join, heartbeat, cursor o update;
+ * los que pasan documents.presence.timeout-seconds sin actividad, o cuya sesión STOMP se cierra,
+ * salen con un USER_LEAVE como si lo hubieran enviado ellos.
+ *
+ * Los movimientos de cursor no se reenvían uno por uno: se guarda la última posición de cada
+ * participante y cada documents.cursor.coalesce-ms se publica un solo CursorBatch por documento.
+ * skillswap.documents.cursor.saved cuenta los frames que el broker dejó de enviar.
+ */
+@Service
+public class DocumentPresenceService {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentPresenceService.class);
+
+    private static final String TOPIC_PREFIX = "/topic/document/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<String, Map<String, Participant>> documents = new ConcurrentHashMap<>();
+    private final Map<String, PendingCursors> pendingCursors = new ConcurrentHashMap<>();
+    private final Counter cursorsReceived;
+    private final Counter batchesSent;
+    private final Counter cursorsSaved;
+
+    @Value("${documents.presence.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    public DocumentPresenceService(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.cursorsReceived = Counter.builder("skillswap.documents.cursor.received").register(meterRegistry);
+        this.batchesSent = Counter.builder("skillswap.documents.cursor.batches").register(meterRegistry);
+        this.cursorsSaved = Counter.builder("skillswap.documents.cursor.saved").register(meterRegistry);
+        Gauge.builder("skillswap.documents.presence.participants", documents,
+                        docs -> docs.values().stream().mapToInt(Map::size).sum())
+                .register(meterRegistry);
+    }
+
+    //#region Presence
+
+    /**
+     * Registra (o refresca) al participante
+     * @return true si es nuevo en el documento
+     */
+    public boolean join(String documentId, String sessionId, DocumentMessage message) {
+        String key = participantKey(message, sessionId);
+        long now = System.currentTimeMillis();
+        boolean[] added = {false};
+        documents.computeIfAbsent(documentId, id -> new ConcurrentHashMap<>())
+                .compute(key, (k, current) -> {
+                    if (current == null) {
+                        added[0] = true;
+                        return new Participant(key, message.getUserName(), sessionId, now);
+                    }
+                    current.lastSeen = System.nanoTime();
+                    return current;
+                });
+        return added[0];
+    }
+
+    /**
+     * Saca al participante del documento
+     * @return true si estaba presente
+     */
+    public boolean leave(String documentId, String sessionId, DocumentMessage message) {
+        return remove(documentId, participantKey(message, sessionId)) != null;
+    }
+
+    /**
+     * Marca actividad del participante; si ya había expirado, vuelve a entrar
+     */
+    public void touch(String documentId, String sessionId, DocumentMessage message) {
+        Map<String, Participant> participants = documents.get(documentId);
+        Participant participant = participants != null ? participants.get(participantKey(message, sessionId)) : null;
+        if (participant != null) {
+            participant.lastSeen = System.nanoTime();
+        } else if (join(documentId, sessionId, message)) {
+            broadcastPresenceChange(documentId, presenceMessage(participantKey(message, sessionId),
+                    message.getUserName()), "USER_JOIN");
+        }
+    }
+
+    public PresenceSnapshot snapshot(String documentId) {
+        Map<String, Participant> participants = documents.getOrDefault(documentId, Map.of());
+        List<DocumentParticipant> view = new ArrayList<>(participants.size());
+        for (Participant participant : participants.values()) {
+            view.add(new DocumentParticipant(participant.userId, participant.userName, participant.joinedAt));
+        }
+        view.sort(Comparator.comparingLong(DocumentParticipant::joinedAt));
+        return PresenceSnapshot.of(documentId, view);
+    }
+
+    /**
+     * La sesión STOMP se cerró sin enviar leave (pestaña cerrada, red caída)
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+        for (Map.Entry<String, Map<String, Participant>> document : documents.entrySet()) {
+            for (Participant participant : document.getValue().values()) {
+                if (sessionId.equals(participant.sessionId)) {
+                    expire(document.getKey(), participant);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${documents.presence.sweep-ms:10000}")
+    public void sweepIdleParticipants() {
+        long idleBefore = System.nanoTime() - TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        int expired = 0;
+        for (Map.Entry<String, Map<String, Participant>> document : documents.entrySet()) {
+            for (Participant participant : document.getValue().values()) {
+                if (participant.lastSeen < idleBefore) {
+                    expire(document.getKey(), participant);
+                    expired++;
+                }
+            }
+        }
+        if (expired > 0) {
+            logger.info("[WebSocket] Participantes sin actividad retirados: " + expired);
+        }
+    }
+
+    //#endregion
+
+    //#region Cursors
+
+    /**
+     * Guarda la última posición del cursor; se publica en el próximo flush
+     */
+    public void submitCursor(String documentId, String sessionId, DocumentMessage message) {
+        cursorsReceived.increment();
+        touch(documentId, sessionId, message);
+        String key = participantKey(message, sessionId);
+        pendingCursors.compute(documentId, (id, cursors) -> {
+            PendingCursors current = cursors != null ? cursors : new PendingCursors();
+            current.latest.put(key, message);
+            current.received++;
+            return current;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${documents.cursor.coalesce-ms:50}")
+    public void flushCursors() {
+        for (String documentId : pendingCursors.keySet()) {
+            PendingCursors cursors = pendingCursors.remove(documentId);
+            if (cursors == null || cursors.latest.isEmpty()) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(TOPIC_PREFIX + documentId,
+                        CursorBatch.of(documentId, new ArrayList<>(cursors.latest.values())));
+                batchesSent.increment();
+                // Sin agrupar, cada cursor recibido habría sido un frame
+                cursorsSaved.increment(cursors.received - 1);
+            } catch (Exception e) {
+                logger.warn("[WebSocket] No se pudo publicar el lote de cursores de " + documentId + ": " + e.getMessage());
+            }
+        }
+    }
+
+    //#endregion
+
+    //#region Private Methods
+
+    private Participant remove(String documentId, String key) {
+        Participant[] removed = {null};
+        documents.computeIfPresent(documentId, (id, participants) -> {
+            removed[0] = participants.remove(key);
+            return participants.isEmpty() ? null : participants;
+        });
+        pendingCursors.computeIfPresent(documentId, (id, cursors) -> {
+            cursors.latest.remove(key);
+            return cursors;
+        });
+        return removed[0];
+    }
+
+    private void expire(String documentId, Participant participant) {
+        if (remove(documentId, participant.userId) == null) {
+            return;
+        }
+        broadcastPresenceChange(documentId, presenceMessage(participant.userId, participant.userName), "USER_LEAVE");
+    }
+
+    private static DocumentMessage presenceMessage(String userId, String userName) {
+        DocumentMessage message = new DocumentMessage();
+        message.setUserId(userId);
+        message.setUserName(userName);
+        return message;
+    }
+
+    private void broadcastPresenceChange(String documentId, DocumentMessage message, String action) {
+        message.setAction(action);
+        message.setDocumentId(documentId);
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + documentId, message);
+    }
+
+    private static String participantKey(DocumentMessage message, String sessionId) {
+        String userId = message.getUserId();
+        return userId != null && !userId.isBlank() ? userId : sessionId;
+    }
+
+    private static final class Participant {
+        private final String userId;
+        private final String userName;
+        private final String sessionId;
+        private final long joinedAt;
+        private volatile long lastSeen;
+
+        private Participant(String userId, String userName, String sessionId, long joinedAt) {
+            this.userId = userId;
+            this.userName = userName;
+            this.sessionId = sessionId;
+            this.joinedAt = joinedAt;
+            this.lastSeen = System.nanoTime();
+        }
+    }
+
+    private static final class PendingCursors {
+        private final Map<String, DocumentMessage> latest = new ConcurrentHashMap<>();
+        private int received;
+    }
+
+    //#endregion
+}
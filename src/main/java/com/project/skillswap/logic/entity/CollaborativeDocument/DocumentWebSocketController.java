@@ -6,7 +6,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 /**
@@ -22,6 +24,9 @@ public class DocumentWebSocketController {
 
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private DocumentPresenceService presenceService;
     //#endregion
 
     //#region Message Handlers
@@ -34,7 +39,10 @@ public class DocumentWebSocketController {
     @SendTo("/topic/document/{documentId}")
     public DocumentMessage handleDocumentUpdate(
             @DestinationVariable String documentId,
-            DocumentMessage message) {
+            DocumentMessage message,
+            SimpMessageHeaderAccessor headerAccessor) {
+
+        presenceService.touch(documentId, headerAccessor.getSessionId(), message);
 
         try {
             logger.info("[WebSocket] Update received");
@@ -80,12 +88,15 @@ public class DocumentWebSocketController {
     @SendTo("/topic/document/{documentId}")
     public DocumentMessage handleUserJoin(
             @DestinationVariable String documentId,
-            DocumentMessage message) {
+            DocumentMessage message,
+            SimpMessageHeaderAccessor headerAccessor) {
 
         logger.info("[WebSocket] User joined");
         logger.info("            Document ID: " + documentId);
         logger.info("            User: " + message.getUserName());
 
+        presenceService.join(documentId, headerAccessor.getSessionId(), message);
+
         message.setAction("USER_JOIN");
         message.setDocumentId(documentId);
 
@@ -100,12 +111,15 @@ public class DocumentWebSocketController {
     @SendTo("/topic/document/{documentId}")
     public DocumentMessage handleUserLeave(
             @DestinationVariable String documentId,
-            DocumentMessage message) {
+            DocumentMessage message,
+            SimpMessageHeaderAccessor headerAccessor) {
 
         logger.info("[WebSocket] User left");
         logger.info("            Document ID: " + documentId);
         logger.info("            User: " + message.getUserName());
 
+        presenceService.leave(documentId, headerAccessor.getSessionId(), message);
+
         message.setAction("USER_LEAVE");
         message.setDocumentId(documentId);
 
@@ -114,19 +128,42 @@ public class DocumentWebSocketController {
 
     /**
      * Handles cursor movement messages
-     * Broadcasts cursor positions to enable real-time cursor tracking
+     * Cursors are not rebroadcast one by one: the latest position of each user is
+     * published in a single CURSOR_BATCH per document every documents.cursor.coalesce-ms
      * Note: No logging to avoid console spam (cursors move constantly)
      */
     @MessageMapping("/document/{documentId}/cursor")
-    @SendTo("/topic/document/{documentId}")
-    public DocumentMessage handleCursorMove(
+    public void handleCursorMove(
             @DestinationVariable String documentId,
-            DocumentMessage message) {
+            DocumentMessage message,
+            SimpMessageHeaderAccessor headerAccessor) {
 
         message.setAction("CURSOR_MOVE");
         message.setDocumentId(documentId);
 
-        return message;
+        presenceService.submitCursor(documentId, headerAccessor.getSessionId(), message);
+    }
+
+    /**
+     * Keeps the user present while idle (no edits or cursor moves)
+     * Users silent for documents.presence.timeout-seconds are removed with USER_LEAVE
+     */
+    @MessageMapping("/document/{documentId}/heartbeat")
+    public void handleHeartbeat(
+            @DestinationVariable String documentId,
+            DocumentMessage message,
+            SimpMessageHeaderAccessor headerAccessor) {
+
+        presenceService.touch(documentId, headerAccessor.getSessionId(), message);
+    }
+
+    /**
+     * Returns the current participants to the subscribing client only
+     * Clients subscribe to /app/document/{documentId}/presence after joining
+     */
+    @SubscribeMapping("/document/{documentId}/presence")
+    public PresenceSnapshot handlePresenceSubscribe(@DestinationVariable String documentId) {
+        return presenceService.snapshot(documentId);
     }
 
     //#endregion
@@ -0,0 +1,17 @@
+package com.project.skillswap.logic.entity.CollaborativeDocument;
+
+import java.util.List;
+
+/**
+ * Lista de participantes de un documento. Se entrega al suscribirse a /app/document/{documentId}/presence
+ * para que quien llega tarde sepa quién ya está editando.
+ *
+ * @param action siempre "PRESENCE"
+ */
+public record PresenceSnapshot(String documentId, String action, List<DocumentParticipant> participants,
+                               long timestamp) {
+
+    public static PresenceSnapshot of(String documentId, List<DocumentParticipant> participants) {
+        return new PresenceSnapshot(documentId, "PRESENCE", participants, System.currentTimeMillis());
+    }
+}
@@ -28,6 +28,7 @@ public class CommunityInvitationService {
     //#region Constants
     private static final int TOKEN_EXPIRATION_HOURS = 48;
     private static final int MAX_COMMUNITY_MEMBERS = 10;
+    private static final int STALLED_DELIVERY_MINUTES = 15;
     //#endregion
 
     //#region Dependencies
@@ -37,25 +38,29 @@ public class CommunityInvitationService {
     private final PersonRepository personRepository;
     private final LearnerRepository learnerRepository;
     private final EmailCommunityService emailCommunityService;
+    private final InvitationDispatcher invitationDispatcher;
 
     public CommunityInvitationService(CommunityInvitationTokenRepository tokenRepository,
                                       LearningCommunityRepository communityRepository,
                                       CommunityMemberRepository memberRepository,
                                       PersonRepository personRepository,
                                       LearnerRepository learnerRepository,
-                                      EmailCommunityService emailCommunityService) {
+                                      EmailCommunityService emailCommunityService,
+                                      InvitationDispatcher invitationDispatcher) {
         this.tokenRepository = tokenRepository;
         this.communityRepository = communityRepository;
         this.memberRepository = memberRepository;
         this.personRepository = personRepository;
         this.learnerRepository = learnerRepository;
         this.emailCommunityService = emailCommunityService;
+        this.invitationDispatcher = invitationDispatcher;
     }
     //#endregion
 
     //#region Public Methods
     /**
-     * Crea una nueva comunidad y envía invitaciones a los miembros.
+     * Crea una nueva comunidad y encola las invitaciones a los miembros.
+     * Los correos se envían en segundo plano; su avance se consulta con {@link #getInvitationJob(String)}.
      *
      * @param name nombre de la comunidad
      * @param description descripción de la comunidad
@@ -90,8 +95,8 @@ public class CommunityInvitationService {
                     "Máximo " + (MAX_COMMUNITY_MEMBERS - 1) + " invitaciones permitidas", null, null);
         }
 
-        Set<String> uniqueEmails = new HashSet<>(memberEmails);
-        uniqueEmails.remove(creator.getPerson().getEmail());
+        Set<String> uniqueEmails = normalizeEmails(memberEmails);
+        uniqueEmails.remove(creator.getPerson().getEmail().trim().toLowerCase(Locale.ROOT));
 
         if (uniqueEmails.isEmpty()) {
             return new CreateCommunityResult(false, "Debes invitar a otros miembros además de ti mismo", null, null);
@@ -113,32 +118,18 @@ public class CommunityInvitationService {
         creatorMember.setActive(true);
         memberRepository.save(creatorMember);
 
-        List<String> successfulInvitations = new ArrayList<>();
-        List<String> failedInvitations = new ArrayList<>();
-
-        for (String email : uniqueEmails) {
-            try {
-                InvitationResult result = createAndSendInvitation(community, email, creator.getPerson().getFullName());
-                if (result.isSuccess()) {
-                    successfulInvitations.add(email);
-                } else {
-                    failedInvitations.add(email + " (" + result.getMessage() + ")");
-                }
-            } catch (Exception e) {
-                failedInvitations.add(email + " (Error al enviar)");
-            }
-        }
+        InvitationsSummary summary = queueInvitations(community, uniqueEmails,
+                creator.getPerson().getFullName(), new ArrayList<>());
 
         String message = "Comunidad creada exitosamente. ";
-        if (!successfulInvitations.isEmpty()) {
-            message += successfulInvitations.size() + " invitaciones enviadas. ";
+        if (!summary.getSuccessfulInvitations().isEmpty()) {
+            message += summary.getSuccessfulInvitations().size() + " invitaciones en envío. ";
         }
-        if (!failedInvitations.isEmpty()) {
-            message += failedInvitations.size() + " invitaciones fallaron.";
+        if (!summary.getFailedInvitations().isEmpty()) {
+            message += summary.getFailedInvitations().size() + " invitaciones fallaron.";
         }
 
-        return new CreateCommunityResult(true, message, community.getId(),
-                new InvitationsSummary(successfulInvitations, failedInvitations));
+        return new CreateCommunityResult(true, message, community.getId(), summary);
     }
 
     /**
@@ -253,62 +244,177 @@ public class CommunityInvitationService {
     public void cleanExpiredTokens() {
         tokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
     }
+
+    /**
+     * Vuelve a encolar los correos que siguen pendientes (instancia reiniciada o cola llena).
+     *
+     * Se lee del primario para no reenviar correos que una réplica atrasada aún ve pendientes.
+     * Cada token se reclama con un UPDATE condicionado antes de encolarlo: si otra instancia
+     * lo reclamó primero (o el correo se envió mientras tanto), no se reenvía.
+     *
+     * @return cantidad de invitaciones reenviadas
+     */
+    @Transactional
+    public int resendStalledInvitations() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusMinutes(STALLED_DELIVERY_MINUTES);
+        List<CommunityInvitationToken> stalled = tokenRepository.findStalledDeliveries(cutoff, now);
+
+        List<InvitationDispatcher.InvitationEmail> emails = new ArrayList<>(stalled.size());
+        for (CommunityInvitationToken invitationToken : stalled) {
+            if (tokenRepository.claimStalledDelivery(invitationToken.getId(), cutoff, now) == 0) {
+                continue;
+            }
+            emails.add(toInvitationEmail(invitationToken, creatorNameOf(invitationToken.getCommunity())));
+        }
+        invitationDispatcher.dispatchAfterCommit(emails);
+        return emails.size();
+    }
+
+    /**
+     * Obtiene el avance del envío de un lote de invitaciones.
+     *
+     * @param jobId ID del lote
+     * @return avance del lote, vacío si no existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<InvitationJobProgress> getInvitationJob(String jobId) {
+        List<CommunityInvitationToken> tokens = tokenRepository.findByJobIdOrderByIdAsc(jobId);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int pending = 0;
+        int sent = 0;
+        int failed = 0;
+        List<InvitationJobProgress.InviteDelivery> invitations = new ArrayList<>(tokens.size());
+        for (CommunityInvitationToken invitationToken : tokens) {
+            switch (invitationToken.getDeliveryStatus()) {
+                case PENDING -> pending++;
+                case SENT -> sent++;
+                case FAILED -> failed++;
+            }
+            invitations.add(new InvitationJobProgress.InviteDelivery(
+                    invitationToken.getInviteeEmail(),
+                    invitationToken.getDeliveryStatus(),
+                    invitationToken.getDeliveryError(),
+                    invitationToken.getDeliveredAt()));
+        }
+
+        return Optional.of(new InvitationJobProgress(jobId, tokens.get(0).getCommunity().getId(),
+                tokens.size(), pending, sent, failed, invitations));
+    }
     //#endregion
 
     //#region Private Methods
     /**
-     * Crea y envía una invitación a un miembro.
+     * Resuelve todos los emails con una sola consulta, guarda los tokens en un solo saveAll
+     * (INSERT en lote) con un ID de lote común y encola los correos para después del commit.
      *
      * @param community la comunidad
-     * @param email email del invitado
+     * @param emails emails a invitar (normalizados y sin duplicados)
      * @param creatorName nombre del creador
-     * @return resultado de la invitación
+     * @param failedInvitations rechazos previos a agregar al resumen
+     * @return resumen con los emails encolados, los rechazados y el ID del lote
      */
-    private InvitationResult createAndSendInvitation(LearningCommunity community, String email,
-                                                     String creatorName) {
-        Optional<Person> optionalPerson = personRepository.findByEmail(email);
-
-        String inviteeName = email;
-        if (optionalPerson.isPresent()) {
-            Person person = optionalPerson.get();
-            inviteeName = person.getFullName();
+    private InvitationsSummary queueInvitations(LearningCommunity community, Collection<String> emails,
+                                                String creatorName, List<String> failedInvitations) {
+        Map<String, InviteeCandidate> candidates = new HashMap<>();
+        for (InviteeCandidate candidate : tokenRepository.findInviteeCandidates(emails)) {
+            // Con varias membresías activas se conserva la de esta comunidad, si está
+            candidates.merge(candidate.email(), candidate,
+                    (current, other) -> community.getId().equals(other.communityId()) ? other : current);
+        }
 
-            if (person.getLearner() == null) {
-                return new InvitationResult(false, "El usuario no es un aprendiz (Learner)");
+        String jobId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(TOKEN_EXPIRATION_HOURS);
+        List<CommunityInvitationToken> tokens = new ArrayList<>(emails.size());
+        List<String> queuedInvitations = new ArrayList<>(emails.size());
+
+        for (String email : emails) {
+            InviteeCandidate candidate = candidates.get(email);
+            String rejection = rejectionReason(community, candidate);
+            if (rejection != null) {
+                failedInvitations.add(email + " (" + rejection + ")");
+                continue;
             }
 
-            // Verificar si el usuario ya está en otra comunidad
-            List<CommunityMember> existingMemberships = memberRepository.findByLearnerIdAndActiveTrue(
-                    person.getLearner().getId());
-            if (!existingMemberships.isEmpty()) {
-                return new InvitationResult(false, "Ya es miembro de otra comunidad");
-            }
+            CommunityInvitationToken invitationToken = new CommunityInvitationToken(
+                    generateSecureToken(), community, email,
+                    candidate != null ? candidate.fullName() : email, expiresAt);
+            invitationToken.setJobId(jobId);
+            invitationToken.setDeliveryStatus(InvitationDeliveryStatus.PENDING);
+            tokens.add(invitationToken);
+            queuedInvitations.add(email);
+        }
 
-            boolean isAlreadyMember = memberRepository.findActiveMembersByCommunityId(community.getId())
-                    .stream()
-                    .anyMatch(m -> m.getLearner().getPerson().getEmail().equalsIgnoreCase(email));
+        if (tokens.isEmpty()) {
+            return new InvitationsSummary(queuedInvitations, failedInvitations);
+        }
 
-            if (isAlreadyMember) {
-                return new InvitationResult(false, "Ya es miembro de la comunidad");
-            }
+        tokenRepository.saveAll(tokens);
+
+        List<InvitationDispatcher.InvitationEmail> invitationEmails = new ArrayList<>(tokens.size());
+        for (CommunityInvitationToken invitationToken : tokens) {
+            invitationEmails.add(toInvitationEmail(invitationToken, creatorName));
         }
+        invitationDispatcher.dispatchAfterCommit(invitationEmails);
 
-        String token = generateSecureToken();
-        LocalDateTime expiresAt = LocalDateTime.now().plusHours(TOKEN_EXPIRATION_HOURS);
+        logger.info("Lote de invitaciones " + jobId + " encolado: " + tokens.size()
+                + " correos para la comunidad " + community.getId());
+        return new InvitationsSummary(queuedInvitations, failedInvitations, jobId);
+    }
 
-        CommunityInvitationToken invitationToken = new CommunityInvitationToken(
-                token, community, email, inviteeName, expiresAt
-        );
-        tokenRepository.save(invitationToken);
+    /**
+     * Verifica que el invitado pueda recibir una invitación a la comunidad.
+     *
+     * @param community la comunidad
+     * @param candidate persona registrada con ese email, o null si no hay
+     * @return motivo del rechazo o null si se puede invitar
+     */
+    private String rejectionReason(LearningCommunity community, InviteeCandidate candidate) {
+        if (candidate == null) {
+            return null;
+        }
+        if (candidate.learnerId() == null) {
+            return "El usuario no es un aprendiz (Learner)";
+        }
+        if (candidate.communityId() == null) {
+            return null;
+        }
+        return community.getId().equals(candidate.communityId())
+                ? "Ya es miembro de la comunidad"
+                : "Ya es miembro de otra comunidad";
+    }
 
-        try {
-            emailCommunityService.sendCommunityInvitation(
-                    email, inviteeName, community.getName(), creatorName, token
-            );
-            return new InvitationResult(true, "Invitación enviada");
-        } catch (MessagingException e) {
-            return new InvitationResult(false, "Error al enviar el correo");
+    private InvitationDispatcher.InvitationEmail toInvitationEmail(CommunityInvitationToken invitationToken,
+                                                                   String creatorName) {
+        return new InvitationDispatcher.InvitationEmail(
+                invitationToken.getId(),
+                invitationToken.getInviteeEmail(),
+                invitationToken.getInviteeName(),
+                invitationToken.getCommunity().getName(),
+                creatorName,
+                invitationToken.getToken());
+    }
+
+    private String creatorNameOf(LearningCommunity community) {
+        return (community.getCreator() != null)
+                ? community.getCreator().getPerson().getFullName()
+                : "Administrador";
+    }
+
+    /**
+     * Normaliza los emails (sin espacios, en minúsculas) y quita duplicados conservando el orden.
+     */
+    private Set<String> normalizeEmails(List<String> emails) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (email != null && !email.isBlank()) {
+                normalized.add(email.trim().toLowerCase(Locale.ROOT));
+            }
         }
+        return normalized;
     }
 
     /**
@@ -343,6 +449,13 @@ public class CommunityInvitationService {
         return code;
     }
 
+    /**
+     * Encola invitaciones a una comunidad existente; los correos se envían en segundo plano.
+     *
+     * @param communityId ID de la comunidad
+     * @param memberEmails emails a invitar
+     * @return resumen con los emails encolados, los rechazados y el ID del lote
+     */
     @Transactional
     public InvitationsSummary sendInvitationsToExistingCommunity(Long communityId, List<String> memberEmails) {
 
@@ -366,15 +479,12 @@ public class CommunityInvitationService {
         }
 
         // Evitar duplicados
-        Set<String> uniqueEmails = new HashSet<>(memberEmails);
+        Set<String> uniqueEmails = normalizeEmails(memberEmails);
 
-        List<String> successfulInvitations = new ArrayList<>();
         List<String> failedInvitations = new ArrayList<>();
 
         // 3. Obtener el nombre del creador para el email
-        String creatorName = (community.getCreator() != null)
-                ? community.getCreator().getPerson().getFullName()
-                : "Administrador";
+        String creatorName = creatorNameOf(community);
 
         // 4. Validar límite de miembros
         long currentMembers = memberRepository.countActiveMembersByCommunityId(communityId);
@@ -391,26 +501,12 @@ public class CommunityInvitationService {
         if (uniqueEmails.size() > remainingSlots) {
             failedInvitations.add("Excedes el número disponible de invitaciones: puedes invitar solo " + remainingSlots);
             // Recortamos a los correos permitidos
-            uniqueEmails = uniqueEmails.stream().limit(remainingSlots).collect(Collectors.toSet());
-        }
-
-        // 5. Enviar cada invitación usando la lógica existente
-        for (String email : uniqueEmails) {
-            try {
-                InvitationResult result = createAndSendInvitation(community, email, creatorName);
-
-                if (result.isSuccess()) {
-                    successfulInvitations.add(email);
-                } else {
-                    failedInvitations.add(email + " (" + result.getMessage() + ")");
-                }
-
-            } catch (Exception e) {
-                failedInvitations.add(email + " (Error al enviar)");
-            }
+            uniqueEmails = uniqueEmails.stream().limit(remainingSlots)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
         }
 
-        return new InvitationsSummary(successfulInvitations, failedInvitations);
+        // 5. Crear los tokens en lote y encolar los correos
+        return queueInvitations(community, uniqueEmails, creatorName, failedInvitations);
     }
 
     //#endregion
@@ -452,14 +548,26 @@ public class CommunityInvitationService {
 
     /**
      * Clase que representa el resumen de invitaciones.
+     * successfulInvitations son las encoladas para envío; el resultado de cada correo
+     * se consulta con el ID del lote (null si no se encoló ninguna).
      */
     public static class InvitationsSummary {
         private final List<String> successfulInvitations;
         private final List<String> failedInvitations;
+        private final String jobId;
 
         public InvitationsSummary(List<String> successfulInvitations, List<String> failedInvitations) {
+            this(successfulInvitations, failedInvitations, null);
+        }
+
+        public InvitationsSummary(List<String> successfulInvitations, List<String> failedInvitations, String jobId) {
             this.successfulInvitations = successfulInvitations;
             this.failedInvitations = failedInvitations;
+            this.jobId = jobId;
+        }
+
+        public String getJobId() {
+            return jobId;
         }
 
         public List<String> getSuccessfulInvitations() {
@@ -471,27 +579,6 @@ public class CommunityInvitationService {
         }
     }
 
-    /**
-     * Clase que representa el resultado de una invitación individual.
-     */
-    private static class InvitationResult {
-        private final boolean success;
-        private final String message;
-
-        public InvitationResult(boolean success, String message) {
-            this.success = success;
-            this.message = message;
-        }
-
-        public boolean isSuccess() {
-            return success;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-    }
-
     /**
      * Clase que representa el resultado de aceptar una invitación.
      */
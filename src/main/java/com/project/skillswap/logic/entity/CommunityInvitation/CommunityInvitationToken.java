@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @Table(name = "community_invitation_token", indexes = {
         @Index(name = "idx_invitation_token", columnList = "token", unique = true),
         @Index(name = "idx_invitation_email", columnList = "invitee_email"),
-        @Index(name = "idx_invitation_community", columnList = "community_id")
+        @Index(name = "idx_invitation_community", columnList = "community_id"),
+        @Index(name = "idx_invitation_job", columnList = "job_id"),
+        @Index(name = "idx_invitation_delivery", columnList = "delivery_status, created_at"),
+        @Index(name = "idx_invitation_delivery_attempt", columnList = "delivery_status, last_attempt_at")
 })
 @Entity
 public class CommunityInvitationToken {
@@ -22,7 +25,8 @@ public class CommunityInvitationToken {
 
     //#region Fields
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "community_invitation_token_seq")
+    @SequenceGenerator(name = "community_invitation_token_seq", sequenceName = "community_invitation_token_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 500)
@@ -50,6 +54,26 @@ public class CommunityInvitationToken {
 
     @Column(name = "active")
     private Boolean active = true;
+
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", length = 10)
+    private InvitationDeliveryStatus deliveryStatus;
+
+    @Column(name = "delivery_error", length = 255)
+    private String deliveryError;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    /**
+     * Último encolado del correo; el reenvío de pendientes lo usa para reclamar el token.
+     * Null en tokens creados antes de la columna (se usa created_at).
+     */
+    @Column(name = "last_attempt_at")
+    private LocalDateTime lastAttemptAt;
     //#endregion
 
     //#region Constructors
@@ -71,6 +95,7 @@ public class CommunityInvitationToken {
         this.inviteeEmail = inviteeEmail;
         this.inviteeName = inviteeName;
         this.expiresAt = expiresAt;
+        this.lastAttemptAt = LocalDateTime.now();
     }
     //#endregion
 
@@ -166,5 +191,45 @@ public class CommunityInvitationToken {
     public void setActive(Boolean active) {
         this.active = active;
     }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public InvitationDeliveryStatus getDeliveryStatus() {
+        return deliveryStatus;
+    }
+
+    public void setDeliveryStatus(InvitationDeliveryStatus deliveryStatus) {
+        this.deliveryStatus = deliveryStatus;
+    }
+
+    public String getDeliveryError() {
+        return deliveryError;
+    }
+
+    public void setDeliveryError(String deliveryError) {
+        this.deliveryError = deliveryError;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(LocalDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public void setLastAttemptAt(LocalDateTime lastAttemptAt) {
+        this.lastAttemptAt = lastAttemptAt;
+    }
     //#endregion
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.project.skillswap.logic.entity.CommunityInvitation;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,4 +60,80 @@ public interface CommunityInvitationTokenRepository extends JpaRepository<Commun
      * @param now fecha y hora actual para comparar expiración
      */
     void deleteByExpiresAtBefore(LocalDateTime now);
+
+    /**
+     * Resuelve en una sola consulta qué emails invitados pertenecen a personas registradas,
+     * si son aprendices y en qué comunidad activa están. Los emails sin persona no aparecen.
+     * Una persona con varias membresías activas aparece una vez por membresía.
+     *
+     * @param emails emails en minúsculas
+     * @return candidatos encontrados
+     */
+    @Query("SELECT new com.project.skillswap.logic.entity.CommunityInvitation.InviteeCandidate(" +
+            "LOWER(p.email), p.fullName, l.id, cm.learningCommunity.id) " +
+            "FROM Person p " +
+            "LEFT JOIN p.learner l " +
+            "LEFT JOIN CommunityMember cm ON cm.learner = l AND cm.active = true " +
+            "WHERE LOWER(p.email) IN :emails")
+    List<InviteeCandidate> findInviteeCandidates(@Param("emails") Collection<String> emails);
+
+    /**
+     * Invitaciones de un lote, en el orden en que se crearon.
+     *
+     * @param jobId ID del lote
+     * @return lista de tokens
+     */
+    List<CommunityInvitationToken> findByJobIdOrderByIdAsc(String jobId);
+
+    /**
+     * Invitaciones activas cuyo correo sigue pendiente y no se encoló desde la fecha indicada
+     * (por ejemplo, si la instancia se reinició con correos en cola).
+     * Son candidatas: cada una se reclama con {@link #claimStalledDelivery} antes de reenviarla.
+     *
+     * @param cutoff fecha límite del último encolado
+     * @param now fecha y hora actual para descartar las expiradas
+     * @return lista de tokens pendientes
+     */
+    @Query("SELECT t FROM CommunityInvitationToken t " +
+            "JOIN FETCH t.community " +
+            "WHERE t.deliveryStatus = com.project.skillswap.logic.entity.CommunityInvitation.InvitationDeliveryStatus.PENDING " +
+            "AND (t.lastAttemptAt < :cutoff OR (t.lastAttemptAt IS NULL AND t.createdAt < :cutoff)) " +
+            "AND t.expiresAt > :now AND t.active = true")
+    List<CommunityInvitationToken> findStalledDeliveries(@Param("cutoff") LocalDateTime cutoff,
+                                                         @Param("now") LocalDateTime now);
+
+    /**
+     * Reclama un token pendiente para reenviarlo: mueve last_attempt_at solo si sigue PENDING y
+     * nadie lo encoló desde el corte. Con varias instancias, solo una obtiene 1 fila afectada.
+     *
+     * @param id ID del token
+     * @param cutoff fecha límite del último encolado
+     * @param now nuevo last_attempt_at
+     * @return 1 si esta instancia lo reclamó, 0 si no
+     */
+    @Modifying
+    @Query("UPDATE CommunityInvitationToken t SET t.lastAttemptAt = :now " +
+            "WHERE t.id = :id " +
+            "AND t.deliveryStatus = com.project.skillswap.logic.entity.CommunityInvitation.InvitationDeliveryStatus.PENDING " +
+            "AND (t.lastAttemptAt < :cutoff OR (t.lastAttemptAt IS NULL AND t.createdAt < :cutoff))")
+    int claimStalledDelivery(@Param("id") Long id,
+                             @Param("cutoff") LocalDateTime cutoff,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * Registra el resultado del envío del correo de una invitación.
+     *
+     * @param id ID del token
+     * @param status estado final del envío
+     * @param error motivo del fallo o null
+     * @param deliveredAt momento del envío
+     * @return filas actualizadas
+     */
+    @Modifying
+    @Query("UPDATE CommunityInvitationToken t SET t.deliveryStatus = :status, t.deliveryError = :error, " +
+            "t.deliveredAt = :deliveredAt WHERE t.id = :id")
+    int markDelivery(@Param("id") Long id,
+                     @Param("status") InvitationDeliveryStatus status,
+                     @Param("error") String error,
+                     @Param("deliveredAt") LocalDateTime deliveredAt);
 }
\ No newline at end of file
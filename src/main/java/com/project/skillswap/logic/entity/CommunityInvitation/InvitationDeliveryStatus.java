@@ -0,0 +1,10 @@
+package com.project.skillswap.logic.entity.CommunityInvitation;
+
+/**
+ * Estado del envío del correo de una invitación.
+ */
+public enum InvitationDeliveryStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,121 @@
+package com.project.skillswap.logic.entity.CommunityInvitation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Envía los correos de invitación en el invitationExecutor y registra el resultado de cada uno
+ * en su token (delivery_status), que es lo que consulta el endpoint de avance del lote.
+ *
+ * Los correos se encolan cuando confirma la transacción que creó los tokens. Si la cola está llena
+ * la invitación queda PENDING y la reenvía {@link InvitationTokenCleanupScheduler}.
+ */
+@Component
+public class InvitationDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(InvitationDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    //#region Dependencies
+    private final CommunityInvitationTokenRepository tokenRepository;
+    private final EmailCommunityService emailCommunityService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor invitationExecutor;
+
+    public InvitationDispatcher(CommunityInvitationTokenRepository tokenRepository,
+                                EmailCommunityService emailCommunityService,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("invitationExecutor") Executor invitationExecutor) {
+        this.tokenRepository = tokenRepository;
+        this.emailCommunityService = emailCommunityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.invitationExecutor = invitationExecutor;
+    }
+    //#endregion
+
+    //#region Public Methods
+    /**
+     * Encola los correos cuando la transacción actual confirma (o de inmediato si no hay transacción).
+     *
+     * @param emails correos a enviar
+     */
+    public void dispatchAfterCommit(List<InvitationEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(emails);
+                }
+            });
+        } else {
+            dispatch(emails);
+        }
+    }
+    //#endregion
+
+    //#region Private Methods
+    private void dispatch(List<InvitationEmail> emails) {
+        int queued = 0;
+        for (InvitationEmail email : emails) {
+            try {
+                invitationExecutor.execute(() -> send(email));
+                queued++;
+            } catch (RejectedExecutionException e) {
+                logger.warn("Cola de invitaciones llena; " + (emails.size() - queued)
+                        + " correos quedan pendientes para el siguiente reintento");
+                return;
+            }
+        }
+    }
+
+    private void send(InvitationEmail email) {
+        try {
+            emailCommunityService.sendCommunityInvitation(
+                    email.email(), email.inviteeName(), email.communityName(), email.creatorName(), email.token());
+            markDelivery(email.tokenId(), InvitationDeliveryStatus.SENT, null);
+        } catch (Exception e) {
+            logger.error("Error enviando invitación a " + email.email() + ": " + e.getMessage());
+            markDelivery(email.tokenId(), InvitationDeliveryStatus.FAILED, truncate(e.getMessage()));
+        }
+    }
+
+    private void markDelivery(Long tokenId, InvitationDeliveryStatus status, String error) {
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    tokenRepository.markDelivery(tokenId, status, error, LocalDateTime.now()));
+        } catch (Exception e) {
+            logger.error("No se pudo registrar el envío de la invitación " + tokenId + ": " + e.getMessage());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return "Error al enviar el correo";
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+    //#endregion
+
+    /**
+     * Datos necesarios para enviar una invitación sin volver a la base.
+     */
+    public record InvitationEmail(Long tokenId, String email, String inviteeName, String communityName,
+                                  String creatorName, String token) {
+    }
+}
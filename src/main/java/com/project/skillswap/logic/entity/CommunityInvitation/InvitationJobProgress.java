@@ -0,0 +1,31 @@
+package com.project.skillswap.logic.entity.CommunityInvitation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Avance del envío de un lote de invitaciones.
+ *
+ * @param jobId ID del lote
+ * @param communityId comunidad a la que pertenece el lote
+ * @param total invitaciones del lote
+ * @param pending correos aún en cola
+ * @param sent correos enviados
+ * @param failed correos que fallaron
+ * @param invitations estado de cada invitación
+ */
+public record InvitationJobProgress(String jobId, Long communityId, int total, int pending, int sent, int failed,
+                                    List<InviteDelivery> invitations) {
+
+    /**
+     * Estado del envío de una invitación.
+     *
+     * @param email email del invitado
+     * @param status estado del envío
+     * @param error motivo del fallo, si lo hubo
+     * @param deliveredAt momento en que se envió o falló
+     */
+    public record InviteDelivery(String email, InvitationDeliveryStatus status, String error,
+                                 LocalDateTime deliveredAt) {
+    }
+}
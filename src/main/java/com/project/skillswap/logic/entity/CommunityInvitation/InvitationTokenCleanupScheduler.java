@@ -0,0 +1,56 @@
+package com.project.skillswap.logic.entity.CommunityInvitation;
+
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Elimina cada hora los tokens de invitación a comunidades que ya expiraron
+ * y cada cinco minutos reenvía los correos de invitación que quedaron pendientes.
+ */
+@Component
+public class InvitationTokenCleanupScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(InvitationTokenCleanupScheduler.class);
+
+    //#region Dependencies
+    private final CommunityInvitationService communityInvitationService;
+    private final JobCoordinator jobCoordinator;
+
+    public InvitationTokenCleanupScheduler(CommunityInvitationService communityInvitationService,
+                                           JobCoordinator jobCoordinator) {
+        this.communityInvitationService = communityInvitationService;
+        this.jobCoordinator = jobCoordinator;
+    }
+    //#endregion
+
+    //#region Scheduled Methods
+    /**
+     * Cron: 0 15 * * * * = cada hora en el minuto 15
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void cleanExpiredInvitationTokens() {
+        jobCoordinator.runExclusive("invitation-token-cleanup", Duration.ofMinutes(5), Duration.ofMinutes(10), () -> {
+            logger.info("Iniciando limpieza de tokens de invitación expirados...");
+            communityInvitationService.cleanExpiredTokens();
+            logger.info("Tokens de invitación expirados eliminados.");
+        });
+    }
+
+    /**
+     * Cron: 0 0/5 * * * * = cada cinco minutos
+     */
+    @Scheduled(cron = "0 0/5 * * * *")
+    public void resendStalledInvitations() {
+        jobCoordinator.runExclusive("invitation-resend", Duration.ofMinutes(2), Duration.ofMinutes(4), () -> {
+            int resent = communityInvitationService.resendStalledInvitations();
+            if (resent > 0) {
+                logger.info("Invitaciones pendientes reenviadas: " + resent);
+            }
+        });
+    }
+    //#endregion
+}
@@ -0,0 +1,12 @@
+package com.project.skillswap.logic.entity.CommunityInvitation;
+
+/**
+ * Persona registrada con un email invitado, con su learner y su comunidad activa (si las tiene).
+ *
+ * @param email email en minúsculas
+ * @param fullName nombre completo
+ * @param learnerId ID del learner o null si la persona no es aprendiz
+ * @param communityId ID de la comunidad activa o null si no pertenece a ninguna
+ */
+public record InviteeCandidate(String email, String fullName, Long learnerId, Long communityId) {
+}
@@ -18,6 +18,15 @@ public interface CommunityMemberRepository extends JpaRepository<CommunityMember
             "WHERE cm.learningCommunity.id = :communityId AND cm.active = true")
     List<CommunityMember> findActiveMembersByCommunityId(@Param("communityId") Long communityId);
 
+    /**
+     * Miembros activos con su learner y persona ya cargados (para operaciones en lote)
+     */
+    @Query("SELECT cm FROM CommunityMember cm " +
+            "JOIN FETCH cm.learner l " +
+            "JOIN FETCH l.person " +
+            "WHERE cm.learningCommunity.id = :communityId AND cm.active = true")
+    List<CommunityMember> findActiveMembersWithLearnerByCommunityId(@Param("communityId") Long communityId);
+
     /**
      * Cuenta miembros activos de una comunidad
      */
@@ -7,8 +7,8 @@ import com.project.skillswap.logic.entity.LearningCommunity.LearningCommunity;
 import com.project.skillswap.logic.entity.LearningCommunity.LearningCommunityRepository;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.LearningCommunity.LearningCommunitySeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import java.util.HashSet;
@@ -17,7 +17,7 @@ import java.util.*;
 
 @Order(12)
 @Component
-public class CommunityMemberSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class CommunityMemberSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(CommunityMemberSeeder.class);
 
     private final CommunityMemberRepository communityMemberRepository;
@@ -32,9 +32,14 @@ public class CommunityMemberSeeder implements ApplicationListener<ContextRefresh
         this.learningCommunityRepository = learningCommunityRepository;
         this.learnerRepository = learnerRepository;
     }
+    @Override
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(LearningCommunitySeeder.class);
+    }
+
     @Transactional
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         if (communityMemberRepository.count() > 0) {
             logger.info("CommunityMemberSeeder: Ya existen miembros, omitiendo seed");
             return;
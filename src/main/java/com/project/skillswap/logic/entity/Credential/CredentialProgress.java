@@ -0,0 +1,105 @@
+package com.project.skillswap.logic.entity.Credential;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * Estado de avance de un learner hacia el certificado de una habilidad.
+ *
+ * credential_count se incrementa cuando se emite una credencial (CredentialService) y se reconcilia
+ * con la tabla credential en {@link CredentialProgressScheduler}. alert_pending se enciende solo
+ * cuando el conteo entra en un nivel de alerta (8 o 9 de 10) que todavía no se notificó, de modo que
+ * el job diario de alertas lee únicamente las filas que cambiaron.
+ */
+@Table(name = "credential_progress",
+        uniqueConstraints = @UniqueConstraint(name = "uk_credential_progress_learner_skill", columnNames = {"learner_id", "skill_id"}),
+        indexes = @Index(name = "idx_credential_progress_pending", columnList = "alert_pending, id"))
+@Entity
+public class CredentialProgress {
+
+    /** Credenciales desde las que se avisa que el certificado está cerca */
+    public static final int ALERT_FROM = 8;
+
+    /** Credenciales necesarias para el certificado */
+    public static final int CERTIFICATE_AT = 10;
+
+    //<editor-fold desc="Fields">
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "learner_id", nullable = false)
+    private Long learnerId;
+
+    @Column(name = "skill_id", nullable = false)
+    private Long skillId;
+
+    @Column(name = "credential_count", nullable = false)
+    private int credentialCount;
+
+    @Column(name = "alert_pending", nullable = false)
+    private boolean alertPending;
+
+    @Column(name = "alerted_count")
+    private Integer alertedCount;
+
+    @Column(name = "alert_attempts", nullable = false)
+    private int alertAttempts;
+
+    @Column(name = "last_alert_error", length = 255)
+    private String lastAlertError;
+
+    @Column(name = "alerted_at")
+    private Date alertedAt;
+
+    @Column(name = "changed_at")
+    private Date changedAt;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    public CredentialProgress() {}
+    //</editor-fold>
+
+    //<editor-fold desc="Getters">
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLearnerId() {
+        return learnerId;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public int getCredentialCount() {
+        return credentialCount;
+    }
+
+    public boolean isAlertPending() {
+        return alertPending;
+    }
+
+    public Integer getAlertedCount() {
+        return alertedCount;
+    }
+
+    public int getAlertAttempts() {
+        return alertAttempts;
+    }
+
+    public String getLastAlertError() {
+        return lastAlertError;
+    }
+
+    public Date getAlertedAt() {
+        return alertedAt;
+    }
+
+    public Date getChangedAt() {
+        return changedAt;
+    }
+    //</editor-fold>
+}
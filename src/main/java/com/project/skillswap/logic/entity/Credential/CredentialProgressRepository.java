@@ -0,0 +1,126 @@
+package com.project.skillswap.logic.entity.Credential;
+
+import com.project.skillswap.logic.entity.Notification.CredentialAlertDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CredentialProgressRepository extends JpaRepository<CredentialProgress, Long> {
+
+    /**
+     * Suma una credencial al avance del learner en la habilidad, creando la fila si no existe.
+     * alert_pending se enciende si el nuevo conteo es un nivel de alerta que aún no se notificó.
+     * Es un único UPSERT, así que dos credenciales simultáneas no pierden incrementos.
+     * @return Filas afectadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO credential_progress " +
+            "(learner_id, skill_id, credential_count, alert_pending, alert_attempts, changed_at) " +
+            "VALUES (:learnerId, :skillId, 1, " +
+            "(1 >= " + CredentialProgress.ALERT_FROM + " AND 1 < " + CredentialProgress.CERTIFICATE_AT + "), 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "credential_count = credential_count + 1, " +
+            "alert_pending = (credential_count >= " + CredentialProgress.ALERT_FROM +
+            " AND credential_count < " + CredentialProgress.CERTIFICATE_AT +
+            " AND credential_count <> IFNULL(alerted_count, 0)), " +
+            "alert_attempts = 0, " +
+            "last_alert_error = NULL, " +
+            "changed_at = NOW()", nativeQuery = true)
+    int recordCredential(@Param("learnerId") Long learnerId, @Param("skillId") Long skillId);
+
+    /**
+     * INSERT ... SELECT de los conteos por learner y habilidad; el FROM lo completa cada consulta.
+     * Las filas nuevas que ya están en nivel de alerta se marcan como notificadas: el job anterior
+     * les enviaba la alerta todos los días, así que no se vuelve a avisar hasta el siguiente nivel.
+     */
+    String RECONCILE_INSERT = "INSERT INTO credential_progress " +
+            "(learner_id, skill_id, credential_count, alert_pending, alerted_count, alert_attempts, changed_at) " +
+            "SELECT c.learner_id, c.skill_id, COUNT(*), 0, " +
+            "IF(COUNT(*) >= " + CredentialProgress.ALERT_FROM + " AND COUNT(*) < " + CredentialProgress.CERTIFICATE_AT +
+            ", COUNT(*), NULL), 0, NOW() ";
+
+    /**
+     * Reemplaza el conteo guardado por el recalculado.
+     * Las asignaciones que leen el conteo anterior van antes de la que lo actualiza.
+     */
+    String RECONCILE_UPDATE = "GROUP BY c.learner_id, c.skill_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "alert_pending = IF(credential_count = VALUES(credential_count), alert_pending, " +
+            "VALUES(credential_count) >= " + CredentialProgress.ALERT_FROM +
+            " AND VALUES(credential_count) < " + CredentialProgress.CERTIFICATE_AT +
+            " AND VALUES(credential_count) <> IFNULL(alerted_count, 0)), " +
+            "changed_at = IF(credential_count = VALUES(credential_count), changed_at, NOW()), " +
+            "credential_count = VALUES(credential_count)";
+
+    /**
+     * Recalcula todos los conteos desde la tabla credential (credenciales cargadas por seeders o scripts)
+     * @return Filas afectadas
+     */
+    @Modifying
+    @Query(value = RECONCILE_INSERT + "FROM credential c " + RECONCILE_UPDATE, nativeQuery = true)
+    int reconcileWithCredentials();
+
+    /**
+     * Recalcula solo los pares learner/habilidad que tienen alguna credencial con id en (afterId, upToId].
+     * Cada par se cuenta completo, así que las credenciales que ya sumó recordCredential no se duplican.
+     * @return Filas afectadas
+     */
+    @Modifying
+    @Query(value = RECONCILE_INSERT + "FROM credential c " +
+            "JOIN (SELECT DISTINCT learner_id, skill_id FROM credential WHERE id > :afterId AND id <= :upToId) n " +
+            "ON n.learner_id = c.learner_id AND n.skill_id = c.skill_id " +
+            RECONCILE_UPDATE, nativeQuery = true)
+    int reconcileCredentialsBetween(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    /**
+     * Alertas pendientes de learners activos, en orden de id a partir de afterId (paginación por llave)
+     * @param maxAttempts Las filas que fallaron esta cantidad de veces esperan a un nuevo cambio de conteo
+     */
+    @Query("""
+    SELECT new com.project.skillswap.logic.entity.Notification.CredentialAlertDTO(
+        cp.id,
+        p.id,
+        l.id,
+        p.fullName,
+        p.email,
+        s.id,
+        s.name,
+        cp.credentialCount
+    )
+    FROM CredentialProgress cp
+    JOIN Learner l ON l.id = cp.learnerId
+    JOIN l.person p
+    JOIN Skill s ON s.id = cp.skillId
+    WHERE cp.alertPending = true
+      AND cp.id > :afterId
+      AND cp.alertAttempts < :maxAttempts
+      AND p.active = true
+    ORDER BY cp.id
+    """)
+    List<CredentialAlertDTO> findPendingAlerts(@Param("afterId") Long afterId,
+                                               @Param("maxAttempts") int maxAttempts,
+                                               Pageable pageable);
+
+    /**
+     * Registra la alerta enviada para el conteo indicado. Si entretanto llegó otra credencial que
+     * entra en un nuevo nivel, la fila sigue pendiente para la próxima ejecución.
+     */
+    @Modifying
+    @Query("UPDATE CredentialProgress cp SET " +
+            "cp.alertPending = CASE WHEN cp.credentialCount <> :count " +
+            "AND cp.credentialCount >= " + CredentialProgress.ALERT_FROM +
+            " AND cp.credentialCount < " + CredentialProgress.CERTIFICATE_AT + " THEN true ELSE false END, " +
+            "cp.alertedCount = :count, cp.alertedAt = CURRENT_TIMESTAMP, " +
+            "cp.alertAttempts = 0, cp.lastAlertError = NULL " +
+            "WHERE cp.id = :id")
+    int markAlerted(@Param("id") Long id, @Param("count") int count);
+
+    @Modifying
+    @Query("UPDATE CredentialProgress cp SET cp.alertAttempts = cp.alertAttempts + 1, cp.lastAlertError = :error " +
+            "WHERE cp.id = :id")
+    int markAlertFailed(@Param("id") Long id, @Param("error") String error);
+}
@@ -0,0 +1,121 @@
+package com.project.skillswap.logic.entity.Credential;
+
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reconciliación de credential_progress con la tabla credential.
+ *
+ * - Al arrancar, como {@link StartupTask}: el recálculo completo corre una sola vez (después de
+ *   CredentialSeeder) y queda registrado en startup_task_ledger.
+ * - Cada noche antes del job de alertas, en una sola réplica: solo recalcula los pares
+ *   learner/habilidad con credenciales nuevas desde la última revisión.
+ *
+ * La última credencial revisada se guarda en credential_progress_checkpoint (tabla técnica sin
+ * entidad, como startup_task_ledger). Las credenciales creadas por la aplicación ya las suma
+ * recordCredential; la revisión nocturna cubre las que cargan seeders o scripts.
+ */
+@Component
+public class CredentialProgressScheduler implements StartupTask {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialProgressScheduler.class);
+
+    private final CredentialProgressRepository credentialProgressRepository;
+    private final CredentialRepository credentialRepository;
+    private final JobCoordinator jobCoordinator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CredentialProgressScheduler(CredentialProgressRepository credentialProgressRepository,
+                                       CredentialRepository credentialRepository,
+                                       JobCoordinator jobCoordinator,
+                                       JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager) {
+        this.credentialProgressRepository = credentialProgressRepository;
+        this.credentialRepository = credentialRepository;
+        this.jobCoordinator = jobCoordinator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS credential_progress_checkpoint (" +
+                "id TINYINT NOT NULL PRIMARY KEY, " +
+                "last_credential_id BIGINT NOT NULL, " +
+                "updated_at DATETIME(3) NOT NULL)");
+    }
+
+    @Override
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(CredentialSeeder.class);
+    }
+
+    /**
+     * Recálculo completo; deja el checkpoint en la mayor credencial existente
+     */
+    @Override
+    public void run() {
+        long start = System.currentTimeMillis();
+        Integer affected = transactionTemplate.execute(tx -> {
+            long upToId = credentialRepository.findMaxId();
+            int rows = credentialProgressRepository.reconcileWithCredentials();
+            saveCheckpoint(upToId);
+            return rows;
+        });
+        logger.info("[CREDENTIALS] Avance hacia certificados reconciliado completo: {} filas ({} ms)",
+                affected, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Cron: 0 30 7 * * * = todos los días a las 7:30, antes de las alertas de las 8:00
+     */
+    @Scheduled(cron = "0 30 7 * * *")
+    public void reconcileCredentialProgress() {
+        jobCoordinator.runExclusive("credential-progress-reconcile", Duration.ofMinutes(5), Duration.ofMinutes(10), this::reconcileNew);
+    }
+
+    //#region Privados
+
+    private void reconcileNew() {
+        long start = System.currentTimeMillis();
+        try {
+            // Transacción de escritura: el checkpoint y el MAX(id) se leen en la primaria
+            Integer affected = transactionTemplate.execute(tx -> {
+                long afterId = loadCheckpoint();
+                long upToId = credentialRepository.findMaxId();
+                if (upToId <= afterId) {
+                    return 0;
+                }
+                int rows = credentialProgressRepository.reconcileCredentialsBetween(afterId, upToId);
+                saveCheckpoint(upToId);
+                return rows;
+            });
+            logger.info("[CREDENTIALS] Avance hacia certificados reconciliado con credenciales nuevas: {} filas ({} ms)",
+                    affected, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("[CREDENTIALS] Error reconciliando credential_progress: {}", e.getMessage(), e);
+        }
+    }
+
+    private long loadCheckpoint() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT last_credential_id FROM credential_progress_checkpoint WHERE id = 1", Long.class);
+        return ids.isEmpty() ? 0 : ids.get(0);
+    }
+
+    private void saveCheckpoint(long lastCredentialId) {
+        jdbcTemplate.update("INSERT INTO credential_progress_checkpoint (id, last_credential_id, updated_at) " +
+                "VALUES (1, ?, NOW(3)) ON DUPLICATE KEY UPDATE " +
+                "last_credential_id = VALUES(last_credential_id), updated_at = VALUES(updated_at)", lastCredentialId);
+    }
+
+    //#endregion
+}
@@ -1,7 +1,6 @@
 package com.project.skillswap.logic.entity.Credential;
 
 import com.project.skillswap.logic.entity.Learner.Learner;
-import com.project.skillswap.logic.entity.Notification.CredentialAlertDTO;
 import com.project.skillswap.logic.entity.Skill.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -28,29 +27,6 @@ public interface CredentialRepository extends JpaRepository<Credential, Long> {
             "ORDER BY c.obtainedDate DESC")
     List<Credential> findCredentialsByCommunityId(@Param("communityId") Long communityId);
 
-    /**
-     * Encuentra learners que tienen 8 o 9 credenciales de un mismo skill
-     */
-    @Query("""
-    SELECT new com.project.skillswap.logic.entity.Notification.CredentialAlertDTO(
-        l.id,
-        p.fullName,
-        p.email,
-        s.id,
-        s.name,
-        COUNT(c.id)
-    )
-    FROM Credential c
-    JOIN c.learner l
-    JOIN l.person p
-    JOIN c.skill s
-    WHERE p.active = true
-    GROUP BY l.id, p.fullName, p.email, s.id, s.name
-    HAVING COUNT(c.id) >= 8 AND COUNT(c.id) < 10
-    ORDER BY p.fullName, s.name
-    """)
-    List<CredentialAlertDTO> findLearnersCloseToAchievingCertificate();
-
     /**
      * Cuenta el número de credenciales de un learner para una habilidad específica
      *
@@ -79,4 +55,12 @@ public interface CredentialRepository extends JpaRepository<Credential, Long> {
     @Query("SELECT DISTINCT c.skill FROM Credential c WHERE c.learner = :learner")
     List<Skill> findDistinctSkillsByLearner(@Param("learner") Learner learner);
 
+    /**
+     * Mayor id de credencial, o 0 si no hay credenciales
+     *
+     * @return id máximo
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Credential c")
+    long findMaxId();
+
 }
\ No newline at end of file
@@ -9,17 +9,18 @@ import com.project.skillswap.logic.entity.Quiz.Quiz;
 import com.project.skillswap.logic.entity.Quiz.QuizRepository;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.Skill.Skill;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Quiz.QuizSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.Set;
 
 @Order(10)
 @Component
-public class CredentialSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class CredentialSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(CredentialSeeder.class);
 
     private final CredentialRepository credentialRepository;
@@ -35,9 +36,14 @@ public class CredentialSeeder implements ApplicationListener<ContextRefreshedEve
         this.quizRepository = quizRepository;
     }
 
+    @Override
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(QuizSeeder.class);
+    }
+
     @Override
     @Transactional
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         if (credentialRepository.count() > 0) {
             logger.info("CredentialSeeder: Ya existen credenciales, omitiendo seed");
             return;
@@ -21,6 +21,7 @@ public class CredentialService {
 
     //#region Dependencies
     private final CredentialRepository credentialRepository;
+    private final CredentialProgressRepository credentialProgressRepository;
     private final CertificationService certificationService;
     //#endregion
 
@@ -28,9 +29,11 @@ public class CredentialService {
     @Autowired
     public CredentialService(
             CredentialRepository credentialRepository,
+            CredentialProgressRepository credentialProgressRepository,
             @Lazy CertificationService certificationService
     ) {
         this.credentialRepository = credentialRepository;
+        this.credentialProgressRepository = credentialProgressRepository;
         this.certificationService = certificationService;
     }
     //#endregion
@@ -77,6 +80,7 @@ public class CredentialService {
         credential.setPercentageAchieved(BigDecimal.valueOf(percentage));
 
         credentialRepository.save(credential);
+        credentialProgressRepository.recordCredential(quiz.getLearner().getId(), quiz.getSkill().getId());
 
         certificationService.checkAndGenerateCertificate(quiz.getLearner(), quiz.getSkill());
     }
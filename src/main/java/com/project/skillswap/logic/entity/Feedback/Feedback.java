@@ -52,6 +52,13 @@ public class Feedback {
     @CreationTimestamp
     @Column(updatable = false, name = "creation_date")
     private Date creationDate;
+
+    /** Rating tal como está en la base; permite calcular el delta para los agregados del instructor. */
+    @Transient
+    private Integer persistedRating;
+
+    @Transient
+    private boolean persistedStateKnown;
     //</editor-fold>
 
     //<editor-fold desc="Constructors">
@@ -139,4 +146,22 @@ public class Feedback {
         this.creationDate = creationDate;
     }
     //</editor-fold>
-}
\ No newline at end of file
+
+    //<editor-fold desc="Persisted State">
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void syncPersistedRating() {
+        this.persistedRating = this.rating;
+        this.persistedStateKnown = true;
+    }
+
+    public Integer getPersistedRating() {
+        return persistedRating;
+    }
+
+    public boolean isPersistedStateKnown() {
+        return persistedStateKnown;
+    }
+    //</editor-fold>
+}
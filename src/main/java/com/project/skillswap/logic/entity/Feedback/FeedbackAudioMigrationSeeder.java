@@ -2,19 +2,18 @@ package com.project.skillswap.logic.entity.Feedback;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Seeder que agrega columnas a la tabla feedback automáticamente
- * Se ejecuta solo UNA VEZ al iniciar la aplicación
+ * Se aplica una sola vez; StartupTaskRunner la registra en startup_task_ledger
  */
 @Order(1)  // Ejecuta primero, antes que otros seeders
 @Component
-public class FeedbackAudioMigrationSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class FeedbackAudioMigrationSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(FeedbackAudioMigrationSeeder.class);
 
     private final JdbcTemplate jdbcTemplate;
@@ -23,8 +22,16 @@ public class FeedbackAudioMigrationSeeder implements ApplicationListener<Context
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * Migración versionada: se aplica una sola vez; subir la versión para volver a aplicarla
+     */
+    @Override
+    public String checksum() {
+        return "1";
+    }
+
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         logger.info("========================================");
         logger.info("FeedbackAudioMigrationSeeder: Iniciando migración de tablas");
         logger.info("========================================");
@@ -81,6 +88,8 @@ public class FeedbackAudioMigrationSeeder implements ApplicationListener<Context
             logger.error("FeedbackAudioMigrationSeeder: Error en migración: {}", e.getMessage());
             logger.error("========================================");
             logger.error("Stack trace:", e);
+            // Sin registrar en startup_task_ledger: se reintenta en el próximo arranque
+            throw new IllegalStateException("Migración de feedback fallida", e);
         }
     }
 
@@ -1,18 +1,20 @@
 package com.project.skillswap.logic.entity.Feedback;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.Storage.StagedUpload;
+import com.project.skillswap.logic.entity.Storage.StorageBackend;
+import com.project.skillswap.logic.entity.Storage.StoredObject;
+import com.project.skillswap.logic.entity.Storage.UploadStagingService;
 import com.project.skillswap.logic.entity.videocall.TranscriptionService;
 import okhttp3.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -36,10 +38,14 @@ public class FeedbackAudioService {
     private LearningSessionRepository learningSessionRepository;
 
     @Autowired
+    @Lazy
     private TranscriptionService transcriptionService;
 
     @Autowired
-    private Cloudinary cloudinary;
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private UploadStagingService uploadStagingService;
 
     @Value("${groq.api.key}")
     private String groqApiKey;
@@ -91,39 +97,42 @@ public class FeedbackAudioService {
             Feedback feedback = feedbackRepository.findById(feedbackId)
                     .orElseThrow(() -> new RuntimeException("Feedback no encontrado"));
 
-            Map uploadResult = cloudinary.uploader().upload(audioFile.getBytes(),
-                    ObjectUtils.asMap(
-                            "upload_preset", CLOUDINARY_PRESET,
-                            "folder", "skillswap/feedback/session_" + feedback.getLearningSession().getId(),
-                            "resource_type", "video",
-                            "type", "upload",
-                            "public_id", "feedback_" + feedbackId + "_" + System.currentTimeMillis()
-                    ));
-
-            String audioUrl = uploadResult.get("secure_url").toString();
-            String publicId = uploadResult.get("public_id").toString();
-
-            System.out.println("========================================");
-            System.out.println("[FeedbackAudioService] Audio uploaded successfully");
-            System.out.println("   URL: " + audioUrl);
-            System.out.println("   Public ID: " + publicId);
-            System.out.println("========================================");
-
-            feedback.setAudioUrl(audioUrl);
-            feedback.setDurationSeconds(durationSeconds);
-            feedback.setProcessingDate(LocalDateTime.now());
-            feedbackRepository.save(feedback);
+            // El archivo se copia una sola vez a disco; Cloudinary y Groq leen de ahí sin cargarlo en memoria
+            try (StagedUpload upload = uploadStagingService.stage(audioFile)) {
+                StoredObject stored = storageBackend.store(upload,
+                        Map.<String, Object>of(
+                                "upload_preset", CLOUDINARY_PRESET,
+                                "folder", "skillswap/feedback/session_" + feedback.getLearningSession().getId(),
+                                "resource_type", "video",
+                                "type", "upload",
+                                "public_id", "feedback_" + feedbackId + "_" + System.currentTimeMillis()
+                        ));
+
+                String audioUrl = stored.url();
+                String publicId = stored.publicId();
+
+                System.out.println("========================================");
+                System.out.println("[FeedbackAudioService] Audio uploaded successfully");
+                System.out.println("   URL: " + audioUrl);
+                System.out.println("   Public ID: " + publicId);
+                System.out.println("========================================");
+
+                feedback.setAudioUrl(audioUrl);
+                feedback.setDurationSeconds(durationSeconds);
+                feedback.setProcessingDate(LocalDateTime.now());
+                feedbackRepository.save(feedback);
 
-            startTranscriptionAsync(feedbackId, audioFile, feedback.getLearningSession().getId());
+                transcribeStagedAudio(feedbackId, upload);
 
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("audioUrl", audioUrl);
-            result.put("publicId", publicId);
-            result.put("durationSeconds", durationSeconds);
-            result.put("message", "Audio subido exitosamente.  Transcribiendo...");
+                Map<String, Object> result = new HashMap<>();
+                result.put("success", true);
+                result.put("audioUrl", audioUrl);
+                result.put("publicId", publicId);
+                result.put("durationSeconds", durationSeconds);
+                result.put("message", "Audio subido exitosamente.  Transcribiendo...");
 
-            return result;
+                return result;
+            }
 
         } catch (IOException e) {
             System.err.println("[FeedbackAudioService] Error uploading to Cloudinary: " + e.getMessage());
@@ -179,11 +188,7 @@ public class FeedbackAudioService {
                 String publicId = extractPublicIdFromCloudinaryUrl(feedback.getAudioUrl());
 
                 if (publicId != null) {
-                    cloudinary.uploader().destroy(publicId,
-                            ObjectUtils.asMap(
-                                    "resource_type", "video",
-                                    "invalidate", true
-                            ));
+                    storageBackend.delete(publicId, "video");
 
                     System.out.println("[FeedbackAudioService] Audio deleted from Cloudinary: " + publicId);
                 }
@@ -212,25 +217,25 @@ public class FeedbackAudioService {
     //#region Private Methods
 
     /**
-     * Inicia la transcripcion de forma asincrona
+     * Transcribe el audio ya copiado a disco.
+     * Corre dentro de la subida (un @Async en un método privado nunca fue asíncrono),
+     * así el archivo temporal sigue existiendo mientras Groq lo lee.
      * @param feedbackId ID del feedback
-     * @param audioFile Archivo de audio
-     * @param sessionId ID de la sesion
+     * @param upload Audio copiado a disco
      */
-    @Async
-    private void startTranscriptionAsync(Long feedbackId, MultipartFile audioFile, Long sessionId) {
+    private void transcribeStagedAudio(Long feedbackId, StagedUpload upload) {
         try {
             System.out.println("========================================");
-            System.out.println("[FeedbackAudioService] Starting async transcription for feedback: " + feedbackId);
-            System.out.println("   File: " + audioFile.getOriginalFilename());
-            System.out.println("   Size: " + formatFileSize(audioFile.getSize()));
+            System.out.println("[FeedbackAudioService] Starting transcription for feedback: " + feedbackId);
+            System.out.println("   File: " + upload.getOriginalFilename());
+            System.out.println("   Size: " + formatFileSize(upload.getSize()));
             System.out.println("========================================");
 
             Feedback feedback = feedbackRepository.findById(feedbackId)
                     .orElseThrow(() -> new RuntimeException("Feedback no encontrado"));
 
             try {
-                String transcription = transcribeAudioFile(audioFile);
+                String transcription = transcribeAudioFile(upload);
 
                 if (transcription != null && !transcription.isEmpty()) {
                     feedback.setAudioTranscription(transcription);
@@ -253,18 +258,18 @@ public class FeedbackAudioService {
             }
 
         } catch (Exception e) {
-            System.err.println("[FeedbackAudioService] Error in async transcription: " + e.getMessage());
+            System.err.println("[FeedbackAudioService] Error in transcription: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
     /**
      * Transcribe un archivo de audio usando Groq API
-     * @param audioFile Archivo de audio (WEBM, MP3, etc.)
+     * @param upload Archivo de audio copiado a disco (WEBM, MP3, etc.)
      * @return Transcripción en texto
      */
-    private String transcribeAudioFile(MultipartFile audioFile) throws IOException {
-        System.out.println("[FeedbackAudioService] Transcribing audio file: " + audioFile.getOriginalFilename());
+    private String transcribeAudioFile(StagedUpload upload) throws IOException {
+        System.out.println("[FeedbackAudioService] Transcribing audio file: " + upload.getOriginalFilename());
 
         OkHttpClient httpClient = new OkHttpClient.Builder()
                 .connectTimeout(60, TimeUnit.SECONDS)
@@ -274,8 +279,8 @@ public class FeedbackAudioService {
 
         RequestBody requestBody = new MultipartBody.Builder()
                 .setType(MultipartBody.FORM)
-                .addFormDataPart("file", audioFile.getOriginalFilename(),
-                        RequestBody.create(audioFile.getBytes(),
+                .addFormDataPart("file", upload.getOriginalFilename(),
+                        RequestBody.create(upload.getFile(),
                                 MediaType.parse("audio/*")))
                 .addFormDataPart("model", groqModel)
                 .addFormDataPart("response_format", "json")
@@ -14,6 +14,13 @@ import java.util.Optional;
 
 public interface FeedbackRepository extends JpaRepository<Feedback, Long>, JpaSpecificationExecutor<Feedback> {
 
+    /**
+     * Expresión constructora de {@link FeedbackView}; requiere los alias f, ls (sesión), l (learner) y p (su persona)
+     */
+    String FEEDBACK_VIEW = "new com.project.skillswap.logic.entity.Feedback.FeedbackView(" +
+            "f.id, f.rating, f.comment, f.audioUrl, f.audioTranscription, f.durationSeconds, " +
+            "f.processingDate, f.creationDate, ls.id, ls.title, ls.scheduledDatetime, l.id, p.fullName, p.profilePhotoUrl)";
+
     /**
      * Busca feedback por objetos completos
      */
@@ -31,14 +38,16 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long>, JpaSp
      * @param pageable Paginación y ordenamiento
      * @return Página de feedbacks ordenados
      */
-    @Query(value = "SELECT f FROM Feedback f " +
+    @Query(value = "SELECT " + FEEDBACK_VIEW + " FROM Feedback f " +
             "JOIN f.learningSession ls " +
+            "JOIN f.learner l " +
+            "JOIN l.person p " +
             "WHERE ls.instructor.id = :instructorId " +
             "ORDER BY f.creationDate DESC",
             countQuery = "SELECT COUNT(f) FROM Feedback f " +
                     "JOIN f.learningSession ls " +
                     "WHERE ls.instructor.id = :instructorId")
-    Page<Feedback> findFeedbacksByInstructorId(
+    Page<FeedbackView> findFeedbacksByInstructorId(
             @Param("instructorId") Long instructorId,
             Pageable pageable);
 
@@ -48,12 +57,14 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long>, JpaSp
      * @param limit Cantidad máxima de feedbacks a retornar
      * @return Lista de feedbacks recientes
      */
-    @Query(value = "SELECT f FROM Feedback f " +
+    @Query(value = "SELECT " + FEEDBACK_VIEW + " FROM Feedback f " +
             "JOIN f.learningSession ls " +
+            "JOIN f.learner l " +
+            "JOIN l.person p " +
             "WHERE ls.instructor.id = :instructorId " +
             "ORDER BY f.creationDate DESC " +
             "LIMIT :limit")
-    List<Feedback> findRecentFeedbacksByInstructorId(
+    List<FeedbackView> findRecentFeedbacksByInstructorId(
             @Param("instructorId") Long instructorId,
             @Param("limit") int limit);
 
@@ -91,4 +102,14 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long>, JpaSp
             @Param("instructorId") Long instructorId,
             @Param("rating") Integer rating);
 
-}
\ No newline at end of file
+    /**
+     * Cuenta los feedbacks de todos los instructores agrupados por rating (null = sin calificación)
+     * Lo usa la reconciliación de agregados de rating
+     * @return Filas [instructorId, rating, total]
+     */
+    @Query("SELECT ls.instructor.id, f.rating, COUNT(f) FROM Feedback f " +
+            "JOIN f.learningSession ls " +
+            "GROUP BY ls.instructor.id, f.rating")
+    List<Object[]> countFeedbacksGroupedByInstructorAndRating();
+
+}
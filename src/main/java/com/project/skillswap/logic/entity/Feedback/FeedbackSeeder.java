@@ -5,21 +5,22 @@ import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Seeder component that creates initial feedbacks in the database
  */
 @Order(8)
 @Component
-public class FeedbackSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class FeedbackSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(FeedbackSeeder.class);
 
     //#region Dependencies
@@ -39,9 +40,14 @@ public class FeedbackSeeder implements ApplicationListener<ContextRefreshedEvent
     }
     //#endregion
 
-    //#region Event Handling
+    //#region Startup Task
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(LearningSessionSeeder.class, FeedbackAudioMigrationSeeder.class);
+    }
+
+    @Override
+    public void run() {
         this.seedFeedbacks();
     }
     //#endregion
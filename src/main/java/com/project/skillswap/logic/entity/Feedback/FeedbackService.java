@@ -13,7 +13,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,16 +29,19 @@ public class FeedbackService {
     private final FeedbackRepository feedbackRepository;
     private final PersonRepository personRepository;
     private final InstructorRepository instructorRepository;
+    private final InstructorRatingService instructorRatingService;
     //#endregion
 
     //#region Constructor
     public FeedbackService(
             FeedbackRepository feedbackRepository,
             PersonRepository personRepository,
-            InstructorRepository instructorRepository) {
+            InstructorRepository instructorRepository,
+            InstructorRatingService instructorRatingService) {
         this.feedbackRepository = feedbackRepository;
         this.personRepository = personRepository;
         this.instructorRepository = instructorRepository;
+        this.instructorRatingService = instructorRatingService;
     }
     //#endregion
 
@@ -51,7 +53,7 @@ public class FeedbackService {
      * @return Pagina con feedbacks del instructor autenticado
      * @throws FeedbackException Si el usuario no es instructor o no se encuentra
      */
-    public Page<Feedback> getMyFeedbacks(Pageable pageable) {
+    public Page<FeedbackView> getMyFeedbacks(Pageable pageable) {
         Long instructorId = getAuthenticatedInstructorId();
         return feedbackRepository.findFeedbacksByInstructorId(instructorId, pageable);
     }
@@ -63,7 +65,7 @@ public class FeedbackService {
      * @return Pagina con feedbacks del instructor especificado
      * @throws FeedbackException Si el instructor no existe
      */
-    public Page<Feedback> getFeedbacksByInstructor(Long instructorId, Pageable pageable) {
+    public Page<FeedbackView> getFeedbacksByInstructor(Long instructorId, Pageable pageable) {
         validateInstructorExists(instructorId);
         return feedbackRepository.findFeedbacksByInstructorId(instructorId, pageable);
     }
@@ -75,7 +77,7 @@ public class FeedbackService {
      * @return Lista de feedbacks recientes del instructor autenticado
      * @throws FeedbackException Si el usuario no es instructor o no se encuentra
      */
-    public List<Feedback> getRecentFeedbacks(int limit) {
+    public List<FeedbackView> getRecentFeedbacks(int limit) {
         Long instructorId = getAuthenticatedInstructorId();
         return feedbackRepository.findRecentFeedbacksByInstructorId(instructorId, limit);
     }
@@ -87,7 +89,7 @@ public class FeedbackService {
      * @return Lista de feedbacks recientes del instructor especificado
      * @throws FeedbackException Si el instructor no existe
      */
-    public List<Feedback> getRecentFeedbacksByInstructor(Long instructorId, int limit) {
+    public List<FeedbackView> getRecentFeedbacksByInstructor(Long instructorId, int limit) {
         validateInstructorExists(instructorId);
         return feedbackRepository.findRecentFeedbacksByInstructorId(instructorId, limit);
     }
@@ -158,13 +160,36 @@ public class FeedbackService {
 
     /**
      * Guarda un feedback en la base de datos
+     * Actualiza en la misma transaccion el agregado de calificaciones del instructor
      * @param feedback Feedback a guardar
      * @return Feedback guardado
      */
     @Transactional
     public Feedback saveFeedback(Feedback feedback) {
         System.out.println("[FeedbackService] Guardando feedback ID: " + feedback.getId());
-        return feedbackRepository.save(feedback);
+        boolean existing = feedback.getId() != null && feedback.isPersistedStateKnown();
+        Integer previousRating = feedback.getPersistedRating();
+
+        Feedback saved = feedbackRepository.save(feedback);
+
+        Long instructorId = saved.getLearningSession().getInstructor().getId();
+        instructorRatingService.recordRatingChange(instructorId, existing, previousRating, saved.getRating());
+        saved.syncPersistedRating();
+        return saved;
+    }
+
+    /**
+     * Elimina un feedback y lo descuenta del agregado de calificaciones del instructor
+     * @param feedbackId ID del feedback
+     * @throws FeedbackException Si el feedback no existe
+     */
+    @Transactional
+    public void deleteFeedback(Long feedbackId) {
+        Feedback feedback = getFeedbackById(feedbackId);
+        Long instructorId = feedback.getLearningSession().getInstructor().getId();
+
+        feedbackRepository.delete(feedback);
+        instructorRatingService.recordRatingRemoval(instructorId, feedback.getPersistedRating());
     }
 
     //#endregion
@@ -237,26 +262,13 @@ public class FeedbackService {
 
     /**
      * Calcula estadisticas completas de feedbacks para un instructor
+     * Se leen del agregado incremental (una fila por clave primaria) en lugar de siete consultas
      * @param instructorId ID del instructor
      * @return Mapa con estadisticas: promedio, totales por rating, etc.
      */
     private Map<String, Object> calculateFeedbackStats(Long instructorId) {
         try {
-            Map<String, Object> stats = new HashMap<>();
-
-            Long totalFeedbacks = feedbackRepository.countFeedbacksByInstructorId(instructorId);
-            Double averageRating = feedbackRepository.getAverageRatingByInstructorId(instructorId);
-
-            stats.put("totalReviews", totalFeedbacks != null ? totalFeedbacks : 0L);
-            stats.put("averageRating", averageRating != null ? Math.round(averageRating * 100.0) / 100.0 : 0.0);
-
-            stats.put("fiveStarCount", feedbackRepository.countFeedbacksByRatingAndInstructor(instructorId, 5));
-            stats.put("fourStarCount", feedbackRepository.countFeedbacksByRatingAndInstructor(instructorId, 4));
-            stats.put("threeStarCount", feedbackRepository.countFeedbacksByRatingAndInstructor(instructorId, 3));
-            stats.put("twoStarCount", feedbackRepository.countFeedbacksByRatingAndInstructor(instructorId, 2));
-            stats.put("oneStarCount", feedbackRepository.countFeedbacksByRatingAndInstructor(instructorId, 1));
-
-            return stats;
+            return instructorRatingService.getHistogram(instructorId).toStatsMap();
         } catch (Exception e) {
             System.out.println("[FeedbackService] Error calculating stats: " + e.getMessage());
             throw FeedbackException.statisticsError(instructorId);
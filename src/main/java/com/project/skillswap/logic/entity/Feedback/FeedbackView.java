@@ -0,0 +1,26 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Feedback para los listados del instructor, con la sesión y el learner ya aplanados.
+ * Se arma con una expresión constructora en {@link FeedbackRepository}: una consulta por página.
+ */
+public record FeedbackView(
+        Long id,
+        Integer rating,
+        String comment,
+        String audioUrl,
+        String audioTranscription,
+        Integer durationSeconds,
+        LocalDateTime processingDate,
+        Date creationDate,
+        Long sessionId,
+        String sessionTitle,
+        Date sessionDate,
+        Long learnerId,
+        String learnerName,
+        String learnerPhotoUrl
+) {
+}
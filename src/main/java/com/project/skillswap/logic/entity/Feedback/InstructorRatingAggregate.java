@@ -0,0 +1,113 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.util.Date;
+
+/**
+ * Histograma de calificaciones por instructor (cinco contadores, sin calificar y suma).
+ * Se mantiene de forma incremental desde FeedbackService y se reconcilia periódicamente
+ * con la tabla feedback en {@link RatingAggregateScheduler}.
+ */
+@Table(name = "instructor_rating_aggregate")
+@Entity
+public class InstructorRatingAggregate {
+
+    //<editor-fold desc="Fields">
+    @Id
+    @Column(name = "instructor_id")
+    private Long instructorId;
+
+    @Column(name = "one_star_count", nullable = false)
+    private long oneStarCount;
+
+    @Column(name = "two_star_count", nullable = false)
+    private long twoStarCount;
+
+    @Column(name = "three_star_count", nullable = false)
+    private long threeStarCount;
+
+    @Column(name = "four_star_count", nullable = false)
+    private long fourStarCount;
+
+    @Column(name = "five_star_count", nullable = false)
+    private long fiveStarCount;
+
+    @Column(name = "unrated_count", nullable = false)
+    private long unratedCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @UpdateTimestamp
+    @Column(name = "last_updated")
+    private Date lastUpdated;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    public InstructorRatingAggregate() {}
+
+    public InstructorRatingAggregate(Long instructorId) {
+        this.instructorId = instructorId;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Conversion">
+    public RatingHistogram toHistogram() {
+        return new RatingHistogram(oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount, unratedCount, ratingSum);
+    }
+
+    public void apply(RatingHistogram histogram) {
+        this.oneStarCount = histogram.oneStarCount();
+        this.twoStarCount = histogram.twoStarCount();
+        this.threeStarCount = histogram.threeStarCount();
+        this.fourStarCount = histogram.fourStarCount();
+        this.fiveStarCount = histogram.fiveStarCount();
+        this.unratedCount = histogram.unratedCount();
+        this.ratingSum = histogram.ratingSum();
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Getters and Setters">
+    public Long getInstructorId() {
+        return instructorId;
+    }
+
+    public void setInstructorId(Long instructorId) {
+        this.instructorId = instructorId;
+    }
+
+    public long getOneStarCount() {
+        return oneStarCount;
+    }
+
+    public long getTwoStarCount() {
+        return twoStarCount;
+    }
+
+    public long getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    public long getFourStarCount() {
+        return fourStarCount;
+    }
+
+    public long getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    public long getUnratedCount() {
+        return unratedCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public Date getLastUpdated() {
+        return lastUpdated;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,36 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InstructorRatingAggregateRepository extends JpaRepository<InstructorRatingAggregate, Long> {
+
+    /**
+     * Suma un delta al contador de un rating del instructor, creando la fila si no existe.
+     * Es un único UPSERT, así que concurrentes sobre el mismo instructor no pierden actualizaciones.
+     * @param instructorId ID del instructor
+     * @param rating Calificación (1-5) o 0 para feedback sin calificación
+     * @param delta +1 al agregar, -1 al quitar
+     * @return Filas afectadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO instructor_rating_aggregate " +
+            "(instructor_id, one_star_count, two_star_count, three_star_count, four_star_count, five_star_count, " +
+            "unrated_count, rating_sum, last_updated) " +
+            "VALUES (:instructorId, IF(:rating = 1, :delta, 0), IF(:rating = 2, :delta, 0), IF(:rating = 3, :delta, 0), " +
+            "IF(:rating = 4, :delta, 0), IF(:rating = 5, :delta, 0), IF(:rating = 0, :delta, 0), :rating * :delta, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "one_star_count = one_star_count + IF(:rating = 1, :delta, 0), " +
+            "two_star_count = two_star_count + IF(:rating = 2, :delta, 0), " +
+            "three_star_count = three_star_count + IF(:rating = 3, :delta, 0), " +
+            "four_star_count = four_star_count + IF(:rating = 4, :delta, 0), " +
+            "five_star_count = five_star_count + IF(:rating = 5, :delta, 0), " +
+            "unrated_count = unrated_count + IF(:rating = 0, :delta, 0), " +
+            "rating_sum = rating_sum + :rating * :delta, " +
+            "last_updated = NOW()", nativeQuery = true)
+    int applyDelta(@Param("instructorId") Long instructorId,
+                   @Param("rating") int rating,
+                   @Param("delta") int delta);
+}
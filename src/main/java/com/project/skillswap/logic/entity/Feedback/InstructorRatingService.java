@@ -0,0 +1,155 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Agregados de calificación por instructor.
+ * La tabla instructor_rating_aggregate se actualiza con un UPSERT dentro de la misma transacción
+ * que guarda el feedback. Las lecturas van directo a esa fila por clave primaria: es una consulta
+ * O(1) y, a diferencia de una caché local, ve lo que confirmó cualquier réplica sin carreras
+ * entre la carga y la invalidación.
+ */
+@Service
+public class InstructorRatingService {
+    private static final Logger logger = LoggerFactory.getLogger(InstructorRatingService.class);
+
+    private final InstructorRatingAggregateRepository aggregateRepository;
+    private final FeedbackRepository feedbackRepository;
+
+    public InstructorRatingService(
+            InstructorRatingAggregateRepository aggregateRepository,
+            FeedbackRepository feedbackRepository) {
+        this.aggregateRepository = aggregateRepository;
+        this.feedbackRepository = feedbackRepository;
+    }
+
+    //#region Lectura
+
+    /**
+     * Histograma de calificaciones del instructor (vacío si aún no tiene feedbacks)
+     * @param instructorId ID del instructor
+     * @return Histograma del instructor
+     */
+    @Transactional(readOnly = true)
+    public RatingHistogram getHistogram(Long instructorId) {
+        return aggregateRepository.findById(instructorId)
+                .map(InstructorRatingAggregate::toHistogram)
+                .orElse(RatingHistogram.EMPTY);
+    }
+
+    /**
+     * Promedio de calificación de varios instructores, pensado para ordenar el catálogo.
+     * Se cargan todos con una sola consulta.
+     * @param instructorIds IDs de los instructores
+     * @return Mapa instructorId -> promedio (0.0 si no tiene calificaciones)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> getAverageRatings(Collection<Long> instructorIds) {
+        Map<Long, Double> averages = new HashMap<>();
+        for (Long instructorId : instructorIds) {
+            averages.put(instructorId, 0.0);
+        }
+        if (!averages.isEmpty()) {
+            for (InstructorRatingAggregate aggregate : aggregateRepository.findAllById(averages.keySet())) {
+                averages.put(aggregate.getInstructorId(), aggregate.toHistogram().averageRating());
+            }
+        }
+        return averages;
+    }
+
+    //#endregion
+
+    //#region Escritura
+
+    /**
+     * Registra el cambio de calificación de un feedback.
+     * @param instructorId ID del instructor de la sesión
+     * @param existing false si el feedback es nuevo
+     * @param previousRating Calificación anterior (null = sin calificación)
+     * @param newRating Calificación nueva (null = sin calificación)
+     */
+    @Transactional
+    public void recordRatingChange(Long instructorId, boolean existing, Integer previousRating, Integer newRating) {
+        if (existing && ratingBucket(previousRating) == ratingBucket(newRating)) {
+            return;
+        }
+        if (existing) {
+            aggregateRepository.applyDelta(instructorId, ratingBucket(previousRating), -1);
+        }
+        aggregateRepository.applyDelta(instructorId, ratingBucket(newRating), 1);
+    }
+
+    /**
+     * Registra la eliminación de un feedback
+     * @param instructorId ID del instructor de la sesión
+     * @param rating Calificación del feedback eliminado (null = sin calificación)
+     */
+    @Transactional
+    public void recordRatingRemoval(Long instructorId, Integer rating) {
+        aggregateRepository.applyDelta(instructorId, ratingBucket(rating), -1);
+    }
+
+    //#endregion
+
+    //#region Reconciliación
+
+    /**
+     * Recalcula todos los agregados desde la tabla feedback y corrige los que difieran
+     * (por ejemplo, feedbacks insertados por seeders que no pasan por FeedbackService).
+     * Una actualización concurrente entre la lectura y la escritura se corrige en la siguiente pasada.
+     * @return Cantidad de instructores corregidos
+     */
+    @Transactional
+    public int reconcile() {
+        Map<Long, RatingHistogram> actual = new HashMap<>();
+        for (Object[] row : feedbackRepository.countFeedbacksGroupedByInstructorAndRating()) {
+            Long instructorId = (Long) row[0];
+            int bucket = ratingBucket((Integer) row[1]);
+            long count = ((Number) row[2]).longValue();
+            actual.merge(instructorId, RatingHistogram.EMPTY.plus(bucket == 0 ? null : bucket, count), RatingHistogram::add);
+        }
+
+        int corrected = 0;
+        List<InstructorRatingAggregate> stored = aggregateRepository.findAll();
+        for (InstructorRatingAggregate aggregate : stored) {
+            RatingHistogram expected = actual.remove(aggregate.getInstructorId());
+            if (expected == null) {
+                expected = RatingHistogram.EMPTY;
+            }
+            if (!expected.equals(aggregate.toHistogram())) {
+                aggregate.apply(expected);
+                aggregateRepository.save(aggregate);
+                corrected++;
+            }
+        }
+        for (Map.Entry<Long, RatingHistogram> missing : actual.entrySet()) {
+            InstructorRatingAggregate aggregate = new InstructorRatingAggregate(missing.getKey());
+            aggregate.apply(missing.getValue());
+            aggregateRepository.save(aggregate);
+            corrected++;
+        }
+
+        return corrected;
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    /**
+     * 1..5 para calificaciones válidas, 0 para "sin calificación" (null o fuera de rango)
+     */
+    private static int ratingBucket(Integer rating) {
+        return rating == null || rating < 1 || rating > 5 ? 0 : rating;
+    }
+
+    //#endregion
+}
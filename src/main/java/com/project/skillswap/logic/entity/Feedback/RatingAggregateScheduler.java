@@ -0,0 +1,60 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Reconciliación periódica de los agregados de calificación con la tabla feedback.
+ * Se ejecuta al arrancar (después de los seeders) y luego cada hora, en una sola réplica a la vez.
+ */
+@Component
+public class RatingAggregateScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateScheduler.class);
+
+    @Autowired
+    private InstructorRatingService instructorRatingService;
+
+    @Autowired
+    private JobCoordinator jobCoordinator;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Cron: 0 30 * * * * = cada hora en el minuto 30
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void reconcileRatingAggregates() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        jobCoordinator.runExclusive("rating-aggregates-reconcile", Duration.ofMinutes(5), Duration.ofMinutes(10), this::reconcileNow);
+    }
+
+    private void reconcileNow() {
+        long start = System.currentTimeMillis();
+        try {
+            int corrected = instructorRatingService.reconcile();
+            if (corrected > 0) {
+                logger.warn("[RATINGS] Reconciliación corrigió {} agregados de instructor ({} ms)",
+                        corrected, System.currentTimeMillis() - start);
+            } else {
+                logger.info("[RATINGS] Agregados de calificación consistentes ({} ms)", System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            logger.error("[RATINGS] Error reconciliando agregados: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.skillswap.logic.entity.Feedback;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copia inmutable del histograma de calificaciones de un instructor.
+ * Es lo que se guarda en la caché en memoria de {@link InstructorRatingService}.
+ */
+public record RatingHistogram(
+        long oneStarCount,
+        long twoStarCount,
+        long threeStarCount,
+        long fourStarCount,
+        long fiveStarCount,
+        long unratedCount,
+        long ratingSum
+) {
+
+    public static final RatingHistogram EMPTY = new RatingHistogram(0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * Feedbacks con calificación (1..5)
+     */
+    public long ratedCount() {
+        return oneStarCount + twoStarCount + threeStarCount + fourStarCount + fiveStarCount;
+    }
+
+    /**
+     * Todos los feedbacks, incluidos los que solo tienen audio o comentario
+     */
+    public long totalReviews() {
+        return ratedCount() + unratedCount;
+    }
+
+    public double averageRating() {
+        long rated = ratedCount();
+        return rated == 0 ? 0.0 : (double) ratingSum / rated;
+    }
+
+    /**
+     * Suma un delta al contador del rating indicado (null = sin calificación)
+     */
+    public RatingHistogram plus(Integer rating, long delta) {
+        if (rating == null) {
+            return new RatingHistogram(oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount,
+                    unratedCount + delta, ratingSum);
+        }
+        return new RatingHistogram(
+                oneStarCount + (rating == 1 ? delta : 0),
+                twoStarCount + (rating == 2 ? delta : 0),
+                threeStarCount + (rating == 3 ? delta : 0),
+                fourStarCount + (rating == 4 ? delta : 0),
+                fiveStarCount + (rating == 5 ? delta : 0),
+                unratedCount,
+                ratingSum + rating * delta);
+    }
+
+    public RatingHistogram add(RatingHistogram other) {
+        return new RatingHistogram(
+                oneStarCount + other.oneStarCount,
+                twoStarCount + other.twoStarCount,
+                threeStarCount + other.threeStarCount,
+                fourStarCount + other.fourStarCount,
+                fiveStarCount + other.fiveStarCount,
+                unratedCount + other.unratedCount,
+                ratingSum + other.ratingSum);
+    }
+
+    /**
+     * Mapa con el mismo formato que devolvía el endpoint de estadísticas
+     */
+    public Map<String, Object> toStatsMap() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalReviews", totalReviews());
+        stats.put("averageRating", Math.round(averageRating() * 100.0) / 100.0);
+        stats.put("fiveStarCount", fiveStarCount);
+        stats.put("fourStarCount", fourStarCount);
+        stats.put("threeStarCount", threeStarCount);
+        stats.put("twoStarCount", twoStarCount);
+        stats.put("oneStarCount", oneStarCount);
+        return stats;
+    }
+}
@@ -8,14 +8,14 @@ import com.project.skillswap.logic.entity.Instructor.Instructor;
 import com.project.skillswap.logic.entity.Instructor.InstructorRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Test Seeder para crear feedbacks de prueba
@@ -25,7 +25,7 @@ import java.util.Optional;
  */
 @Order(9)
 @Component
-public class TestFeedbackSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class TestFeedbackSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(TestFeedbackSeeder.class);
 
     //#region Dependencies
@@ -48,9 +48,14 @@ public class TestFeedbackSeeder implements ApplicationListener<ContextRefreshedE
     }
     //#endregion
 
-    //#region Event Handling
+    //#region Startup Task
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(FeedbackSeeder.class);
+    }
+
+    @Override
+    public void run() {
         this.seedTestFeedbacks();
     }
     //#endregion
@@ -2,6 +2,7 @@ package com.project.skillswap.logic.entity.Instructor;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import jakarta.persistence.*;
@@ -13,6 +14,7 @@ import java.util.List;
         @Index(name = "idx_instructor_person", columnList = "person_id", unique = true)
 })
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Instructor {
     private static final Logger logger = LoggerFactory.getLogger(Instructor.class);
 
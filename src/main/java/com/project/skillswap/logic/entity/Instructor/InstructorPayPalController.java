@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.context.annotation.Lazy;
 
 import java.math.BigDecimal;
 import java.util.Map;
@@ -26,6 +27,7 @@ public class InstructorPayPalController {
     private InstructorRepository instructorRepository;
 
     @Autowired
+    @Lazy
     private InstructorPayPalService instructorPayPalService;
 
     /**
@@ -1,8 +1,7 @@
 package com.project.skillswap.logic.entity.Knowledgearea;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -12,7 +11,7 @@ import java.util.Optional;
 
 @Order(2)
 @Component
-public class KnowledgeAreaSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class KnowledgeAreaSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(KnowledgeAreaSeeder.class);
 
     private final KnowledgeAreaRepository knowledgeAreaRepository;
@@ -22,7 +21,7 @@ public class KnowledgeAreaSeeder implements ApplicationListener<ContextRefreshed
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         this.seedKnowledgeAreas();
     }
 
@@ -1,11 +1,24 @@
 package com.project.skillswap.logic.entity.Learner;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LearnerRepository extends JpaRepository<Learner, Long> {
     Optional<Learner> findByPersonId(Long personId);
-}
\ No newline at end of file
+
+    @Query("SELECT MIN(l.id) FROM Learner l")
+    Long findMinId();
+
+    @Query("SELECT MAX(l.id) FROM Learner l")
+    Long findMaxId();
+
+    /**
+     * Learners de un rango de IDs (inclusive), usado por los jobs repartidos en shards
+     */
+    List<Learner> findByIdBetweenOrderByIdAsc(Long fromId, Long toId);
+}
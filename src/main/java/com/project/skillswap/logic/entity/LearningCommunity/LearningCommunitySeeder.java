@@ -4,16 +4,17 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Person.PersonSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.Set;
 
 @Order(11)
 @Component
-public class LearningCommunitySeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class LearningCommunitySeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(LearningCommunitySeeder.class);
 
     private final LearningCommunityRepository learningCommunityRepository;
@@ -27,7 +28,12 @@ public class LearningCommunitySeeder implements ApplicationListener<ContextRefre
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(PersonSeeder.class);
+    }
+
+    @Override
+    public void run() {
         if (learningCommunityRepository.count() > 0) {
             logger.info("LearningCommunitySeeder: Ya existen comunidades, omitiendo seed");
             return;
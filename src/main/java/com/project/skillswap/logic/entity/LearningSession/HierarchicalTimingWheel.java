@@ -0,0 +1,244 @@
+package com.project.skillswap.logic.entity.LearningSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rueda de tiempo jerárquica (Varghese y Lauck) para vencimientos por tick.
+ *
+ * Hay LEVELS ruedas de WHEEL_SIZE ranuras; el nivel l cubre 64^(l+1) ticks. Un vencimiento se
+ * coloca en el nivel más bajo que lo alcanza y baja de nivel (cascada) cuando el reloj llega a
+ * su periodo, así que insertar y cancelar son O(1) y avanzar un tick solo toca una ranura.
+ * Los vencimientos más allá del horizonte (64^4 ticks) quedan en una lista de desborde que se
+ * revisa cada vez que avanza la rueda superior.
+ *
+ * Los métodos son seguros entre hilos; el avance lo hace un solo hilo.
+ *
+ * @param <T> Dato asociado a cada vencimiento
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Bucket<T>[][] wheels;
+    private final Bucket<T> overflow = new Bucket<>();
+    private final Bucket<T> due = new Bucket<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        // Java no crea arreglos de un tipo genérico; el arreglo no sale de la clase y solo guarda Bucket<T>
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Bucket<T>[][] buckets = new Bucket[LEVELS][WHEEL_SIZE];
+        this.wheels = buckets;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    //#region API
+
+    /**
+     * Programa un vencimiento. Si la fecha ya pasó, se entrega en el próximo avance.
+     * @param deadlineMillis Fecha de vencimiento (epoch millis)
+     * @param payload Dato que se devuelve al vencer
+     * @return Referencia para cancelarlo
+     */
+    public Timeout<T> schedule(long deadlineMillis, T payload) {
+        Timeout<T> timeout = new Timeout<>(this, Math.floorDiv(deadlineMillis, tickMillis), payload);
+        lock.lock();
+        try {
+            place(timeout);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Avanza el reloj hasta nowMillis y devuelve lo que venció, en orden de tick
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            drain(due, expired);
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                drain(wheels[0][(int) (currentTick & WHEEL_MASK)], expired);
+                drain(due, expired);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return expired;
+    }
+
+    /**
+     * Vencimientos pendientes
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    private boolean cancel(Timeout<T> timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucket == null) {
+                return false;
+            }
+            timeout.bucket.unlink(timeout);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Coloca el vencimiento en el nivel más bajo cuyo rango lo alcanza
+     */
+    private void place(Timeout<T> timeout) {
+        long deadline = timeout.deadlineTick;
+        if (deadline <= currentTick) {
+            due.link(timeout);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            if ((deadline >> shift) - (currentTick >> shift) < WHEEL_SIZE) {
+                wheels[level][(int) ((deadline >> shift) & WHEEL_MASK)].link(timeout);
+                return;
+            }
+        }
+        overflow.link(timeout);
+    }
+
+    /**
+     * Al entrar en un nuevo periodo de un nivel, su ranura baja a los niveles inferiores
+     */
+    private void cascade() {
+        if ((currentTick & ((1L << ((LEVELS - 1) * WHEEL_BITS)) - 1)) == 0) {
+            reinsert(overflow);
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = level * WHEEL_BITS;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                reinsert(wheels[level][(int) ((currentTick >> shift) & WHEEL_MASK)]);
+            }
+        }
+    }
+
+    /**
+     * Se vacía la ranura antes de recolocar: un vencimiento del desborde puede volver a ella
+     */
+    private void reinsert(Bucket<T> bucket) {
+        List<Timeout<T>> pending = new ArrayList<>();
+        Timeout<T> timeout = bucket.head.next;
+        while (timeout != bucket.head) {
+            Timeout<T> next = timeout.next;
+            bucket.unlink(timeout);
+            pending.add(timeout);
+            timeout = next;
+        }
+        for (Timeout<T> moved : pending) {
+            place(moved);
+        }
+    }
+
+    private void drain(Bucket<T> bucket, List<T> expired) {
+        Timeout<T> timeout = bucket.head.next;
+        while (timeout != bucket.head) {
+            Timeout<T> next = timeout.next;
+            bucket.unlink(timeout);
+            size--;
+            expired.add(timeout.payload);
+            timeout = next;
+        }
+    }
+
+    //#endregion
+
+    //#region Tipos
+
+    /**
+     * Vencimiento programado; se puede cancelar en O(1) mientras no haya vencido
+     */
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final long deadlineTick;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, long deadlineTick, T payload) {
+            this.wheel = wheel;
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        /**
+         * @return false si ya había vencido o se había cancelado
+         */
+        public boolean cancel() {
+            return wheel != null && wheel.cancel(this);
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada con centinela
+     */
+    private static final class Bucket<T> {
+        private final Timeout<T> head = new Timeout<>(null, 0, null);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void link(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        private void unlink(Timeout<T> timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    //#endregion
+}
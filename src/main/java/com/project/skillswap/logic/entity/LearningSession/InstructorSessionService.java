@@ -36,6 +36,9 @@ public class InstructorSessionService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private SessionLifecycleScheduler sessionLifecycleScheduler;
+
     //#endregion
 
     //#region List Sessions
@@ -122,6 +125,7 @@ public class InstructorSessionService {
         Map<String, Object> changes = applyChanges(session, request);
 
         LearningSession updatedSession = sessionRepository.save(session);
+        sessionLifecycleScheduler.schedule(updatedSession);
 
         return new SessionUpdateResponse(
                 updatedSession.getId(),
@@ -2,6 +2,7 @@
 package com.project.skillswap.logic.entity.LearningSession;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.project.skillswap.logic.entity.Instructor.Instructor;
 import com.project.skillswap.logic.entity.Skill.Skill;
@@ -33,12 +34,12 @@ public class LearningSession {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "instructor_id", referencedColumnName = "id", nullable = false)
     @JsonIgnoreProperties({"learningSessions", "person.instructor", "person.learner"})
     private Instructor instructor;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "skill_id", referencedColumnName = "id", nullable = false)
     @JsonIgnoreProperties({"learningSessions", "instructorSkills"})
     private Skill skill;
@@ -101,6 +102,15 @@ public class LearningSession {
     @Column(name = "full_text", columnDefinition = "TEXT")
     private String fullText;
 
+    // Conteos calculados al guardar la transcripción, para no recorrer el texto en cada descarga
+    @JsonIgnore
+    @Column(name = "transcript_word_count")
+    private Integer transcriptWordCount;
+
+    @JsonIgnore
+    @Column(name = "transcript_char_count")
+    private Integer transcriptCharCount;
+
     @Column(name = "duration_seconds")
     private Integer durationSeconds;
 
@@ -326,6 +336,42 @@ public class LearningSession {
 
     public void setFullText(String fullText) {
         this.fullText = fullText;
+        this.transcriptWordCount = fullText != null ? countWords(fullText) : null;
+        this.transcriptCharCount = fullText != null ? fullText.length() : null;
+    }
+
+    /**
+     * Palabras de la transcripción. Para sesiones transcritas antes de existir la columna se calcula al vuelo.
+     */
+    public int getTranscriptWordCount() {
+        if (transcriptWordCount != null) {
+            return transcriptWordCount;
+        }
+        return fullText != null ? countWords(fullText) : 0;
+    }
+
+    public int getTranscriptCharCount() {
+        if (transcriptCharCount != null) {
+            return transcriptCharCount;
+        }
+        return fullText != null ? fullText.length() : 0;
+    }
+
+    /**
+     * Cuenta palabras separadas por espacios sin crear el arreglo de split("\\s+")
+     */
+    public static int countWords(CharSequence text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                words++;
+            }
+        }
+        return words;
     }
 
     public Integer getDurationSeconds() {
@@ -1,8 +1,11 @@
 package com.project.skillswap.logic.entity.LearningSession;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,79 +19,44 @@ public interface LearningSessionRepository extends JpaRepository<LearningSession
 
     //<editor-fold desc="Available Sessions Queries">
     /**
-     * Obtiene todas las sesiones que están programadas (SCHEDULED)
-     * o que están activas y comenzaron hace menos de 5 minutos
-     * INCLUYE: instructor, person, skill, knowledgeArea y bookings
+     * Catálogo de sesiones disponibles: programadas a futuro o activas que comenzaron
+     * hace menos de 5 minutos, filtradas opcionalmente por categoría (KnowledgeArea) e idioma.
+     * Los cupos confirmados se cuentan en la misma consulta.
      */
-    @Query("SELECT DISTINCT ls FROM LearningSession ls "+
-            "LEFT JOIN FETCH ls.instructor i "+
-            "LEFT JOIN FETCH i.person p "+
-            "LEFT JOIN FETCH ls.skill s "+
-            "LEFT JOIN FETCH s.knowledgeArea ka "+
-            "LEFT JOIN FETCH ls.bookings b "+
-            "WHERE (ls.status='SCHEDULED' AND ls.scheduledDatetime>:currentDate) "+
-            "OR (ls.status='ACTIVE' AND ls.scheduledDatetime>=:fiveMinutesAgo) "+
-            "ORDER BY ls.scheduledDatetime ASC")
-    List<LearningSession> findAvailableSessions(
-            @Param("currentDate") Date currentDate,
-            @Param("fiveMinutesAgo") Date fiveMinutesAgo
-    );
-    //</editor-fold>
-
-    //<editor-fold desc="Filtered Sessions Queries">
-    /**
-     * Filtra sesiones disponibles por categoría (KnowledgeArea)
-     */
-    @Query("SELECT DISTINCT ls FROM LearningSession ls "+
-            "LEFT JOIN FETCH ls.instructor i "+
-            "LEFT JOIN FETCH i.person p "+
-            "LEFT JOIN FETCH ls.skill s "+
-            "LEFT JOIN FETCH s.knowledgeArea ka "+
-            "LEFT JOIN FETCH ls.bookings b "+
-            "WHERE ((ls.status='SCHEDULED' AND ls.scheduledDatetime>:currentDate) "+
-            "OR (ls.status='ACTIVE' AND ls.scheduledDatetime>=:fiveMinutesAgo)) "+
-            "AND ka.id=:categoryId "+
-            "ORDER BY ls.scheduledDatetime ASC")
-    List<LearningSession> findSessionsByCategory(
-            @Param("currentDate") Date currentDate,
-            @Param("fiveMinutesAgo") Date fiveMinutesAgo,
-            @Param("categoryId") Long categoryId
-    );
-
-    /**
-     * Filtra sesiones disponibles por idioma
-     */
-    @Query("SELECT DISTINCT ls FROM LearningSession ls "+
-            "LEFT JOIN FETCH ls.instructor i "+
-            "LEFT JOIN FETCH i.person p "+
-            "LEFT JOIN FETCH ls.skill s "+
-            "LEFT JOIN FETCH s.knowledgeArea ka "+
-            "LEFT JOIN FETCH ls.bookings b "+
-            "WHERE ((ls.status='SCHEDULED' AND ls.scheduledDatetime>:currentDate) "+
-            "OR (ls.status='ACTIVE' AND ls.scheduledDatetime>=:fiveMinutesAgo)) "+
-            "AND ls.language=:language "+
-            "ORDER BY ls.scheduledDatetime ASC")
-    List<LearningSession> findSessionsByLanguage(
-            @Param("currentDate") Date currentDate,
-            @Param("fiveMinutesAgo") Date fiveMinutesAgo,
-            @Param("language") String language
-    );
-
-    /**
-     * Filtra sesiones disponibles por categoría Y idioma
-     */
-    @Query("SELECT DISTINCT ls FROM LearningSession ls "+
-            "LEFT JOIN FETCH ls.instructor i "+
-            "LEFT JOIN FETCH i.person p "+
-            "LEFT JOIN FETCH ls.skill s "+
-            "LEFT JOIN FETCH s.knowledgeArea ka "+
-            "LEFT JOIN FETCH ls.bookings b "+
-            "WHERE ((ls.status='SCHEDULED' AND ls.scheduledDatetime>:currentDate) "+
-            "OR (ls.status='ACTIVE' AND ls.scheduledDatetime>=:fiveMinutesAgo)) "+
-            "AND ka.id=:categoryId "+
-            "AND ls.language=:language "+
-            "ORDER BY ls.scheduledDatetime ASC")
-    List<LearningSession> findSessionsByCategoryAndLanguage(
+    @Query("""
+    SELECT new com.project.skillswap.logic.entity.LearningSession.SessionCatalogItem(
+        ls.id,
+        ls.title,
+        ls.description,
+        ls.scheduledDatetime,
+        ls.durationMinutes,
+        ls.type,
+        ls.status,
+        ls.maxCapacity,
+        ls.isPremium,
+        ls.skillcoinsCost,
+        ls.language,
+        i.id,
+        p.fullName,
+        p.profilePhotoUrl,
+        s.id,
+        s.name,
+        ka.id,
+        ka.name,
+        (SELECT COUNT(b.id) FROM Booking b WHERE b.learningSession.id=ls.id AND b.status='CONFIRMED')
+    )
+    FROM LearningSession ls
+    INNER JOIN ls.instructor i
+    INNER JOIN i.person p
+    INNER JOIN ls.skill s
+    LEFT JOIN s.knowledgeArea ka
+    WHERE ((ls.status='SCHEDULED' AND ls.scheduledDatetime>:currentDate)
+    OR (ls.status='ACTIVE' AND ls.scheduledDatetime>=:fiveMinutesAgo))
+    AND (:categoryId IS NULL OR ka.id=:categoryId)
+    AND (:language IS NULL OR ls.language=:language)
+    ORDER BY ls.scheduledDatetime ASC
+""")
+    List<SessionCatalogItem> findCatalog(
             @Param("currentDate") Date currentDate,
             @Param("fiveMinutesAgo") Date fiveMinutesAgo,
             @Param("categoryId") Long categoryId,
@@ -158,13 +126,36 @@ public interface LearningSessionRepository extends JpaRepository<LearningSession
      * Obtiene el historial de sesiones para un SkillSeeker (estudiante).
      * Retorna sesiones completadas o canceladas en las que el estudiante participó.
      */
-    @Query("""
-        SELECT DISTINCT ls FROM LearningSession ls
+    @Query(value = """
+        SELECT DISTINCT new com.project.skillswap.logic.entity.LearningSession.SessionHistoryItem(
+            ls.id,
+            ls.title,
+            ls.description,
+            ls.scheduledDatetime,
+            ls.durationMinutes,
+            ls.status,
+            ls.language,
+            ls.isPremium,
+            i.id,
+            p.fullName,
+            s.name,
+            ka.name
+        )
+        FROM LearningSession ls
         INNER JOIN Booking b ON b.learningSession.id=ls.id
+        INNER JOIN ls.instructor i
+        INNER JOIN i.person p
+        INNER JOIN ls.skill s
+        LEFT JOIN s.knowledgeArea ka
         WHERE b.learner.id=:learnerId
         ORDER BY ls.scheduledDatetime DESC
+        """,
+            countQuery = """
+        SELECT COUNT(DISTINCT ls.id) FROM LearningSession ls
+        INNER JOIN Booking b ON b.learningSession.id=ls.id
+        WHERE b.learner.id=:learnerId
         """)
-    Page<LearningSession> findHistoricalSessionsByLearnerId(@Param("learnerId") Long learnerId, Pageable pageable);
+    Page<SessionHistoryItem> findHistoricalSessionsByLearnerId(@Param("learnerId") Long learnerId, Pageable pageable);
 
     /**
      * Encuentra sesiones programadas en un rango de fechas (para alertas semanales)
@@ -200,5 +191,54 @@ public interface LearningSessionRepository extends JpaRepository<LearningSession
      * Encuentra sesiones de un instructor
      */
     List<LearningSession> findByInstructorId(Long instructorId);
+    
+    /**
+     * Metadatos de la transcripción sin cargar el texto (LENGTH se calcula en la base), con el
+     * título, el instructor y la habilidad del encabezado.
+     * Alcanza para calcular el ETag de las descargas y responder 304 sin leer full_text.
+     */
+    @Query("SELECT s.id AS id, s.processingDate AS processingDate, LENGTH(s.fullText) AS textLength, " +
+            "s.title AS title, p.fullName AS instructorName, sk.name AS skillName, s.durationSeconds AS durationSeconds " +
+            "FROM LearningSession s LEFT JOIN s.instructor i LEFT JOIN i.person p LEFT JOIN s.skill sk " +
+            "WHERE s.id = :sessionId")
+    Optional<TranscriptMetadata> findTranscriptMetadata(@Param("sessionId") Long sessionId);
+    //</editor-fold>
+
+    //<editor-fold desc="Lifecycle Queries">
+    /**
+     * Inicio, duración y estado de las sesiones que aún tienen transiciones pendientes.
+     * Solo se usa para reconstruir la rueda de tiempo al arrancar y en su resincronización periódica.
+     * Cada fila es [id, status, scheduledDatetime, durationMinutes].
+     */
+    @Query("SELECT ls.id, ls.status, ls.scheduledDatetime, ls.durationMinutes FROM LearningSession ls " +
+            "WHERE ls.status IN :statuses")
+    List<Object[]> findLifecycleSchedule(@Param("statuses") List<SessionStatus> statuses);
+
+    /**
+     * Lee la sesión con SELECT ... FOR UPDATE. Quien toma cupos (reserva directa, grupal o
+     * promoción de la lista de espera) la bloquea antes de contar los confirmados, así que dos
+     * transacciones en cualquier réplica no pueden pasar el mismo conteo.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ls FROM LearningSession ls WHERE ls.id = :id")
+    Optional<LearningSession> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Cambia el estado solo si la sesión sigue en alguno de los estados esperados y con el inicio
+     * y la duración con que se programó el vencimiento: un vencimiento viejo (la sesión se
+     * reprogramó en otra réplica) no cambia nada. El inicio se compara dentro de un rango para
+     * tolerar la precisión de la columna.
+     * Con varias réplicas, todas disparan la transición pero solo una obtiene 1 fila afectada.
+     */
+    @Modifying
+    @Query("UPDATE LearningSession ls SET ls.status = :target WHERE ls.id = :id AND ls.status IN :expected " +
+            "AND ls.scheduledDatetime BETWEEN :scheduledFrom AND :scheduledTo " +
+            "AND COALESCE(ls.durationMinutes, 0) = :durationMinutes")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") List<SessionStatus> expected,
+                         @Param("target") SessionStatus target,
+                         @Param("scheduledFrom") Date scheduledFrom,
+                         @Param("scheduledTo") Date scheduledTo,
+                         @Param("durationMinutes") int durationMinutes);
     //</editor-fold>
-}
\ No newline at end of file
+}
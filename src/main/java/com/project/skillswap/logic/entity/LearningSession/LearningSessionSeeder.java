@@ -6,17 +6,19 @@ import com.project.skillswap.logic.entity.Instructor.Instructor;
 import com.project.skillswap.logic.entity.Instructor.InstructorRepository;
 import com.project.skillswap.logic.entity.Skill.Skill;
 import com.project.skillswap.logic.entity.Skill.SkillRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Person.PersonSeeder;
+import com.project.skillswap.logic.entity.Skill.SkillSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.Set;
 
 @Order(5)
 @Component
-public class LearningSessionSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class LearningSessionSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(LearningSessionSeeder.class);
 
     private final LearningSessionRepository learningSessionRepository;
@@ -33,7 +35,12 @@ public class LearningSessionSeeder implements ApplicationListener<ContextRefresh
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(PersonSeeder.class, SkillSeeder.class);
+    }
+
+    @Override
+    public void run() {
         if (learningSessionRepository.count() > 0) {
             logger.info("LearningSessionSeeder: Ya existen sesiones, omitiendo seed");
             return;
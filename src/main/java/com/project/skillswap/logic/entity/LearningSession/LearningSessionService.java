@@ -1,6 +1,7 @@
 package com.project.skillswap.logic.entity.LearningSession;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.Feedback.InstructorRatingService;
 import com.project.skillswap.logic.entity.Instructor.Instructor;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Skill.Skill;
@@ -34,6 +35,12 @@ public class LearningSessionService {
     @Autowired
     private SessionEmailService sessionEmailService;
 
+    @Autowired
+    private InstructorRatingService instructorRatingService;
+
+    @Autowired
+    private SessionLifecycleScheduler sessionLifecycleScheduler;
+
     @Value("${app.frontend.url}")
     private String frontendBaseUrl;
     //#endregion
@@ -55,14 +62,31 @@ public class LearningSessionService {
     /**
      * Obtiene todas las sesiones disponibles (SCHEDULED o ACTIVE recientes)
      *
-     * @return Lista de sesiones disponibles
+     * @return Catálogo de sesiones disponibles
      */
     @Transactional(readOnly = true)
-    public List<LearningSession> getAvailableSessions() {
-        Date currentDate = new Date();
-        Date fiveMinutesAgo = getFiveMinutesAgo(currentDate);
+    public List<SessionCatalogItem> getAvailableSessions() {
+        return getFilteredSessions(null, null);
+    }
+
+    /**
+     * Ordena sesiones por calificación promedio del instructor (mayor primero).
+     * Usa los agregados de calificación, así que no consulta la tabla feedback.
+     *
+     * @param sessions Sesiones a ordenar
+     * @return Nueva lista ordenada; a igual calificación se conserva el orden original
+     */
+    public List<SessionCatalogItem> sortByInstructorRating(List<SessionCatalogItem> sessions) {
+        Set<Long> instructorIds = new HashSet<>();
+        for (SessionCatalogItem session : sessions) {
+            instructorIds.add(session.instructorId());
+        }
+        Map<Long, Double> averages = instructorRatingService.getAverageRatings(instructorIds);
 
-        return learningSessionRepository.findAvailableSessions(currentDate, fiveMinutesAgo);
+        List<SessionCatalogItem> sorted = new ArrayList<>(sessions);
+        sorted.sort(Comparator.comparingDouble(
+                (SessionCatalogItem session) -> averages.getOrDefault(session.instructorId(), 0.0)).reversed());
+        return sorted;
     }
 
     /**
@@ -70,32 +94,19 @@ public class LearningSessionService {
      *
      * @param categoryId ID de la categoría (opcional)
      * @param language Idioma de la sesión (opcional)
-     * @return Lista de sesiones filtradas
+     * @return Catálogo de sesiones filtradas
      */
     @Transactional(readOnly = true)
-    public List<LearningSession> getFilteredSessions(Long categoryId, String language) {
+    public List<SessionCatalogItem> getFilteredSessions(Long categoryId, String language) {
         Date currentDate = new Date();
         Date fiveMinutesAgo = getFiveMinutesAgo(currentDate);
 
-        if (categoryId != null && language != null && !language.isEmpty()) {
-            return learningSessionRepository.findSessionsByCategoryAndLanguage(
-                    currentDate, fiveMinutesAgo, categoryId, language
-            );
-        }
-
-        if (categoryId != null) {
-            return learningSessionRepository.findSessionsByCategory(
-                    currentDate, fiveMinutesAgo, categoryId
-            );
-        }
-
-        if (language != null && !language.isEmpty()) {
-            return learningSessionRepository.findSessionsByLanguage(
-                    currentDate, fiveMinutesAgo, language
-            );
-        }
-
-        return getAvailableSessions();
+        return learningSessionRepository.findCatalog(
+                currentDate,
+                fiveMinutesAgo,
+                categoryId,
+                language != null && !language.isEmpty() ? language : null
+        );
     }
 
     /**
@@ -211,6 +222,8 @@ public class LearningSessionService {
             logger.info(" [LearningSessionService] Video call link was missing, assigned: " + videoCallLink);
         }
 
+        sessionLifecycleScheduler.schedule(publishedSession);
+
         // Enviar email de confirmación
         try {
             boolean emailSent = sessionEmailService.sendSessionCreationEmail(
@@ -268,6 +281,7 @@ public class LearningSessionService {
         session.setCancelledByInstructorId(authenticatedPerson.getInstructor().getId());
 
         LearningSession cancelledSession = learningSessionRepository.save(session);
+        sessionLifecycleScheduler.unschedule(sessionId);
 
         logger.info(String.format(
                 " [SUCCESS] Session %d cancelled by instructor %d. Participants to notify: %d",
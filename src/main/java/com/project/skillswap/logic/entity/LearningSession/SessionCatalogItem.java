@@ -0,0 +1,48 @@
+package com.project.skillswap.logic.entity.LearningSession;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Fila del catálogo de sesiones disponibles.
+ * Se arma con una expresión constructora en {@link LearningSessionRepository#findCatalog},
+ * así que el listado completo es una sola consulta y no serializa el grafo de entidades.
+ */
+public record SessionCatalogItem(
+        Long id,
+        String title,
+        String description,
+        Date scheduledDatetime,
+        Integer durationMinutes,
+        SessionType type,
+        SessionStatus status,
+        Integer maxCapacity,
+        Boolean isPremium,
+        BigDecimal skillcoinsCost,
+        String language,
+        Long instructorId,
+        String instructorName,
+        String instructorPhotoUrl,
+        Long skillId,
+        String skillName,
+        Long knowledgeAreaId,
+        String knowledgeAreaName,
+        Integer confirmedBookings,
+        Integer availableSpots
+) {
+
+    public SessionCatalogItem(Long id, String title, String description, Date scheduledDatetime,
+                              Integer durationMinutes, SessionType type, SessionStatus status,
+                              Integer maxCapacity, Boolean isPremium, BigDecimal skillcoinsCost,
+                              String language, Long instructorId, String instructorName,
+                              String instructorPhotoUrl, Long skillId, String skillName,
+                              Long knowledgeAreaId, String knowledgeAreaName, Long confirmedBookings) {
+        this(id, title, description, scheduledDatetime, durationMinutes, type, status, maxCapacity,
+                isPremium, skillcoinsCost, language, instructorId, instructorName, instructorPhotoUrl,
+                skillId, skillName, knowledgeAreaId, knowledgeAreaName,
+                confirmedBookings != null ? confirmedBookings.intValue() : 0,
+                maxCapacity != null
+                        ? maxCapacity - (confirmedBookings != null ? confirmedBookings.intValue() : 0)
+                        : 0);
+    }
+}
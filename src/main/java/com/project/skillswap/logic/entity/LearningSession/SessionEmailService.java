@@ -2,7 +2,7 @@ package com.project.skillswap.logic.entity.LearningSession;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.Notification.Notification;
-import com.project.skillswap.logic.entity.Notification.NotificationRepository;
+import com.project.skillswap.logic.entity.Notification.NotificationService;
 import com.project.skillswap.logic.entity.Notification.NotificationType;
 import com.project.skillswap.logic.entity.Person.Person;
 import jakarta.mail.internet.MimeMessage;
@@ -20,7 +20,7 @@ public class SessionEmailService {
     private static final Logger logger = LoggerFactory.getLogger(SessionEmailService.class);
 
     private final JavaMailSender mailSender;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
 
     @Value("${mail.from:${spring.mail.username}}")
     private String from;
@@ -31,9 +31,9 @@ public class SessionEmailService {
     @Autowired
     public SessionEmailService(
             JavaMailSender mailSender,
-            NotificationRepository notificationRepository) {
+            NotificationService notificationService) {
         this.mailSender = mailSender;
-        this.notificationRepository = notificationRepository;
+        this.notificationService = notificationService;
     }
 
     public boolean sendSessionCreationEmail(LearningSession session, Person instructor) {
@@ -239,8 +239,8 @@ public class SessionEmailService {
         String downloadTxtLink = "http://localhost:8080/videocall/transcription/" + session.getId() + "/download-txt";
         String downloadPdfLink = "http://localhost:8080/videocall/transcription/" + session.getId() + "/download-pdf";
 
-        int wordCount = session.getFullText() != null ? session.getFullText().split("\\s+").length : 0;
-        int charCount = session.getFullText() != null ? session.getFullText().length() : 0;
+        int wordCount = session.getTranscriptWordCount();
+        int charCount = session.getTranscriptCharCount();
         int durationMinutes = session.getDurationSeconds() != null ? session.getDurationSeconds() / 60 : 0;
 
         String preview = "";
@@ -407,7 +407,7 @@ public class SessionEmailService {
             notification.setTitle(eventType + " - " + session.getTitle());
             notification.setMessage("Email enviado exitosamente para la sesión #" + session.getId());
             notification.setRead(false);
-            notificationRepository.save(notification);
+            notificationService.publish(notification);
         } catch (Exception e) {
             logger.info(" Error registrando notificación: " + e.getMessage());
         }
@@ -421,7 +421,7 @@ public class SessionEmailService {
             notification.setTitle("Email no enviado - " + eventType);
             notification.setMessage("Razón: " + reason);
             notification.setRead(false);
-            notificationRepository.save(notification);
+            notificationService.publish(notification);
         } catch (Exception e) {
             logger.info(" Error registrando notificación fallida: " + e.getMessage());
         }
@@ -0,0 +1,23 @@
+package com.project.skillswap.logic.entity.LearningSession;
+
+import java.util.Date;
+
+/**
+ * Sesión del historial de un SkillSeeker, con los datos del instructor y la habilidad ya aplanados.
+ * Se arma en {@link LearningSessionRepository#findHistoricalSessionsByLearnerId}.
+ */
+public record SessionHistoryItem(
+        Long id,
+        String title,
+        String description,
+        Date scheduledDatetime,
+        Integer durationMinutes,
+        SessionStatus status,
+        String language,
+        Boolean isPremium,
+        Long instructorId,
+        String instructorName,
+        String skillName,
+        String knowledgeAreaName
+) {
+}
@@ -0,0 +1,365 @@
+package com.project.skillswap.logic.entity.LearningSession;
+
+import com.project.skillswap.logic.entity.Booking.BookingRepository;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
+import com.project.skillswap.logic.entity.videocall.RecordingService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ciclo de vida de las sesiones dirigido por tiempo.
+ *
+ * Cada sesión SCHEDULED o ACTIVE tiene hasta dos vencimientos en una {@link HierarchicalTimingWheel}:
+ * - START: a la hora programada pasa de SCHEDULED a ACTIVE.
+ * - FINISH: al terminar la duración más session.lifecycle.finish-grace-minutes pasa a FINISHED,
+ *   detiene la grabación si quedó abierta y, si ya hay transcripción sin procesar,
+ *   ejecuta SessionCompletionService.
+ *
+ * La rueda se reconstruye desde la base al arrancar y se actualiza cuando confirma la transacción
+ * que publica, edita o cancela en esta réplica. Los cambios confirmados en otra réplica se
+ * recogen cada session.lifecycle.resync-ms, cuando la rueda se compara con la base.
+ * La sala de espera no tiene vencimiento: VideoCallService la calcula con la fila de la sesión.
+ * Cada transición es un UPDATE condicionado al estado esperado y al inicio y la duración con que
+ * se programó: un vencimiento viejo no hace nada y, con varias réplicas, solo la que cambia el
+ * estado completa la sesión.
+ */
+@Component
+public class SessionLifecycleScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(SessionLifecycleScheduler.class);
+
+    private static final long TICK_MILLIS = 1000;
+    // Margen al comparar scheduled_datetime: la columna puede no guardar milisegundos
+    private static final long SCHEDULE_TOLERANCE_MILLIS = 1000;
+
+    //#region Dependencies
+    @Autowired
+    private LearningSessionRepository learningSessionRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    @Lazy
+    private SessionCompletionService sessionCompletionService;
+
+    @Autowired
+    @Lazy
+    private RecordingService recordingService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobCoordinator jobCoordinator;
+
+    @Value("${session.lifecycle.finish-grace-minutes:15}")
+    private long finishGraceMinutes;
+    //#endregion
+
+    private final HierarchicalTimingWheel<Transition> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    private final Map<Long, Map<TransitionType, HierarchicalTimingWheel.Timeout<Transition>>> timers = new ConcurrentHashMap<>();
+    // Sesiones reprogramadas en esta réplica mientras corre una resincronización; esta no las toca
+    private final Set<Long> changedDuringResync = ConcurrentHashMap.newKeySet();
+    private volatile ScheduledExecutorService ticker;
+
+    //#region Arranque
+
+    /**
+     * Carga las sesiones pendientes y empieza a avanzar la rueda cada segundo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Object[]> pending = learningSessionRepository.findLifecycleSchedule(
+                List.of(SessionStatus.SCHEDULED, SessionStatus.ACTIVE));
+        for (Object[] row : pending) {
+            schedule((Long) row[0], (SessionStatus) row[1], (Date) row[2], (Integer) row[3]);
+        }
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+        logger.info("========================================");
+        logger.info(" CICLO DE VIDA DE SESIONES INICIADO");
+        logger.info("   Sesiones cargadas: " + pending.size());
+        logger.info("   Vencimientos programados: " + wheel.size());
+        logger.info("========================================");
+    }
+
+    /**
+     * Compara la rueda con la base y corrige lo que otra réplica reprogramó o canceló.
+     * Cada réplica tiene su propia rueda, así que el lease en job_lease es por nodo: evita dos
+     * resincronizaciones a la vez y deja el historial en job_run.
+     */
+    @Scheduled(fixedDelayString = "${session.lifecycle.resync-ms:300000}")
+    public void resync() {
+        if (ticker == null) {
+            return;
+        }
+        jobCoordinator.runExclusive("session-lifecycle-resync:" + jobCoordinator.getNodeId(),
+                Duration.ofMinutes(2), Duration.ofSeconds(30), this::resyncNow);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    //#endregion
+
+    //#region API
+
+    /**
+     * (Re)programa las transiciones de una sesión según su estado, inicio y duración.
+     * Se llama al publicar o editar una sesión; reemplaza lo programado antes.
+     * Dentro de una transacción se aplica cuando confirma, con los valores de este momento.
+     */
+    public void schedule(LearningSession session) {
+        Long sessionId = session.getId();
+        SessionStatus status = session.getStatus();
+        Date scheduledDatetime = session.getScheduledDatetime();
+        Integer durationMinutes = session.getDurationMinutes();
+        afterCommit(() -> schedule(sessionId, status, scheduledDatetime, durationMinutes));
+    }
+
+    /**
+     * Cancela las transiciones pendientes de una sesión (por ejemplo, al cancelarla).
+     * Dentro de una transacción se aplica cuando confirma.
+     */
+    public void unschedule(Long sessionId) {
+        afterCommit(() -> cancelTimers(sessionId));
+    }
+    //#endregion
+
+    //#region Privados
+
+    private void resyncNow() {
+        changedDuringResync.clear();
+        List<Object[]> pending = learningSessionRepository.findLifecycleSchedule(
+                List.of(SessionStatus.SCHEDULED, SessionStatus.ACTIVE));
+
+        Set<Long> current = new HashSet<>();
+        int rescheduled = 0;
+        for (Object[] row : pending) {
+            Long sessionId = (Long) row[0];
+            current.add(sessionId);
+            SessionStatus status = (SessionStatus) row[1];
+            Date scheduledDatetime = (Date) row[2];
+            Integer durationMinutes = (Integer) row[3];
+            if (!changedDuringResync.contains(sessionId)
+                    && !matches(timers.get(sessionId), status, scheduledDatetime, durationMinutes)) {
+                schedule(sessionId, status, scheduledDatetime, durationMinutes);
+                rescheduled++;
+            }
+        }
+
+        int cancelled = 0;
+        for (Long sessionId : timers.keySet()) {
+            if (!current.contains(sessionId) && !changedDuringResync.contains(sessionId)) {
+                cancelTimers(sessionId);
+                cancelled++;
+            }
+        }
+
+        if (rescheduled > 0 || cancelled > 0) {
+            logger.info("[LIFECYCLE] Rueda resincronizada: " + rescheduled + " sesiones reprogramadas, "
+                    + cancelled + " canceladas");
+        }
+    }
+
+    /**
+     * La rueda ya tiene lo que corresponde a la fila: FINISH con el mismo inicio y duración y,
+     * si sigue SCHEDULED, también START. Un START ya disparado sin efecto se vuelve a programar.
+     */
+    private boolean matches(Map<TransitionType, HierarchicalTimingWheel.Timeout<Transition>> sessionTimers,
+                            SessionStatus status, Date scheduledDatetime, Integer durationMinutes) {
+        if (sessionTimers == null || scheduledDatetime == null) {
+            return sessionTimers == null && scheduledDatetime == null;
+        }
+        HierarchicalTimingWheel.Timeout<Transition> finish = sessionTimers.get(TransitionType.FINISH);
+        if (finish == null || !finish.getPayload().sameSchedule(scheduledDatetime, durationMinutes)) {
+            return false;
+        }
+        return (status == SessionStatus.SCHEDULED) == sessionTimers.containsKey(TransitionType.START);
+    }
+
+    private void schedule(Long sessionId, SessionStatus status, Date scheduledDatetime, Integer durationMinutes) {
+        changedDuringResync.add(sessionId);
+        cancelTimers(sessionId);
+        if (scheduledDatetime == null || (status != SessionStatus.SCHEDULED && status != SessionStatus.ACTIVE)) {
+            return;
+        }
+
+        long startMillis = scheduledDatetime.getTime();
+        int duration = durationMinutes != null ? durationMinutes : 0;
+        long durationMillis = TimeUnit.MINUTES.toMillis(duration);
+
+        Map<TransitionType, HierarchicalTimingWheel.Timeout<Transition>> sessionTimers = new EnumMap<>(TransitionType.class);
+        if (status == SessionStatus.SCHEDULED) {
+            sessionTimers.put(TransitionType.START, wheel.schedule(
+                    startMillis, new Transition(sessionId, TransitionType.START, startMillis, duration)));
+        }
+        sessionTimers.put(TransitionType.FINISH, wheel.schedule(
+                startMillis + durationMillis + TimeUnit.MINUTES.toMillis(finishGraceMinutes),
+                new Transition(sessionId, TransitionType.FINISH, startMillis, duration)));
+        timers.put(sessionId, sessionTimers);
+    }
+
+    private void cancelTimers(Long sessionId) {
+        changedDuringResync.add(sessionId);
+        Map<TransitionType, HierarchicalTimingWheel.Timeout<Transition>> previous = timers.remove(sessionId);
+        if (previous != null) {
+            previous.values().forEach(HierarchicalTimingWheel.Timeout::cancel);
+        }
+    }
+
+    /**
+     * Si la transacción se revierte, la rueda queda como estaba
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void tick() {
+        try {
+            for (Transition transition : wheel.advance(System.currentTimeMillis())) {
+                fire(transition);
+            }
+        } catch (Exception e) {
+            logger.error("[LIFECYCLE] Error avanzando la rueda: " + e.getMessage(), e);
+        }
+    }
+
+    private void fire(Transition transition) {
+        Long sessionId = transition.sessionId();
+        // Solo se olvida el vencimiento si sigue siendo el programado (no uno reprogramado después)
+        timers.computeIfPresent(sessionId, (id, sessionTimers) -> {
+            HierarchicalTimingWheel.Timeout<Transition> current = sessionTimers.get(transition.type());
+            if (current != null && current.getPayload() == transition) {
+                sessionTimers.remove(transition.type());
+            }
+            return sessionTimers.isEmpty() ? null : sessionTimers;
+        });
+
+        try {
+            switch (transition.type()) {
+                case START -> startSession(transition);
+                case FINISH -> finishSession(transition);
+            }
+        } catch (Exception e) {
+            logger.error("[LIFECYCLE] Error en " + transition.type() + " de sesión " + sessionId + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void startSession(Transition transition) {
+        Long sessionId = transition.sessionId();
+        Integer started = new TransactionTemplate(transactionManager).execute(status ->
+                transition(transition, List.of(SessionStatus.SCHEDULED), SessionStatus.ACTIVE));
+        if (started != null && started > 0) {
+            logger.info("[LIFECYCLE] Sesión " + sessionId + " cambiada a ACTIVE");
+        }
+    }
+
+    private void finishSession(Transition transition) {
+        Long sessionId = transition.sessionId();
+        Boolean pendingCompletion = new TransactionTemplate(transactionManager).execute(status -> {
+            int finished = transition(transition,
+                    List.of(SessionStatus.ACTIVE, SessionStatus.SCHEDULED), SessionStatus.FINISHED);
+            if (finished == 0) {
+                // Vencimiento viejo: la sesión se reprogramó y su grabación no se toca
+                LearningSession current = learningSessionRepository.findById(sessionId).orElse(null);
+                if (current != null && !transition.sameSchedule(current.getScheduledDatetime(), current.getDurationMinutes())) {
+                    return null;
+                }
+                // Otra réplica (o una cancelación) ya cambió el estado
+                return false;
+            }
+            logger.info("[LIFECYCLE] Sesión " + sessionId + " cambiada a FINISHED");
+
+            LearningSession session = learningSessionRepository.findById(sessionId).orElse(null);
+            if (session == null) {
+                return false;
+            }
+            boolean hasTranscription = session.getFullText() != null && !session.getFullText().isBlank();
+            return hasTranscription && !bookingRepository.existsByLearningSessionIdAndAttendedTrue(sessionId);
+        });
+
+        if (pendingCompletion == null) {
+            logger.info("[LIFECYCLE] Vencimiento viejo de la sesión " + sessionId + " ignorado; se reprogramó");
+            return;
+        }
+
+        // Si la grabación sigue abierta, se detiene; al subir el audio la transcripción
+        // ejecuta SessionCompletionService por su cuenta
+        recordingService.stopRecording(sessionId);
+
+        if (Boolean.TRUE.equals(pendingCompletion)) {
+            sessionCompletionService.processSessionCompletion(sessionId);
+        }
+    }
+
+    private int transition(Transition transition, List<SessionStatus> expected, SessionStatus target) {
+        return learningSessionRepository.transitionStatus(transition.sessionId(), expected, target,
+                new Date(transition.scheduledMillis() - SCHEDULE_TOLERANCE_MILLIS),
+                new Date(transition.scheduledMillis() + SCHEDULE_TOLERANCE_MILLIS),
+                transition.durationMinutes());
+    }
+
+    private enum TransitionType {
+        START,
+        FINISH
+    }
+
+    /**
+     * Vencimiento con el inicio y la duración con que se programó
+     */
+    private record Transition(Long sessionId, TransitionType type, long scheduledMillis, int durationMinutes) {
+
+        boolean sameSchedule(Date scheduledDatetime, Integer duration) {
+            return scheduledDatetime != null
+                    && Math.abs(scheduledDatetime.getTime() - scheduledMillis) <= SCHEDULE_TOLERANCE_MILLIS
+                    && (duration != null ? duration : 0) == durationMinutes;
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,28 @@
+package com.project.skillswap.logic.entity.LearningSession;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con los datos de la transcripción que cambian cuando se vuelve a transcribir,
+ * más los de la sesión que se escriben en el encabezado de las descargas.
+ */
+public interface TranscriptMetadata {
+
+    Long getId();
+
+    LocalDateTime getProcessingDate();
+
+    Integer getTextLength();
+
+    String getTitle();
+
+    String getInstructorName();
+
+    String getSkillName();
+
+    Integer getDurationSeconds();
+
+    default boolean hasTranscript() {
+        return getTextLength() != null && getTextLength() > 0;
+    }
+}
@@ -7,6 +7,8 @@ import org.slf4j.Logger;
  */
 public class CredentialAlertDTO {
     private static final Logger logger = LoggerFactory.getLogger(CredentialAlertDTO.class);
+    private Long progressId;
+    private Long personId;
     private Long learnerId;
     private String learnerName;
     private String learnerEmail;
@@ -28,7 +30,23 @@ public class CredentialAlertDTO {
         this.remainingCredentials = 10 - credentialCount;
     }
 
+    /**
+     * Alerta leída de credential_progress
+     */
+    public CredentialAlertDTO(Long progressId, Long personId, Long learnerId, String learnerName, String learnerEmail,
+                              Long skillId, String skillName, int credentialCount) {
+        this(learnerId, learnerName, learnerEmail, skillId, skillName, (long) credentialCount);
+        this.progressId = progressId;
+        this.personId = personId;
+    }
+
     // Getters and Setters
+    public Long getProgressId() { return progressId; }
+    public void setProgressId(Long progressId) { this.progressId = progressId; }
+
+    public Long getPersonId() { return personId; }
+    public void setPersonId(Long personId) { this.personId = personId; }
+
     public Long getLearnerId() { return learnerId; }
     public void setLearnerId(Long learnerId) { this.learnerId = learnerId; }
 
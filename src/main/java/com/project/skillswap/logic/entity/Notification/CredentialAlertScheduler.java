@@ -1,10 +1,13 @@
 
 package com.project.skillswap.logic.entity.Notification;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Scheduler para alertas de credenciales cercanas a certificado
  * Se ejecuta diariamente a las 8:00 AM
@@ -14,9 +17,11 @@ public class CredentialAlertScheduler {
     private static final Logger logger = LoggerFactory.getLogger(CredentialAlertScheduler.class);
 
     private final CredentialAlertService credentialAlertService;
+    private final JobCoordinator jobCoordinator;
 
-    public CredentialAlertScheduler(CredentialAlertService credentialAlertService) {
+    public CredentialAlertScheduler(CredentialAlertService credentialAlertService, JobCoordinator jobCoordinator) {
         this.credentialAlertService = credentialAlertService;
+        this.jobCoordinator = jobCoordinator;
     }
 
     /**
@@ -25,8 +30,11 @@ public class CredentialAlertScheduler {
     @Scheduled(cron = "0 0 8 * * *")
      //@Scheduled(cron = "0 * * * * *") //PARA PROBARLO QUE LLEGUE CADA MINUTO
     public void sendCredentialAlerts() {
-        logger.info("Iniciando envío de alertas de credenciales...");
-        credentialAlertService.processAndSendCredentialAlerts();
-        logger.info("Proceso de alertas de credenciales completado");
+        // Una sola réplica envía los correos del día
+        jobCoordinator.runExclusive("credential-alerts", Duration.ofMinutes(10), Duration.ofHours(1), () -> {
+            logger.info("Iniciando envío de alertas de credenciales...");
+            credentialAlertService.processAndSendCredentialAlerts();
+            logger.info("Proceso de alertas de credenciales completado");
+        });
     }
 }
\ No newline at end of file
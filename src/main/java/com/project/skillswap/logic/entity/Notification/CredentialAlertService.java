@@ -2,96 +2,148 @@
 package com.project.skillswap.logic.entity.Notification;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.project.skillswap.logic.entity.Notification.CredentialAlertDTO;
-import com.project.skillswap.logic.entity.Credential.CredentialRepository;
-import com.project.skillswap.logic.entity.Notification.Notification;
-import com.project.skillswap.logic.entity.Notification.NotificationRepository;
-import com.project.skillswap.logic.entity.Notification.NotificationType;
+import com.project.skillswap.logic.entity.Credential.CredentialProgressRepository;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
-import jakarta.mail.MessagingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
- * Servicio para gestionar alertas de credenciales cercanas a certificado
+ * Servicio para gestionar alertas de credenciales cercanas a certificado.
+ *
+ * Solo se avisa cuando el learner entra en un nivel de alerta (8 o 9 de 10) que no se le notificó:
+ * el estado vive en credential_progress y el job lee únicamente las filas con alert_pending.
+ * Las alertas se envían en lotes de alerts.credential.batch-size por el alertExecutor; el resultado
+ * de cada una (enviada o error e intentos) queda en su fila y en skillswap.alerts.credential.
  */
 @Service
 public class CredentialAlertService {
     private static final Logger logger = LoggerFactory.getLogger(CredentialAlertService.class);
 
-    private final CredentialRepository credentialRepository;
-    private final NotificationRepository notificationRepository;
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final CredentialProgressRepository credentialProgressRepository;
+    private final NotificationService notificationService;
     private final PersonRepository personRepository;
     private final AlertEmailService alertEmailService;
+    private final Executor alertExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    @Value("${alerts.credential.batch-size:200}")
+    private int batchSize;
+
+    @Value("${alerts.credential.max-attempts:3}")
+    private int maxAttempts;
 
     public CredentialAlertService(
-            CredentialRepository credentialRepository,
-            NotificationRepository notificationRepository,
+            CredentialProgressRepository credentialProgressRepository,
+            NotificationService notificationService,
             PersonRepository personRepository,
-            AlertEmailService alertEmailService) {
-        this.credentialRepository = credentialRepository;
-        this.notificationRepository = notificationRepository;
+            AlertEmailService alertEmailService,
+            @Qualifier("alertExecutor") Executor alertExecutor,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.credentialProgressRepository = credentialProgressRepository;
+        this.notificationService = notificationService;
         this.personRepository = personRepository;
         this.alertEmailService = alertEmailService;
+        this.alertExecutor = alertExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sentCounter = Counter.builder("skillswap.alerts.credential").tag("result", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("skillswap.alerts.credential").tag("result", "failed").register(meterRegistry);
     }
 
     /**
-     * Procesa y envía alertas a learners que tienen 8 o 9 credenciales
-     */
-    /**
-     * Procesa y envía alertas SIN verificar duplicados (para testing)
+     * Envía las alertas pendientes, lote por lote.
+     * Sin transacción envolvente: cada alerta registra su resultado en su propia transacción.
      */
-    @Transactional
     public void processAndSendCredentialAlerts() {
-        logger.info("Buscando learners cercanos a obtener certificado...");
-
-        // Query SIN validación de notificaciones previas
-        List<CredentialAlertDTO> alerts = credentialRepository.findLearnersCloseToAchievingCertificate();
-
+        logger.info("Buscando learners que entraron en un nivel de alerta de certificado...");
 
+        long start = System.currentTimeMillis();
+        long afterId = 0;
         int successCount = 0;
         int errorCount = 0;
 
-        for (CredentialAlertDTO alert : alerts) {
-            try {
-                // Enviar email
-                alertEmailService.sendCredentialAlert(alert);
+        while (true) {
+            List<CredentialAlertDTO> alerts = credentialProgressRepository.findPendingAlerts(
+                    afterId, maxAttempts, PageRequest.of(0, batchSize));
+            if (alerts.isEmpty()) {
+                break;
+            }
+            afterId = alerts.get(alerts.size() - 1).getProgressId();
 
-                // Guardar notificación en BD
-                saveNotification(alert);
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(alerts.size());
+            for (CredentialAlertDTO alert : alerts) {
+                results.add(CompletableFuture.supplyAsync(() -> send(alert), alertExecutor));
+            }
+            for (CompletableFuture<Boolean> result : results) {
+                if (result.join()) {
+                    successCount++;
+                } else {
+                    errorCount++;
+                }
+            }
+        }
 
-                successCount++;
+        logger.info("Resumen: " + successCount + " exitosas, " + errorCount + " fallidas ("
+                + (System.currentTimeMillis() - start) + " ms)");
+    }
 
-            } catch (MessagingException e) {
-                errorCount++;
-                logger.info("Error al enviar alerta a " + alert.getLearnerName() + ": " + e.getMessage());
-            } catch (Exception e) {
-                errorCount++;
-                logger.info("Error inesperado para " + alert.getLearnerName() + ": " + e.getMessage());
-            }
+    /**
+     * Envía el correo y registra el resultado en credential_progress
+     * @return true si la alerta quedó enviada
+     */
+    private boolean send(CredentialAlertDTO alert) {
+        try {
+            alertEmailService.sendCredentialAlert(alert);
+            transactionTemplate.executeWithoutResult(tx -> {
+                saveNotification(alert);
+                credentialProgressRepository.markAlerted(alert.getProgressId(), alert.getCredentialCount().intValue());
+            });
+            sentCounter.increment();
+            return true;
+        } catch (Exception e) {
+            logger.info("Error al enviar alerta a " + alert.getLearnerName() + ": " + e.getMessage());
+            failedCounter.increment();
+            markFailed(alert, e);
+            return false;
         }
+    }
 
-        logger.info("Resumen: " + successCount + " exitosas, " + errorCount + " fallidas");
+    private void markFailed(CredentialAlertDTO alert, Exception error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> credentialProgressRepository.markAlertFailed(
+                    alert.getProgressId(),
+                    message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH)));
+        } catch (Exception e) {
+            logger.error("No se pudo registrar el error de la alerta " + alert.getProgressId() + ": " + e.getMessage());
+        }
     }
 
     /**
      * Guarda una notificación en la base de datos
      */
     private void saveNotification(CredentialAlertDTO alert) {
-        // El DTO ya tiene el learnerId, pero necesitamos el personId
-        // Vamos a buscarlo por email que es único
-        Person person = personRepository.findByEmail(alert.getLearnerEmail())
-                .orElse(null);
-
-        if (person == null) {
-            logger.info("No se encontró person con email: " + alert.getLearnerEmail());
-            return;
-        }
+        Person person = personRepository.getReferenceById(alert.getPersonId());
 
         Notification notification = new Notification();
         notification.setPerson(person);
@@ -110,7 +162,7 @@ public class CredentialAlertService {
         notification.setMetadata(metadata);
         notification.setRead(false);
 
-        notificationRepository.save(notification);
+        notificationService.publish(notification);
     }
 
 }
\ No newline at end of file
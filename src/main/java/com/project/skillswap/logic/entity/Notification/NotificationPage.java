@@ -0,0 +1,13 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import java.util.List;
+
+/**
+ * Página del API de consulta de notificaciones (paginación por id, sin COUNT)
+ *
+ * @param notifications notificaciones de la página
+ * @param nextBeforeId valor de beforeId para pedir la página siguiente; null si no hay más
+ * @param unread no leídas del usuario, desde el contador en memoria
+ */
+public record NotificationPage(List<NotificationView> notifications, Long nextBeforeId, long unread) {
+}
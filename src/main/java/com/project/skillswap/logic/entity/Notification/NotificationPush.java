@@ -0,0 +1,15 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import java.util.List;
+
+/**
+ * Mensaje enviado a /user/queue/notifications. Agrupa las notificaciones creadas para el usuario
+ * dentro de la misma ventana de agrupación.
+ *
+ * @param notifications notificaciones nuevas, de la más antigua a la más reciente (puede venir vacía
+ *                      si solo cambió el contador)
+ * @param unread no leídas después de aplicar el lote
+ * @param omitted notificaciones de la ventana que no caben en el mensaje; el cliente las obtiene con GET /notifications
+ */
+public record NotificationPush(List<NotificationView> notifications, long unread, int omitted) {
+}
@@ -0,0 +1,153 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Canal entre réplicas para las notificaciones, en la tabla notification_push_event.
+ *
+ * Cada nodo registra un evento por notificación creada o por cambio de no leídas, y lee los
+ * eventos de los demás para entregarlos a las sesiones STOMP que tiene conectadas: una persona
+ * puede estar conectada a cualquier réplica, no solo a la que creó la notificación.
+ *
+ * Los eventos se leen por id creciente desde la marca de agua, con LIMIT solo sobre esa consulta.
+ * Un INSERT con id menor puede confirmar después de uno mayor, así que en cada lectura se repasan
+ * aparte los ids de los últimos OVERLAP_SECONDS (reloj de la base) y solo se traen las filas de
+ * los que no están entre los vistos. Los eventos se borran pasados RETENTION_MINUTES.
+ * Se maneja con JDBC como startup_task_ledger: es una tabla técnica sin entidad.
+ */
+@Component
+public class NotificationPushChannel {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushChannel.class);
+
+    private static final int OVERLAP_SECONDS = 5;
+    private static final int RETENTION_MINUTES = 10;
+    private static final int MAX_EVENTS_PER_POLL = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    // Solo la usa poll; ReentrantLock y no synchronized porque dentro se espera a la base
+    private final ReentrantLock pollLock = new ReentrantLock();
+    // id -> momento en que se vio; se recorta al salir de la ventana de repaso
+    private final Map<Long, Long> seen = new LinkedHashMap<>();
+    private long watermark;
+
+    public NotificationPushChannel(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS notification_push_event (" +
+                "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                "person_id BIGINT NOT NULL, " +
+                "notification_id BIGINT NULL, " +
+                "origin VARCHAR(36) NOT NULL, " +
+                "created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3), " +
+                "INDEX idx_notification_push_event_created (created_at))");
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM notification_push_event", Long.class);
+        watermark = max != null ? max : 0;
+        logger.info("[NOTIFICATIONS] Canal entre réplicas en notification_push_event desde el evento " + watermark);
+    }
+
+    /**
+     * Evento de notificación: notificationId null si solo cambió el contador de no leídas
+     */
+    public record PushEvent(Long personId, Long notificationId) {
+    }
+
+    /**
+     * Registra los eventos para las demás réplicas en un solo INSERT en lote
+     */
+    public void publish(List<PushEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (PushEvent event : events) {
+            rows.add(new Object[]{event.personId(), event.notificationId(), instanceId});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notification_push_event (person_id, notification_id, origin) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * Eventos de otras réplicas que este nodo todavía no leyó, en orden de id
+     */
+    public List<PushEvent> poll() {
+        pollLock.lock();
+        try {
+            List<PushEvent> events = new ArrayList<>();
+            long now = System.nanoTime();
+
+            // Repaso: ids que confirmaron tarde por debajo de la marca de agua
+            List<Long> late = new ArrayList<>();
+            for (Long id : jdbcTemplate.queryForList("SELECT id FROM notification_push_event " +
+                            "WHERE id <= ? AND created_at >= NOW(3) - INTERVAL " + OVERLAP_SECONDS + " SECOND",
+                    Long.class, watermark)) {
+                if (!seen.containsKey(id)) {
+                    late.add(id);
+                }
+            }
+            if (!late.isEmpty()) {
+                jdbcTemplate.query("SELECT id, person_id, notification_id, origin FROM notification_push_event " +
+                                "WHERE id IN (" + String.join(",", Collections.nCopies(late.size(), "?")) + ") ORDER BY id",
+                        rs -> {
+                            read(rs, now, events);
+                        },
+                        late.toArray());
+            }
+
+            jdbcTemplate.query("SELECT id, person_id, notification_id, origin FROM notification_push_event " +
+                            "WHERE id > ? ORDER BY id LIMIT " + MAX_EVENTS_PER_POLL,
+                    rs -> {
+                        watermark = Math.max(watermark, rs.getLong("id"));
+                        read(rs, now, events);
+                    },
+                    watermark);
+
+            // Los vistos antes de la ventana de repaso ya no pueden volver a aparecer
+            long expiredBefore = now - 2L * OVERLAP_SECONDS * 1_000_000_000L;
+            Iterator<Long> seenAt = seen.values().iterator();
+            while (seenAt.hasNext() && seenAt.next() < expiredBefore) {
+                seenAt.remove();
+            }
+            return events;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        try {
+            jdbcTemplate.update("DELETE FROM notification_push_event WHERE created_at < NOW(3) - INTERVAL "
+                    + RETENTION_MINUTES + " MINUTE");
+        } catch (Exception e) {
+            logger.warn("[NOTIFICATIONS] No se pudieron borrar los eventos viejos: " + e.getMessage());
+        }
+    }
+
+    //#region Privados
+
+    private void read(ResultSet rs, long now, List<PushEvent> events) throws SQLException {
+        long id = rs.getLong("id");
+        if (seen.putIfAbsent(id, now) != null || instanceId.equals(rs.getString("origin"))) {
+            return;
+        }
+        long notificationId = rs.getLong("notification_id");
+        events.add(new PushEvent(rs.getLong("person_id"), rs.wasNull() ? null : notificationId));
+    }
+
+    //#endregion
+}
@@ -0,0 +1,182 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Envía las notificaciones a /user/queue/notifications de cada persona conectada.
+ *
+ * Las notificaciones no se envían una por una: se acumulan por persona y cada
+ * notifications.push.coalesce-ms se manda un solo mensaje con el lote y el contador de no leídas.
+ * Un job que crea cientos de notificaciones para la misma persona produce un mensaje por ventana.
+ * Si el lote supera notifications.push.max-batch, se conservan las más recientes y el resto se
+ * informa en omitted.
+ * Las personas sin sesión STOMP en este nodo no acumulan nada; al volver consultan GET /notifications.
+ *
+ * Con varias réplicas, cada cambio se registra además en {@link NotificationPushChannel} (en el
+ * mismo ciclo de envío, en lote) y cada nodo lee los de los demás cada notifications.push.poll-ms:
+ * descarta el contador de no leídas cargado de esa persona y, si tiene una sesión conectada aquí,
+ * le envía la notificación. Así la entrega no depende de la réplica que la creó.
+ */
+@Component
+public class NotificationPushService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushService.class);
+
+    private static final String DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationPushChannel channel;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate primaryRead;
+    private final Map<Long, PendingPush> pending = new ConcurrentHashMap<>();
+    private final Queue<NotificationPushChannel.PushEvent> outgoing = new ConcurrentLinkedQueue<>();
+
+    @Value("${notifications.push.max-batch:20}")
+    private int maxBatch;
+
+    public NotificationPushService(SimpMessagingTemplate messagingTemplate,
+                                   SimpUserRegistry userRegistry,
+                                   UnreadNotificationCounter unreadCounter,
+                                   NotificationPushChannel channel,
+                                   NotificationRepository notificationRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.unreadCounter = unreadCounter;
+        this.channel = channel;
+        this.notificationRepository = notificationRepository;
+        // Transacción de escritura: la lectura va al primario, donde la notificación ya confirmó
+        this.primaryRead = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Agrega la notificación al próximo envío de la persona y la anuncia a las demás réplicas
+     * @param notification null para enviar solo el contador actualizado
+     */
+    public void enqueue(Long personId, NotificationView notification) {
+        outgoing.add(new NotificationPushChannel.PushEvent(personId, notification != null ? notification.id() : null));
+        enqueueLocal(personId, notification);
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.push.coalesce-ms:250}")
+    public void flush() {
+        for (Long personId : pending.keySet()) {
+            PendingPush push = pending.remove(personId);
+            if (push == null) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSendToUser(personId.toString(), DESTINATION, new NotificationPush(
+                        new ArrayList<>(push.notifications), unreadCounter.get(personId), push.omitted));
+            } catch (Exception e) {
+                logger.warn("[NOTIFICATIONS] No se pudo enviar el lote a la persona " + personId + ": " + e.getMessage());
+            }
+        }
+        publishOutgoing();
+    }
+
+    /**
+     * Entrega a las sesiones de este nodo lo que crearon o marcaron las demás réplicas
+     */
+    @Scheduled(fixedDelayString = "${notifications.push.poll-ms:500}")
+    public void receive() {
+        List<NotificationPushChannel.PushEvent> events;
+        try {
+            events = channel.poll();
+        } catch (Exception e) {
+            logger.warn("[NOTIFICATIONS] No se pudieron leer los eventos de otras réplicas: " + e.getMessage());
+            return;
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Long> notificationIds = new ArrayList<>();
+        for (NotificationPushChannel.PushEvent event : events) {
+            // El contador de este nodo ya no refleja la tabla: el próximo get vuelve a contar
+            unreadCounter.invalidate(event.personId());
+            if (event.notificationId() != null && isConnected(event.personId())) {
+                notificationIds.add(event.notificationId());
+            }
+        }
+        Map<Long, NotificationView> views = new HashMap<>();
+        if (!notificationIds.isEmpty()) {
+            List<NotificationView> loaded = primaryRead.execute(status -> notificationRepository.findViewsByIdIn(notificationIds));
+            for (NotificationView view : loaded) {
+                views.put(view.id(), view);
+            }
+        }
+        for (NotificationPushChannel.PushEvent event : events) {
+            if (event.notificationId() == null) {
+                enqueueLocal(event.personId(), null);
+            } else if (views.containsKey(event.notificationId())) {
+                enqueueLocal(event.personId(), views.get(event.notificationId()));
+            }
+        }
+    }
+
+    //#region Privados
+
+    private boolean isConnected(Long personId) {
+        return userRegistry.getUser(personId.toString()) != null;
+    }
+
+    private void enqueueLocal(Long personId, NotificationView notification) {
+        if (!isConnected(personId)) {
+            return;
+        }
+        pending.compute(personId, (id, push) -> {
+            PendingPush current = push != null ? push : new PendingPush();
+            if (notification != null) {
+                if (current.notifications.size() >= maxBatch) {
+                    current.notifications.pollFirst();
+                    current.omitted++;
+                }
+                current.notifications.addLast(notification);
+            }
+            return current;
+        });
+    }
+
+    private void publishOutgoing() {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+        List<NotificationPushChannel.PushEvent> batch = new ArrayList<>();
+        NotificationPushChannel.PushEvent event;
+        while ((event = outgoing.poll()) != null) {
+            batch.add(event);
+        }
+        try {
+            channel.publish(batch);
+        } catch (Exception e) {
+            // Las demás réplicas lo verán al recargar el contador; los clientes, con GET /notifications
+            logger.warn("[NOTIFICATIONS] No se pudieron publicar " + batch.size() + " eventos para otras réplicas: " + e.getMessage());
+        }
+    }
+
+    private static final class PendingPush {
+        private final ArrayDeque<NotificationView> notifications = new ArrayDeque<>();
+        private int omitted;
+    }
+
+    //#endregion
+}
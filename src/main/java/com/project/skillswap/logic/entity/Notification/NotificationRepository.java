@@ -1,15 +1,24 @@
 package com.project.skillswap.logic.entity.Notification;
 
 import com.project.skillswap.logic.entity.Person.Person;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    /**
+     * Expresión constructora de {@link NotificationView}; requiere el alias n
+     */
+    String NOTIFICATION_VIEW = "new com.project.skillswap.logic.entity.Notification.NotificationView(" +
+            "n.id, n.type, n.title, n.message, n.read, n.sendDate)";
+
     /**
      * Cuenta las notificaciones de un tipo específico enviadas después de una fecha.
      */
@@ -19,4 +28,62 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             @Param("type") NotificationType type,
             @Param("date") Date date
     );
-}
\ No newline at end of file
+
+    /**
+     * Historial de la persona, de la más reciente a la más antigua, a partir de beforeId (exclusivo).
+     * Paginación por id: usa el índice de person_id sin OFFSET ni COUNT.
+     *
+     * @param beforeId null para la primera página
+     * @param pageable solo se usa el tamaño
+     */
+    @Query("SELECT " + NOTIFICATION_VIEW + " FROM Notification n " +
+            "WHERE n.person.id = :personId AND (:beforeId IS NULL OR n.id < :beforeId) " +
+            "ORDER BY n.id DESC")
+    List<NotificationView> findViewsBefore(
+            @Param("personId") Long personId,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    /**
+     * Notificaciones creadas después de afterId (exclusivo), de la más antigua a la más reciente.
+     * La usan los clientes que vuelven a conectarse para ponerse al día.
+     */
+    @Query("SELECT " + NOTIFICATION_VIEW + " FROM Notification n " +
+            "WHERE n.person.id = :personId AND n.id > :afterId " +
+            "ORDER BY n.id ASC")
+    List<NotificationView> findViewsAfter(
+            @Param("personId") Long personId,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Vistas de las notificaciones indicadas; las usa el envío de eventos de otras réplicas
+     */
+    @Query("SELECT " + NOTIFICATION_VIEW + " FROM Notification n WHERE n.id IN :ids")
+    List<NotificationView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * No leídas de la persona; solo se ejecuta al cargar el contador en memoria
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.person.id = :personId AND n.read = false")
+    long countUnread(@Param("personId") Long personId);
+
+    /**
+     * Marca una notificación como leída
+     * @return 1 si estaba sin leer, 0 si ya estaba leída o no es de la persona
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true " +
+            "WHERE n.id = :id AND n.person.id = :personId AND n.read = false")
+    int markRead(@Param("personId") Long personId, @Param("id") Long id);
+
+    /**
+     * Marca como leídas todas las notificaciones de la persona
+     * @return Cantidad de notificaciones que cambiaron
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.person.id = :personId AND n.read = false")
+    int markAllRead(@Param("personId") Long personId);
+}
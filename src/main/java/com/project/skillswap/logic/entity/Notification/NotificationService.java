@@ -0,0 +1,143 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Punto único para crear y leer notificaciones in-app.
+ *
+ * Guarda en la tabla notification y, cuando la transacción confirma, actualiza el contador de
+ * no leídas en memoria ({@link UnreadNotificationCounter}) y encola el envío por STOMP
+ * ({@link NotificationPushService}). Si la transacción se revierte no se envía nada.
+ */
+@Service
+public class NotificationService {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationPushService pushService;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               UnreadNotificationCounter unreadCounter,
+                               NotificationPushService pushService) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.pushService = pushService;
+    }
+
+    //#region Publicación
+
+    /**
+     * Guarda la notificación y la entrega a la persona cuando la transacción actual confirma
+     * @param notification notificación con persona (basta el id), tipo, título y mensaje
+     * @return Notificación guardada
+     */
+    public Notification publish(Notification notification) {
+        Notification saved = notificationRepository.save(notification);
+        Long personId = saved.getPerson().getId();
+        NotificationView view = NotificationView.of(saved);
+        boolean unread = !Boolean.TRUE.equals(saved.getRead());
+
+        afterCommit(() -> {
+            if (unread) {
+                unreadCounter.adjust(personId, 1);
+            }
+            pushService.enqueue(personId, view);
+        });
+        return saved;
+    }
+
+    //#endregion
+
+    //#region Consulta
+
+    /**
+     * Página de notificaciones de la persona.
+     * Con afterId devuelve las posteriores (orden ascendente, para ponerse al día tras reconectar);
+     * si no, el historial desde beforeId hacia atrás.
+     */
+    @Transactional(readOnly = true)
+    public NotificationPage getPage(Long personId, Long beforeId, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Se pide uno de más para saber si hay página siguiente sin COUNT
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationView> rows = afterId != null
+                ? notificationRepository.findViewsAfter(personId, afterId, limit)
+                : notificationRepository.findViewsBefore(personId, beforeId, limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextBeforeId = hasMore && afterId == null ? page.get(page.size() - 1).id() : null;
+
+        return new NotificationPage(List.copyOf(page), nextBeforeId, unreadCounter.get(personId));
+    }
+
+    public long getUnreadCount(Long personId) {
+        return unreadCounter.get(personId);
+    }
+
+    //#endregion
+
+    //#region Lectura
+
+    /**
+     * Marca una notificación como leída y envía el contador actualizado a sus sesiones abiertas
+     * @return false si ya estaba leída o no pertenece a la persona
+     */
+    @Transactional
+    public boolean markRead(Long personId, Long notificationId) {
+        boolean changed = notificationRepository.markRead(personId, notificationId) > 0;
+        if (changed) {
+            afterCommit(() -> {
+                unreadCounter.adjust(personId, -1);
+                pushService.enqueue(personId, null);
+            });
+        }
+        return changed;
+    }
+
+    /**
+     * Marca todas como leídas
+     * @return Cantidad de notificaciones que cambiaron
+     */
+    @Transactional
+    public int markAllRead(Long personId) {
+        int changed = notificationRepository.markAllRead(personId);
+        afterCommit(() -> {
+            unreadCounter.reset(personId, 0);
+            pushService.enqueue(personId, null);
+        });
+        logger.info("[NOTIFICATIONS] " + changed + " notificaciones marcadas como leídas - Persona: " + personId);
+        return changed;
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    //#endregion
+}
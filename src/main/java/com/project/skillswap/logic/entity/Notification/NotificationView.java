@@ -0,0 +1,27 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import java.util.Date;
+
+/**
+ * Notificación tal como se envía al cliente, por STOMP o por el API de consulta.
+ * Se arma con una expresión constructora en {@link NotificationRepository} o desde la entidad recién guardada.
+ */
+public record NotificationView(
+        Long id,
+        NotificationType type,
+        String title,
+        String message,
+        Boolean read,
+        Date sendDate
+) {
+
+    public static NotificationView of(Notification notification) {
+        return new NotificationView(
+                notification.getId(),
+                notification.getType(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getRead(),
+                notification.getSendDate());
+    }
+}
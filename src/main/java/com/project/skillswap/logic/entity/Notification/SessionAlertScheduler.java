@@ -1,18 +1,23 @@
 
 package com.project.skillswap.logic.entity.Notification;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 public class SessionAlertScheduler {
     private static final Logger logger = LoggerFactory.getLogger(SessionAlertScheduler.class);
 
     private final SessionAlertService sessionAlertService;
+    private final JobCoordinator jobCoordinator;
 
-    public SessionAlertScheduler(SessionAlertService sessionAlertService) {
+    public SessionAlertScheduler(SessionAlertService sessionAlertService, JobCoordinator jobCoordinator) {
         this.sessionAlertService = sessionAlertService;
+        this.jobCoordinator = jobCoordinator;
     }
 
     /**
@@ -21,8 +26,10 @@ public class SessionAlertScheduler {
     //@Scheduled(cron = "0 * * * * *") //QUE SE MANDE CADA MINUTO COMO PRUEBAS
     @Scheduled(cron = "0 0 8 * * MON")
     public void sendSessionAlerts() {
-        logger.info("[TESTING] Iniciando envío de alertas de sesiones semanales...");
-        sessionAlertService.processAndSendSessionAlerts();
-        logger.info("Proceso de alertas de sesiones completado");
+        jobCoordinator.runExclusive("session-alerts", Duration.ofMinutes(10), Duration.ofHours(1), () -> {
+            logger.info("[TESTING] Iniciando envío de alertas de sesiones semanales...");
+            sessionAlertService.processAndSendSessionAlerts();
+            logger.info("Proceso de alertas de sesiones completado");
+        });
     }
 }
\ No newline at end of file
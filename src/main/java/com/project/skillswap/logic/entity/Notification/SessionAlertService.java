@@ -9,7 +9,7 @@ import com.project.skillswap.logic.entity.Booking.BookingRepository;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import com.project.skillswap.logic.entity.Notification.Notification;
-import com.project.skillswap.logic.entity.Notification.NotificationRepository;
+import com.project.skillswap.logic.entity.Notification.NotificationService;
 import com.project.skillswap.logic.entity.Notification.NotificationType;
 import com.project.skillswap.logic.entity.Person.Person;
 import jakarta.mail.MessagingException;
@@ -29,17 +29,17 @@ public class SessionAlertService {
 
     private final LearningSessionRepository learningSessionRepository;
     private final BookingRepository bookingRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
     private final AlertEmailService alertEmailService;
 
     public SessionAlertService(
             LearningSessionRepository learningSessionRepository,
             BookingRepository bookingRepository,
-            NotificationRepository notificationRepository,
+            NotificationService notificationService,
             AlertEmailService alertEmailService) {
         this.learningSessionRepository = learningSessionRepository;
         this.bookingRepository = bookingRepository;
-        this.notificationRepository = notificationRepository;
+        this.notificationService = notificationService;
         this.alertEmailService = alertEmailService;
     }
 
@@ -156,6 +156,6 @@ public class SessionAlertService {
         notification.setMetadata(metadata);
         notification.setRead(false);
 
-        notificationRepository.save(notification);
+        notificationService.publish(notification);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.project.skillswap.logic.entity.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de notificaciones no leídas por persona, en memoria.
+ *
+ * El contador se carga con un COUNT la primera vez que se pide y luego se ajusta cuando
+ * confirma la transacción que crea o marca notificaciones (la tabla sigue siendo la fuente
+ * de verdad). Así el badge no cuesta una consulta por página vista.
+ * Los cambios hechos en otra réplica llegan por {@link NotificationPushChannel} y descartan el
+ * contador ({@link #invalidate(Long)}); además, cada notifications.unread.reload-seconds se vuelve a
+ * cargar por si se perdió algún evento. Los que no se consultan en notifications.unread.idle-minutes
+ * se descartan.
+ */
+@Component
+public class UnreadNotificationCounter {
+    private static final Logger logger = LoggerFactory.getLogger(UnreadNotificationCounter.class);
+
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${notifications.unread.reload-seconds:300}")
+    private long reloadSeconds;
+
+    @Value("${notifications.unread.idle-minutes:30}")
+    private long idleMinutes;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    /**
+     * No leídas de la persona; consulta la base solo si el contador no está cargado o venció
+     */
+    public long get(Long personId) {
+        long now = System.nanoTime();
+        Counter counter = counters.compute(personId, (id, current) -> {
+            if (current != null && now - current.loadedAt < TimeUnit.SECONDS.toNanos(reloadSeconds)) {
+                return current;
+            }
+            return new Counter(notificationRepository.countUnread(id), now);
+        });
+        counter.lastAccess = now;
+        return counter.value.get();
+    }
+
+    /**
+     * Ajusta el contador si está cargado; si no, el próximo get lo cuenta desde la base
+     * @return Valor nuevo, o -1 si no estaba cargado
+     */
+    public long adjust(Long personId, long delta) {
+        long[] updated = {-1};
+        counters.computeIfPresent(personId, (id, counter) -> {
+            updated[0] = counter.value.updateAndGet(value -> Math.max(0, value + delta));
+            return counter;
+        });
+        return updated[0];
+    }
+
+    /**
+     * Descarta el contador; el próximo get lo cuenta desde la base
+     */
+    public void invalidate(Long personId) {
+        counters.remove(personId);
+    }
+
+    /**
+     * Fija el valor (por ejemplo, 0 después de marcar todas como leídas)
+     */
+    public void reset(Long personId, long value) {
+        counters.computeIfPresent(personId, (id, counter) -> {
+            counter.value.set(value);
+            return counter;
+        });
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long idleBefore = System.nanoTime() - TimeUnit.MINUTES.toNanos(idleMinutes);
+        int before = counters.size();
+        counters.values().removeIf(counter -> counter.lastAccess < idleBefore);
+        int removed = before - counters.size();
+        if (removed > 0) {
+            logger.info("[NOTIFICATIONS] Contadores inactivos descartados: " + removed);
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicLong value;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        private Counter(long value, long loadedAt) {
+            this.value = new AtomicLong(value);
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.project.skillswap.logic.entity.Pdf;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Servicio central de renderizado de PDFs.
+ * Ejecuta la generación en un executor dedicado y acotado al número de núcleos,
+ * y escribe el documento directamente en el destino (respuesta HTTP o archivo)
+ * sin acumular el PDF completo en memoria.
+ */
+@Lazy
+@Service
+public class PdfRenderingService {
+    private static final Logger logger = LoggerFactory.getLogger(PdfRenderingService.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final long RENDER_TIMEOUT_SECONDS = 120;
+    private static final long CANCEL_GRACE_SECONDS = 10;
+
+    /**
+     * Contenido de un PDF que sabe escribirse en un flujo de salida.
+     * La implementación no debe cerrar el flujo recibido.
+     */
+    @FunctionalInterface
+    public interface PdfContent {
+        void writeTo(OutputStream out) throws Exception;
+    }
+
+    @Autowired
+    @Qualifier("pdfRenderingExecutor")
+    private Executor pdfRenderingExecutor;
+
+    //#region Public API
+    /**
+     * Renderiza el PDF en el executor dedicado y lo escribe en el flujo indicado.
+     * El hilo llamante espera a que termine la generación.
+     *
+     * @param content contenido a renderizar
+     * @param out flujo de salida destino (no se cierra)
+     * @throws RuntimeException si la generación falla, excede el tiempo límite o el executor está saturado
+     */
+    public void render(PdfContent content, OutputStream out) {
+        CancellableOutputStream guarded = new CancellableOutputStream(out);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            try {
+                if (guarded.cancelled) {
+                    return;
+                }
+                BufferedOutputStream buffered = new BufferedOutputStream(guarded, BUFFER_SIZE);
+                content.writeTo(buffered);
+                buffered.flush();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, pdfRenderingExecutor);
+
+        try {
+            future.get(RENDER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Error al generar PDF: " + cause.getMessage(), cause);
+        } catch (TimeoutException e) {
+            cancelAndAwait(guarded, future);
+            throw new RuntimeException("Tiempo de generación de PDF excedido", e);
+        } catch (InterruptedException e) {
+            cancelAndAwait(guarded, future);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Generación de PDF interrumpida", e);
+        }
+    }
+
+    /**
+     * Construye una respuesta HTTP que transmite el PDF mientras se genera.
+     *
+     * @param fileName nombre del archivo para Content-Disposition
+     * @param content contenido a renderizar
+     * @return respuesta con cuerpo en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> stream(String fileName, PdfContent content) {
+        return stream(fileName, null, content);
+    }
+
+    /**
+     * Igual que {@link #stream(String, PdfContent)} pero con ETag: el cliente puede guardar
+     * el PDF y revalidarlo con If-None-Match en lugar de descargarlo de nuevo.
+     *
+     * @param fileName nombre del archivo para Content-Disposition
+     * @param etag ETag del contenido (null = sin caché)
+     * @param content contenido a renderizar
+     * @return respuesta con cuerpo en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> stream(String fileName, String etag, PdfContent content) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        if (etag != null) {
+            headers.setETag(etag);
+            headers.setCacheControl("private, no-cache");
+        } else {
+            headers.setCacheControl("no-cache, no-store, must-revalidate");
+            headers.setPragma("no-cache");
+            headers.setExpires(0);
+        }
+        headers.set("Content-Disposition",
+                "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''" +
+                        URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20"));
+
+        StreamingResponseBody body = out -> render(content, out);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    /**
+     * Renderiza el PDF directamente en un archivo.
+     *
+     * @param file archivo destino (se crea o sobrescribe)
+     * @param content contenido a renderizar
+     * @throws Exception si no se puede escribir el archivo
+     */
+    public void renderToFile(File file, PdfContent content) throws Exception {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            render(content, fos);
+        }
+    }
+
+    /**
+     * Renderiza el PDF en un archivo temporal, útil para adjuntos de correo.
+     * El llamante es responsable de eliminar el archivo cuando ya no lo necesite.
+     *
+     * @param prefix prefijo del nombre del archivo temporal
+     * @param content contenido a renderizar
+     * @return archivo temporal con el PDF
+     * @throws Exception si no se puede crear el archivo
+     */
+    public File renderToTempFile(String prefix, PdfContent content) throws Exception {
+        File file = Files.createTempFile(prefix, ".pdf").toFile();
+        try {
+            renderToFile(file, content);
+            return file;
+        } catch (Exception e) {
+            file.delete();
+            throw e;
+        }
+    }
+
+    /**
+     * Renderiza el PDF en memoria.
+     * Solo para casos donde el mismo documento se reutiliza varias veces (p. ej. varios destinatarios).
+     *
+     * @param content contenido a renderizar
+     * @return PDF como arreglo de bytes
+     */
+    public byte[] renderToBytes(PdfContent content) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        render(content, baos);
+        return baos.toByteArray();
+    }
+    //#endregion
+
+    //#region Cancellation
+    /**
+     * El renderizado de PDF ignora las interrupciones: al cancelar se marca el flujo y el worker
+     * se detiene en su siguiente escritura. Se espera a que suelte el flujo (y el hilo del executor)
+     * para que no escriba en un destino que el llamante ya cerró.
+     */
+    /**
+     * Marca el flujo como cancelado y espera a que el worker lo suelte, como máximo
+     * CANCEL_GRACE_SECONDS. Si el render sigue atascado se deja de esperar: el flujo ya rechaza
+     * cualquier escritura nueva.
+     */
+    private void cancelAndAwait(CancellableOutputStream guarded, CompletableFuture<Void> future) {
+        guarded.cancelled = true;
+        try {
+            future.get(CANCEL_GRACE_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("[PDF] Renderizado cancelado; el worker no terminó en " + CANCEL_GRACE_SECONDS + " s y se deja de esperar");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("[PDF] Renderizado cancelado; espera del worker interrumpida");
+            return;
+        } catch (Exception ignored) {
+            // Lo esperado: la escritura cancelada termina con InterruptedIOException
+        }
+        logger.warn("[PDF] Renderizado cancelado; el worker liberó el flujo");
+    }
+
+    private static final class CancellableOutputStream extends FilterOutputStream {
+        private volatile boolean cancelled;
+
+        private CancellableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkCancelled();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkCancelled();
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            checkCancelled();
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // El llamante es dueño del flujo destino
+        }
+
+        private void checkCancelled() throws InterruptedIOException {
+            if (cancelled) {
+                throw new InterruptedIOException("Generación de PDF cancelada");
+            }
+        }
+    }
+    //#endregion
+}
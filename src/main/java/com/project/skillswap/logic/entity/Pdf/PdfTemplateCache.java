@@ -0,0 +1,196 @@
+package com.project.skillswap.logic.entity.Pdf;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Logger;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import org.springframework.stereotype.Component;
+import org.springframework.context.annotation.Lazy;
+
+import java.awt.Color;
+
+/**
+ * Plantillas compartidas para la generación de PDFs.
+ * Los colores corporativos, estilos y fuentes se construyen una sola vez, con el primer PDF
+ * (el bean es lazy para no cargar iText/OpenPDF al arrancar), y se reutilizan en cada documento.
+ * Todos los objetos expuestos son de solo lectura y seguros entre hilos.
+ */
+@Lazy
+@Component
+public class PdfTemplateCache {
+    private static final Logger logger = LoggerFactory.getLogger(PdfTemplateCache.class);
+
+    //#region Brand Colors (iText 7)
+    public static final DeviceRgb SKILLSWAP_PURPLE = new DeviceRgb(80, 74, 183);
+    public static final DeviceRgb SKILLSWAP_GREEN = new DeviceRgb(170, 225, 107);
+    //#endregion
+
+    //#region Certificate Fonts (OpenPDF)
+    private final com.lowagie.text.Font certificateTitleFont;
+    private final com.lowagie.text.Font certificateSubtitleFont;
+    private final com.lowagie.text.Font certificateNameFont;
+    private final com.lowagie.text.Font certificateSkillFont;
+    private final com.lowagie.text.Font certificateSmallFont;
+    private final com.lowagie.text.Font certificateCodeFont;
+    private final com.lowagie.text.Font certificateSignatureFont;
+    private final com.lowagie.text.Font certificateRoleFont;
+    private final Color certificateLineColor;
+    //#endregion
+
+    //#region Shared Styles (iText 7)
+    private final Style brandHeaderStyle;
+    private final Style brandSubtitleStyle;
+    private final Style copyrightStyle;
+    private final Style techFooterStyle;
+    private final Style infoLabelStyle;
+    //#endregion
+
+    public PdfTemplateCache() {
+        Color gray = new Color(100, 100, 100);
+        Color lightGray = new Color(150, 150, 150);
+
+        this.certificateTitleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 36, com.lowagie.text.Font.BOLD, new Color(170, 225, 107));
+        this.certificateSubtitleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 14, com.lowagie.text.Font.NORMAL, gray);
+        this.certificateNameFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 28, com.lowagie.text.Font.BOLD, new Color(50, 50, 50));
+        this.certificateSkillFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 22, com.lowagie.text.Font.BOLD, new Color(123, 199, 77));
+        this.certificateSmallFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 12, com.lowagie.text.Font.NORMAL, gray);
+        this.certificateCodeFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 10, com.lowagie.text.Font.ITALIC, lightGray);
+        this.certificateSignatureFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 11, com.lowagie.text.Font.NORMAL, gray);
+        this.certificateRoleFont = new com.lowagie.text.Font(com.lowagie.text.Font.HELVETICA, 9, com.lowagie.text.Font.ITALIC, lightGray);
+        this.certificateLineColor = gray;
+
+        this.brandHeaderStyle = new Style()
+                .setBold()
+                .setFontColor(SKILLSWAP_PURPLE)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(5);
+
+        this.brandSubtitleStyle = new Style()
+                .setFontSize(10)
+                .setFontColor(ColorConstants.GRAY)
+                .setTextAlignment(TextAlignment.CENTER);
+
+        this.copyrightStyle = new Style()
+                .setFontSize(8)
+                .setFontColor(ColorConstants.GRAY)
+                .setTextAlignment(TextAlignment.CENTER);
+
+        this.techFooterStyle = new Style()
+                .setFontSize(7)
+                .setFontColor(ColorConstants.LIGHT_GRAY)
+                .setTextAlignment(TextAlignment.CENTER);
+
+        this.infoLabelStyle = new Style()
+                .setBold()
+                .setFontColor(SKILLSWAP_PURPLE);
+
+        logger.info("Plantillas PDF cargadas (fuentes, colores y estilos compartidos)");
+    }
+
+    //#region iText 7 Fragments
+    /**
+     * Crea el encabezado "SkillSwap" con el estilo corporativo.
+     *
+     * @param fontSize tamaño de fuente del encabezado
+     * @return párrafo listo para agregar al documento
+     */
+    public Paragraph brandHeader(float fontSize) {
+        return new Paragraph("SkillSwap")
+                .addStyle(brandHeaderStyle)
+                .setFontSize(fontSize);
+    }
+
+    /**
+     * Crea el subtítulo gris centrado que acompaña al encabezado.
+     *
+     * @param text texto del subtítulo
+     * @param marginBottom margen inferior
+     * @return párrafo listo para agregar al documento
+     */
+    public Paragraph brandSubtitle(String text, float marginBottom) {
+        return new Paragraph(text)
+                .addStyle(brandSubtitleStyle)
+                .setMarginBottom(marginBottom);
+    }
+
+    /**
+     * Crea la línea de derechos reservados del pie de página.
+     *
+     * @param marginTop margen superior
+     * @return párrafo listo para agregar al documento
+     */
+    public Paragraph copyright(float marginTop) {
+        return new Paragraph("© 2025 SkillSwap. Todos los derechos reservados.")
+                .addStyle(copyrightStyle)
+                .setMarginTop(marginTop);
+    }
+
+    /**
+     * Crea una nota técnica pequeña del pie de página.
+     *
+     * @param text texto de la nota
+     * @return párrafo listo para agregar al documento
+     */
+    public Paragraph techFooter(String text) {
+        return new Paragraph(text).addStyle(techFooterStyle);
+    }
+
+    /**
+     * Agrega una fila etiqueta/valor a una tabla de información.
+     *
+     * @param table tabla destino
+     * @param label etiqueta descriptiva
+     * @param value valor correspondiente
+     * @param fontSize tamaño de fuente de la fila
+     */
+    public void addInfoRow(Table table, String label, String value, float fontSize) {
+        table.addCell(new Paragraph(label)
+                .addStyle(infoLabelStyle)
+                .setFontSize(fontSize));
+
+        table.addCell(new Paragraph(value != null ? value : "N/A")
+                .setFontSize(fontSize));
+    }
+    //#endregion
+
+    //#region OpenPDF Certificate Fonts
+    public com.lowagie.text.Font getCertificateTitleFont() {
+        return certificateTitleFont;
+    }
+
+    public com.lowagie.text.Font getCertificateSubtitleFont() {
+        return certificateSubtitleFont;
+    }
+
+    public com.lowagie.text.Font getCertificateNameFont() {
+        return certificateNameFont;
+    }
+
+    public com.lowagie.text.Font getCertificateSkillFont() {
+        return certificateSkillFont;
+    }
+
+    public com.lowagie.text.Font getCertificateSmallFont() {
+        return certificateSmallFont;
+    }
+
+    public com.lowagie.text.Font getCertificateCodeFont() {
+        return certificateCodeFont;
+    }
+
+    public com.lowagie.text.Font getCertificateSignatureFont() {
+        return certificateSignatureFont;
+    }
+
+    public com.lowagie.text.Font getCertificateRoleFont() {
+        return certificateRoleFont;
+    }
+
+    public Color getCertificateLineColor() {
+        return certificateLineColor;
+    }
+    //#endregion
+}
@@ -1,6 +1,9 @@
 package com.project.skillswap.logic.entity.Person;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.project.skillswap.logic.entity.Person.Person;
 
 import java.util.Optional;
@@ -40,4 +43,19 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
      * @return true if a person exists with that email, false otherwise
      */
     boolean existsByEmailIgnoreCase(String email);
+
+    /**
+     * Replaces a password hash only if it has not changed since it was read,
+     * so a rehash on login never overwrites a concurrent password change.
+     *
+     * @param id the person id
+     * @param expectedHash the hash that was verified
+     * @param newHash the new hash
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Person p SET p.passwordHash = :newHash WHERE p.id = :id AND p.passwordHash = :expectedHash")
+    int updatePasswordHash(@Param("id") Long id,
+                           @Param("expectedHash") String expectedHash,
+                           @Param("newHash") String newHash);
 }
@@ -6,8 +6,7 @@ import com.project.skillswap.logic.entity.Instructor.Instructor;
 import com.project.skillswap.logic.entity.Instructor.InstructorRepository;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -22,7 +21,7 @@ import java.util.Random;
 
 @Order(4)
 @Component
-public class PersonSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class PersonSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(PersonSeeder.class);
 
     private final PersonRepository personRepository;
@@ -42,7 +41,7 @@ public class PersonSeeder implements ApplicationListener<ContextRefreshedEvent>
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         this.seedPersons();
     }
 
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.context.annotation.Lazy;
 
 import java.util.*;
 
@@ -15,6 +16,7 @@ import java.util.*;
  * Servicio para integración con Groq AI
  * Genera preguntas y respuestas basadas en transcripciones de sesiones
  */
+@Lazy
 @Service
 public class GroqAIQuizService {
 
@@ -3,7 +3,7 @@ package com.project.skillswap.logic.entity.Quiz;
 import com.project.skillswap.logic.entity.Booking.Booking;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.Notification.Notification;
-import com.project.skillswap.logic.entity.Notification.NotificationRepository;
+import com.project.skillswap.logic.entity.Notification.NotificationService;
 import com.project.skillswap.logic.entity.Notification.NotificationType;
 import com.project.skillswap.logic.entity.Person.Person;
 import jakarta.mail.internet.MimeMessage;
@@ -42,7 +42,7 @@ public class QuizEmailService {
     private String appName;
 
     @Autowired
-    private NotificationRepository notificationRepository;
+    private NotificationService notificationService;
     //#endregion
 
     //#region Public Methods
@@ -322,7 +322,7 @@ public class QuizEmailService {
             notification.setRead(false);
             notification.setSendDate(new Date());
 
-            notificationRepository.save(notification);
+            notificationService.publish(notification);
 
         } catch (Exception e) {
             logger.error("Error al crear notificación para {}: {}", learner.getEmail(), e.getMessage());
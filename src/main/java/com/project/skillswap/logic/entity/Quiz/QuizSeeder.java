@@ -10,16 +10,17 @@ import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
 import com.project.skillswap.logic.entity.Booking.Booking;
 import com.project.skillswap.logic.entity.Booking.BookingRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Booking.BookingSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.Set;
 
 @Order(9)
 @Component
-public class QuizSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class QuizSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(QuizSeeder.class);
 
     private final QuizRepository quizRepository;
@@ -38,9 +39,14 @@ public class QuizSeeder implements ApplicationListener<ContextRefreshedEvent> {
         this.bookingRepository = bookingRepository;
     }
 
+    @Override
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(BookingSeeder.class);
+    }
+
     @Override
     @Transactional
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         if (quizRepository.count() > 0) {
             logger.info("QuizSeeder: Ya existen quizzes, omitiendo seed");
             return;
@@ -56,7 +56,7 @@ public class QuizService {
             BookingRepository bookingRepository,
             ObjectMapper objectMapper,
             @Lazy CredentialService credentialService,
-            GroqAIQuizService groqAIQuizService,
+            @Lazy GroqAIQuizService groqAIQuizService,
             TranscriptionFileService transcriptionFileService
     ) {
         this.quizRepository = quizRepository;
@@ -0,0 +1,36 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+import com.project.skillswap.logic.entity.auth.TokenBucket;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buckets en memoria (uno por regla y cliente) con el {@link TokenBucket} sin bloqueos del login.
+ * Los que ya se repusieron por completo se descartan cada minuto.
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitRule rule) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                k -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+        boolean allowed = bucket.tryConsume(now, rule.getCost()) == 0;
+        return RateLimitDecision.of(allowed, bucket.available(now), rule.getCapacity(), rule.getCost(),
+                rule.getRefillPerSecond());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
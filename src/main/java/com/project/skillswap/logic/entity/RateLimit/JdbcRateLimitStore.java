@@ -0,0 +1,79 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Buckets compartidos entre réplicas en la tabla rate_limit_bucket (ratelimit.backend=jdbc).
+ *
+ * El cobro es un único UPDATE condicional que repone y descuenta con el reloj de la base, así que
+ * dos nodos no pueden gastar la misma ficha ni depender de relojes sincronizados. Si la fila no
+ * existe se crea con INSERT IGNORE, salvo que el costo supere la capacidad. Después se lee el saldo para los encabezados.
+ * full_at indica cuándo el bucket vuelve a estar lleno; las filas vencidas se borran cada minuto.
+ * Se maneja con JDBC como startup_task_ledger: es una tabla técnica sin entidad.
+ */
+@Component
+@ConditionalOnProperty(name = "ratelimit.backend", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+    private static final Logger logger = LoggerFactory.getLogger(JdbcRateLimitStore.class);
+
+    private static final String REFILLED = "LEAST(?, tokens + TIMESTAMPDIFF(MICROSECOND, updated_at, NOW(3)) * ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_bucket (" +
+                "bucket_key VARCHAR(191) NOT NULL PRIMARY KEY, " +
+                "tokens DOUBLE NOT NULL, " +
+                "updated_at DATETIME(3) NOT NULL, " +
+                "full_at DATETIME(3) NOT NULL, " +
+                "INDEX idx_rate_limit_bucket_full_at (full_at))");
+        logger.info("[RATE-LIMIT] Buckets compartidos en rate_limit_bucket");
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, RateLimitRule rule) {
+        double capacity = rule.getCapacity();
+        double cost = rule.getCost();
+        double refillPerMicro = rule.getRefillPerSecond() / 1_000_000d;
+
+        // tokens se asigna antes que updated_at, así que el refill usa la marca anterior
+        int consumed = jdbcTemplate.update("UPDATE rate_limit_bucket SET " +
+                        "tokens = " + REFILLED + " - ?, " +
+                        "updated_at = NOW(3), " +
+                        "full_at = NOW(3) + INTERVAL CEIL((? - tokens) / ?) MICROSECOND " +
+                        "WHERE bucket_key = ? AND " + REFILLED + " >= ?",
+                capacity, refillPerMicro, cost,
+                capacity, refillPerMicro,
+                key, capacity, refillPerMicro, cost);
+
+        // Sin fila el bucket está lleno: se crea solo si la petición cabe, igual que en el UPDATE
+        if (consumed == 0 && cost <= capacity) {
+            consumed = jdbcTemplate.update("INSERT IGNORE INTO rate_limit_bucket (bucket_key, tokens, updated_at, full_at) " +
+                            "VALUES (?, ?, NOW(3), NOW(3) + INTERVAL CEIL(? / ?) MICROSECOND)",
+                    key, capacity - cost, cost, refillPerMicro);
+        }
+
+        List<Double> available = jdbcTemplate.queryForList(
+                "SELECT " + REFILLED + " FROM rate_limit_bucket WHERE bucket_key = ?",
+                Double.class, capacity, refillPerMicro, key);
+        double tokens = available.isEmpty() ? 0 : available.get(0);
+        return RateLimitDecision.of(consumed > 0, tokens, capacity, cost, rule.getRefillPerSecond());
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        try {
+            jdbcTemplate.update("DELETE FROM rate_limit_bucket WHERE full_at < NOW(3)");
+        } catch (Exception e) {
+            logger.warn("[RATE-LIMIT] No se pudieron borrar los buckets llenos: " + e.getMessage());
+        }
+    }
+}
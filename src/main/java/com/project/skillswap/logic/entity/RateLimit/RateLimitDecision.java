@@ -0,0 +1,17 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+/**
+ * Resultado de cobrar una petición a un bucket
+ *
+ * @param remaining fichas que quedan (RateLimit-Remaining)
+ * @param resetSeconds segundos hasta que el bucket vuelva a estar lleno (RateLimit-Reset)
+ * @param retryAfterSeconds si se rechazó, segundos hasta que alcancen las fichas (Retry-After)
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long resetSeconds, long retryAfterSeconds) {
+
+    static RateLimitDecision of(boolean allowed, double available, double capacity, double cost, double refillPerSecond) {
+        long reset = (long) Math.ceil(Math.max(0, capacity - available) / refillPerSecond);
+        long retryAfter = allowed ? 0 : Math.max(1, (long) Math.ceil((cost - available) / refillPerSecond));
+        return new RateLimitDecision(allowed, (long) Math.floor(Math.max(0, available)), reset, retryAfter);
+    }
+}
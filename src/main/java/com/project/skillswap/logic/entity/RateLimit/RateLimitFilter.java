@@ -0,0 +1,204 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.auth.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Límites de tasa de los endpoints costosos (LLM, transcripción, audio, PDFs, proxy de documentos).
+ *
+ * Cada regla de ratelimit.rules define rutas, un token bucket (capacity, refill-per-minute) y las
+ * fichas que cuesta cada petición, cobradas por persona, por IP o para toda la ruta. Con
+ * max-concurrent además limita las peticiones en curso en este nodo.
+ * - Sin fichas: 429 con Retry-After, sin llegar al controlador.
+ * - Sin lugar entre las peticiones en curso: 503 con Retry-After.
+ * - Las respuestas admitidas llevan RateLimit-Limit, RateLimit-Remaining, RateLimit-Reset y
+ *   RateLimit-Policy de la regla más ajustada.
+ * Las rutas sin regla solo pagan la comparación de patrones.
+ *
+ * Se registra en la cadena de seguridad después de JwtAuthenticationFilter (para conocer a la
+ * persona) y no como filtro del contenedor; ver SecurityConfiguration.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore store;
+    private final ClientIpResolver clientIpResolver;
+    private final ObjectMapper objectMapper;
+    private final List<RateLimitRule> rules = new ArrayList<>();
+    private final Map<String, Counter> admitted = new HashMap<>();
+    private final Map<String, Counter> rejected = new HashMap<>();
+    private final Map<String, Counter> saturated = new HashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           RateLimitStore store,
+                           ClientIpResolver clientIpResolver,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.clientIpResolver = clientIpResolver;
+        this.objectMapper = objectMapper;
+
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            RateLimitRule rule = new RateLimitRule(entry.getKey(), entry.getValue());
+            rules.add(rule);
+            admitted.put(rule.getName(), decisionCounter(meterRegistry, rule, "admitted"));
+            rejected.put(rule.getName(), decisionCounter(meterRegistry, rule, "rejected"));
+            saturated.put(rule.getName(), decisionCounter(meterRegistry, rule, "saturated"));
+            if (rule.getMaxConcurrent() > 0) {
+                Gauge.builder("skillswap.ratelimit.inflight", rule, RateLimitRule::getInFlight)
+                        .tag("rule", rule.getName())
+                        .register(meterRegistry);
+            }
+            logger.info("[RATE-LIMIT] Regla " + rule.getName() + ": " + rule.policy() + ", costo " + (long) rule.getCost()
+                    + ", por " + rule.getScope() + (rule.getMaxConcurrent() > 0 ? ", máx. " + rule.getMaxConcurrent() + " en curso" : ""));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        List<RateLimitRule> matched = matching(request);
+        if (matched.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Primero los lugares de concurrencia: si no hay, no se gastan fichas
+        int entered = 0;
+        for (RateLimitRule rule : matched) {
+            if (!rule.tryEnter()) {
+                exit(matched, entered);
+                saturated.get(rule.getName()).increment();
+                reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "SERVER_BUSY",
+                        "Hay demasiadas solicitudes de este tipo en curso. Intenta de nuevo en unos segundos");
+                return;
+            }
+            entered++;
+        }
+
+        try {
+            RateLimitRule tightestRule = null;
+            RateLimitDecision tightest = null;
+            for (RateLimitRule rule : matched) {
+                RateLimitDecision decision = store.tryConsume(rule.getName() + ":" + clientKey(rule, request), rule);
+                if (!decision.allowed()) {
+                    rejected.get(rule.getName()).increment();
+                    logger.warn("[RATE-LIMIT] Regla " + rule.getName() + " excedida por " + clientKey(rule, request));
+                    writeHeaders(response, rule, decision);
+                    reject(response, HttpStatus.TOO_MANY_REQUESTS, decision.retryAfterSeconds(), "RATE_LIMITED",
+                            "Demasiadas solicitudes. Intenta de nuevo en " + decision.retryAfterSeconds() + " segundos");
+                    return;
+                }
+                if (tightest == null || decision.remaining() < tightest.remaining()) {
+                    tightest = decision;
+                    tightestRule = rule;
+                }
+                admitted.get(rule.getName()).increment();
+            }
+            writeHeaders(response, tightestRule, tightest);
+
+            filterChain.doFilter(request, response);
+        } finally {
+            exit(matched, entered);
+        }
+    }
+
+    //#region Private Methods
+    private List<RateLimitRule> matching(HttpServletRequest request) {
+        if (!properties.isEnabled() || rules.isEmpty()) {
+            return List.of();
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        List<RateLimitRule> matched = null;
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                if (matched == null) {
+                    matched = new ArrayList<>(2);
+                }
+                matched.add(rule);
+            }
+        }
+        return matched != null ? matched : List.of();
+    }
+
+    private String clientKey(RateLimitRule rule, HttpServletRequest request) {
+        return switch (rule.getScope()) {
+            case ROUTE -> "*";
+            case IP -> "ip:" + clientIpResolver.resolve(request, properties.isTrustForwardedFor());
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.getPrincipal() instanceof Person person) {
+                    yield "user:" + person.getId();
+                }
+                yield "ip:" + clientIpResolver.resolve(request, properties.isTrustForwardedFor());
+            }
+        };
+    }
+
+    private void exit(List<RateLimitRule> matched, int entered) {
+        for (int i = 0; i < entered; i++) {
+            matched.get(i).exit();
+        }
+    }
+
+    private void writeHeaders(HttpServletResponse response, RateLimitRule rule, RateLimitDecision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf((long) rule.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        response.setHeader("RateLimit-Policy", rule.policy());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds,
+                        String code, String message) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", true);
+        error.put("code", code);
+        error.put("message", message);
+        error.put("status", status.value());
+        error.put("timestamp", System.currentTimeMillis());
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private Counter decisionCounter(MeterRegistry meterRegistry, RateLimitRule rule, String result) {
+        return Counter.builder("skillswap.ratelimit.decisions")
+                .tag("rule", rule.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    //#endregion
+}
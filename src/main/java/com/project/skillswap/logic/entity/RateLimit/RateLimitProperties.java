@@ -0,0 +1,118 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reglas de ratelimit.rules.&lt;nombre&gt;.* en application.properties
+ */
+@Component
+@ConfigurationProperties("ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    /** Tomar la IP de X-Forwarded-For en las reglas por IP; solo detrás de proxies propios */
+    private boolean trustForwardedFor = false;
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isTrustForwardedFor() {
+        return trustForwardedFor;
+    }
+
+    public void setTrustForwardedFor(boolean trustForwardedFor) {
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    public Map<String, Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(Map<String, Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+        /** Patrones de ruta (PathPattern, por ejemplo /videocall/summary/generate/{id}) */
+        private List<String> patterns = new ArrayList<>();
+        /** Métodos HTTP; vacío = todos */
+        private List<String> methods = new ArrayList<>();
+        private RateLimitScope scope = RateLimitScope.USER;
+        /** Fichas máximas (ráfaga permitida) */
+        private int capacity = 10;
+        /** Fichas repuestas por minuto; admite fracciones (0.5 = una cada dos minutos) */
+        private double refillPerMinute = 10;
+        /** Fichas que consume cada petición */
+        private int cost = 1;
+        /** Peticiones simultáneas en este nodo; 0 = sin límite */
+        private int maxConcurrent = 0;
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public RateLimitScope getScope() {
+            return scope;
+        }
+
+        public void setScope(RateLimitScope scope) {
+            this.scope = scope;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerMinute() {
+            return refillPerMinute;
+        }
+
+        public void setRefillPerMinute(double refillPerMinute) {
+            this.refillPerMinute = refillPerMinute;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+}
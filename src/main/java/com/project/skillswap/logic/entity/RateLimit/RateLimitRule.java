@@ -0,0 +1,117 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Regla compilada a partir de {@link RateLimitProperties.Rule}.
+ * Lleva además el contador de peticiones en curso para max-concurrent (por nodo).
+ */
+public final class RateLimitRule {
+
+    private final String name;
+    private final List<PathPattern> patterns;
+    private final Set<String> methods;
+    private final RateLimitScope scope;
+    private final double capacity;
+    private final double refillPerSecond;
+    private final double cost;
+    private final int maxConcurrent;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    RateLimitRule(String name, RateLimitProperties.Rule rule) {
+        if (rule.getPatterns().isEmpty()) {
+            throw new IllegalStateException("ratelimit.rules." + name + ".patterns es obligatorio");
+        }
+        if (rule.getCost() > rule.getCapacity() || rule.getRefillPerMinute() <= 0) {
+            throw new IllegalStateException("ratelimit.rules." + name + ": cost no puede superar capacity y refill-per-minute debe ser positivo");
+        }
+        this.name = name;
+        this.patterns = rule.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.methods = rule.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        this.scope = rule.getScope();
+        this.capacity = rule.getCapacity();
+        this.refillPerSecond = rule.getRefillPerMinute() / 60d;
+        this.cost = rule.getCost();
+        this.maxConcurrent = rule.getMaxConcurrent();
+    }
+
+    boolean matches(String method, PathContainer path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reserva un lugar entre las peticiones en curso
+     * @return false si ya hay max-concurrent
+     */
+    boolean tryEnter() {
+        if (maxConcurrent <= 0) {
+            return true;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void exit() {
+        if (maxConcurrent > 0) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Valor de RateLimit-Policy, por ejemplo 5;w=150 (5 fichas que se reponen en 150 s)
+     */
+    String policy() {
+        return (long) capacity + ";w=" + (long) Math.ceil(capacity / refillPerSecond);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitScope getScope() {
+        return scope;
+    }
+
+    public double getCapacity() {
+        return capacity;
+    }
+
+    public double getRefillPerSecond() {
+        return refillPerSecond;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
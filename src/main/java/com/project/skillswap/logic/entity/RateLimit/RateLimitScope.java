@@ -0,0 +1,13 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+/**
+ * A quién se cobra una regla de límite de tasa
+ */
+public enum RateLimitScope {
+    /** Persona autenticada; las peticiones anónimas se cobran a su IP */
+    USER,
+    /** IP del cliente */
+    IP,
+    /** Un solo bucket para la ruta, compartido por todos (protege cuotas externas) */
+    ROUTE
+}
@@ -0,0 +1,13 @@
+package com.project.skillswap.logic.entity.RateLimit;
+
+/**
+ * Almacén de buckets. En memoria por defecto; ratelimit.backend=jdbc comparte los buckets entre
+ * réplicas a través de la base.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Cobra rule.cost fichas al bucket key (todas o ninguna)
+     */
+    RateLimitDecision tryConsume(String key, RateLimitRule rule);
+}
@@ -0,0 +1,246 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coordina los jobs programados entre varias réplicas de la aplicación.
+ *
+ * Todos los nodos disparan el mismo @Scheduled, pero solo el que adquiere el lease en
+ * job_lease ejecuta el trabajo; los demás lo omiten. Mientras corre, el lease se renueva cada
+ * tercio de su duración, así que si el nodo se cae otro lo retoma cuando vence. Los jobs grandes
+ * se reparten en shards con un lease cada uno, para que varios nodos avancen en paralelo.
+ *
+ * Las operaciones sobre leases e historial usan transacciones propias (REQUIRES_NEW): el lease
+ * tiene que ser visible para los demás nodos aunque el job corra dentro de otra transacción.
+ */
+@Service
+public class JobCoordinator {
+    private static final Logger logger = LoggerFactory.getLogger(JobCoordinator.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    //#region Dependencies
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${skillswap.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${jobs.history.retention-days:14}")
+    private int historyRetentionDays;
+    //#endregion
+
+    private final Set<String> runningLocally = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TransactionTemplate requiresNew;
+    private String nodeId;
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    public void stop() {
+        renewer.shutdownNow();
+    }
+
+    //#region API
+
+    /**
+     * Ejecuta el job solo si este nodo obtiene su lease
+     * @param jobName Nombre único del job
+     * @param leaseTtl Duración del lease; se renueva mientras el job corre
+     * @param minInterval Tiempo mínimo entre ejecuciones del job en todo el cluster
+     * @param task Trabajo a ejecutar
+     * @return true si se ejecutó en este nodo
+     */
+    public boolean runExclusive(String jobName, Duration leaseTtl, Duration minInterval, Runnable task) {
+        return runShard(jobName, JobShard.SINGLE, leaseTtl, minInterval, shard -> task.run());
+    }
+
+    /**
+     * Reparte el job en shards con lease propio y ejecuta los que este nodo logra adquirir.
+     * Cada nodo empieza por un shard distinto, así que con varios nodos el trabajo se divide.
+     * @param jobName Nombre único del job
+     * @param shardCount Cantidad de shards
+     * @param leaseTtl Duración del lease de cada shard
+     * @param minInterval Tiempo mínimo entre ejecuciones de un mismo shard
+     * @param task Trabajo de un shard
+     * @return Cantidad de shards ejecutados en este nodo
+     */
+    public int runSharded(String jobName, int shardCount, Duration leaseTtl, Duration minInterval, Consumer<JobShard> task) {
+        int offset = Math.floorMod(getNodeId().hashCode(), shardCount);
+        int executed = 0;
+        for (int i = 0; i < shardCount; i++) {
+            JobShard shard = new JobShard((offset + i) % shardCount, shardCount);
+            if (runShard(jobName, shard, leaseTtl, minInterval, task)) {
+                executed++;
+            }
+        }
+        return executed;
+    }
+
+    /**
+     * Identificador de este nodo: skillswap.node-id o, si no se configuró, host y pid
+     */
+    public String getNodeId() {
+        if (nodeId == null) {
+            nodeId = resolveNodeId();
+        }
+        return nodeId;
+    }
+
+    //#endregion
+
+    //#region Mantenimiento
+
+    /**
+     * Elimina el historial de ejecuciones más viejo que jobs.history.retention-days
+     */
+    @Scheduled(cron = "0 45 3 * * *")
+    public void purgeHistory() {
+        runExclusive("job-run-history-purge", Duration.ofMinutes(5), Duration.ofHours(1), () -> {
+            Date before = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(historyRetentionDays));
+            Integer deleted = requiresNew.execute(status -> jobRunRepository.deleteStartedBefore(before));
+            logger.info("[JOBS] Historial depurado: " + deleted + " ejecuciones anteriores a " + before);
+        });
+    }
+
+    //#endregion
+
+    //#region Privados
+
+    private boolean runShard(String jobName, JobShard shard, Duration leaseTtl, Duration minInterval, Consumer<JobShard> task) {
+        String leaseKey = shard.count() == 1 ? jobName : jobName + "#" + shard.index();
+        String owner = getNodeId();
+        long ttlSeconds = Math.max(1, leaseTtl.toSeconds());
+
+        // Si la ejecución anterior de este mismo nodo sigue corriendo, no se empieza otra
+        if (!runningLocally.add(leaseKey)) {
+            skipped(jobName, "local");
+            return false;
+        }
+        try {
+            if (!acquire(leaseKey, jobName, shard, owner, ttlSeconds)) {
+                skipped(jobName, "lease");
+                logger.debug("[JOBS] {} ({}) omitido: lo tiene otro nodo", jobName, shard);
+                return false;
+            }
+
+            ScheduledFuture<?> heartbeat = renewer.scheduleAtFixedRate(
+                    () -> renew(leaseKey, owner, ttlSeconds),
+                    Math.max(1, ttlSeconds / 3), Math.max(1, ttlSeconds / 3), TimeUnit.SECONDS);
+            JobRun run = new JobRun(jobName, shard, owner, new Date());
+            try {
+                task.accept(shard);
+                finish(run, JobRunStatus.SUCCESS, null);
+            } catch (RuntimeException e) {
+                finish(run, JobRunStatus.FAILED, e.getMessage());
+                throw e;
+            } finally {
+                heartbeat.cancel(false);
+                release(leaseKey, owner, minInterval.toSeconds());
+            }
+            return true;
+        } finally {
+            runningLocally.remove(leaseKey);
+        }
+    }
+
+    private boolean acquire(String leaseKey, String jobName, JobShard shard, String owner, long ttlSeconds) {
+        Boolean acquired = requiresNew.execute(status -> {
+            jobLeaseRepository.ensureExists(leaseKey, jobName, shard.index(), shard.count());
+            return jobLeaseRepository.tryAcquire(leaseKey, owner, shard.count(), ttlSeconds) == 1;
+        });
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private void renew(String leaseKey, String owner, long ttlSeconds) {
+        try {
+            Integer renewed = requiresNew.execute(status -> jobLeaseRepository.renew(leaseKey, owner, ttlSeconds));
+            if (renewed == null || renewed == 0) {
+                logger.warn("[JOBS] Se perdió el lease " + leaseKey + "; otro nodo puede haberlo tomado");
+            }
+        } catch (Exception e) {
+            logger.error("[JOBS] Error renovando el lease " + leaseKey + ": " + e.getMessage());
+        }
+    }
+
+    private void release(String leaseKey, String owner, long holdSeconds) {
+        try {
+            requiresNew.executeWithoutResult(status -> jobLeaseRepository.release(leaseKey, owner, holdSeconds));
+        } catch (Exception e) {
+            // Si no se pudo liberar, el lease vence solo al terminar su duración
+            logger.error("[JOBS] Error liberando el lease " + leaseKey + ": " + e.getMessage());
+        }
+    }
+
+    private void finish(JobRun run, JobRunStatus status, String errorMessage) {
+        Date finishedAt = new Date();
+        run.setFinishedAt(finishedAt);
+        run.setDurationMs(finishedAt.getTime() - run.getStartedAt().getTime());
+        run.setStatus(status);
+        if (errorMessage != null) {
+            run.setErrorMessage(errorMessage.length() > MAX_ERROR_LENGTH
+                    ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage);
+        }
+        try {
+            requiresNew.executeWithoutResult(tx -> jobRunRepository.save(run));
+        } catch (Exception e) {
+            logger.error("[JOBS] Error guardando el historial de " + run.getJobName() + ": " + e.getMessage());
+        }
+    }
+
+    private void skipped(String jobName, String reason) {
+        meterRegistry.counter("skillswap.jobs.skipped", "job", jobName, "reason", reason).increment();
+    }
+
+    private String resolveNodeId() {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            return configuredNodeId.trim();
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+
+    //#endregion
+}
@@ -0,0 +1,75 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * Lease de un job programado (o de un shard de un job) entre réplicas.
+ * Quien tiene el lease vigente es el único nodo que ejecuta el job; las filas se
+ * adquieren y renuevan con UPDATE condicionales en {@link JobLeaseRepository}.
+ */
+@Table(name = "job_lease")
+@Entity
+public class JobLease {
+
+    //<editor-fold desc="Fields">
+    @Id
+    @Column(name = "lease_key", length = 150)
+    private String leaseKey;
+
+    @Column(name = "job_name", length = 120, nullable = false)
+    private String jobName;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Column(name = "owner", length = 120, nullable = false)
+    private String owner;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "acquired_at", nullable = false)
+    private Date acquiredAt;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "expires_at", nullable = false)
+    private Date expiresAt;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    public JobLease() {}
+    //</editor-fold>
+
+    //<editor-fold desc="Getters">
+    public String getLeaseKey() {
+        return leaseKey;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Date getAcquiredAt() {
+        return acquiredAt;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,60 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Operaciones atómicas sobre job_lease. Todas usan la hora de la base (NOW(3)),
+ * así que la diferencia de reloj entre nodos no afecta quién tiene el lease.
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Crea el lease ya vencido si todavía no existe (no hace nada si existe)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lease (lease_key, job_name, shard_index, shard_count, owner, acquired_at, expires_at) " +
+            "VALUES (:leaseKey, :jobName, :shardIndex, :shardCount, '', NOW(3), NOW(3))", nativeQuery = true)
+    int ensureExists(@Param("leaseKey") String leaseKey,
+                     @Param("jobName") String jobName,
+                     @Param("shardIndex") int shardIndex,
+                     @Param("shardCount") int shardCount);
+
+    /**
+     * Toma el lease si está vencido o ya es de este nodo. El UPDATE bloquea la fila,
+     * así que entre dos nodos que compiten solo uno obtiene 1 fila afectada.
+     * @return 1 si se adquirió, 0 si otro nodo lo tiene vigente
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET owner = :owner, shard_count = :shardCount, acquired_at = NOW(3), " +
+            "expires_at = NOW(3) + INTERVAL :ttlSeconds SECOND " +
+            "WHERE lease_key = :leaseKey AND (owner = :owner OR expires_at <= NOW(3))", nativeQuery = true)
+    int tryAcquire(@Param("leaseKey") String leaseKey,
+                   @Param("owner") String owner,
+                   @Param("shardCount") int shardCount,
+                   @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Extiende el lease mientras el job sigue corriendo
+     * @return 0 si el lease ya no es de este nodo
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET expires_at = NOW(3) + INTERVAL :ttlSeconds SECOND " +
+            "WHERE lease_key = :leaseKey AND owner = :owner", nativeQuery = true)
+    int renew(@Param("leaseKey") String leaseKey,
+              @Param("owner") String owner,
+              @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Libera el lease, pero no antes de holdSeconds desde que se adquirió:
+     * así otro nodo cuyo cron dispara unos segundos después no repite la misma ejecución.
+     */
+    @Modifying
+    @Query(value = "UPDATE job_lease SET expires_at = GREATEST(NOW(3), acquired_at + INTERVAL :holdSeconds SECOND) " +
+            "WHERE lease_key = :leaseKey AND owner = :owner", nativeQuery = true)
+    int release(@Param("leaseKey") String leaseKey,
+                @Param("owner") String owner,
+                @Param("holdSeconds") long holdSeconds);
+}
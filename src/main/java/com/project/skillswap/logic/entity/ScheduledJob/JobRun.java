@@ -0,0 +1,122 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * Historial de ejecuciones de jobs programados: qué nodo corrió qué shard y cuánto tardó.
+ * Las ejecuciones omitidas porque otro nodo tenía el lease no se registran.
+ */
+@Table(name = "job_run", indexes = {
+        @Index(name = "idx_job_run_job_started", columnList = "job_name, started_at")
+})
+@Entity
+public class JobRun {
+
+    //<editor-fold desc="Fields">
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", length = 120, nullable = false)
+    private String jobName;
+
+    @Column(name = "shard_index", nullable = false)
+    private int shardIndex;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Column(name = "node_id", length = 120, nullable = false)
+    private String nodeId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "started_at", nullable = false)
+    private Date startedAt;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "finished_at")
+    private Date finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobRunStatus status;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+    //</editor-fold>
+
+    //<editor-fold desc="Constructors">
+    public JobRun() {}
+
+    public JobRun(String jobName, JobShard shard, String nodeId, Date startedAt) {
+        this.jobName = jobName;
+        this.shardIndex = shard.index();
+        this.shardCount = shard.count();
+        this.nodeId = nodeId;
+        this.startedAt = startedAt;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="Getters and Setters">
+    public Long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Date getStartedAt() {
+        return startedAt;
+    }
+
+    public Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Date finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public JobRunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobRunStatus status) {
+        this.status = status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,26 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * Últimas ejecuciones de un job, la más reciente primero
+     */
+    List<JobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    /**
+     * Elimina el historial anterior a una fecha
+     * @return Filas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM JobRun r WHERE r.startedAt < :before")
+    int deleteStartedBefore(@Param("before") Date before);
+}
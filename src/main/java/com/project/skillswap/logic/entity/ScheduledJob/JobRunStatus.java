@@ -0,0 +1,6 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+public enum JobRunStatus {
+    SUCCESS,
+    FAILED
+}
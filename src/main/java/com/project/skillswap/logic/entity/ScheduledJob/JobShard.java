@@ -0,0 +1,33 @@
+package com.project.skillswap.logic.entity.ScheduledJob;
+
+/**
+ * Porción de un job repartido entre nodos. Cada shard cubre un rango contiguo de IDs.
+ *
+ * @param index Índice del shard (0..count-1)
+ * @param count Cantidad total de shards
+ */
+public record JobShard(int index, int count) {
+
+    public static final JobShard SINGLE = new JobShard(0, 1);
+
+    /**
+     * Primer ID (inclusive) del rango de este shard dentro de [minId, maxId]
+     */
+    public long firstId(long minId, long maxId) {
+        long span = maxId - minId + 1;
+        return minId + span * index / count;
+    }
+
+    /**
+     * Último ID (inclusive) del rango de este shard; menor que firstId si el shard quedó vacío
+     */
+    public long lastId(long minId, long maxId) {
+        long span = maxId - minId + 1;
+        return minId + span * (index + 1) / count - 1;
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+}
@@ -3,18 +3,19 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
 import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeAreaRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeAreaSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Order(3)
 @Component
-public class SkillSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class SkillSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(SkillSeeder.class);
 
     private final SkillRepository skillRepository;
@@ -26,7 +27,12 @@ public class SkillSeeder implements ApplicationListener<ContextRefreshedEvent> {
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(KnowledgeAreaSeeder.class);
+    }
+
+    @Override
+    public void run() {
         this.seedSkills();
     }
 
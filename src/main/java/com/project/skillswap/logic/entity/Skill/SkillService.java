@@ -2,6 +2,7 @@
 package com.project.skillswap.logic.entity.Skill;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.Catalog.CatalogCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +20,15 @@ public class SkillService {
     //<editor-fold desc="Dependencies">
     @Autowired
     private SkillRepository skillRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
     //</editor-fold>
 
     //<editor-fold desc="Public Methods">
     /**
      * Gets all active skills by knowledge area ID
+     * The public endpoints read them from {@link CatalogCache} instead
      *
      * @param knowledgeAreaId the knowledge area ID
      * @return List of active skills
@@ -73,7 +78,9 @@ public class SkillService {
      */
     @Transactional
     public Skill saveSkill(Skill skill) {
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        catalogCache.refreshAfterCommit();
+        return saved;
     }
 
     /**
@@ -84,6 +91,7 @@ public class SkillService {
     @Transactional
     public void deleteSkill(Long id) {
         skillRepository.deleteById(id);
+        catalogCache.refreshAfterCommit();
     }
     //</editor-fold>
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Backend de Cloudinary.
+ * Se sube el File (no un byte[]): el SDK lo envía como cuerpo multipart leyendo del disco.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryStorageBackend implements StorageBackend {
+    private static final Logger logger = LoggerFactory.getLogger(CloudinaryStorageBackend.class);
+
+    @Autowired
+    private Cloudinary cloudinary;
+
+    @Override
+    public StoredObject store(StagedUpload upload, Map<String, Object> options) throws IOException {
+        // Copia mutable: los llamantes pasan Map.of y el SDK puede agregar parámetros
+        Map<?, ?> result = cloudinary.uploader().upload(upload.getFile(), new HashMap<>(options));
+
+        String url = result.get("secure_url").toString();
+        String publicId = result.get("public_id").toString();
+        logger.info("[STORAGE] Subido a Cloudinary: " + publicId + " (" + upload.getSize() + " bytes)");
+
+        return new StoredObject(url, publicId, upload.getSize(), upload.getSha256());
+    }
+
+    @Override
+    public void delete(String publicId, String resourceType) throws IOException {
+        Map<?, ?> result = cloudinary.uploader().destroy(publicId, ObjectUtils.asMap(
+                "resource_type", resourceType,
+                "invalidate", true
+        ));
+        logger.info("[STORAGE] Eliminado de Cloudinary: " + publicId + " -> " + result);
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Almacén local direccionado por contenido: cada archivo se guarda una sola vez en
+ * storage.cas.root/ab/cd/&lt;sha256&gt;, así que subidas idénticas (aunque sean de sesiones
+ * distintas) comparten el mismo archivo en disco.
+ * Las referencias se cuentan por hash y el archivo se elimina al liberar la última.
+ */
+@Component
+public class ContentAddressedStore {
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedStore.class);
+
+    @Value("${storage.cas.root:uploads/cas}")
+    private String root;
+
+    private final Map<String, Integer> references = new ConcurrentHashMap<>();
+
+    /**
+     * Guarda el archivo preparado o reutiliza el existente con el mismo contenido
+     *
+     * @param upload archivo preparado por {@link UploadStagingService}; se mueve si el contenido es nuevo
+     * @return datos del archivo guardado (publicId es el SHA-256)
+     * @throws IOException si falla la escritura
+     */
+    public StoredObject put(StagedUpload upload) throws IOException {
+        String sha256 = upload.getSha256();
+        Path target = resolve(sha256);
+
+        references.merge(sha256, 1, Integer::sum);
+        try {
+            if (Files.exists(target) && Files.size(target) == upload.getSize()) {
+                logger.info("[CAS] Contenido repetido, se reutiliza " + sha256);
+            } else {
+                Files.createDirectories(target.getParent());
+                moveInto(upload.getPath(), target);
+                logger.info("[CAS] Guardado " + sha256 + " (" + upload.getSize() + " bytes)");
+            }
+        } catch (IOException | RuntimeException e) {
+            release(sha256, false);
+            throw e;
+        }
+
+        return new StoredObject(target.toUri().toString(), sha256, upload.getSize(), sha256);
+    }
+
+    /**
+     * Ruta del contenido con ese hash
+     */
+    public Path resolve(String sha256) {
+        if (sha256 == null || !sha256.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Hash de contenido inválido: " + sha256);
+        }
+        return Paths.get(root).toAbsolutePath().normalize()
+                .resolve(sha256.substring(0, 2))
+                .resolve(sha256.substring(2, 4))
+                .resolve(sha256);
+    }
+
+    /**
+     * Libera una referencia; el archivo se elimina cuando ya nadie lo usa
+     *
+     * @throws IOException si falla la eliminación
+     */
+    public void release(String sha256) throws IOException {
+        release(sha256, true);
+    }
+
+    //#region Privados
+
+    /**
+     * El archivo se elimina dentro del compute: un put concurrente del mismo hash espera
+     * y, al no encontrarlo, lo vuelve a escribir
+     */
+    private void release(String sha256, boolean deleteUnused) throws IOException {
+        try {
+            references.computeIfPresent(sha256, (hash, count) -> {
+                if (count > 1) {
+                    return count - 1;
+                }
+                if (deleteUnused) {
+                    try {
+                        Files.deleteIfExists(resolve(hash));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    logger.info("[CAS] Eliminado " + hash + " (sin referencias)");
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * El staging puede estar en otro sistema de archivos: se copia junto al destino y se
+     * renombra de forma atómica, así un lector nunca ve un archivo a medio escribir
+     */
+    private static void moveInto(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e) {
+            // Distinto sistema de archivos
+        } catch (FileAlreadyExistsException e) {
+            return;
+        }
+
+        Path partial = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        try {
+            Files.copy(source, partial, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,59 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Backend en el sistema de archivos local, para pruebas y desarrollo sin Cloudinary.
+ * Activar con storage.backend=local; los archivos quedan en storage.local.root/folder/public_id.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+    private static final Logger logger = LoggerFactory.getLogger(LocalStorageBackend.class);
+
+    @Value("${storage.local.root:uploads/storage}")
+    private String root;
+
+    @Override
+    public StoredObject store(StagedUpload upload, Map<String, Object> options) throws IOException {
+        String folder = options.get("folder") != null ? options.get("folder").toString() : "";
+        String publicId = options.get("public_id") != null
+                ? options.get("public_id").toString()
+                : UUID.randomUUID().toString();
+        String storedId = folder.isEmpty() ? publicId : folder + "/" + publicId;
+
+        Path target = resolve(storedId);
+        Files.createDirectories(target.getParent());
+        Files.copy(upload.getPath(), target, StandardCopyOption.REPLACE_EXISTING);
+
+        logger.info("[STORAGE] Guardado localmente: " + target + " (" + upload.getSize() + " bytes)");
+
+        return new StoredObject(target.toUri().toString(), storedId, upload.getSize(), upload.getSha256());
+    }
+
+    @Override
+    public void delete(String publicId, String resourceType) throws IOException {
+        Files.deleteIfExists(resolve(publicId));
+    }
+
+    private Path resolve(String storedId) {
+        Path base = Paths.get(root).toAbsolutePath().normalize();
+        Path target = base.resolve(storedId).normalize();
+        if (!target.startsWith(base)) {
+            throw new IllegalArgumentException("Ruta de almacenamiento inválida: " + storedId);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,441 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Entrega archivos locales (documentos de sesión, grabaciones) con soporte de HTTP Range.
+ *
+ * - ETag fuerte a partir del SHA-256 del contenido; con If-None-Match responde 304.
+ * - Range de un solo intervalo (bytes=a-b, bytes=a-, bytes=-n) con 206; If-Range invalida el
+ *   rango si el archivo cambió. Varios intervalos se responden con el archivo completo.
+ * - Los archivos grandes se envían con sendfile de Tomcat cuando el conector lo soporta y,
+ *   si no, con FileChannel.transferTo; el contenido nunca pasa por el heap.
+ * - Los archivos pequeños más pedidos se guardan en memoria. Cada archivo lleva un contador
+ *   de accesos que se reduce a la mitad en cada barrido; al llenarse el presupuesto se
+ *   desalojan los de menos accesos.
+ * - La lectura del archivo y el hash se hacen fuera de cualquier lock: no fijan el carrier de un
+ *   hilo virtual ni serializan las peticiones de otros archivos.
+ */
+@Component
+public class MediaServer {
+    private static final Logger logger = LoggerFactory.getLogger(MediaServer.class);
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    @Value("${media.cache.max-bytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${media.cache.max-file-bytes:1048576}")
+    private long cacheMaxFileBytes;
+
+    @Value("${media.cache.min-hits:3}")
+    private long cacheMinHits;
+
+    @Value("${media.sendfile.min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    private final Map<Path, MediaEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    // Protege el presupuesto de memoria; la lectura del archivo se hace antes de tomarlo
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    /**
+     * Escribe el archivo (o el intervalo pedido) en la respuesta
+     *
+     * @param file archivo a entregar
+     * @param sha256 hash del contenido si ya se conoce; si es null se calcula una vez y se recuerda
+     * @param contentType tipo MIME; si es null se deduce de la extensión
+     * @param fileName nombre para Content-Disposition
+     * @param inline true para mostrarlo en el navegador (audio), false para descargarlo
+     * @throws IOException si falla la lectura o la escritura
+     */
+    public void serve(Path file, String sha256, String contentType, String fileName, boolean inline,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path;
+        BasicFileAttributes attributes;
+        try {
+            path = file.toRealPath();
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        MediaEntry entry = entry(path, size, lastModified, sha256);
+        entry.hits.incrementAndGet();
+        String etag = "\"" + entry.sha256(path) + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String resolvedType = contentType != null
+                ? contentType
+                : MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        response.setContentType(resolvedType);
+        if (fileName != null) {
+            ContentDisposition.Builder disposition = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    disposition.filename(fileName, StandardCharsets.UTF_8).build().toString());
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && size > 0 && rangeStillValid(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        byte[] content = cachedContent(path, entry);
+        if (content != null) {
+            response.getOutputStream().write(content, (int) start, (int) length);
+        } else if (length >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat escribe el archivo con sendfile después de que el controlador retorna
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+        } else {
+            transfer(path, start, length, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Cada minuto reduce los contadores a la mitad, así el desalojo favorece lo pedido
+     * recientemente, y olvida los archivos que ya no se piden o que se eliminaron
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void decayAccessCounters() {
+        for (Map.Entry<Path, MediaEntry> item : entries.entrySet()) {
+            MediaEntry entry = item.getValue();
+            long hits = entry.hits.updateAndGet(value -> value / 2);
+            if ((hits == 0 && entry.content == null) || !Files.exists(item.getKey())) {
+                if (entries.remove(item.getKey(), entry)) {
+                    uncache(entry);
+                }
+            }
+        }
+    }
+
+    //#region Privados
+
+    private MediaEntry entry(Path path, long size, long lastModified, String sha256) {
+        MediaEntry[] replaced = {null};
+        MediaEntry entry = entries.compute(path, (key, current) -> {
+            if (current != null && current.size == size && current.lastModified == lastModified) {
+                return current;
+            }
+            replaced[0] = current;
+            return new MediaEntry(size, lastModified, sha256);
+        });
+        if (replaced[0] != null) {
+            uncache(replaced[0]);
+        }
+        return entry;
+    }
+
+    /**
+     * Contenido en memoria si el archivo es pequeño y se pidió lo suficiente para ganarse un lugar
+     */
+    private byte[] cachedContent(Path path, MediaEntry entry) throws IOException {
+        byte[] content = entry.content;
+        if (content != null || entry.size > cacheMaxFileBytes || entry.hits.get() < cacheMinHits) {
+            return content;
+        }
+        // Un solo hilo carga cada archivo; los demás lo sirven desde disco mientras tanto
+        if (!entry.loading.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            content = Files.readAllBytes(path);
+            if (content.length != entry.size) {
+                // El archivo cambió entre la lectura de atributos y la de contenido
+                return null;
+            }
+            cacheLock.lock();
+            try {
+                // Si la entrada se reemplazó mientras se leía, ya no cuenta en el presupuesto
+                if (entries.get(path) != entry || !makeRoom(entry)) {
+                    return null;
+                }
+                entry.content = content;
+                cachedBytes.addAndGet(content.length);
+                return content;
+            } finally {
+                cacheLock.unlock();
+            }
+        } finally {
+            entry.loading.set(false);
+        }
+    }
+
+    /**
+     * Desaloja, de menos a más accesos, los archivos con menos accesos que el candidato
+     * hasta que entre en el presupuesto. Se llama con cacheLock tomado.
+     */
+    private boolean makeRoom(MediaEntry candidate) {
+        long needed = cachedBytes.get() + candidate.size - cacheMaxBytes;
+        if (needed <= 0) {
+            return true;
+        }
+        long candidateHits = candidate.hits.get();
+        List<MediaEntry> victims = new ArrayList<>();
+        long freed = 0;
+        List<MediaEntry> cached = new ArrayList<>();
+        for (MediaEntry entry : entries.values()) {
+            if (entry.content != null && entry.hits.get() < candidateHits) {
+                cached.add(entry);
+            }
+        }
+        cached.sort(Comparator.comparingLong(entry -> entry.hits.get()));
+        for (MediaEntry entry : cached) {
+            if (freed >= needed) {
+                break;
+            }
+            victims.add(entry);
+            freed += entry.size;
+        }
+        if (freed < needed) {
+            return false;
+        }
+        victims.forEach(this::uncache);
+        logger.info("[MEDIA] " + victims.size() + " archivos desalojados de memoria (" + freed + " bytes)");
+        return true;
+    }
+
+    private void uncache(MediaEntry entry) {
+        cacheLock.lock();
+        try {
+            if (entry.content != null) {
+                cachedBytes.addAndGet(-entry.content.length);
+                entry.content = null;
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * If-Range: el rango solo aplica si el ETag (comparación fuerte) o la fecha siguen iguales
+     */
+    private static boolean rangeStillValid(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.trim().equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return {inicio, fin} inclusivos; null si el encabezado se ignora (sintaxis inválida o
+     * varios intervalos); UNSATISFIABLE si ningún byte del intervalo existe
+     */
+    private static long[] parseRange(String header, long size) {
+        String value = header.trim();
+        if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = value.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, size - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * If-None-Match usa comparación débil: se ignora el prefijo W/
+     */
+    private static boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void transfer(Path path, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private static String hash(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Estado por archivo: versión (tamaño y fecha), hash, accesos y contenido si está en memoria
+     */
+    private static final class MediaEntry {
+        private final long size;
+        private final long lastModified;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private final AtomicReference<CompletableFuture<String>> hashing = new AtomicReference<>();
+        private volatile byte[] content;
+
+        private MediaEntry(long size, long lastModified, String sha256) {
+            this.size = size;
+            this.lastModified = lastModified;
+            if (sha256 != null) {
+                hashing.set(CompletableFuture.completedFuture(sha256));
+            }
+        }
+
+        /**
+         * El hash de archivos que no vienen del almacén por contenido se calcula una sola vez, sin
+         * monitor: el primer hilo lo calcula y los que llegan mientras tanto esperan su resultado.
+         * Si falla, la siguiente petición lo vuelve a intentar.
+         */
+        private String sha256(Path path) throws IOException {
+            CompletableFuture<String> current = hashing.get();
+            if (current == null) {
+                CompletableFuture<String> mine = new CompletableFuture<>();
+                current = hashing.compareAndExchange(null, mine);
+                if (current == null) {
+                    current = mine;
+                    try {
+                        mine.complete(hash(path));
+                    } catch (IOException | RuntimeException e) {
+                        hashing.compareAndSet(mine, null);
+                        mine.completeExceptionally(e);
+                        throw e;
+                    }
+                }
+            }
+            try {
+                return current.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw e;
+            }
+        }
+    }
+
+    //#endregion
+}
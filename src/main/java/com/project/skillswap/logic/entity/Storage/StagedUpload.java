@@ -0,0 +1,66 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Archivo subido copiado a disco una sola vez, con su tamaño y SHA-256 ya calculados.
+ * Todos los consumidores (almacenamiento, transcripción) leen de este archivo en streaming,
+ * así que nunca se materializa el contenido completo en el heap.
+ * Se elimina al cerrarlo.
+ */
+public class StagedUpload implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StagedUpload.class);
+
+    private final Path path;
+    private final long size;
+    private final String sha256;
+    private final String originalFilename;
+    private final String contentType;
+
+    public StagedUpload(Path path, long size, String sha256, String originalFilename, String contentType) {
+        this.path = path;
+        this.size = size;
+        this.sha256 = sha256;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public File getFile() {
+        return path.toFile();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("No se pudo eliminar el archivo temporal {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Backend donde se guardan los archivos subidos por los usuarios.
+ * Se elige con storage.backend: "cloudinary" (por defecto) o "local" para pruebas.
+ * Las opciones usan las claves de Cloudinary (folder, public_id, resource_type, ...);
+ * el backend local solo interpreta folder y public_id.
+ */
+public interface StorageBackend {
+
+    /**
+     * Guarda el archivo leyéndolo en streaming desde disco
+     *
+     * @param upload archivo preparado por {@link UploadStagingService}
+     * @param options opciones de subida
+     * @return datos del archivo guardado
+     * @throws IOException si falla la subida
+     */
+    StoredObject store(StagedUpload upload, Map<String, Object> options) throws IOException;
+
+    /**
+     * Elimina un archivo guardado
+     *
+     * @param publicId identificador devuelto por {@link #store}
+     * @param resourceType image, video o raw
+     * @throws IOException si falla la eliminación
+     */
+    void delete(String publicId, String resourceType) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.project.skillswap.logic.entity.Storage;
+
+/**
+ * Resultado de guardar un archivo en el backend de almacenamiento.
+ *
+ * @param url URL pública del archivo
+ * @param publicId identificador para eliminarlo después
+ * @param bytes tamaño guardado
+ * @param sha256 checksum calculado al recibir el archivo
+ */
+public record StoredObject(String url, String publicId, long bytes, String sha256) {
+}
@@ -0,0 +1,75 @@
+package com.project.skillswap.logic.entity.Storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Prepara los archivos subidos para el backend de almacenamiento.
+ * Copia el multipart a un archivo temporal con un buffer fijo y, en la misma pasada,
+ * calcula el SHA-256. El heap usado por subida es el buffer, no el tamaño del archivo.
+ */
+@Service
+public class UploadStagingService {
+    private static final Logger logger = LoggerFactory.getLogger(UploadStagingService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${storage.staging-dir:${java.io.tmpdir}/skillswap-uploads}")
+    private String stagingDir;
+
+    /**
+     * Copia el archivo subido a disco calculando su checksum
+     *
+     * @param file archivo recibido en la petición
+     * @return archivo preparado; el llamador debe cerrarlo (try-with-resources)
+     * @throws IOException si falla la lectura o escritura
+     */
+    public StagedUpload stage(MultipartFile file) throws IOException {
+        Path directory = Paths.get(stagingDir);
+        Files.createDirectories(directory);
+        Path target = Files.createTempFile(directory, "upload-", ".tmp");
+
+        MessageDigest digest = sha256();
+        long size = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (InputStream in = file.getInputStream();
+             OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+
+        String checksum = HexFormat.of().formatHex(digest.digest());
+        logger.info("[UPLOAD] Archivo preparado: " + file.getOriginalFilename() + " (" + size + " bytes, sha256 " + checksum + ")");
+
+        return new StagedUpload(target, size, checksum, file.getOriginalFilename(), file.getContentType());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -7,12 +7,15 @@ import com.project.skillswap.logic.entity.Learner.LearnerRepository;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.context.annotation.Lazy;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Servicio para procesar compras de SkillCoins mediante integración con PayPal.
@@ -36,11 +39,16 @@ public class CoinPurchaseService {
     private LearnerRepository learnerRepository;
 
     @Autowired
+    @Lazy
     private PayPalService payPalService;
 
     @Autowired
     private TransactionEmailService emailService;
 
+    @Autowired
+    @Qualifier("emailExecutor")
+    private Executor emailExecutor;
+
     private static final BigDecimal MAX_COINS_PER_DAY = new BigDecimal("500");
 
     /**
@@ -190,7 +198,7 @@ public class CoinPurchaseService {
 
     /**
      * Envía email de confirmación de compra con PDF adjunto de forma asíncrona.
-     * Se ejecuta en un hilo separado para evitar bloquear la transacción
+     * Se ejecuta en el executor de correo para evitar bloquear la transacción
      * y para prevenir que fallos en el envío de emails causen rollback de la transacción.
      *
      * @param person persona que realizó la compra
@@ -199,7 +207,7 @@ public class CoinPurchaseService {
      * @param newBalance balance actualizado de SkillCoins
      */
     private void sendPurchaseEmailAsync(Person person, Transaction transaction, CoinPackageType packageType, BigDecimal newBalance) {
-        new Thread(() -> {
+        emailExecutor.execute(() -> {
             try {
                 Thread.sleep(500);
                 emailService.sendPurchaseConfirmation(
@@ -215,7 +223,7 @@ public class CoinPurchaseService {
             } catch (Exception e) {
                 // El fallo del email se registra pero no afecta la transacción
             }
-        }).start();
+        });
     }
 
     /**
@@ -226,7 +234,7 @@ public class CoinPurchaseService {
      * @param packageType tipo de paquete que se intentó comprar
      */
     private void sendFailureEmailAsync(Person person, CoinPackageType packageType) {
-        new Thread(() -> {
+        emailExecutor.execute(() -> {
             try {
                 Thread.sleep(500);
                 emailService.sendPurchaseFailedNotification(
@@ -238,6 +246,6 @@ public class CoinPurchaseService {
             } catch (Exception e) {
                 // El fallo del email se registra pero no afecta la transacción
             }
-        }).start();
+        });
     }
 }
\ No newline at end of file
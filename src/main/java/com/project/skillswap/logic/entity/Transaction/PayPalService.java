@@ -8,6 +8,7 @@ import com.paypal.http.HttpResponse;
 import com.paypal.orders.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 
+@Lazy
 @Service
 public class PayPalService {
     private static final Logger logger = LoggerFactory.getLogger(PayPalService.class);
@@ -11,10 +11,15 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
+import com.project.skillswap.logic.entity.Pdf.PdfRenderingService;
+import com.project.skillswap.logic.entity.Pdf.PdfTemplateCache;
 import com.project.skillswap.logic.entity.Person.Person;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Lazy;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -27,12 +32,19 @@ import java.util.Date;
  * @author Equipo de Desarrollo SkillSwap
  * @version 1.0
  */
+@Lazy
 @Service
 public class PurchaseReceiptPdfService {
     private static final Logger logger = LoggerFactory.getLogger(PurchaseReceiptPdfService.class);
 
-    private static final DeviceRgb SKILLSWAP_PURPLE = new DeviceRgb(80, 74, 183);
-    private static final DeviceRgb SKILLSWAP_GREEN = new DeviceRgb(170, 225, 107);
+    private static final DeviceRgb SKILLSWAP_PURPLE = PdfTemplateCache.SKILLSWAP_PURPLE;
+    private static final DeviceRgb SKILLSWAP_GREEN = PdfTemplateCache.SKILLSWAP_GREEN;
+
+    @Autowired
+    private PdfTemplateCache pdfTemplates;
+
+    @Autowired
+    private PdfRenderingService pdfRenderingService;
 
     /**
      * Genera un PDF con el comprobante de compra de SkillCoins.
@@ -52,9 +64,50 @@ public class PurchaseReceiptPdfService {
             CoinPackageType packageType,
             BigDecimal newBalance) {
 
+        return pdfRenderingService.renderToBytes(
+                out -> writePurchaseReceipt(transaction, person, packageType, newBalance, out));
+    }
+
+    /**
+     * Genera el comprobante en un archivo temporal para adjuntarlo a un correo
+     * sin mantener el documento completo en memoria.
+     *
+     * @param transaction transacción completada
+     * @param person persona que realizó la compra
+     * @param packageType tipo de paquete comprado
+     * @param newBalance nuevo balance después de la compra
+     * @return archivo temporal con el PDF; el llamante debe eliminarlo
+     * @throws Exception si no se puede crear el archivo
+     */
+    public File generatePurchaseReceiptFile(
+            Transaction transaction,
+            Person person,
+            CoinPackageType packageType,
+            BigDecimal newBalance) throws Exception {
+
+        return pdfRenderingService.renderToTempFile("receipt_" + transaction.getId() + "_",
+                out -> writePurchaseReceipt(transaction, person, packageType, newBalance, out));
+    }
+
+    /**
+     * Escribe el comprobante de compra directamente en el flujo indicado.
+     *
+     * @param transaction transacción completada
+     * @param person persona que realizó la compra
+     * @param packageType tipo de paquete comprado
+     * @param newBalance nuevo balance después de la compra
+     * @param out flujo de salida destino (no se cierra)
+     */
+    public void writePurchaseReceipt(
+            Transaction transaction,
+            Person person,
+            CoinPackageType packageType,
+            BigDecimal newBalance,
+            OutputStream out) {
+
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc);
 
@@ -66,7 +119,6 @@ public class PurchaseReceiptPdfService {
             addFooter(document);
 
             document.close();
-            return baos.toByteArray();
 
         } catch (Exception e) {
             throw new RuntimeException("Error al generar PDF de comprobante: " + e.getMessage(), e);
@@ -79,20 +131,8 @@ public class PurchaseReceiptPdfService {
      * @param document documento PDF en construcción
      */
     private void addHeader(Document document) {
-        Paragraph header = new Paragraph("SkillSwap")
-                .setFontSize(28)
-                .setBold()
-                .setFontColor(SKILLSWAP_PURPLE)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(5);
-        document.add(header);
-
-        Paragraph subtitle = new Paragraph("Plataforma de Intercambio de Habilidades")
-                .setFontSize(10)
-                .setFontColor(ColorConstants.GRAY)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(30);
-        document.add(subtitle);
+        document.add(pdfTemplates.brandHeader(28));
+        document.add(pdfTemplates.brandSubtitle("Plataforma de Intercambio de Habilidades", 30));
     }
 
     /**
@@ -251,11 +291,7 @@ public class PurchaseReceiptPdfService {
                 .setMarginBottom(15);
         document.add(contact);
 
-        Paragraph copyright = new Paragraph("© 2025 SkillSwap. Todos los derechos reservados.")
-                .setFontSize(8)
-                .setFontColor(ColorConstants.GRAY)
-                .setTextAlignment(TextAlignment.CENTER);
-        document.add(copyright);
+        document.add(pdfTemplates.copyright(0));
 
         Paragraph legal = new Paragraph("Este documento es un comprobante de compra válido y puede ser usado para fines contables.")
                 .setFontSize(7)
@@ -273,12 +309,6 @@ public class PurchaseReceiptPdfService {
      * @param value valor correspondiente
      */
     private void addInfoRow(Table table, String label, String value) {
-        table.addCell(new Paragraph(label)
-                .setBold()
-                .setFontColor(SKILLSWAP_PURPLE)
-                .setFontSize(9));
-
-        table.addCell(new Paragraph(value != null ? value : "N/A")
-                .setFontSize(9));
+        pdfTemplates.addInfoRow(table, label, value, 9);
     }
 }
\ No newline at end of file
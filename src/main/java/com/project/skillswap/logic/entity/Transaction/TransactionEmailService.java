@@ -4,11 +4,13 @@ import org.slf4j.Logger;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Lazy;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -30,6 +32,7 @@ public class TransactionEmailService {
     private JavaMailSender mailSender;
 
     @Autowired
+    @Lazy
     private PurchaseReceiptPdfService purchaseReceiptPdfService;
 
     @Value("${spring.mail.username:noreply@skillswap.com}")
@@ -61,6 +64,7 @@ public class TransactionEmailService {
             BigDecimal newBalance,
             String paypalReference
     ) {
+        File receiptFile = null;
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -76,7 +80,7 @@ public class TransactionEmailService {
 
             helper.setText(emailBody, true);
 
-            byte[] pdfBytes = purchaseReceiptPdfService.generatePurchaseReceipt(
+            receiptFile = purchaseReceiptPdfService.generatePurchaseReceiptFile(
                     transaction,
                     transaction.getPerson(),
                     packageType,
@@ -85,13 +89,17 @@ public class TransactionEmailService {
 
             helper.addAttachment(
                     "Comprobante_SkillSwap_" + transaction.getId() + ".pdf",
-                    new ByteArrayResource(pdfBytes)
+                    new FileSystemResource(receiptFile)
             );
 
             mailSender.send(message);
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to send purchase confirmation email: " + e.getMessage(), e);
+        } finally {
+            if (receiptFile != null && !receiptFile.delete()) {
+                receiptFile.deleteOnExit();
+            }
         }
     }
 
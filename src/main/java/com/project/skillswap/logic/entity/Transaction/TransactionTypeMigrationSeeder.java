@@ -1,31 +1,32 @@
 package com.project.skillswap.logic.entity.Transaction;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Migración para agregar el tipo WITHDRAWAL al enum de Transaction
- * Este seeder se ejecuta automáticamente al iniciar el backend
+ * Se aplica una sola vez; StartupTaskRunner la registra en startup_task_ledger
  */
 @Order(1)  // Se ejecuta primero, antes de otros seeders
 @Component
-public class TransactionTypeMigrationSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class TransactionTypeMigrationSeeder implements StartupTask {
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private boolean alreadySetup = false;
-
+    /**
+     * Migración versionada: se aplica una sola vez; subir la versión para volver a aplicarla
+     */
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
-        if (alreadySetup) {
-            return;
-        }
+    public String checksum() {
+        return "1";
+    }
 
+    @Override
+    public void run() {
         System.out.println("[MIGRATION] Verificando columna 'type' de transaction...");
 
         try {
@@ -57,9 +58,8 @@ public class TransactionTypeMigrationSeeder implements ApplicationListener<Conte
 
         } catch (Exception e) {
             System.err.println("[MIGRATION]  Error verificando/actualizando columna 'type': " + e.getMessage());
-            e.printStackTrace();
+            // Sin registrar en startup_task_ledger: se reintenta en el próximo arranque
+            throw new IllegalStateException("Migración de transaction.type fallida", e);
         }
-
-        alreadySetup = true;
     }
 }
\ No newline at end of file
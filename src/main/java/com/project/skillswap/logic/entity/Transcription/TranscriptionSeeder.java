@@ -5,16 +5,17 @@ import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionSeeder;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.Set;
 
 @Order(8)
 @Component
-public class TranscriptionSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class TranscriptionSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(TranscriptionSeeder.class);
 
     private final TranscriptionRepository transcriptionRepository;
@@ -28,7 +29,12 @@ public class TranscriptionSeeder implements ApplicationListener<ContextRefreshed
     }
 
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(LearningSessionSeeder.class);
+    }
+
+    @Override
+    public void run() {
         if (transcriptionRepository.count() > 0) {
             logger.info("TranscriptionSeeder: Ya existen transcripciones, omitiendo seed");
             return;
@@ -21,7 +21,8 @@ public class UserSkill {
     private static final Logger logger = LoggerFactory.getLogger(UserSkill.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_skill_seq")
+    @SequenceGenerator(name = "user_skill_seq", sequenceName = "user_skill_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
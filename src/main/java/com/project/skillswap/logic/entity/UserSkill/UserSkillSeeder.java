@@ -6,8 +6,10 @@ import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
 import com.project.skillswap.logic.entity.Skill.Skill;
 import com.project.skillswap.logic.entity.Skill.SkillRepository;
-import org.springframework.context.ApplicationListener;
-import org.springframework.context.event.ContextRefreshedEvent;
+import com.project.skillswap.config.StartupTask;
+import com.project.skillswap.logic.entity.Person.PersonSeeder;
+import com.project.skillswap.logic.entity.Skill.SkillSeeder;
+import com.project.skillswap.config.IdSequenceInitializer;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -15,13 +17,14 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Seeder component that creates initial user-skill relationships in the database
  */
 @Order(4)
 @Component
-public class UserSkillSeeder implements ApplicationListener<ContextRefreshedEvent> {
+public class UserSkillSeeder implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(UserSkillSeeder.class);
 
     //#region Dependencies
@@ -48,14 +51,17 @@ public class UserSkillSeeder implements ApplicationListener<ContextRefreshedEven
     }
     //#endregion
 
-    //#region Event Handling
+    //#region Startup Task
+    @Override
+    public Set<Class<? extends StartupTask>> dependsOn() {
+        return Set.of(PersonSeeder.class, SkillSeeder.class, IdSequenceInitializer.class);
+    }
+
     /**
-     * Handles the application context refreshed event to seed initial data
-     *
-     * @param event the context refreshed event
+     * Runs on startup to seed initial data
      */
     @Override
-    public void onApplicationEvent(ContextRefreshedEvent event) {
+    public void run() {
         this.seedUserSkills();
     }
     //#endregion
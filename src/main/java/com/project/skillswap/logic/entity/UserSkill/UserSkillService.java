@@ -10,7 +10,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -49,23 +52,26 @@ public class UserSkillService {
             throw new IllegalArgumentException("One or more skill IDs are invalid");
         }
 
-        for (Skill skill : skills) {
-            Optional<UserSkill> existingUserSkill = userSkillRepository.findByPersonAndSkillId(person, skill.getId());
+        // One query for the existing rows; new and reactivated rows are written in a single batch
+        Map<Long, UserSkill> existingBySkillId = new HashMap<>();
+        for (UserSkill userSkill : userSkillRepository.findByPerson(person)) {
+            existingBySkillId.put(userSkill.getSkill().getId(), userSkill);
+        }
 
-            if (existingUserSkill.isEmpty()) {
-                UserSkill userSkill = new UserSkill();
+        LocalDateTime now = LocalDateTime.now();
+        List<UserSkill> toSave = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            UserSkill userSkill = existingBySkillId.get(skill.getId());
+            if (userSkill == null) {
+                userSkill = new UserSkill();
                 userSkill.setPerson(person);
                 userSkill.setSkill(skill);
-                userSkill.setSelectedDate(LocalDateTime.now());
-                userSkill.setActive(true);
-                userSkillRepository.save(userSkill);
-            } else {
-                UserSkill existingSkill = existingUserSkill.get();
-                existingSkill.setActive(true);
-                existingSkill.setSelectedDate(LocalDateTime.now());
-                userSkillRepository.save(existingSkill);
             }
+            userSkill.setSelectedDate(now);
+            userSkill.setActive(true);
+            toSave.add(userSkill);
         }
+        userSkillRepository.saveAll(toSave);
 
         return userSkillRepository.findActiveUserSkillsByPersonId(person.getId());
     }
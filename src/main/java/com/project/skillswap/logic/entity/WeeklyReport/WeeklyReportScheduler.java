@@ -1,10 +1,13 @@
 
 package com.project.skillswap.logic.entity.WeeklyReport;
+import com.project.skillswap.logic.entity.ScheduledJob.JobCoordinator;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Componente scheduler para el envío automático de reportes semanales.
  */
@@ -14,9 +17,11 @@ public class WeeklyReportScheduler {
 
     //#region Dependencies
     private final WeeklyReportService weeklyReportService;
+    private final JobCoordinator jobCoordinator;
 
-    public WeeklyReportScheduler(WeeklyReportService weeklyReportService) {
+    public WeeklyReportScheduler(WeeklyReportService weeklyReportService, JobCoordinator jobCoordinator) {
         this.weeklyReportService = weeklyReportService;
+        this.jobCoordinator = jobCoordinator;
     }
     //#endregion
 
@@ -27,9 +32,11 @@ public class WeeklyReportScheduler {
     @Scheduled(cron = "0 0 12 * * SUN")
     //@Scheduled(cron = "0 * * * * *") // Para probar el codigo con facilidad (Sammy o Jose) esto pasaría cada min
     public void sendWeeklyReports() {
-        logger.info("Iniciando generación de reportes semanales...");
-        weeklyReportService.generateAndSendWeeklyReports();
-        logger.info("Reportes semanales generados y enviados.");
+        jobCoordinator.runExclusive("weekly-reports", Duration.ofMinutes(15), Duration.ofHours(1), () -> {
+            logger.info("Iniciando generación de reportes semanales...");
+            weeklyReportService.generateAndSendWeeklyReports();
+            logger.info("Reportes semanales generados y enviados.");
+        });
     }
 
     /**
@@ -37,9 +44,11 @@ public class WeeklyReportScheduler {
      */
     @Scheduled(cron = "0 0 2 1 * *")
     public void cleanOldReports() {
-        logger.info("Iniciando limpieza de reportes antiguos...");
-        weeklyReportService.cleanOldReports(6);
-        logger.info("Reportes antiguos eliminados.");
+        jobCoordinator.runExclusive("weekly-reports-cleanup", Duration.ofMinutes(10), Duration.ofHours(1), () -> {
+            logger.info("Iniciando limpieza de reportes antiguos...");
+            weeklyReportService.cleanOldReports(6);
+            logger.info("Reportes antiguos eliminados.");
+        });
     }
     //#endregion
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -47,12 +48,15 @@ public class ApplicationConfiguration {
 
     /**
      * Provides the password encoder bean.
+     * The cost comes from auth.password.bcrypt-strength; existing hashes with a different
+     * cost are rehashed on the next successful login.
      *
+     * @param strength BCrypt log rounds
      * @return BCryptPasswordEncoder instance
      */
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    BCryptPasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -70,13 +74,14 @@ public class ApplicationConfiguration {
     /**
      * Provides the authentication provider bean.
      *
+     * @param passwordEncoder the password encoder
      * @return AuthenticationProvider configured with UserDetailsService and PasswordEncoder
      */
     @Bean
-    AuthenticationProvider authenticationProvider() {
+    AuthenticationProvider authenticationProvider(BCryptPasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
     //#endregion
@@ -4,17 +4,18 @@ import org.slf4j.Logger;
 
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Servicio de autenticación que valida las credenciales del usuario
  * y verifica que el correo electrónico esté validado.
+ *
+ * La contraseña se verifica una sola vez, en {@link PasswordHashingStage}; si el hash guardado
+ * usa un costo distinto al configurado se reemplaza en segundo plano después del login.
  */
 @Service
 public class AuthenticationService {
@@ -22,15 +23,15 @@ public class AuthenticationService {
 
     //#region Dependencies
     private final PersonRepository personRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingStage passwordHashingStage;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthenticationService(PersonRepository personRepository,
-                                 PasswordEncoder passwordEncoder,
-                                 AuthenticationManager authenticationManager) {
+                                 PasswordHashingStage passwordHashingStage,
+                                 PlatformTransactionManager transactionManager) {
         this.personRepository = personRepository;
-        this.passwordEncoder = passwordEncoder;
-        this.authenticationManager = authenticationManager;
+        this.passwordHashingStage = passwordHashingStage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     //#endregion
 
@@ -44,29 +45,49 @@ public class AuthenticationService {
      * @throws DisabledException si el email no ha sido verificado
      */
     public Person authenticate(Person loginPerson) {
-        String email = loginPerson.getEmail();
-        String rawPassword = loginPerson.getPasswordHash();
-
-        Person person = personRepository.findByEmail(email)
+        Person person = personRepository.findByEmail(loginPerson.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("Credenciales inválidas"));
 
-        if (!passwordEncoder.matches(rawPassword, person.getPasswordHash())) {
+        return authenticate(person, loginPerson.getPasswordHash());
+    }
+
+    /**
+     * Autentica a una persona ya cargada, sin volver a buscarla por email.
+     *
+     * @param person persona encontrada por el email del login
+     * @param rawPassword contraseña sin encriptar
+     * @return la misma persona si las credenciales son válidas
+     * @throws BadCredentialsException si las credenciales son inválidas
+     * @throws DisabledException si el email no ha sido verificado o la cuenta está inactiva
+     * @throws PasswordHashingStage.HashingOverloadedException si la etapa de hash está saturada
+     */
+    public Person authenticate(Person person, String rawPassword) {
+        String storedHash = person.getPasswordHash();
+
+        if (!passwordHashingStage.matches(rawPassword, storedHash)) {
             throw new BadCredentialsException("Credenciales inválidas");
         }
 
-        if (!person.getEmailVerified()) {
+        if (Boolean.FALSE.equals(person.getEmailVerified())) {
             throw new DisabledException("Por favor verifica tu correo electrónico antes de iniciar sesión");
         }
 
-        if (!person.getActive()) {
+        if (Boolean.FALSE.equals(person.getActive())) {
             throw new DisabledException("Tu cuenta ha sido desactivada. Contacta al soporte");
         }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(email, rawPassword)
-        );
+        if (passwordHashingStage.needsRehash(storedHash)) {
+            Long personId = person.getId();
+            passwordHashingStage.rehashAsync(rawPassword, newHash -> {
+                Integer updated = transactionTemplate.execute(status ->
+                        personRepository.updatePasswordHash(personId, storedHash, newHash));
+                if (updated != null && updated > 0) {
+                    logger.info("[LOGIN] Hash de contraseña actualizado al costo actual para la persona " + personId);
+                }
+            });
+        }
 
-        return (Person) authentication.getPrincipal();
+        return person;
     }
     //#endregion
 }
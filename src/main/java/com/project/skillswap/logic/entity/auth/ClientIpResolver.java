@@ -0,0 +1,37 @@
+package com.project.skillswap.logic.entity.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * IP del cliente para el control de admisión y los límites de tasa.
+ *
+ * Cada proxy agrega al final de X-Forwarded-For la dirección que se le conectó, así que solo las
+ * entradas de la derecha son confiables: con client-ip.trusted-proxy-hops proxies propios delante
+ * de la aplicación, la IP del cliente es la entrada en esa posición contando desde la derecha.
+ * Lo que el cliente haya enviado a la izquierda se ignora. Quien llama indica si confía en el
+ * encabezado (auth.login.trust-forwarded-for, ratelimit.trust-forwarded-for); si no, se usa la
+ * dirección de la conexión.
+ */
+@Component
+public class ClientIpResolver {
+
+    @Value("${client-ip.trusted-proxy-hops:1}")
+    private int trustedProxyHops;
+
+    public String resolve(HttpServletRequest request, boolean trustForwardedFor) {
+        if (trustForwardedFor && trustedProxyHops > 0) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String[] entries = forwardedFor.split(",");
+                // Con menos entradas que proxies, todas las agregó nuestra cadena: la primera es la más lejana
+                String client = entries[Math.max(0, entries.length - trustedProxyHops)].trim();
+                if (!client.isEmpty()) {
+                    return client;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
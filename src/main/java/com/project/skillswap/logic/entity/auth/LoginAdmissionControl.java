@@ -0,0 +1,105 @@
+package com.project.skillswap.logic.entity.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Control de admisión de /auth/login con un {@link TokenBucket} por IP y otro por email.
+ *
+ * El bucket por IP frena el credential stuffing (muchos emails desde pocas IPs) y el de email
+ * la fuerza bruta sobre una cuenta desde muchas IPs. Un intento rechazado no llega a la base
+ * ni al hash, así que se responde 429 sin gastar CPU.
+ * Los buckets que ya se repusieron por completo se descartan cada minuto.
+ */
+@Component
+public class LoginAdmissionControl {
+    private static final Logger logger = LoggerFactory.getLogger(LoginAdmissionControl.class);
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> emailBuckets = new ConcurrentHashMap<>();
+
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+    private final int emailCapacity;
+    private final double emailRefillPerSecond;
+
+    private final Counter admitted;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginAdmissionControl(MeterRegistry meterRegistry,
+                                 @Value("${auth.login.ip.capacity:20}") int ipCapacity,
+                                 @Value("${auth.login.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                                 @Value("${auth.login.email.capacity:5}") int emailCapacity,
+                                 @Value("${auth.login.email.refill-per-minute:5}") int emailRefillPerMinute) {
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerMinute / 60d;
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerSecond = emailRefillPerMinute / 60d;
+
+        this.admitted = admissionCounter(meterRegistry, "admitted", "none");
+        this.rejectedByIp = admissionCounter(meterRegistry, "rejected", "ip");
+        this.rejectedByEmail = admissionCounter(meterRegistry, "rejected", "email");
+    }
+
+    /**
+     * Consume una ficha de la IP y otra del email.
+     * @param email Email del intento
+     * @param clientIp IP del cliente
+     * @return 0 si se admite; si no, segundos sugeridos para Retry-After
+     */
+    public long tryAdmit(String email, String clientIp) {
+        long now = System.nanoTime();
+
+        long ipWait = ipBuckets
+                .computeIfAbsent(clientIp, key -> new TokenBucket(ipCapacity, ipRefillPerSecond, now))
+                .tryConsume(now);
+        if (ipWait > 0) {
+            rejectedByIp.increment();
+            logger.warn("[LOGIN] Intentos excedidos desde la IP " + clientIp);
+            return toRetryAfterSeconds(ipWait);
+        }
+
+        long emailWait = emailBuckets
+                .computeIfAbsent(email.toLowerCase(Locale.ROOT),
+                        key -> new TokenBucket(emailCapacity, emailRefillPerSecond, now))
+                .tryConsume(now);
+        if (emailWait > 0) {
+            rejectedByEmail.increment();
+            logger.warn("[LOGIN] Intentos excedidos para el email " + email);
+            return toRetryAfterSeconds(emailWait);
+        }
+
+        admitted.increment();
+        return 0;
+    }
+
+    /** Limpieza de buckets inactivos cada minuto. */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long now = System.nanoTime();
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        emailBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+    }
+
+    private Counter admissionCounter(MeterRegistry meterRegistry, String result, String scope) {
+        return Counter.builder("skillswap.auth.login.admission")
+                .tag("result", result)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
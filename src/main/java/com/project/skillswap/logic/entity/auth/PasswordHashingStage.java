@@ -0,0 +1,154 @@
+package com.project.skillswap.logic.entity.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Etapa de hash de contraseñas del login.
+ *
+ * BCrypt consume CPU por diseño; aquí se ejecuta en el passwordHashExecutor, con tantos hilos como
+ * el presupuesto de CPU configurado, en lugar de en los hilos de Tomcat. Si la cola está llena o la
+ * espera supera auth.login.hash-timeout-ms se lanza {@link HashingOverloadedException} y el login
+ * responde de inmediato, así que una ráfaga de logins no deja sin CPU al resto de endpoints.
+ *
+ * Métricas: skillswap.auth.password.hash (cálculo) y skillswap.auth.password.hash.wait (espera en cola);
+ * la cola y los rechazos salen en executor.* y skillswap.executor.rejected (name=passwordHashExecutor).
+ */
+@Component
+public class PasswordHashingStage {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingStage.class);
+
+    //#region Dependencies
+    private final PasswordEncoder passwordEncoder;
+    private final Executor passwordHashExecutor;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final long timeoutMillis;
+    private final int bcryptStrength;
+
+    public PasswordHashingStage(PasswordEncoder passwordEncoder,
+                                @Qualifier("passwordHashExecutor") Executor passwordHashExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.login.hash-timeout-ms:2000}") long timeoutMillis,
+                                @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.timeoutMillis = timeoutMillis;
+        this.bcryptStrength = bcryptStrength;
+        this.hashTimer = Timer.builder("skillswap.auth.password.hash")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("skillswap.auth.password.hash.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+    //#endregion
+
+    //#region Public Methods
+    /**
+     * Compara la contraseña con el hash guardado en el executor de hash y espera el resultado.
+     *
+     * @param rawPassword contraseña sin encriptar
+     * @param passwordHash hash guardado
+     * @return true si coinciden
+     * @throws HashingOverloadedException si la cola está llena o la espera se agota
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            return false;
+        }
+        CompletableFuture<Boolean> result;
+        try {
+            result = submit(() -> passwordEncoder.matches(rawPassword, passwordHash));
+        } catch (RejectedExecutionException e) {
+            throw new HashingOverloadedException("Cola de hash llena");
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            throw new HashingOverloadedException("Tiempo de espera del hash agotado");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HashingOverloadedException("Verificación interrumpida");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error verificando la contraseña", e.getCause());
+        }
+    }
+
+    /**
+     * Indica si el hash se generó con un costo distinto al configurado (auth.password.bcrypt-strength).
+     */
+    public boolean needsRehash(String passwordHash) {
+        // Formato BCrypt: $2a$10$...
+        if (passwordHash == null || passwordHash.length() < 7 || passwordHash.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(passwordHash.substring(4, 6)) != bcryptStrength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Genera en segundo plano un hash nuevo con el costo actual. Si el executor está ocupado
+     * se omite: se volverá a intentar en el siguiente login.
+     *
+     * @param rawPassword contraseña sin encriptar
+     * @param onEncoded recibe el hash nuevo
+     */
+    public void rehashAsync(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            submit(() -> passwordEncoder.encode(rawPassword))
+                    .thenAccept(onEncoded)
+                    .exceptionally(e -> {
+                        logger.warn("[LOGIN] No se pudo actualizar el hash: " + e.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            logger.info("[LOGIN] Executor de hash ocupado, se omite la actualización del hash");
+        }
+    }
+    //#endregion
+
+    //#region Private Methods
+    private <T> CompletableFuture<T> submit(Supplier<T> hashing) {
+        long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                return hashing.get();
+            } finally {
+                hashTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }, passwordHashExecutor);
+    }
+    //#endregion
+
+    /**
+     * El login no se pudo verificar porque la etapa de hash está saturada.
+     */
+    public static class HashingOverloadedException extends RuntimeException {
+        public HashingOverloadedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.project.skillswap.logic.entity.auth;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.RateLimit.RateLimitFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -22,6 +26,9 @@ public class SecurityConfiguration {
     //#region Dependencies
     private final AuthenticationProvider authenticationProvider;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final int serverPort;
+    private final int managementPort;
     //#endregion
 
     //#region Constructor
@@ -30,13 +37,22 @@ public class SecurityConfiguration {
      *
      * @param jwtAuthenticationFilter the JWT authentication filter
      * @param authenticationProvider the authentication provider
+     * @param rateLimitFilter the rate limiting filter
+     * @param serverPort application port
+     * @param managementPort Actuator port (-1 = same as the application)
      */
     public SecurityConfiguration(
             JwtAuthenticationFilter jwtAuthenticationFilter,
-            AuthenticationProvider authenticationProvider
+            AuthenticationProvider authenticationProvider,
+            RateLimitFilter rateLimitFilter,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:-1}") int managementPort
     ) {
         this.authenticationProvider = authenticationProvider;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
     //#endregion
 
@@ -56,6 +72,9 @@ public class SecurityConfiguration {
 
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/ws-chat/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(this::isInternalMetricsScrape).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
 
                         .requestMatchers("/register/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/**").permitAll()
@@ -67,6 +86,7 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.GET, "/videocall/transcription/*/download").permitAll()
                         .requestMatchers(HttpMethod.GET, "/videocall/transcription/*/download-txt").permitAll()
                         .requestMatchers(HttpMethod.GET, "/videocall/transcription/*/download-pdf").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/videocall/transcription/*/download-json").permitAll()
                         .requestMatchers("/videocall/**").authenticated()
                         .requestMatchers("/ws-documents/**").permitAll()
                         .requestMatchers("/api/collaborative-documents/**").permitAll()
@@ -75,6 +95,7 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.POST, "/communities/create").authenticated()
                         .requestMatchers(HttpMethod.GET, "/communities/accept-invitation").authenticated()
                         .requestMatchers("/communities/my-communities").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/communities/invitation-jobs/**").authenticated()
                         .requestMatchers("/communities/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -83,10 +104,35 @@ public class SecurityConfiguration {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Las métricas solo se sirven sin autenticación en el puerto de management, que no se
+     * publica. Si Actuator comparte el puerto de la aplicación, /actuator/prometheus queda negado.
+     */
+    private boolean isInternalMetricsScrape(HttpServletRequest request) {
+        return managementPort > 0
+                && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && HttpMethod.GET.matches(request.getMethod())
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
+    /**
+     * RateLimitFilter solo corre dentro de la cadena de seguridad, donde ya se conoce a la persona.
+     * Sin esto Spring Boot también lo registraría en el contenedor, antes de la autenticación,
+     * y OncePerRequestFilter omitiría la segunda pasada.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     //#endregion
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.project.skillswap.logic.entity.auth;
+
+import com.project.skillswap.logic.entity.Person.Person;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Autentica las sesiones STOMP con el mismo JWT del API REST.
+ *
+ * El navegador no puede enviar encabezados en el handshake de WebSocket, así que el token va
+ * en el encabezado nativo Authorization del frame CONNECT. La sesión queda asociada al id de
+ * la persona, que es el nombre usado en los destinos /user/... (por ejemplo /user/queue/notifications).
+ * Un CONNECT sin token sigue siendo anónimo (chat y documentos colaborativos no lo exigen);
+ * uno con token inválido se rechaza.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(StompAuthenticationInterceptor.class);
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    public StompAuthenticationInterceptor(JwtService jwtService,
+                                          UserDetailsService userDetailsService,
+                                          TokenBlacklistService tokenBlacklistService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenBlacklistService = tokenBlacklistService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return message;
+        }
+
+        String jwt = authHeader.substring(7);
+        try {
+            if (tokenBlacklistService.isInvalidated(jwt)) {
+                throw new MessagingException("Token revocado");
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(jwtService.extractUsername(jwt));
+            if (!jwtService.isTokenValid(jwt, userDetails) || !(userDetails instanceof Person person)) {
+                throw new MessagingException("Token inválido");
+            }
+
+            accessor.setUser(new UsernamePasswordAuthenticationToken(
+                    person.getId().toString(), null, userDetails.getAuthorities()));
+            return message;
+        } catch (MessagingException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.info("[WEBSOCKET] CONNECT rechazado: " + e.getMessage());
+            throw new MessagingException("Token inválido");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.skillswap.logic.entity.auth;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token bucket sin bloqueos: hasta capacity fichas que se reponen a refillPerSecond.
+ * El estado (fichas, última reposición) se reemplaza con compareAndSet, así que
+ * varios hilos pueden consumir del mismo bucket sin synchronized.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Intenta consumir una ficha.
+     * @param nowNanos Reloj monotónico (System.nanoTime)
+     * @return 0 si se consumió; si no, nanosegundos hasta que haya una ficha
+     */
+    public long tryConsume(long nowNanos) {
+        return tryConsume(nowNanos, 1d);
+    }
+
+    /**
+     * Intenta consumir cost fichas de una vez (o ninguna).
+     * @param nowNanos Reloj monotónico (System.nanoTime)
+     * @return 0 si se consumieron; si no, nanosegundos hasta que haya cost fichas
+     */
+    public long tryConsume(long nowNanos, double cost) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, nowNanos);
+            if (tokens < cost) {
+                return (long) Math.ceil((cost - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - cost, nowNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Fichas disponibles en este momento
+     */
+    public double available(long nowNanos) {
+        return refill(state.get(), nowNanos);
+    }
+
+    /**
+     * Indica si el bucket ya se repuso por completo (se puede descartar sin perder información)
+     */
+    public boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedNanos());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+
+    private record State(double tokens, long updatedNanos) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.skillswap.logic.entity.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache en memoria de emails que no tienen cuenta, para que los intentos de login repetidos
+ * contra emails inexistentes no consulten la base.
+ * - Cada entrada vive auth.login.unknown-email-ttl-seconds; el registro invalida el email al crearlo.
+ * - Se limita a auth.login.unknown-email-max-entries para no crecer sin control bajo ataque.
+ * - Limpieza automática cada minuto.
+ */
+@Component
+public class UnknownEmailCache {
+    private static final Logger logger = LoggerFactory.getLogger(UnknownEmailCache.class);
+
+    private final Map<String, Long> unknownUntil = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Counter hits;
+
+    public UnknownEmailCache(MeterRegistry meterRegistry,
+                             @Value("${auth.login.unknown-email-ttl-seconds:60}") long ttlSeconds,
+                             @Value("${auth.login.unknown-email-max-entries:50000}") int maxEntries) {
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("skillswap.auth.unknown_email.hits").register(meterRegistry);
+    }
+
+    /** Devuelve true si el email se buscó hace poco y no existía. */
+    public boolean isKnownMissing(String email) {
+        String key = email.toLowerCase(Locale.ROOT);
+        Long until = unknownUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() > until) {
+            unknownUntil.remove(key, until);
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /** Registra que el email no tiene cuenta. */
+    public void markMissing(String email) {
+        if (unknownUntil.size() >= maxEntries) {
+            return;
+        }
+        unknownUntil.put(email.toLowerCase(Locale.ROOT), System.currentTimeMillis() + ttlMillis);
+    }
+
+    /** Quita el email del cache (por ejemplo, al registrar una cuenta con él). */
+    public void invalidate(String email) {
+        if (email != null) {
+            unknownUntil.remove(email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /** Limpieza automática cada minuto. */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        unknownUntil.entrySet().removeIf(e -> now > e.getValue());
+    }
+}
@@ -1,17 +1,19 @@
 package com.project.skillswap.logic.entity.dashboard;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.config.StartupTask;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Initializes database stored procedures on application startup
  * Creates all necessary stored procedures for dashboard operations
+ * Recorded in startup_task_ledger by StartupTaskRunner: procedures are only reinstalled
+ * when this class changes
  */
 @Component
-public class DatabaseInitializer implements CommandLineRunner {
+public class DatabaseInitializer implements StartupTask {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseInitializer.class);
 
     //#region Dependencies
@@ -19,15 +21,14 @@ public class DatabaseInitializer implements CommandLineRunner {
     private JdbcTemplate jdbcTemplate;
     //#endregion
 
-    //#region CommandLineRunner Implementation
+    //#region Startup Task
     /**
      * Executes on application startup to create stored procedures
      *
-     * @param args Command line arguments
      * @throws Exception If stored procedure creation fails
      */
     @Override
-    public void run(String... args) throws Exception {
+    public void run() throws Exception {
         createStoredProcedures();
     }
     //#endregion
@@ -45,7 +46,7 @@ public class DatabaseInitializer implements CommandLineRunner {
             createRecentAchievementsProcedure();
         } catch (Exception e) {
             logger.info("Error creating stored procedures: " + e.getMessage());
-            e.printStackTrace();
+            throw e;
         }
     }
 
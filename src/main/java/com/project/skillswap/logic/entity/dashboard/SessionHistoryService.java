@@ -3,6 +3,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.LearningSession.SessionHistoryItem;
 import com.project.skillswap.logic.entity.Booking.BookingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -31,7 +32,8 @@ public class SessionHistoryService {
 
     /**
      * Obtiene el historial de sesiones para un SkillSeeker (estudiante).
-     * Retorna todas las sesiones completadas o canceladas en las que participó.
+     * Retorna todas las sesiones completadas o canceladas en las que participó,
+     * ya proyectadas (una consulta por página más el conteo).
      *
      * @param learnerId ID del estudiante
      * @param page número de página (inicia en 0)
@@ -45,7 +47,7 @@ public class SessionHistoryService {
             int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<LearningSession> sessionsPage = sessionRepository
+        Page<SessionHistoryItem> sessionsPage = sessionRepository
                 .findHistoricalSessionsByLearnerId(learnerId, pageable);
 
         // Construir respuesta con metadata de paginación
@@ -2,11 +2,14 @@
 package com.project.skillswap.logic.entity.videocall;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.Audio.AudioMetadata;
+import com.project.skillswap.logic.entity.Audio.AudioMetadataReader;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.context.annotation.Lazy;
 import ws.schild.jave.Encoder;
 import ws.schild.jave.EncoderException;
 import ws.schild.jave.MultimediaObject;
@@ -33,8 +36,12 @@ public class RecordingService {
     private LearningSessionRepository sessionRepository;
 
     @Autowired
+    @Lazy
     private TranscriptionService transcriptionService;
 
+    @Autowired
+    private AudioMetadataReader audioMetadataReader;
+
     private static final String RECORDINGS_DIR = "recordings/audio/";
     private static final long MAX_RECORDING_SIZE = 500 * 1024 * 1024; // 500MB
 
@@ -285,37 +292,35 @@ public class RecordingService {
 
     /**
      *  VALIDACIÓN MEJORADA: Verifica que el archivo contiene audio real
+     * Lee el contenedor WebM dentro del proceso (AudioMetadataReader), sin lanzar ffmpeg
      */
     private boolean verifyAudioContent(Path filePath) {
         try {
             logger.info(" VERIFICANDO CONTENIDO DE AUDIO...");
 
-            MultimediaObject source = new MultimediaObject(filePath.toFile());
-            ws.schild.jave.info.MultimediaInfo info = source.getInfo();
+            AudioMetadata info = audioMetadataReader.read(filePath);
 
             logger.info(" Información del archivo:");
-            logger.info("   Duración: " + (info.getDuration() / 1000.0) + " segundos");
-            logger.info("   Formato: " + info.getFormat());
+            logger.info("   Duración: " + (info.durationMillis() / 1000.0) + " segundos");
+            logger.info("   Formato: " + info.format());
 
-            if (info.getAudio() == null) {
+            if (!info.hasAudio()) {
                 logger.info(" NO TIENE PISTA DE AUDIO");
                 return false;
             }
 
             logger.info(" Tiene pista de audio:");
-            logger.info("   Codec: " + info.getAudio().getDecoder());
-            logger.info("   Bitrate: " + info.getAudio().getBitRate() + " bps");
-            logger.info("   Sample rate: " + info.getAudio().getSamplingRate() + " Hz");
-            logger.info("   Canales: " + info.getAudio().getChannels());
-
-            //  VALIDACIÓN MEJORADA: Solo verificar que tenga sample rate válido
-            if (info.getAudio().getSamplingRate() == 0) {
-                logger.info(" ADVERTENCIA: Sample rate es 0");
+            logger.info("   Codec: " + info.codec());
+            logger.info("   Bitrate: " + info.bitrate() + " bps");
+            logger.info("   Sample rate: " + info.sampleRate() + " Hz");
+            logger.info("   Canales: " + info.channels());
+            logger.info("   Silencio: " + Math.round(info.silenceRatio() * 100) + "% de " + info.frames() + " frames");
+
+            if (info.silent()) {
+                logger.info(" La grabación es silencio digital en toda su duración");
                 return false;
             }
 
-            //  Permitir duraciones cortas o negativas (problema común con WebM)
-            // El archivo será válido si tiene codec y sample rate correctos
             logger.info(" Archivo válido para conversión");
             return true;
 
@@ -405,23 +410,37 @@ public class RecordingService {
 
     /**
      *  Obtiene URL de grabación
+     * La URL apunta a la descarga con soporte de Range; nunca se expone la ruta en disco
      */
     public Map<String, Object> getRecordingUrl(Long sessionId) {
         Map<String, Object> result = new HashMap<>();
 
-        //  Primero intentar obtener de la base de datos
+        File file = findRecordingFile(sessionId);
+        if (file != null) {
+            result.put("available", true);
+            result.put("url", "/api/videocall/recording/download/" + sessionId);
+            result.put("fileName", file.getName());
+            result.put("size", file.length());
+            result.put("sizeFormatted", formatFileSize(file.length()));
+        } else {
+            result.put("available", false);
+            result.put("message", "No hay grabación para esta sesión");
+        }
+
+        return result;
+    }
+
+    /**
+     *  Archivo de la grabación de una sesión: primero la ruta guardada en BD y luego la de memoria
+     * @return null si no hay grabación o el archivo ya no existe
+     */
+    public File findRecordingFile(Long sessionId) {
         try {
             LearningSession session = sessionRepository.findById(sessionId).orElse(null);
             if (session != null && session.getAudioRecordingUrl() != null) {
                 File file = new File(session.getAudioRecordingUrl());
                 if (file.exists()) {
-                    result.put("available", true);
-                    result.put("url", "/api/videocall/recording/download/" + sessionId);
-                    result.put("fileName", file.getName());
-                    result.put("size", file.length());
-                    result.put("sizeFormatted", formatFileSize(file.length()));
-                    result.put("source", "database");
-                    return result;
+                    return file;
                 }
             }
         } catch (Exception e) {
@@ -430,37 +449,24 @@ public class RecordingService {
 
         // Fallback: buscar en memoria
         String url = recordingUrls.get(sessionId);
-
         if (url != null) {
             File file = new File(url);
             if (file.exists()) {
-                result.put("available", true);
-                result.put("url", "/api/videocall/recording/download/" + sessionId);
-                result.put("fileName", file.getName());
-                result.put("size", file.length());
-                result.put("sizeFormatted", formatFileSize(file.length()));
-                result.put("source", "memory");
-            } else {
-                result.put("available", false);
-                result.put("message", "Archivo no encontrado");
+                return file;
             }
-        } else {
-            result.put("available", false);
-            result.put("message", "No hay grabación para esta sesión");
         }
-
-        return result;
+        return null;
     }
 
+    /**
+     *  Duración exacta en segundos leída del MP3 (frames y encabezado Xing)
+     * @return 0 si el archivo no existe o no se puede leer
+     */
     public int estimateRecordingDuration(String recordingUrl) {
-        // Estimación simple basada en tamaño del archivo
-        // 1 minuto de audio MP3 (128kbps) ≈ 1MB
         try {
             File file = new File(recordingUrl);
             if (file.exists()) {
-                long fileSizeBytes = file.length();
-                long fileSizeMB = fileSizeBytes / (1024 * 1024);
-                return (int) (fileSizeMB * 60); // Convertir MB a segundos estimados
+                return audioMetadataReader.read(file.toPath()).durationSeconds();
             }
         } catch (Exception e) {
             logger.info("Error estimando duración: " + e.getMessage());
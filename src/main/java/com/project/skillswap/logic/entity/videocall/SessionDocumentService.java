@@ -2,30 +2,31 @@
 package com.project.skillswap.logic.entity.videocall;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import com.project.skillswap.logic.entity.Storage.ContentAddressedStore;
+import com.project.skillswap.logic.entity.Storage.MediaServer;
+import com.project.skillswap.logic.entity.Storage.StagedUpload;
+import com.project.skillswap.logic.entity.Storage.StoredObject;
+import com.project.skillswap.logic.entity.Storage.UploadStagingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Servicio para manejar documentos de sesiones
+ * Los archivos se guardan en el almacén por contenido (un documento repetido en varias sesiones
+ * ocupa un solo archivo) y se descargan con {@link MediaServer} (Range, ETag, sendfile)
  */
 @Service
 public class SessionDocumentService {
     private static final Logger logger = LoggerFactory.getLogger(SessionDocumentService.class);
 
-    private static final String UPLOAD_DIR = "uploads/session-documents/";
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     private static final Set<String> ALLOWED_TYPES = Set.of(
             "application/pdf",
@@ -35,6 +36,15 @@ public class SessionDocumentService {
             "image/png"
     );
 
+    @Autowired
+    private UploadStagingService uploadStagingService;
+
+    @Autowired
+    private ContentAddressedStore contentStore;
+
+    @Autowired
+    private MediaServer mediaServer;
+
     // Almacenamiento en memoria (en producción usar base de datos)
     private final Map<Long, SessionDocumentInfo> documents = new ConcurrentHashMap<>();
     private Long documentIdCounter = 1L;
@@ -81,20 +91,11 @@ public class SessionDocumentService {
 
         // virusScanService.scan(file);
 
-        try {
-            // Crear directorio si no existe
-            Path uploadPath = Paths.get(UPLOAD_DIR + sessionId);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // Generar nombre único
+        try (StagedUpload staged = uploadStagingService.stage(file)) {
             String originalFilename = file.getOriginalFilename();
-            String filename = System.currentTimeMillis() + "_" + originalFilename;
-            Path filePath = uploadPath.resolve(filename);
 
-            // Guardar archivo
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // Guardar archivo (si el contenido ya existe se reutiliza)
+            StoredObject stored = contentStore.put(staged);
 
             // Crear registro
             Long documentId = documentIdCounter++;
@@ -104,8 +105,9 @@ public class SessionDocumentService {
                     personId,
                     originalFilename,
                     file.getContentType(),
-                    file.getSize(),
-                    filePath.toString()
+                    stored.bytes(),
+                    contentStore.resolve(stored.sha256()).toString(),
+                    stored.sha256()
             );
 
             documents.put(documentId, documentInfo);
@@ -134,35 +136,23 @@ public class SessionDocumentService {
     }
 
     /**
-     * Descarga un documento
+     * Descarga un documento (completo o el intervalo pedido con Range)
      */
-    public ResponseEntity<Resource> downloadDocument(Long documentId) {
-        try {
-            SessionDocumentInfo doc = documents.get(documentId);
-            if (doc == null) {
-                return ResponseEntity.notFound().build();
-            }
-
-            Path filePath = Paths.get(doc.getFilePath());
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (!resource.exists()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            String contentType = doc.getType();
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + doc.getName() + "\"")
-                    .body(resource);
+    public void downloadDocument(Long sessionId, Long documentId,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        SessionDocumentInfo doc = documents.get(documentId);
+        if (doc == null || !doc.getSessionId().equals(sessionId)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+        String contentType = doc.getType();
+        if (contentType == null) {
+            contentType = "application/octet-stream";
         }
+
+        mediaServer.serve(Paths.get(doc.getFilePath()), doc.getSha256(), contentType, doc.getName(), false,
+                request, response);
     }
 
     /**
@@ -181,9 +171,8 @@ public class SessionDocumentService {
         }
 
         try {
-            // Eliminar archivo físico
-            Path filePath = Paths.get(doc.getFilePath());
-            Files.deleteIfExists(filePath);
+            // Liberar el archivo; solo se elimina si ningún otro documento lo comparte
+            contentStore.release(doc.getSha256());
 
             // Eliminar registro
             documents.remove(documentId);
@@ -206,10 +195,11 @@ public class SessionDocumentService {
         private final String type;
         private final Long size;
         private final String filePath;
+        private final String sha256;
         private final Date uploadedAt;
 
         public SessionDocumentInfo(Long id, Long sessionId, Long uploadedById, String name,
-                                   String type, Long size, String filePath) {
+                                   String type, Long size, String filePath, String sha256) {
             this.id = id;
             this.sessionId = sessionId;
             this.uploadedById = uploadedById;
@@ -217,6 +207,7 @@ public class SessionDocumentService {
             this.type = type;
             this.size = size;
             this.filePath = filePath;
+            this.sha256 = sha256;
             this.uploadedAt = new Date();
         }
 
@@ -227,6 +218,7 @@ public class SessionDocumentService {
         public String getType() { return type; }
         public Long getSize() { return size; }
         public String getFilePath() { return filePath; }
+        public String getSha256() { return sha256; }
         public Date getUploadedAt() { return uploadedAt; }
         public String getUploadedBy() { return "Usuario " + uploadedById; }
     }
@@ -2,7 +2,6 @@
 package com.project.skillswap.logic.entity.videocall;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -14,19 +13,33 @@ import com.itextpdf.layout.element.ListItem;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.Pdf.PdfRenderingService;
+import com.project.skillswap.logic.entity.Pdf.PdfTemplateCache;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.context.annotation.Lazy;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 
 /**
  * Servicio encargado de generar un PDF con el resumen de una sesión educativa.
  * Este servicio NO genera transcripciones completas (eso lo maneja TranscriptionPdfService).
  */
+@Lazy
 @Service
 public class SessionSummaryPdfService {
     private static final Logger logger = LoggerFactory.getLogger(SessionSummaryPdfService.class);
 
+    @Autowired
+    private PdfTemplateCache pdfTemplates;
+
+    @Autowired
+    private PdfRenderingService pdfRenderingService;
+
     //#region Public API
 
     /**
@@ -37,24 +50,44 @@ public class SessionSummaryPdfService {
      * @return PDF como arreglo de bytes listo para descarga
      */
     public byte[] generateSummaryPdf(LearningSession session, String summary) {
+        initializeAssociations(session);
+        return pdfRenderingService.renderToBytes(out -> writeSummaryPdf(session, summary, out));
+    }
+
+    /**
+     * Transmite el PDF de resumen como respuesta HTTP sin acumularlo en memoria.
+     *
+     * @param session Sesión a representar en PDF
+     * @param summary Resumen generado por IA
+     * @param fileName Nombre del archivo de descarga
+     * @return Respuesta con el PDF en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> streamSummaryPdf(LearningSession session, String summary, String fileName) {
+        initializeAssociations(session);
+        return pdfRenderingService.stream(fileName, out -> writeSummaryPdf(session, summary, out));
+    }
+
+    /**
+     * Escribe el PDF de resumen directamente en el flujo indicado.
+     *
+     * @param session Sesión a representar en PDF
+     * @param summary Resumen generado por IA
+     * @param out Flujo de salida destino (no se cierra)
+     */
+    public void writeSummaryPdf(LearningSession session, String summary, OutputStream out) {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc);
 
-            // Colores corporativos SkillSwap
-            DeviceRgb skillswapPurple = new DeviceRgb(80, 74, 183);
-            DeviceRgb skillswapGreen = new DeviceRgb(170, 225, 107);
-
-            addHeader(document, skillswapPurple);
-            addSessionTitle(document, session, skillswapGreen);
-            addSessionInfo(document, session, skillswapPurple);
-            addSummarySection(document, summary, skillswapGreen);
+            addHeader(document);
+            addSessionTitle(document, session, PdfTemplateCache.SKILLSWAP_GREEN);
+            addSessionInfo(document, session);
+            addSummarySection(document, summary, PdfTemplateCache.SKILLSWAP_GREEN);
             addFooter(document);
 
             document.close();
-            return baos.toByteArray();
 
         } catch (Exception e) {
             throw new RuntimeException("Error al generar PDF de resumen: " + e.getMessage());
@@ -70,43 +103,17 @@ public class SessionSummaryPdfService {
     /**
      * Agrega el encabezado visual del documento.
      */
-    private void addHeader(Document document, DeviceRgb primaryColor) {
-        Paragraph header = new Paragraph("SkillSwap")
-                .setFontSize(28)
-                .setBold()
-                .setFontColor(primaryColor)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(5);
-
-        document.add(header);
-
-        Paragraph subtitle = new Paragraph("Resumen de Sesión")
-                .setFontSize(10)
-                .setFontColor(ColorConstants.GRAY)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginBottom(20);
-
-        document.add(subtitle);
+    private void addHeader(Document document) {
+        document.add(pdfTemplates.brandHeader(28));
+        document.add(pdfTemplates.brandSubtitle("Resumen de Sesión", 20));
     }
 
     /**
      * Agrega el footer informativo.
      */
     private void addFooter(Document document) {
-        Paragraph footer = new Paragraph("© 2025 SkillSwap. Todos los derechos reservados.")
-                .setFontSize(8)
-                .setFontColor(ColorConstants.GRAY)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setMarginTop(30);
-
-        document.add(footer);
-
-        Paragraph techFooter = new Paragraph("Resumen generado con inteligencia artificial")
-                .setFontSize(7)
-                .setFontColor(ColorConstants.LIGHT_GRAY)
-                .setTextAlignment(TextAlignment.CENTER);
-
-        document.add(techFooter);
+        document.add(pdfTemplates.copyright(30));
+        document.add(pdfTemplates.techFooter("Resumen generado con inteligencia artificial"));
     }
 
     //#endregion
@@ -129,36 +136,46 @@ public class SessionSummaryPdfService {
         document.add(sessionTitle);
     }
 
+    /**
+     * Instructor y habilidad son LAZY: se cargan en el hilo que llama, porque el PDF
+     * se escribe en el executor de PDFs, fuera de la sesión de Hibernate.
+     */
+    private void initializeAssociations(LearningSession session) {
+        if (session.getInstructor() != null) {
+            Hibernate.initialize(session.getInstructor().getPerson());
+        }
+        Hibernate.initialize(session.getSkill());
+    }
+
     /**
      * Sección que incluye la tabla resumen de la sesión (instructor, habilidad, fecha, etc.).
      */
-    private void addSessionInfo(Document document, LearningSession session, DeviceRgb labelColor) {
+    private void addSessionInfo(Document document, LearningSession session) {
         Table infoTable = new Table(UnitValue.createPercentArray(new float[]{25, 75}))
                 .useAllAvailableWidth()
                 .setMarginBottom(15);
 
-        addInfoRow(infoTable, "Sesión ID:", "#" + session.getId(), labelColor);
+        addInfoRow(infoTable, "Sesión ID:", "#" + session.getId());
 
         if (session.getInstructor() != null && session.getInstructor().getPerson() != null) {
             addInfoRow(infoTable, "Instructor:",
-                    session.getInstructor().getPerson().getFullName(), labelColor);
+                    session.getInstructor().getPerson().getFullName());
         }
 
         if (session.getSkill() != null) {
-            addInfoRow(infoTable, "Habilidad:", session.getSkill().getName(), labelColor);
+            addInfoRow(infoTable, "Habilidad:", session.getSkill().getName());
         }
 
         int durationSeconds = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
         int durationMinutes = durationSeconds / 60;
 
         addInfoRow(infoTable, "Duración:",
-                durationMinutes + " minutos", labelColor);
+                durationMinutes + " minutos");
 
         addInfoRow(infoTable, "Fecha de sesión:",
                 session.getScheduledDatetime() != null
                         ? new SimpleDateFormat("dd/MM/yyyy").format(session.getScheduledDatetime())
-                        : "N/A",
-                labelColor);
+                        : "N/A");
 
         document.add(infoTable);
     }
@@ -166,14 +183,8 @@ public class SessionSummaryPdfService {
     /**
      * Método auxiliar para insertar una fila en la tabla de datos.
      */
-    private void addInfoRow(Table table, String label, String value, DeviceRgb labelColor) {
-        table.addCell(new Paragraph(label)
-                .setBold()
-                .setFontColor(labelColor)
-                .setFontSize(9));
-
-        table.addCell(new Paragraph(value)
-                .setFontSize(9));
+    private void addInfoRow(Table table, String label, String value) {
+        pdfTemplates.addInfoRow(table, label, value, 9);
     }
 
     //#endregion
@@ -9,6 +9,7 @@ import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import okhttp3.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import java.util.concurrent.TimeUnit;
  * - Envío de solicitudes al modelo LLM
  * - Validación de calidad del resumen generado
  */
+@Lazy
 @Service
 public class SessionSummaryService {
     private static final Logger logger = LoggerFactory.getLogger(SessionSummaryService.class);
@@ -0,0 +1,218 @@
+package com.project.skillswap.logic.entity.videocall;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.LearningSession.TranscriptMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Exportación de transcripciones en TXT y JSON escribiendo directamente en la respuesta.
+ *
+ * El encabezado se arma antes de responder (es pequeño y usa relaciones lazy) y el texto
+ * se escribe por bloques, sin concatenarlo ni convertirlo completo a byte[].
+ * Las descargas llevan un ETag derivado de la fecha de procesamiento, la longitud del texto y
+ * los datos de la sesión del encabezado (título, instructor, habilidad, duración), así que una
+ * descarga repetida se responde con 304 sin leer full_text de la base, y cambiar cualquiera de
+ * esos datos invalida la copia del cliente.
+ * La compresión gzip la aplica Tomcat (server.compression) sobre text/plain y application/json.
+ */
+@Service
+public class TranscriptExportService {
+    private static final Logger logger = LoggerFactory.getLogger(TranscriptExportService.class);
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    //#region ETag
+
+    /**
+     * ETag débil de la transcripción en un formato dado.
+     * Es débil porque la compresión gzip cambia los bytes pero no el contenido.
+     *
+     * @param metadata Metadatos de la transcripción
+     * @param format txt, json o pdf
+     * @return ETag listo para el header
+     */
+    public String etag(TranscriptMetadata metadata, String format) {
+        long processed = metadata.getProcessingDate() != null
+                ? metadata.getProcessingDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        String header = metadata.getTitle() + "\n" + metadata.getInstructorName() + "\n"
+                + metadata.getSkillName() + "\n" + metadata.getDurationSeconds();
+        return "W/\"transcript-" + metadata.getId() + "-" + processed + "-" + metadata.getTextLength()
+                + "-" + headerHash(header) + "-" + format + "\"";
+    }
+
+    /**
+     * Primeros 16 caracteres hexadecimales del SHA-256 de los datos del encabezado
+     */
+    private static String headerHash(String header) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(header.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    //#endregion
+
+    //#region TXT
+
+    /**
+     * Transmite la transcripción como texto plano con encabezado.
+     *
+     * @param session Sesión con transcripción
+     * @param fileName Nombre del archivo de descarga
+     * @param etag ETag de la transcripción
+     * @return Respuesta con el texto en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> streamText(LearningSession session, String fileName, String etag) {
+        String header = buildTextHeader(session);
+        String fullText = session.getFullText();
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(header);
+            for (int offset = 0; offset < fullText.length(); offset += CHUNK_SIZE) {
+                writer.write(fullText, offset, Math.min(CHUNK_SIZE, fullText.length() - offset));
+            }
+            writer.flush();
+        };
+
+        logger.info(" Descarga TXT en streaming: " + fileName + " (" + fullText.length() + " caracteres)");
+
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(MediaType.TEXT_PLAIN, fileName, etag))
+                .body(body);
+    }
+
+    private String buildTextHeader(LearningSession session) {
+        int durationSeconds = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
+
+        StringBuilder header = new StringBuilder(512);
+        header.append("===========================================\n");
+        header.append("TRANSCRIPCIÓN DE SESIÓN - SKILLSWAP\n");
+        header.append("===========================================\n");
+        header.append("Sesión: #").append(session.getId()).append("\n");
+        header.append("Título: ").append(session.getTitle()).append("\n");
+
+        if (session.getInstructor() != null && session.getInstructor().getPerson() != null) {
+            header.append("Instructor: ").append(session.getInstructor().getPerson().getFullName()).append("\n");
+        }
+
+        if (session.getSkill() != null) {
+            header.append("Habilidad: ").append(session.getSkill().getName()).append("\n");
+        }
+
+        header.append("Palabras: ").append(session.getTranscriptWordCount()).append("\n");
+        header.append("Duración: ").append(durationSeconds / 60).append(" minutos ")
+                .append(durationSeconds % 60).append(" segundos\n");
+        header.append("Fecha: ").append(new SimpleDateFormat("dd/MM/yyyy HH:mm").format(processingDate(session))).append("\n");
+        header.append("===========================================\n\n");
+        return header.toString();
+    }
+
+    //#endregion
+
+    //#region JSON
+
+    /**
+     * Transmite la transcripción como JSON con sus metadatos.
+     *
+     * @param session Sesión con transcripción
+     * @param fileName Nombre del archivo de descarga
+     * @param etag ETag de la transcripción
+     * @return Respuesta con el JSON en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> streamJson(LearningSession session, String fileName, String etag) {
+        Long sessionId = session.getId();
+        String title = session.getTitle();
+        String instructor = session.getInstructor() != null && session.getInstructor().getPerson() != null
+                ? session.getInstructor().getPerson().getFullName() : null;
+        String skill = session.getSkill() != null ? session.getSkill().getName() : null;
+        int wordCount = session.getTranscriptWordCount();
+        int characterCount = session.getTranscriptCharCount();
+        Integer durationSeconds = session.getDurationSeconds();
+        String processingDate = session.getProcessingDate() != null ? session.getProcessingDate().toString() : null;
+        String fullText = session.getFullText();
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeNumberField("sessionId", sessionId);
+                generator.writeStringField("title", title);
+                generator.writeStringField("instructor", instructor);
+                generator.writeStringField("skill", skill);
+                generator.writeNumberField("wordCount", wordCount);
+                generator.writeNumberField("characterCount", characterCount);
+                if (durationSeconds != null) {
+                    generator.writeNumberField("durationSeconds", durationSeconds);
+                } else {
+                    generator.writeNullField("durationSeconds");
+                }
+                generator.writeStringField("processingDate", processingDate);
+                generator.writeStringField("fullText", fullText);
+                generator.writeEndObject();
+            }
+        };
+
+        logger.info(" Descarga JSON en streaming: " + fileName + " (" + characterCount + " caracteres)");
+
+        return ResponseEntity.ok()
+                .headers(downloadHeaders(MediaType.APPLICATION_JSON, fileName, etag))
+                .body(body);
+    }
+
+    //#endregion
+
+    //#region Helpers
+
+    private HttpHeaders downloadHeaders(MediaType contentType, String fileName, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType(contentType, StandardCharsets.UTF_8));
+        headers.setETag(etag);
+        headers.setCacheControl("private, no-cache");
+        headers.set("Content-Disposition",
+                "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''" +
+                        URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20"));
+        return headers;
+    }
+
+    /**
+     * Fecha de la transcripción; se usa en lugar de "ahora" para que el contenido
+     * coincida con el ETag en descargas repetidas.
+     */
+    private Date processingDate(LearningSession session) {
+        return session.getProcessingDate() != null
+                ? Date.from(session.getProcessingDate().atZone(ZoneId.systemDefault()).toInstant())
+                : new Date();
+    }
+
+    //#endregion
+}
@@ -1,8 +1,6 @@
 package com.project.skillswap.logic.entity.videocall;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.itextpdf.kernel.colors.ColorConstants;
-import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -11,18 +9,32 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.Pdf.PdfRenderingService;
+import com.project.skillswap.logic.entity.Pdf.PdfTemplateCache;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.context.annotation.Lazy;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 
 /**
  *Servicio para generar PDFs de transcripciones
  */
+@Lazy
 @Service
 public class TranscriptionPdfService {
     private static final Logger logger = LoggerFactory.getLogger(TranscriptionPdfService.class);
 
+    @Autowired
+    private PdfTemplateCache pdfTemplates;
+
+    @Autowired
+    private PdfRenderingService pdfRenderingService;
+
     /**
      * Genera PDF de transcripción
      *
@@ -30,39 +42,70 @@ public class TranscriptionPdfService {
      * @return PDF como array de bytes
      */
     public byte[] generateTranscriptionPdf(LearningSession session) {
+        initializeAssociations(session);
+        return pdfRenderingService.renderToBytes(out -> writeTranscriptionPdf(session, out));
+    }
+
+    /**
+     * Transmite el PDF de transcripción como respuesta HTTP sin acumularlo en memoria
+     *
+     * @param session Sesión con transcripción
+     * @param fileName Nombre del archivo de descarga
+     * @return Respuesta con el PDF en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> streamTranscriptionPdf(LearningSession session, String fileName) {
+        return streamTranscriptionPdf(session, fileName, null);
+    }
+
+    /**
+     * Transmite el PDF de transcripción con ETag para revalidación
+     *
+     * @param session Sesión con transcripción
+     * @param fileName Nombre del archivo para Content-Disposition
+     * @param etag ETag de la transcripción
+     * @return Respuesta con el PDF en streaming
+     */
+    public ResponseEntity<StreamingResponseBody> streamTranscriptionPdf(LearningSession session, String fileName, String etag) {
+        initializeAssociations(session);
+        return pdfRenderingService.stream(fileName, etag, out -> writeTranscriptionPdf(session, out));
+    }
+
+    /**
+     * Instructor, persona, habilidad y área son LAZY: se cargan en el hilo que llama, porque el
+     * PDF se escribe en el executor de PDFs, fuera de la sesión de Hibernate.
+     */
+    private void initializeAssociations(LearningSession session) {
+        if (session.getInstructor() != null) {
+            Hibernate.initialize(session.getInstructor().getPerson());
+        }
+        if (session.getSkill() != null) {
+            Hibernate.initialize(session.getSkill().getKnowledgeArea());
+        }
+    }
+
+    /**
+     * Escribe el PDF de transcripción directamente en el flujo indicado
+     *
+     * @param session Sesión con transcripción
+     * @param out Flujo de salida destino (no se cierra)
+     */
+    public void writeTranscriptionPdf(LearningSession session, OutputStream out) {
         try {
             logger.info("========================================");
             logger.info(" GENERANDO PDF DE TRANSCRIPCIÓN");
             logger.info("   Session ID: " + session.getId());
             logger.info("========================================");
 
-            // Crear PDF en memoria
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc);
 
-            // Color corporativo de SkillSwap
-            DeviceRgb skillswapPurple = new DeviceRgb(80, 74, 183); // #504AB7
-            DeviceRgb skillswapGreen = new DeviceRgb(170, 225, 107); // #AAE16B
-
             // ========================================
             // HEADER - LOGO Y TÍTULO
             // ========================================
-            Paragraph header = new Paragraph("SkillSwap")
-                    .setFontSize(32)
-                    .setBold()
-                    .setFontColor(skillswapPurple)
-                    .setTextAlignment(TextAlignment.CENTER)
-                    .setMarginBottom(5);
-            document.add(header);
-
-            Paragraph subtitle = new Paragraph("Plataforma de Intercambio de Conocimiento")
-                    .setFontSize(10)
-                    .setFontColor(ColorConstants.GRAY)
-                    .setTextAlignment(TextAlignment.CENTER)
-                    .setMarginBottom(20);
-            document.add(subtitle);
+            document.add(pdfTemplates.brandHeader(32));
+            document.add(pdfTemplates.brandSubtitle("Plataforma de Intercambio de Conocimiento", 20));
 
             // ========================================
             // TÍTULO PRINCIPAL
@@ -70,7 +113,7 @@ public class TranscriptionPdfService {
             Paragraph title = new Paragraph("Transcripción de Sesión")
                     .setFontSize(24)
                     .setBold()
-                    .setFontColor(skillswapGreen)
+                    .setFontColor(PdfTemplateCache.SKILLSWAP_GREEN)
                     .setTextAlignment(TextAlignment.CENTER)
                     .setMarginBottom(30);
             document.add(title);
@@ -84,34 +127,34 @@ public class TranscriptionPdfService {
 
             // Calcular estadísticas
             String fullText = session.getFullText();
-            int wordCount = fullText != null ? fullText.split("\\s+").length : 0;
+            int wordCount = session.getTranscriptWordCount();
             int durationSeconds = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
             int durationMinutes = durationSeconds / 60;
             int remainingSeconds = durationSeconds % 60;
 
             // Datos de la sesión
-            addInfoRow(infoTable, "Sesión ID:", "#" + session.getId(), skillswapPurple);
-            addInfoRow(infoTable, "Título:", session.getTitle(), skillswapPurple);
+            addInfoRow(infoTable, "Sesión ID:", "#" + session.getId());
+            addInfoRow(infoTable, "Título:", session.getTitle());
 
             if (session.getInstructor() != null && session.getInstructor().getPerson() != null) {
                 addInfoRow(infoTable, "Instructor:",
-                        session.getInstructor().getPerson().getFullName(), skillswapPurple);
+                        session.getInstructor().getPerson().getFullName());
             }
 
             if (session.getSkill() != null) {
-                addInfoRow(infoTable, "Habilidad:", session.getSkill().getName(), skillswapPurple);
+                addInfoRow(infoTable, "Habilidad:", session.getSkill().getName());
 
                 if (session.getSkill().getKnowledgeArea() != null) {
                     addInfoRow(infoTable, "Área de conocimiento:",
-                            session.getSkill().getKnowledgeArea().getName(), skillswapPurple);
+                            session.getSkill().getKnowledgeArea().getName());
                 }
             }
 
-            addInfoRow(infoTable, "Palabras:", String.valueOf(wordCount), skillswapPurple);
+            addInfoRow(infoTable, "Palabras:", String.valueOf(wordCount));
             addInfoRow(infoTable, "Duración:",
-                    durationMinutes + " minutos " + remainingSeconds + " segundos", skillswapPurple);
+                    durationMinutes + " minutos " + remainingSeconds + " segundos");
             addInfoRow(infoTable, "Fecha de generación:",
-                    new SimpleDateFormat("dd/MM/yyyy HH:mm").format(new java.util.Date()), skillswapPurple);
+                    new SimpleDateFormat("dd/MM/yyyy HH:mm").format(new java.util.Date()));
 
             document.add(infoTable);
 
@@ -121,7 +164,7 @@ public class TranscriptionPdfService {
             Paragraph transcriptionTitle = new Paragraph("Contenido de la Transcripción")
                     .setFontSize(16)
                     .setBold()
-                    .setFontColor(skillswapPurple)
+                    .setFontColor(PdfTemplateCache.SKILLSWAP_PURPLE)
                     .setMarginTop(20)
                     .setMarginBottom(10);
             document.add(transcriptionTitle);
@@ -135,31 +178,17 @@ public class TranscriptionPdfService {
             // ========================================
             // FOOTER
             // ========================================
-            Paragraph footer = new Paragraph("© 2025 SkillSwap. Todos los derechos reservados.")
-                    .setFontSize(8)
-                    .setFontColor(ColorConstants.GRAY)
-                    .setTextAlignment(TextAlignment.CENTER)
-                    .setMarginTop(20);
-            document.add(footer);
-
-            Paragraph techFooter = new Paragraph("Transcripción procesada con inteligencia artificial | Groq Whisper Large V3")
-                    .setFontSize(7)
-                    .setFontColor(ColorConstants.LIGHT_GRAY)
-                    .setTextAlignment(TextAlignment.CENTER);
-            document.add(techFooter);
+            document.add(pdfTemplates.copyright(20));
+            document.add(pdfTemplates.techFooter("Transcripción procesada con inteligencia artificial | Groq Whisper Large V3"));
 
             // Cerrar documento
             document.close();
 
-            byte[] pdfBytes = baos.toByteArray();
-
             logger.info("========================================");
             logger.info(" PDF GENERADO EXITOSAMENTE");
-            logger.info("   Tamaño: " + formatFileSize(pdfBytes.length));
+            logger.info("   Tamaño: " + formatFileSize(writer.getCurrentPos()));
             logger.info("========================================");
 
-            return pdfBytes;
-
         } catch (Exception e) {
             logger.info("========================================");
             logger.info(" ERROR GENERANDO PDF");
@@ -173,14 +202,8 @@ public class TranscriptionPdfService {
     /**
      * Agrega fila a tabla de información
      */
-    private void addInfoRow(Table table, String label, String value, DeviceRgb labelColor) {
-        table.addCell(new Paragraph(label)
-                .setBold()
-                .setFontColor(labelColor)
-                .setFontSize(10));
-
-        table.addCell(new Paragraph(value)
-                .setFontSize(10));
+    private void addInfoRow(Table table, String label, String value) {
+        pdfTemplates.addInfoRow(table, label, value, 10);
     }
 
     /**
@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import com.project.skillswap.logic.entity.Audio.AudioMetadata;
+import com.project.skillswap.logic.entity.Audio.AudioMetadataReader;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import com.project.skillswap.logic.entity.LearningSession.SessionEmailService;
@@ -15,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.context.annotation.Lazy;
 import com.project.skillswap.logic.entity.LearningSession.SessionCompletionService;
 
 import java.io.File;
@@ -23,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+@Lazy
 @Service
 public class TranscriptionService {
     private static final Logger logger = LoggerFactory.getLogger(TranscriptionService.class);
@@ -35,9 +39,11 @@ public class TranscriptionService {
     private SessionEmailService sessionEmailService;
 
     @Autowired
+    @Lazy
     private SessionSummaryService summaryService;
 
     @Autowired
+    @Lazy
     private SessionSummaryPdfService summaryPdfService;
 
     @Autowired
@@ -45,6 +51,9 @@ public class TranscriptionService {
 
     @Autowired
     private SessionCompletionService sessionCompletionService;
+
+    @Autowired
+    private AudioMetadataReader audioMetadataReader;
     //#endregion
 
 
@@ -97,7 +106,7 @@ public class TranscriptionService {
      * @param sessionId ID de la sesión a transcribir
      * @return resultado del proceso de transcripción
      */
-    @Async
+    @Async("transcriptionExecutor")
     @Transactional
     public CompletableFuture<TranscriptionResult> transcribeSessionAudio(Long sessionId) {
         try {
@@ -266,45 +275,22 @@ public class TranscriptionService {
     //#region Audio Duration
 
     /**
-     * Obtiene la duración real del archivo de audio utilizando FFprobe.
+     * Obtiene la duración real del archivo de audio leyendo sus frames MP3 dentro del proceso.
+     * El tamaño del archivo solo se usa si el MP3 no se puede leer.
      *
      * @param audioFile archivo de audio
      * @return duración total en segundos
      */
     private int estimateAudioDuration(File audioFile) {
         try {
-            ProcessBuilder pb = new ProcessBuilder(
-                    "ffprobe",
-                    "-v", "error",
-                    "-show_entries", "format=duration",
-                    "-of", "default=noprint_wrappers=1:nokey=1",
-                    audioFile.getAbsolutePath()
-            );
-
-            pb.redirectErrorStream(true);
-            Process process = pb.start();
-
-            StringBuilder output = new StringBuilder();
-            try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                    new java.io.InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line);
-                }
+            AudioMetadata metadata = audioMetadataReader.read(audioFile.toPath());
+            if (metadata.durationMillis() > 0) {
+                return metadata.durationSeconds();
             }
-
-            int exitCode = process.waitFor();
-
-            if (exitCode == 0 && output.length() > 0) {
-                double durationSeconds = Double.parseDouble(output.toString().trim());
-                return (int) Math.ceil(durationSeconds);
-            } else {
-                return estimateByFileSize(audioFile);
-            }
-
         } catch (Exception e) {
-            return estimateByFileSize(audioFile);
+            logger.warn("No se pudo leer la duración de " + audioFile.getName() + ": " + e.getMessage());
         }
+        return estimateByFileSize(audioFile);
     }
 
     /**
@@ -367,9 +353,8 @@ public class TranscriptionService {
         jsonTranscription.addProperty("durationMinutes",
                 session.getDurationSeconds() != null ? session.getDurationSeconds() / 60 : 0);
 
-        String fullText = session.getFullText();
-        jsonTranscription.addProperty("wordCount", fullText != null ? fullText.split("\\s+").length : 0);
-        jsonTranscription.addProperty("characterCount", fullText != null ? fullText.length() : 0);
+        jsonTranscription.addProperty("wordCount", session.getTranscriptWordCount());
+        jsonTranscription.addProperty("characterCount", session.getTranscriptCharCount());
 
         jsonTranscription.addProperty("processingDate",
                 session.getProcessingDate() != null ? session.getProcessingDate().toString() : null);
@@ -1,20 +1,29 @@
 package com.project.skillswap.logic.entity.videocall;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.Booking.BookingRepository;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
 import com.project.skillswap.logic.entity.LearningSession.SessionEmailService;
+import com.project.skillswap.logic.entity.LearningSession.TranscriptMetadata;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
+import com.project.skillswap.logic.entity.Storage.MediaServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.context.annotation.Lazy;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,20 +60,36 @@ public class VideoCallRestController {
     private SessionDocumentService documentService;
 
     @Autowired
+    @Lazy
     private TranscriptionService transcriptionService;
 
     @Autowired
     private SessionEmailService sessionEmailService;
 
     @Autowired
+    @Lazy
     private SessionSummaryService summaryService;
 
     @Autowired
+    @Lazy
     private SessionSummaryPdfService summaryPdfService;
 
+    @Autowired
+    @Lazy
+    private TranscriptionPdfService transcriptionPdfService;
+
+    @Autowired
+    private TranscriptExportService transcriptExportService;
+
     @Autowired
     private SessionSummaryEmailService summaryEmailService;
 
+    @Autowired
+    private MediaServer mediaServer;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
     //#endregion
 
 
@@ -211,7 +236,7 @@ public class VideoCallRestController {
                 status.put("transcription", session.getFullText());
                 status.put("durationSeconds", session.getDurationSeconds());
                 status.put("processingDate", session.getProcessingDate());
-                status.put("wordCount", countWords(session.getFullText()));
+                status.put("wordCount", session.getTranscriptWordCount());
 
             } else if (session.getProcessingDate() != null) {
                 // En proceso
@@ -279,16 +304,6 @@ public class VideoCallRestController {
         }
     }
 
-    /**
-     *  Cuenta palabras en texto
-     */
-    private int countWords(String text) {
-        if (text == null || text.isEmpty()) {
-            return 0;
-        }
-        return text.trim().split("\\s+").length;
-    }
-
     //#region Video Call Endpoints
     /**
      * Genera token y datos para unirse a una videollamada
@@ -767,6 +782,35 @@ public class VideoCallRestController {
         }
     }
 
+    /**
+     * Audio de la grabación (instructor de la sesión o learners con reserva en ella);
+     * admite Range para que el reproductor pueda buscar sin descargar todo
+     */
+    @GetMapping("/recording/download/{sessionId}")
+    public void downloadRecording(
+            @PathVariable Long sessionId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Person person = getAuthenticatedPerson();
+        if (person == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        if (!isSessionParticipant(person, sessionId)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        File file = recordingService.findRecordingFile(sessionId);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        mediaServer.serve(file.toPath(), null, null, file.getName(), true, request, response);
+    }
+
     /**
      *  Obtiene la transcripción de una sesión (solo instructores)
      */
@@ -791,13 +835,13 @@ public class VideoCallRestController {
             }
 
             String fullText = session.getFullText();
-            int wordCount = fullText.split("\\s+").length;
+            int wordCount = session.getTranscriptWordCount();
             int durationSeconds = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
 
             logger.info(" Transcripción encontrada");
             logger.info("   Palabras: " + wordCount);
             logger.info("   Duración: " + durationSeconds + " segundos");
-            logger.info("   Caracteres: " + fullText.length());
+            logger.info("   Caracteres: " + session.getTranscriptCharCount());
 
             Map<String, Object> transcriptionData = new HashMap<>();
             transcriptionData.put("transcription", fullText);
@@ -823,132 +867,79 @@ public class VideoCallRestController {
         }
     }
 
+    /**
+     *  Descarga directa de archivo TXT (streaming, con ETag)
+     */
     @GetMapping("/transcription/{sessionId}/download-txt")
-    public ResponseEntity<?> downloadTranscriptionTxt(@PathVariable Long sessionId) {
-        try {
-            logger.info("========================================");
-            logger.info(" DESCARGA DIRECTA TXT");
-            logger.info("   Session ID: " + sessionId);
-            logger.info("========================================");
-
-            LearningSession session = sessionRepository.findById(sessionId)
-                    .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
-
-            if (session.getFullText() == null || session.getFullText().isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body("No hay transcripción disponible".getBytes());
-            }
-
-            String fullText = session.getFullText();
-            int wordCount = fullText.split("\\s+").length;
-            int durationSeconds = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
-
-            StringBuilder content = new StringBuilder();
-            content.append("===========================================\n");
-            content.append("TRANSCRIPCIÓN DE SESIÓN - SKILLSWAP\n");
-            content.append("===========================================\n");
-            content.append("Sesión: #").append(session.getId()).append("\n");
-            content.append("Título: ").append(session.getTitle()).append("\n");
-
-            if (session.getInstructor() != null && session.getInstructor().getPerson() != null) {
-                content.append("Instructor: ").append(session.getInstructor().getPerson().getFullName()).append("\n");
-            }
-
-            if (session.getSkill() != null) {
-                content.append("Habilidad: ").append(session.getSkill().getName()).append("\n");
-            }
-
-            content.append("Palabras: ").append(wordCount).append("\n");
-            content.append("Duración: ").append(durationSeconds / 60).append(" minutos ")
-                    .append(durationSeconds % 60).append(" segundos\n");
-            content.append("Fecha: ").append(new java.text.SimpleDateFormat("dd/MM/yyyy HH:mm")
-                    .format(new java.util.Date())).append("\n");
-            content.append("===========================================\n\n");
-            content.append(fullText);
-
-            String fileName = "transcripcion_sesion_" + session.getId() + "_" +
-                    new java.text.SimpleDateFormat("yyyyMMdd_HHmmss").format(new java.util.Date()) + ".txt";
-
-            byte[] contentBytes = content.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
-
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.TEXT_PLAIN);
-            headers.setContentLength(contentBytes.length);
-            headers.setCacheControl("no-cache, no-store, must-revalidate");
-            headers.setPragma("no-cache");
-            headers.setExpires(0);
-            headers.set("Content-Disposition",
-                    "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''" +
-                            java.net.URLEncoder.encode(fileName, java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20"));
-
-            logger.info(" Descarga TXT iniciada: " + fileName);
+    public ResponseEntity<?> downloadTranscriptionTxt(@PathVariable Long sessionId, WebRequest webRequest) {
+        return downloadTranscription(sessionId, "txt", webRequest);
+    }
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(contentBytes);
+    /**
+     *  Descarga directa de archivo PDF (streaming, con ETag)
+     */
+    @GetMapping("/transcription/{sessionId}/download-pdf")
+    public ResponseEntity<?> downloadTranscriptionPdf(@PathVariable Long sessionId, WebRequest webRequest) {
+        return downloadTranscription(sessionId, "pdf", webRequest);
+    }
 
-        } catch (Exception e) {
-            logger.info(" Error descargando TXT: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(("Error: " + e.getMessage()).getBytes());
-        }
+    /**
+     *  Descarga directa de archivo JSON con metadatos (streaming, con ETag)
+     */
+    @GetMapping("/transcription/{sessionId}/download-json")
+    public ResponseEntity<?> downloadTranscriptionJson(@PathVariable Long sessionId, WebRequest webRequest) {
+        return downloadTranscription(sessionId, "json", webRequest);
     }
 
     /**
-     *  Descarga directa de archivo PDF
+     * Resuelve la descarga en cualquier formato.
+     * Primero se consultan solo los metadatos: si el ETag coincide con If-None-Match
+     * se responde 304 sin cargar ni regenerar la transcripción.
      */
-    @GetMapping("/transcription/{sessionId}/download-pdf")
-    public ResponseEntity<?> downloadTranscriptionPdf(@PathVariable Long sessionId) {
+    private ResponseEntity<?> downloadTranscription(Long sessionId, String format, WebRequest webRequest) {
         try {
             logger.info("========================================");
-            logger.info(" DESCARGA DE TRANSCRIPCIÓN PDF");
+            logger.info(" DESCARGA DE TRANSCRIPCIÓN " + format.toUpperCase());
             logger.info("   Session ID: " + sessionId);
             logger.info("========================================");
 
-            LearningSession session = sessionRepository.findById(sessionId)
+            TranscriptMetadata metadata = sessionRepository.findTranscriptMetadata(sessionId)
                     .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
 
-            if (session.getFullText() == null || session.getFullText().isEmpty()) {
+            if (!metadata.hasTranscript()) {
                 logger.info(" No hay transcripción disponible");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body("No hay transcripción disponible para esta sesión".getBytes());
+                        .body("No hay transcripción disponible para esta sesión"
+                                .getBytes(java.nio.charset.StandardCharsets.UTF_8));
             }
 
-            // Generar PDF usando el servicio
-            TranscriptionPdfService pdfService = new TranscriptionPdfService();
-            byte[] pdfBytes = pdfService.generateTranscriptionPdf(session);
+            String etag = transcriptExportService.etag(metadata, format);
+            if (webRequest.checkNotModified(etag)) {
+                logger.info(" Transcripción sin cambios (304)");
+                return null;
+            }
 
-            String fileName = "transcripcion_sesion_" + session.getId() + "_" +
-                    new java.text.SimpleDateFormat("yyyyMMdd_HHmmss").format(new java.util.Date()) + ".pdf";
-
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_PDF);
-            headers.setContentLength(pdfBytes.length);
-            headers.setCacheControl("no-cache, no-store, must-revalidate");
-            headers.setPragma("no-cache");
-            headers.setExpires(0);
-            headers.set("Content-Disposition",
-                    "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''" +
-                            java.net.URLEncoder.encode(fileName, java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20"));
+            LearningSession session = sessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
 
-            logger.info("========================================");
-            logger.info(" PDF LISTO PARA DESCARGA");
-            logger.info("========================================");
+            String fileName = "transcripcion_sesion_" + session.getId() + "_" +
+                    new java.text.SimpleDateFormat("yyyyMMdd_HHmmss").format(new java.util.Date()) + "." + format;
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(pdfBytes);
+            return switch (format) {
+                case "pdf" -> transcriptionPdfService.streamTranscriptionPdf(session, fileName, etag);
+                case "json" -> transcriptExportService.streamJson(session, fileName, etag);
+                default -> transcriptExportService.streamText(session, fileName, etag);
+            };
 
         } catch (Exception e) {
             logger.info("========================================");
-            logger.info(" ERROR AL DESCARGAR PDF");
+            logger.info(" ERROR AL DESCARGAR " + format.toUpperCase());
             logger.info("   Error: " + e.getMessage());
             logger.info("========================================");
             e.printStackTrace();
 
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(("Error al descargar PDF: " + e.getMessage())
+                    .body(("Error al descargar " + format.toUpperCase() + ": " + e.getMessage())
                             .getBytes(java.nio.charset.StandardCharsets.UTF_8));
         }
     }
@@ -1008,21 +999,22 @@ public class VideoCallRestController {
         }
     }
 
+    /**
+     * Descarga un documento; admite Range/If-Range y responde 304 con If-None-Match
+     */
     @GetMapping("/sessions/{sessionId}/documents/{documentId}/download")
-    public ResponseEntity<?> downloadDocument(
+    public void downloadDocument(
             @PathVariable Long sessionId,
-            @PathVariable Long documentId) {
-        try {
-            Person person = getAuthenticatedPerson();
-            if (person == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
-
-            return documentService.downloadDocument(documentId);
-
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Person person = getAuthenticatedPerson();
+        if (person == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
         }
+
+        documentService.downloadDocument(sessionId, documentId, request, response);
     }
 
     @DeleteMapping("/sessions/{sessionId}/documents/{documentId}")
@@ -1087,6 +1079,17 @@ public class VideoCallRestController {
         }
     }
 
+    /**
+     * Instructor de la sesión o learner con una reserva en ella
+     */
+    private boolean isSessionParticipant(Person person, Long sessionId) {
+        if (isSessionInstructor(person, sessionId)) {
+            return true;
+        }
+        return person.getLearner() != null
+                && bookingRepository.existsByLearningSessionIdAndLearnerId(sessionId, person.getLearner().getId());
+    }
+
     private boolean isInstructor(Person person) {
         return person.getInstructor() != null && person.getInstructor().getId() != null;
     }
@@ -1260,29 +1263,15 @@ public class VideoCallRestController {
 
             String summary = summaryService.generateSummary(session);
 
-            byte[] pdfBytes = summaryPdfService.generateSummaryPdf(session, summary);
-
             String fileName = "resumen_sesion_" + session.getId() + "_" +
                     new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".pdf";
 
-            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.APPLICATION_PDF);
-            headers.setContentLength(pdfBytes.length);
-            headers.setCacheControl("no-cache, no-store, must-revalidate");
-            headers.setPragma("no-cache");
-            headers.setExpires(0);
-            headers.set("Content-Disposition",
-                    "attachment; filename=\"" + fileName + "\"; filename*=UTF-8''" +
-                            java.net.URLEncoder.encode(fileName, java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20"));
-
             logger.info("========================================");
             logger.info(" PDF DE RESUMEN LISTO");
             logger.info("   Archivo: " + fileName);
             logger.info("========================================");
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(pdfBytes);
+            return summaryPdfService.streamSummaryPdf(session, summary, fileName);
 
         } catch (Exception e) {
             logger.info("========================================");
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 
 @Service
@@ -29,6 +30,9 @@ public class VideoCallService {
 
     @Value("${app.development.mode:true}")
     private Boolean developmentMode;
+
+    @Value("${session.lifecycle.lobby-minutes:10}")
+    private long lobbyMinutes;
     //#endregion
 
     //#region Public Methods
@@ -45,24 +49,19 @@ public class VideoCallService {
         LearningSession session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
 
-        // Validar estado de la sesión
+        // Validar estado de la sesión (los cambios de estado los hace SessionLifecycleScheduler)
         if (developmentMode) {
             logger.info("️ [DEV MODE] Permitiendo acceso a sesión");
             if (session.getStatus() == SessionStatus.CANCELLED) {
                 throw new RuntimeException("La sesión ha sido cancelada");
             }
-
-
-            if (session.getStatus() == SessionStatus.SCHEDULED ||
-                    session.getStatus() == SessionStatus.DRAFT) {
-                session.setStatus(SessionStatus.ACTIVE);
-                sessionRepository.save(session);
-                logger.info(" Sesión cambiada a ACTIVE");
-            }
         } else {
             logger.info(" [PROD MODE] Validando estado: " + session.getStatus());
-            if (session.getStatus() != SessionStatus.SCHEDULED &&
-                    session.getStatus() != SessionStatus.ACTIVE) {
+            if (session.getStatus() == SessionStatus.SCHEDULED) {
+                if (!isLobbyOpen(session)) {
+                    throw new RuntimeException("La sala de la sesión aún no está abierta");
+                }
+            } else if (session.getStatus() != SessionStatus.ACTIVE) {
                 throw new RuntimeException("La sesión no está disponible. Estado: " + session.getStatus());
             }
         }
@@ -143,14 +142,6 @@ public class VideoCallService {
         LearningSession session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Sesión no encontrada"));
 
-        // Cambiar a ACTIVE si está en SCHEDULED o DRAFT
-        if (session.getStatus() == SessionStatus.SCHEDULED ||
-                (developmentMode && session.getStatus() == SessionStatus.DRAFT)) {
-            session.setStatus(SessionStatus.ACTIVE);
-            sessionRepository.save(session);
-            logger.info(" Sesión activada al unirse participante");
-        }
-
         Map<String, Object> response = new HashMap<>();
         response.put("sessionId", sessionId);
         response.put("personId", personId);
@@ -181,4 +172,19 @@ public class VideoCallService {
         return response;
     }
     //#endregion
+
+    //#region Private Methods
+    /**
+     * La sala abre session.lifecycle.lobby-minutes antes del inicio de una sesión SCHEDULED.
+     * Se calcula con la fila, así que todas las réplicas responden lo mismo.
+     */
+    private boolean isLobbyOpen(LearningSession session) {
+        Date scheduledDatetime = session.getScheduledDatetime();
+        if (session.getStatus() != SessionStatus.SCHEDULED || scheduledDatetime == null) {
+            return false;
+        }
+        long opensAt = scheduledDatetime.getTime() - TimeUnit.MINUTES.toMillis(lobbyMinutes);
+        return opensAt <= System.currentTimeMillis();
+    }
+    //#endregion
 }
\ No newline at end of file
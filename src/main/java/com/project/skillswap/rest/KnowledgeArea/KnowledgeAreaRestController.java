@@ -2,9 +2,7 @@
 package com.project.skillswap.rest.KnowledgeArea;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
-import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeAreaService;
-import com.project.skillswap.logic.entity.http.GlobalResponseHandler;
+import com.project.skillswap.logic.entity.Catalog.CatalogCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,7 +10,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,7 +24,7 @@ public class KnowledgeAreaRestController {
 
     //<editor-fold desc="Dependencies">
     @Autowired
-    private KnowledgeAreaService knowledgeAreaService;
+    private CatalogCache catalogCache;
     //</editor-fold>
 
     //<editor-fold desc="GET Endpoints">
@@ -36,7 +33,8 @@ public class KnowledgeAreaRestController {
      * GET /knowledge-areas
      * Obtiene todas las áreas de conocimiento activas.
      *
-     * Este endpoint es público (no requiere autenticación)
+     * Este endpoint es público (no requiere autenticación). Se sirve desde el catálogo en memoria
+     * con ETag; If-None-Match responde 304.
      *
      * @param request HttpServletRequest for metadata
      * @return ResponseEntity con la lista de áreas de conocimiento activas
@@ -44,14 +42,7 @@ public class KnowledgeAreaRestController {
     @GetMapping
     public ResponseEntity<?> getAllKnowledgeAreas(HttpServletRequest request) {
         try {
-            List<KnowledgeArea> knowledgeAreas = knowledgeAreaService.getAllActiveKnowledgeAreas();
-
-            return new GlobalResponseHandler().handleResponse(
-                    "Knowledge areas retrieved successfully",
-                    knowledgeAreas,
-                    HttpStatus.OK,
-                    request
-            );
+            return catalogCache.respond(catalogCache.current().knowledgeAreas(), request);
         } catch (Exception e) {
             logger.info("Error getting knowledge areas: " + e.getMessage());
             e.printStackTrace();
@@ -7,6 +7,7 @@ import com.project.skillswap.logic.entity.LearningSession.CancelSessionRequest;
 import com.project.skillswap.logic.entity.LearningSession.CancelSessionResponse;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionService;
+import com.project.skillswap.logic.entity.LearningSession.SessionCatalogItem;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.http.GlobalResponseHandler;
 import jakarta.servlet.http.HttpServletRequest;
@@ -44,19 +45,25 @@ public class LearningSessionRestController {
      *
      * Requires: Valid JWT token in Authorization header
      *
+     * @param sort "rating" para ordenar por calificación del instructor (opcional)
      * @param request HttpServletRequest for metadata
      * @return ResponseEntity with list of available sessions
      */
     @GetMapping("/available")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> getAvailableSessions(HttpServletRequest request) {
+    public ResponseEntity<?> getAvailableSessions(
+            @RequestParam(required = false) String sort,
+            HttpServletRequest request) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             Person authenticatedPerson = (Person) authentication.getPrincipal();
 
             validateUserRole(authenticatedPerson);
 
-            List<LearningSession> sessions = learningSessionService.getAvailableSessions();
+            List<SessionCatalogItem> sessions = learningSessionService.getAvailableSessions();
+            if ("rating".equalsIgnoreCase(sort)) {
+                sessions = learningSessionService.sortByInstructorRating(sessions);
+            }
 
             return new GlobalResponseHandler().handleResponse(
                     "Available sessions retrieved successfully",
@@ -105,7 +112,7 @@ public class LearningSessionRestController {
 
             validateUserRole(authenticatedPerson);
 
-            List<LearningSession> sessions = learningSessionService.getFilteredSessions(categoryId, language);
+            List<SessionCatalogItem> sessions = learningSessionService.getFilteredSessions(categoryId, language);
 
             return new GlobalResponseHandler().handleResponse(
                     "Filtered sessions retrieved successfully",
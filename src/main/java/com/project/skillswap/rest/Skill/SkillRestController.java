@@ -2,10 +2,8 @@
 package com.project.skillswap.rest.Skill;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
-import com.project.skillswap.logic.entity.Skill.Skill;
-import com.project.skillswap.logic.entity.Skill.SkillService;
+import com.project.skillswap.logic.entity.Catalog.CatalogCache;
 import com.project.skillswap.logic.entity.Person.Person;
-import com.project.skillswap.logic.entity.http.GlobalResponseHandler;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,7 +14,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 
@@ -28,7 +25,7 @@ public class SkillRestController {
 
     //<editor-fold desc="Dependencies">
     @Autowired
-    private SkillService skillService;
+    private CatalogCache catalogCache;
 
 
     @GetMapping("/knowledge-area/{knowledgeAreaId}")
@@ -44,14 +41,7 @@ public class SkillRestController {
                 validateUserRole(authenticatedPerson);
             }
 
-            List<Skill> skills = skillService.getActiveSkillsByKnowledgeAreaId(knowledgeAreaId);
-
-            return new GlobalResponseHandler().handleResponse(
-                    "Skills retrieved successfully",
-                    skills,
-                    HttpStatus.OK,
-                    request
-            );
+            return catalogCache.respond(catalogCache.current().skillsOfArea(knowledgeAreaId), request);
         } catch (IllegalStateException e) {
             logger.info("Error: Invalid user role: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -75,14 +65,7 @@ public class SkillRestController {
 
             validateUserRole(authenticatedPerson);
 
-            List<Skill> skills = skillService.getAllActiveSkills();
-
-            return new GlobalResponseHandler().handleResponse(
-                    "All skills retrieved successfully",
-                    skills,
-                    HttpStatus.OK,
-                    request
-            );
+            return catalogCache.respond(catalogCache.current().allSkills(), request);
         } catch (ClassCastException e) {
             logger.info("Error: Authentication principal is not a Person: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
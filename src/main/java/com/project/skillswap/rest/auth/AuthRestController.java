@@ -6,9 +6,16 @@ import com.project.skillswap.logic.entity.Person.LoginResponse;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
 import com.project.skillswap.logic.entity.auth.AuthenticationService;
+import com.project.skillswap.logic.entity.auth.ClientIpResolver;
 import com.project.skillswap.logic.entity.auth.JwtService;
 import com.project.skillswap.logic.entity.auth.GoogleOAuthService;
+import com.project.skillswap.logic.entity.auth.LoginAdmissionControl;
+import com.project.skillswap.logic.entity.auth.PasswordHashingStage;
+import com.project.skillswap.logic.entity.auth.UnknownEmailCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,6 +40,18 @@ public class AuthRestController {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private LoginAdmissionControl loginAdmissionControl;
+
+    @Autowired
+    private UnknownEmailCache unknownEmailCache;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
+    @Value("${auth.login.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
     private final AuthenticationService authenticationService;
     private final JwtService jwtService;
     private final GoogleOAuthService googleOAuthService;
@@ -55,11 +74,14 @@ public class AuthRestController {
      * { "email": "...", "password": "..." }
      *  o bien
      * { "email": "...", "passwordHash": "..." }
-     * Internamente lo mapea a Person.passwordHash para que el AuthenticationService compare
-     * contra el hash de la BD usando passwordEncoder.matches(raw, hash).
+     * El AuthenticationService compara contra el hash de la BD en el executor de hash.
+     *
+     * Antes de tocar la base, cada intento pasa por el control de admisión por IP y por email
+     * (429 con Retry-After) y por el cache de emails inexistentes. Si la etapa de hash está
+     * saturada se responde 503 con Retry-After en lugar de hacer esperar al hilo.
      */
     @PostMapping("/login")
-    public ResponseEntity<?> authenticate(@RequestBody Map<String, Object> payload) {
+    public ResponseEntity<?> authenticate(@RequestBody Map<String, Object> payload, HttpServletRequest request) {
         try {
             logger.info("[LOGIN] Iniciando proceso de autenticación...");
 
@@ -107,10 +129,24 @@ public class AuthRestController {
 
             logger.info("[LOGIN] Validaciones iniciales pasadas para: " + email);
 
-            Optional<Person> userOptional = personRepository.findByEmail(email);
+            long retryAfterSeconds = loginAdmissionControl.tryAdmit(email, clientIpResolver.resolve(request, trustForwardedFor));
+            if (retryAfterSeconds > 0) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .body(createErrorResponse(
+                                "TOO_MANY_ATTEMPTS",
+                                "Demasiados intentos de inicio de sesión. Intenta de nuevo en unos segundos",
+                                HttpStatus.TOO_MANY_REQUESTS.value()
+                        ));
+            }
+
+            Optional<Person> userOptional = unknownEmailCache.isKnownMissing(email)
+                    ? Optional.empty()
+                    : personRepository.findByEmail(email);
 
             if (!userOptional.isPresent()) {
                 logger.info("[LOGIN] Usuario no existe: " + email);
+                unknownEmailCache.markMissing(email);
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(createErrorResponse(
                                 "USER_NOT_FOUND",
@@ -142,13 +178,8 @@ public class AuthRestController {
             }
 
 
-            Person loginPerson = new Person();
-            loginPerson.setEmail(email);
-            loginPerson.setPasswordHash(rawPassword);
-
-
             logger.info("[LOGIN] Llamando al servicio de autenticación...");
-            Person authenticatedUser = authenticationService.authenticate(loginPerson);
+            Person authenticatedUser = authenticationService.authenticate(foundUser, rawPassword);
 
             if (authenticatedUser == null) {
                 logger.info("[LOGIN] AuthenticationService retornó null");
@@ -179,6 +210,16 @@ public class AuthRestController {
             logger.info("[LOGIN] Login exitoso para: " + email);
             return ResponseEntity.ok(loginResponse);
 
+        } catch (PasswordHashingStage.HashingOverloadedException e) {
+            logger.warn("[LOGIN] Etapa de hash saturada: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(createErrorResponse(
+                            "LOGIN_BUSY",
+                            "El servicio de inicio de sesión está ocupado. Intenta de nuevo en unos segundos",
+                            HttpStatus.SERVICE_UNAVAILABLE.value()
+                    ));
+
         } catch (BadCredentialsException e) {
             logger.info("[LOGIN] BadCredentialsException: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
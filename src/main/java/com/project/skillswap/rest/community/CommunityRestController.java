@@ -1,6 +1,7 @@
 package com.project.skillswap.rest.community;
 
 import com.project.skillswap.logic.entity.CommunityInvitation.CommunityInvitationService;
+import com.project.skillswap.logic.entity.CommunityInvitation.InvitationJobProgress;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
@@ -56,7 +57,8 @@ public class CommunityRestController {
 
     //#region Endpoints
     /**
-     * Crea una nueva comunidad y envía invitaciones.
+     * Crea una nueva comunidad y encola las invitaciones.
+     * Responde 202 con el ID del lote; el avance del envío se consulta en /communities/invitation-jobs/{jobId}.
      *
      * @param request datos de la comunidad
      * @param userDetails usuario autenticado
@@ -115,14 +117,11 @@ public class CommunityRestController {
             response.put("communityId", result.getCommunityId());
 
             if (result.getInvitationsSummary() != null) {
-                Map<String, Object> summary = new HashMap<>();
-                summary.put("successfulInvitations", result.getInvitationsSummary().getSuccessfulInvitations());
-                summary.put("failedInvitations", result.getInvitationsSummary().getFailedInvitations());
-                response.put("invitationsSummary", summary);
+                putInvitationsSummary(response, result.getInvitationsSummary());
             }
 
             logger.info("Community created successfully: {}", result.getCommunityId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } else {
             logger.warn("Failed to create community: {}", result.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
@@ -130,6 +129,7 @@ public class CommunityRestController {
     }
     /**
      * Invita nuevos miembros a una comunidad existente.
+     * Responde 202 con el ID del lote; los correos se envían en segundo plano.
      *
      * @param communityId ID de la comunidad
      * @param request emails de los nuevos miembros
@@ -196,17 +196,14 @@ public class CommunityRestController {
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "Invitaciones enviadas exitosamente");
+            response.put("message", "Invitaciones en envío");
 
             if (summary != null) {
-                Map<String, Object> summaryMap = new HashMap<>();
-                summaryMap.put("successfulInvitations", summary.getSuccessfulInvitations());
-                summaryMap.put("failedInvitations", summary.getFailedInvitations());
-                response.put("invitationsSummary", summaryMap);
+                putInvitationsSummary(response, summary);
             }
 
-            logger.info("Invitations sent successfully for community: {}", communityId);
-            return ResponseEntity.ok(response);
+            logger.info("Invitations queued for community: {}", communityId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
 
         } catch (Exception e) {
             logger.error("Error inviting new members", e);
@@ -214,6 +211,49 @@ public class CommunityRestController {
                     .body(createErrorResponse("Error al enviar las invitaciones: " + e.getMessage()));
         }
     }
+    /**
+     * Consulta el avance del envío de un lote de invitaciones. Solo lo ve el creador de la comunidad.
+     *
+     * @param jobId ID del lote
+     * @param userDetails usuario autenticado
+     * @return totales por estado y el estado de cada invitación
+     */
+    @GetMapping("/invitation-jobs/{jobId}")
+    public ResponseEntity<?> getInvitationJob(@PathVariable String jobId,
+                                              @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(createErrorResponse("Debes iniciar sesión"));
+        }
+
+        try {
+            Optional<InvitationJobProgress> progressOpt = invitationService.getInvitationJob(jobId);
+            if (progressOpt.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(createErrorResponse("Lote de invitaciones no encontrado"));
+            }
+
+            InvitationJobProgress progress = progressOpt.get();
+            Long personId = extractPersonId(userDetails);
+            Optional<LearningCommunity> communityOpt = communityRepository.findById(progress.communityId());
+            if (personId == null || communityOpt.isEmpty()
+                    || !communityOpt.get().getCreator().getPerson().getId().equals(personId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("Solo el creador puede consultar este envío"));
+            }
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", progress);
+            response.put("completed", progress.pending() == 0);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("Error getting invitation job {}", jobId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("Error al consultar el envío de invitaciones"));
+        }
+    }
+
     /**
      * Acepta una invitación a una comunidad.
      *
@@ -346,6 +386,25 @@ public class CommunityRestController {
         return response;
     }
 
+    /**
+     * Agrega a la respuesta el resumen de invitaciones y, si se encoló alguna, el ID del lote.
+     *
+     * @param response mapa de respuesta
+     * @param summary resumen de invitaciones
+     */
+    private void putInvitationsSummary(Map<String, Object> response,
+                                       CommunityInvitationService.InvitationsSummary summary) {
+        Map<String, Object> summaryMap = new HashMap<>();
+        summaryMap.put("successfulInvitations", summary.getSuccessfulInvitations());
+        summaryMap.put("failedInvitations", summary.getFailedInvitations());
+        response.put("invitationsSummary", summaryMap);
+
+        if (summary.getJobId() != null) {
+            response.put("jobId", summary.getJobId());
+            response.put("statusUrl", "/communities/invitation-jobs/" + summary.getJobId());
+        }
+    }
+
     /**
      * Valida el formato de un email.
      *
@@ -1,12 +1,15 @@
 package com.project.skillswap.rest.community;
 
-import com.cloudinary.Cloudinary;
 import com.project.skillswap.logic.entity.CommunityDocument.CommunityDocument;
 import com.project.skillswap.logic.entity.CommunityDocument.CommunityDocumentRepository;
 import com.project.skillswap.logic.entity.LearningCommunity.LearningCommunity;
 import com.project.skillswap.logic.entity.LearningCommunity.LearningCommunityRepository;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Person.PersonRepository;
+import com.project.skillswap.logic.entity.Storage.StagedUpload;
+import com.project.skillswap.logic.entity.Storage.StorageBackend;
+import com.project.skillswap.logic.entity.Storage.StoredObject;
+import com.project.skillswap.logic.entity.Storage.UploadStagingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
@@ -44,7 +47,10 @@ public class GroupDocumentsController {
     private PersonRepository personRepository;
 
     @Autowired
-    private Cloudinary cloudinary;
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private UploadStagingService uploadStagingService;
     //#endregion
 
     //#region Upload Endpoint
@@ -92,8 +98,11 @@ public class GroupDocumentsController {
             uploadParams.put("public_id",safeFilename.replace(".pdf","")+"_"+System.currentTimeMillis());
             uploadParams.put("use_filename",true);
 
-            Map<?,?> uploadResult=cloudinary.uploader().upload(file.getBytes(),uploadParams);
-            String cloudinaryUrl=(String)uploadResult.get("secure_url");
+            String cloudinaryUrl;
+            try(StagedUpload upload=uploadStagingService.stage(file)){
+                StoredObject stored=storageBackend.store(upload,uploadParams);
+                cloudinaryUrl=stored.url();
+            }
 
             System.out.println("[GROUP-DOCS] Archivo subido a Cloudinary: "+cloudinaryUrl);
 
@@ -2,6 +2,7 @@ package com.project.skillswap.rest.feedback;
 
 import com.project.skillswap.logic.entity.Feedback.Feedback;
 import com.project.skillswap.logic.entity.Feedback.FeedbackService;
+import com.project.skillswap.logic.entity.Feedback.FeedbackView;
 import com.project.skillswap.logic.entity.Feedback.FeedbackAudioService;
 import com.project.skillswap.logic.entity.LearningSession.LearningSession;
 import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
@@ -383,11 +384,11 @@ public class FeedbackRestController {
      * @return ResponseEntity con pagina de feedbacks
      */
     @GetMapping("/mine")
-    public ResponseEntity<Page<Feedback>> getMyFeedbacks(
+    public ResponseEntity<Page<FeedbackView>> getMyFeedbacks(
             @PageableDefault(size = 10, page = 0, sort = "creationDate", direction = Sort.Direction.DESC)
             Pageable pageable) {
         try {
-            Page<Feedback> feedbacks = feedbackService.getMyFeedbacks(pageable);
+            Page<FeedbackView> feedbacks = feedbackService.getMyFeedbacks(pageable);
             return ResponseEntity.ok(feedbacks);
         } catch (Exception e) {
             System.err.println("[FeedbackRestController] Error obteniendo feedbacks: " + e.getMessage());
@@ -403,12 +404,12 @@ public class FeedbackRestController {
      * @return ResponseEntity con pagina de feedbacks
      */
     @GetMapping("/instructor/{instructorId}")
-    public ResponseEntity<Page<Feedback>> getFeedbacksByInstructor(
+    public ResponseEntity<Page<FeedbackView>> getFeedbacksByInstructor(
             @PathVariable Long instructorId,
             @PageableDefault(size = 10, page = 0, sort = "creationDate", direction = Sort.Direction.DESC)
             Pageable pageable) {
         try {
-            Page<Feedback> feedbacks = feedbackService.getFeedbacksByInstructor(instructorId, pageable);
+            Page<FeedbackView> feedbacks = feedbackService.getFeedbacksByInstructor(instructorId, pageable);
             return ResponseEntity.ok(feedbacks);
         } catch (Exception e) {
             System.err.println("[FeedbackRestController] Error obteniendo feedbacks: " + e.getMessage());
@@ -423,10 +424,10 @@ public class FeedbackRestController {
      * @return ResponseEntity con lista de feedbacks
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<Feedback>> getRecentFeedbacks(
+    public ResponseEntity<List<FeedbackView>> getRecentFeedbacks(
             @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<Feedback> feedbacks = feedbackService.getRecentFeedbacks(limit);
+            List<FeedbackView> feedbacks = feedbackService.getRecentFeedbacks(limit);
             return ResponseEntity.ok(feedbacks);
         } catch (Exception e) {
             System.err.println("[FeedbackRestController] Error obteniendo feedbacks recientes: " + e.getMessage());
@@ -442,11 +443,11 @@ public class FeedbackRestController {
      * @return ResponseEntity con lista de feedbacks
      */
     @GetMapping("/instructor/{instructorId}/recent")
-    public ResponseEntity<List<Feedback>> getRecentFeedbacksByInstructor(
+    public ResponseEntity<List<FeedbackView>> getRecentFeedbacksByInstructor(
             @PathVariable Long instructorId,
             @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<Feedback> feedbacks = feedbackService.getRecentFeedbacksByInstructor(instructorId, limit);
+            List<FeedbackView> feedbacks = feedbackService.getRecentFeedbacksByInstructor(instructorId, limit);
             return ResponseEntity.ok(feedbacks);
         } catch (Exception e) {
             System.err.println("[FeedbackRestController] Error obteniendo feedbacks recientes: " + e.getMessage());
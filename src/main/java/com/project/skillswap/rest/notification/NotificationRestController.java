@@ -0,0 +1,102 @@
+package com.project.skillswap.rest.notification;
+
+import com.project.skillswap.logic.entity.Notification.NotificationPage;
+import com.project.skillswap.logic.entity.Notification.NotificationService;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.http.GlobalResponseHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Notificaciones in-app de la persona autenticada.
+ * Las nuevas llegan por STOMP a /user/queue/notifications; estos endpoints sirven el historial,
+ * la puesta al día después de reconectar y el contador de no leídas (en memoria, sin COUNT).
+ */
+@RestController
+@RequestMapping("/notifications")
+@CrossOrigin(origins = "*")
+public class NotificationRestController {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRestController.class);
+
+    //#region Dependencies
+    @Autowired
+    private NotificationService notificationService;
+    //#endregion
+
+    //#region Endpoints
+    /**
+     * Historial o puesta al día
+     * GET /notifications?beforeId=&size=  -> de la más reciente hacia atrás
+     * GET /notifications?afterId=&size=   -> las creadas después de afterId (al reconectar)
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getNotifications(@RequestParam(required = false) Long beforeId,
+                                              @RequestParam(required = false) Long afterId,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              HttpServletRequest request) {
+        Person person = getAuthenticatedPerson();
+        NotificationPage page = notificationService.getPage(person.getId(), beforeId, afterId, size);
+        return new GlobalResponseHandler().handleResponse(
+                "Notifications retrieved successfully", page, HttpStatus.OK, request);
+    }
+
+    /**
+     * GET /notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getUnreadCount(HttpServletRequest request) {
+        Person person = getAuthenticatedPerson();
+        return new GlobalResponseHandler().handleResponse(
+                "Unread count retrieved successfully",
+                Map.of("unread", notificationService.getUnreadCount(person.getId())),
+                HttpStatus.OK, request);
+    }
+
+    /**
+     * PUT /notifications/{id}/read
+     */
+    @PutMapping("/{id}/read")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> markRead(@PathVariable Long id, HttpServletRequest request) {
+        Person person = getAuthenticatedPerson();
+        boolean changed = notificationService.markRead(person.getId(), id);
+        return new GlobalResponseHandler().handleResponse(
+                changed ? "Notification marked as read" : "Notification already read",
+                Map.of("unread", notificationService.getUnreadCount(person.getId())),
+                HttpStatus.OK, request);
+    }
+
+    /**
+     * PUT /notifications/read-all
+     */
+    @PutMapping("/read-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> markAllRead(HttpServletRequest request) {
+        Person person = getAuthenticatedPerson();
+        int changed = notificationService.markAllRead(person.getId());
+        return new GlobalResponseHandler().handleResponse(
+                "Notifications marked as read",
+                Map.of("updated", changed, "unread", 0),
+                HttpStatus.OK, request);
+    }
+    //#endregion
+
+    //#region Private Methods
+    private Person getAuthenticatedPerson() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (Person) authentication.getPrincipal();
+    }
+    //#endregion
+}
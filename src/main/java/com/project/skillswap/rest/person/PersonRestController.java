@@ -2,6 +2,7 @@
 package com.project.skillswap.rest.person;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
+import com.project.skillswap.logic.entity.auth.UnknownEmailCache;
 import com.project.skillswap.logic.entity.Person.Person;
 import com.project.skillswap.logic.entity.Learner.Learner;
 import com.project.skillswap.logic.entity.Learner.LearnerRepository;
@@ -46,6 +47,7 @@ public class PersonRestController {
     private final UserSkillService userSkillService;
     private final SkillRepository skillRepository;
     private final KnowledgeAreaRepository knowledgeAreaRepository;
+    private final UnknownEmailCache unknownEmailCache;
 
     @Value("${app.development.mode:false}")
     private boolean developmentMode;
@@ -57,7 +59,8 @@ public class PersonRestController {
                                 VerificationService verificationService,
                                 UserSkillService userSkillService,
                                 SkillRepository skillRepository,
-                                KnowledgeAreaRepository knowledgeAreaRepository) {
+                                KnowledgeAreaRepository knowledgeAreaRepository,
+                                UnknownEmailCache unknownEmailCache) {
         this.personRepository = personRepository;
         this.learnerRepository = learnerRepository;
         this.instructorRepository = instructorRepository;
@@ -66,6 +69,7 @@ public class PersonRestController {
         this.userSkillService = userSkillService;
         this.skillRepository = skillRepository;
         this.knowledgeAreaRepository = knowledgeAreaRepository;
+        this.unknownEmailCache = unknownEmailCache;
     }
     //#endregion
 
@@ -105,6 +109,7 @@ public class PersonRestController {
 
             person.setEmailVerified(developmentMode);
             personRepository.save(person);
+            unknownEmailCache.invalidate(person.getEmail());
 
             Learner learner = new Learner();
             learner.setPerson(person);
@@ -186,6 +191,7 @@ public class PersonRestController {
 
             person.setEmailVerified(developmentMode);
             personRepository.save(person);
+            unknownEmailCache.invalidate(person.getEmail());
 
             Instructor instructor = new Instructor();
             instructor.setPerson(person);
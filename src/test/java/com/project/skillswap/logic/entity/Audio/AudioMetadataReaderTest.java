@@ -0,0 +1,58 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Detección del contenedor por los primeros bytes y rechazo de lo que no es MP3 ni WebM/Matroska.
+ * Los archivos de prueba están en src/test/resources/audio.
+ */
+class AudioMetadataReaderTest {
+
+    private final AudioMetadataReader reader = new AudioMetadataReader();
+
+    @Test
+    void detectsMp3AndWebmFromPath() throws Exception {
+        assertEquals("MP3", reader.read(resource("cbr.mp3")).format());
+        assertEquals("MP3", reader.read(resource("id3.mp3")).format());
+        assertEquals("WEBM", reader.read(resource("voice.webm")).format());
+        assertEquals("MATROSKA", reader.read(resource("duration.mka")).format());
+    }
+
+    @Test
+    void emptyInputIsRejected() {
+        IOException e = assertThrows(IOException.class, () -> reader.read(new ByteArrayInputStream(new byte[0])));
+        assertEquals("Archivo de audio vacío o incompleto", e.getMessage());
+    }
+
+    @Test
+    void inputShorterThanMagicIsRejected() {
+        byte[] truncated = {0x1A, 0x45, (byte) 0xDF};
+        IOException e = assertThrows(IOException.class, () -> reader.read(new ByteArrayInputStream(truncated)));
+        assertEquals("Archivo de audio vacío o incompleto", e.getMessage());
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        try (InputStream in = AudioMetadataReaderTest.class.getResourceAsStream("/audio/not-audio.wav")) {
+            IOException e = assertThrows(IOException.class, () -> reader.read(in));
+            assertEquals("Formato de audio no reconocido", e.getMessage());
+        }
+    }
+
+    //#region Privados
+
+    private static Path resource(String name) throws URISyntaxException {
+        return Path.of(AudioMetadataReaderTest.class.getResource("/audio/" + name).toURI());
+    }
+
+    //#endregion
+}
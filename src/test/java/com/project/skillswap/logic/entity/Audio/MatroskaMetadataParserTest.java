@@ -0,0 +1,118 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * WebM/Matroska de prueba con una pista Opus mono a 48 kHz y paquetes de 20 ms:
+ * - voice.webm: como MediaRecorder (Segment y Clusters de tamaño desconocido, sin Duration),
+ *   60 bloques de 80 bytes; uno de cada 10 es un paquete de silencio de 3 bytes.
+ * - silent.webm: igual, con 50 paquetes de silencio.
+ * - video-only.webm: una sola pista V_VP8.
+ * - duration.mka: tamaños conocidos, Duration de 1500 ms, una pista de video antes que la de
+ *   audio y bloques de audio dentro de BlockGroup.
+ * - corrupt.webm: un byte 0x00 donde empieza el siguiente elemento.
+ */
+class MatroskaMetadataParserTest {
+
+    private final AudioMetadataReader reader = new AudioMetadataReader();
+
+    @Test
+    void mediaRecorderDurationComesFromLastBlock() throws IOException {
+        AudioMetadata metadata = read(bytes("voice.webm"));
+
+        assertEquals("WEBM", metadata.format());
+        assertEquals("A_OPUS", metadata.codec());
+        assertEquals(60, metadata.frames());
+        assertEquals(6, metadata.silentFrames());
+        assertEquals(1200, metadata.durationMillis());
+        assertEquals(48000, metadata.sampleRate());
+        assertEquals(1, metadata.channels());
+        assertTrue(metadata.hasAudio());
+        assertFalse(metadata.silent());
+    }
+
+    @Test
+    void silentOpusPacketsAreRejected() throws IOException {
+        AudioMetadata metadata = read(bytes("silent.webm"));
+
+        assertEquals(50, metadata.frames());
+        assertEquals(1000, metadata.durationMillis());
+        assertTrue(metadata.hasAudio());
+        assertTrue(metadata.silent());
+    }
+
+    @Test
+    void videoOnlyHasNoAudio() throws IOException {
+        AudioMetadata metadata = read(bytes("video-only.webm"));
+
+        assertNull(metadata.codec());
+        assertEquals(0, metadata.frames());
+        assertFalse(metadata.hasAudio());
+    }
+
+    @Test
+    void segmentDurationWinsAndOtherTracksAreIgnored() throws IOException {
+        AudioMetadata metadata = read(bytes("duration.mka"));
+
+        assertEquals("MATROSKA", metadata.format());
+        assertEquals("A_OPUS", metadata.codec());
+        assertEquals(20, metadata.frames());
+        assertEquals(0, metadata.silentFrames());
+        assertEquals(1500, metadata.durationMillis());
+        assertFalse(metadata.silent());
+    }
+
+    @Test
+    void interruptedRecordingIsReadUpToTheCut() throws IOException {
+        // Corta dentro del penúltimo bloque (80 bytes de voz); el último es un silencio de 16 bytes
+        byte[] full = bytes("voice.webm");
+        byte[] truncated = Arrays.copyOf(full, full.length - 16 - 50);
+
+        AudioMetadata metadata = read(truncated);
+
+        assertEquals(59, metadata.frames());
+        assertEquals(1180, metadata.durationMillis());
+        assertTrue(metadata.hasAudio());
+    }
+
+    @Test
+    void headerOnlyHasNoAudio() throws IOException {
+        byte[] truncated = Arrays.copyOf(bytes("voice.webm"), 40);
+
+        AudioMetadata metadata = read(truncated);
+
+        assertEquals(0, metadata.frames());
+        assertFalse(metadata.hasAudio());
+    }
+
+    @Test
+    void invalidElementIdFails() {
+        IOException e = assertThrows(IOException.class, () -> read(bytes("corrupt.webm")));
+        assertTrue(e.getMessage().startsWith("ID EBML inválido"), e.getMessage());
+    }
+
+    //#region Privados
+
+    private AudioMetadata read(byte[] content) throws IOException {
+        return reader.read(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] bytes(String name) throws IOException {
+        try (InputStream in = MatroskaMetadataParserTest.class.getResourceAsStream("/audio/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    //#endregion
+}
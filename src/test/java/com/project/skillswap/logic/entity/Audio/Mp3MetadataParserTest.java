@@ -0,0 +1,136 @@
+package com.project.skillswap.logic.entity.Audio;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MP3 generados con frames MPEG-1 Layer III a 44.1 kHz (417 bytes a 128 kbps, 208 a 64 kbps):
+ * - cbr.mp3: 40 frames estéreo con big_values, sin tags.
+ * - vbr-xing.mp3: frame Xing con 30 frames y tag LAME (retardo 576, relleno 1000), luego frames
+ *   alternando 128 y 64 kbps.
+ * - id3.mp3: tag ID3v2 de 256 bytes con un encabezado de frame falso adentro, 20 frames mono e ID3v1.
+ * - silent.mp3: frame Info y 50 frames con la side info en cero, como el silencio digital de LAME.
+ */
+class Mp3MetadataParserTest {
+
+    private static final int FRAME_128 = 417;
+    private static final int FRAME_64 = 208;
+
+    private final AudioMetadataReader reader = new AudioMetadataReader();
+
+    @Test
+    void constantBitrateIsMeasuredFrameByFrame() throws IOException {
+        AudioMetadata metadata = read(bytes("cbr.mp3"));
+
+        assertEquals("MP3", metadata.format());
+        assertEquals("MPEG-1 Layer III", metadata.codec());
+        assertEquals(40, metadata.frames());
+        assertEquals(0, metadata.silentFrames());
+        // 40 * 1152 muestras a 44.1 kHz
+        assertEquals(1045, metadata.durationMillis());
+        assertEquals(128_000, metadata.bitrate(), 500);
+        assertEquals(44100, metadata.sampleRate());
+        assertEquals(2, metadata.channels());
+        assertTrue(metadata.hasAudio());
+        assertFalse(metadata.silent());
+    }
+
+    @Test
+    void xingFrameIsNotAudioAndEncoderDelayIsDiscounted() throws IOException {
+        AudioMetadata metadata = read(bytes("vbr-xing.mp3"));
+
+        assertEquals(30, metadata.frames());
+        // (30 * 1152 - 576 - 1000) muestras a 44.1 kHz
+        assertEquals(748, metadata.durationMillis());
+        assertTrue(metadata.bitrate() > 64_000 && metadata.bitrate() < 128_000, "Bitrate: " + metadata.bitrate());
+        assertTrue(metadata.hasAudio());
+        assertFalse(metadata.silent());
+    }
+
+    @Test
+    void id3v2TagIsSkippedWithoutSyncingInsideIt() throws IOException {
+        AudioMetadata metadata = read(bytes("id3.mp3"));
+
+        assertEquals(20, metadata.frames());
+        assertEquals(1, metadata.channels());
+        assertEquals(522, metadata.durationMillis());
+        assertFalse(metadata.silent());
+    }
+
+    @Test
+    void digitalSilenceIsRejected() throws IOException {
+        AudioMetadata metadata = read(bytes("silent.mp3"));
+
+        assertEquals(50, metadata.frames());
+        assertEquals(50, metadata.silentFrames());
+        assertEquals(1293, metadata.durationMillis());
+        assertTrue(metadata.hasAudio());
+        assertTrue(metadata.silent());
+    }
+
+    @Test
+    void truncatedFileIgnoresLastFrameAndXingCount() throws IOException {
+        // Xing + 10 frames completos + 100 bytes del siguiente
+        byte[] full = bytes("vbr-xing.mp3");
+        byte[] truncated = Arrays.copyOf(full, FRAME_128 + 5 * FRAME_128 + 5 * FRAME_64 + 100);
+
+        AudioMetadata metadata = read(truncated);
+
+        assertEquals(10, metadata.frames());
+        // El conteo del Xing no coincide: no se descuentan retardo ni relleno
+        assertEquals(261, metadata.durationMillis());
+    }
+
+    @Test
+    void garbageBetweenFramesIsSkipped() throws IOException {
+        byte[] full = bytes("cbr.mp3");
+        int cut = 10 * FRAME_128;
+        ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+        corrupted.write(full, 0, cut);
+        corrupted.write(new byte[]{(byte) 0xFF, (byte) 0xFB, 0x00, 0x00, 'A', 'P', 'E'});
+        corrupted.write(new byte[100]);
+        corrupted.write(full, cut, full.length - cut);
+
+        AudioMetadata metadata = read(corrupted.toByteArray());
+
+        assertEquals(40, metadata.frames());
+        assertEquals(1045, metadata.durationMillis());
+    }
+
+    @Test
+    void streamWithoutValidFramesHasNoAudio() throws IOException {
+        byte[] corrupt = new byte[2048];
+        Arrays.fill(corrupt, (byte) 0xFF);
+
+        AudioMetadata metadata = read(corrupt);
+
+        assertEquals("MP3", metadata.format());
+        assertNull(metadata.codec());
+        assertEquals(0, metadata.frames());
+        assertFalse(metadata.hasAudio());
+    }
+
+    //#region Privados
+
+    private AudioMetadata read(byte[] content) throws IOException {
+        return reader.read(new ByteArrayInputStream(content));
+    }
+
+    private static byte[] bytes(String name) throws IOException {
+        try (InputStream in = Mp3MetadataParserTest.class.getResourceAsStream("/audio/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,186 @@
+package com.project.skillswap.logic.entity;
+
+import com.project.skillswap.logic.entity.Booking.Booking;
+import com.project.skillswap.logic.entity.Booking.BookingStatus;
+import com.project.skillswap.logic.entity.Feedback.Feedback;
+import com.project.skillswap.logic.entity.Feedback.FeedbackRepository;
+import com.project.skillswap.logic.entity.Feedback.FeedbackView;
+import com.project.skillswap.logic.entity.Instructor.Instructor;
+import com.project.skillswap.logic.entity.Knowledgearea.KnowledgeArea;
+import com.project.skillswap.logic.entity.Learner.Learner;
+import com.project.skillswap.logic.entity.LearningSession.LearningSession;
+import com.project.skillswap.logic.entity.LearningSession.LearningSessionRepository;
+import com.project.skillswap.logic.entity.LearningSession.SessionCatalogItem;
+import com.project.skillswap.logic.entity.LearningSession.SessionHistoryItem;
+import com.project.skillswap.logic.entity.LearningSession.SessionStatus;
+import com.project.skillswap.logic.entity.Person.Person;
+import com.project.skillswap.logic.entity.Skill.Skill;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Las listas de feedback, historial y catálogo se sirven con proyecciones: una consulta por
+ * llamada (más el conteo si es paginada), sin importar cuántas filas ni relaciones haya.
+ * Cuenta las sentencias preparadas con las estadísticas de Hibernate.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectionQueryCountTest {
+
+    private static final int SESSIONS = 6;
+    private static final int LEARNERS = 8;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private LearningSessionRepository learningSessionRepository;
+
+    private Statistics statistics;
+    private Instructor instructor;
+    private Learner learner;
+
+    @BeforeEach
+    void setUp() {
+        KnowledgeArea area = new KnowledgeArea();
+        area.setName("Programación");
+        entityManager.persist(area);
+
+        Skill skill = new Skill();
+        skill.setName("Java");
+        skill.setKnowledgeArea(area);
+        entityManager.persist(skill);
+
+        instructor = new Instructor();
+        instructor.setPerson(person("instructor"));
+        entityManager.persist(instructor);
+
+        List<Learner> learners = new ArrayList<>();
+        for (int i = 0; i < LEARNERS; i++) {
+            Learner each = new Learner();
+            each.setPerson(person("learner" + i));
+            entityManager.persist(each);
+            learners.add(each);
+        }
+        learner = learners.get(0);
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < SESSIONS; i++) {
+            // La mitad en el catálogo (futuras), la otra mitad en el historial (terminadas)
+            boolean upcoming = i % 2 == 0;
+            LearningSession session = new LearningSession();
+            session.setInstructor(instructor);
+            session.setSkill(skill);
+            session.setTitle("Sesión " + i);
+            session.setDurationMinutes(60);
+            session.setScheduledDatetime(new Date(now + (upcoming ? 1 : -1) * TimeUnit.DAYS.toMillis(i + 1)));
+            session.setStatus(upcoming ? SessionStatus.SCHEDULED : SessionStatus.FINISHED);
+            entityManager.persist(session);
+
+            for (Learner each : learners) {
+                Booking booking = new Booking();
+                booking.setLearningSession(session);
+                booking.setLearner(each);
+                booking.setStatus(BookingStatus.CONFIRMED);
+                entityManager.persist(booking);
+
+                if (!upcoming) {
+                    Feedback feedback = new Feedback();
+                    feedback.setLearningSession(session);
+                    feedback.setLearner(each);
+                    feedback.setRating(5);
+                    feedback.setComment("Muy buena");
+                    entityManager.persist(feedback);
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void feedbackPageIsOneQueryPlusCount() {
+        Page<FeedbackView> page = feedbackRepository.findFeedbacksByInstructorId(
+                instructor.getId(), PageRequest.of(0, 10));
+
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals((long) LEARNERS * SESSIONS / 2, page.getTotalElements());
+        assertStatements(2);
+    }
+
+    @Test
+    void recentFeedbackIsOneQuery() {
+        List<FeedbackView> recent = feedbackRepository.findRecentFeedbacksByInstructorId(instructor.getId(), 5);
+
+        assertEquals(5, recent.size());
+        recent.forEach(view -> assertEquals("Muy buena", view.comment()));
+        assertStatements(1);
+    }
+
+    @Test
+    void sessionHistoryPageIsOneQueryPlusCount() {
+        Page<SessionHistoryItem> page = learningSessionRepository.findHistoricalSessionsByLearnerId(
+                learner.getId(), PageRequest.of(0, 2));
+
+        assertEquals(2, page.getNumberOfElements());
+        assertEquals(SESSIONS, page.getTotalElements());
+        page.forEach(item -> assertEquals("Java", item.skillName()));
+        assertStatements(2);
+    }
+
+    @Test
+    void catalogIsOneQuery() {
+        Date now = new Date();
+        List<SessionCatalogItem> catalog = learningSessionRepository.findCatalog(
+                now, new Date(now.getTime() - TimeUnit.MINUTES.toMillis(5)), null, null);
+
+        assertEquals(SESSIONS / 2, catalog.size());
+        catalog.forEach(item -> assertEquals(LEARNERS, item.confirmedBookings()));
+        assertStatements(1);
+    }
+
+    //#region Privados
+
+    private Person person(String name) {
+        Person person = new Person();
+        person.setEmail(name + "@skillswap.test");
+        person.setPasswordHash("hash");
+        person.setFullName(name);
+        entityManager.persist(person);
+        return person;
+    }
+
+    private void assertStatements(long expected) {
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Sentencias ejecutadas: " + List.of(statistics.getQueries()));
+    }
+
+    //#endregion
+}